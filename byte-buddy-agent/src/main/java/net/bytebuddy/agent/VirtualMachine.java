@@ -4,10 +4,13 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.newsclub.net.unix.AFUNIXSocket;
 import org.newsclub.net.unix.AFUNIXSocketAddress;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.Locale;
+import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,7 +45,15 @@ public interface VirtualMachine {
     void detach() throws IOException;
 
     /**
+     * <p>
      * A virtual machine implementation for a HotSpot VM or any compatible VM.
+     * </p>
+     * <p>
+     * <b>Note</b>: A HotSpot VM answers a single command per connection such that a connection is established for every
+     * command. The attach mechanism of the target VM is however only initialized once such that an instance of this class
+     * can be used for executing any number of commands where any command but the first one only requires a connection to
+     * the target VM's already initialized attach listener.
+     * </p>
      */
     abstract class ForHotSpot implements VirtualMachine {
 
@@ -62,10 +73,40 @@ public interface VirtualMachine {
         private static final String LOAD_COMMAND = "load";
 
         /**
-         * The {@code instrument} command.
+         * The {@code properties} command.
+         */
+        private static final String SYSTEM_PROPERTIES_COMMAND = "properties";
+
+        /**
+         * The {@code agentProperties} command.
+         */
+        private static final String AGENT_PROPERTIES_COMMAND = "agentProperties";
+
+        /**
+         * The {@code instrument} argument of the {@code load} command.
          */
         private static final String INSTRUMENT_COMMAND = "instrument";
 
+        /**
+         * The amount of arguments that are sent with every command.
+         */
+        private static final int ARGUMENT_COUNT = 3;
+
+        /**
+         * The newline character that terminates a command's response code.
+         */
+        private static final int NEWLINE = 10;
+
+        /**
+         * The response code that indicates the successful execution of a command.
+         */
+        private static final int SUCCESS = 0;
+
+        /**
+         * The response code that indicates a protocol mismatch.
+         */
+        private static final int PROTOCOL_MISMATCH = 101;
+
         /**
          * A delimiter to be used for attachment.
          */
@@ -92,52 +133,112 @@ public interface VirtualMachine {
 
         @Override
         public void loadAgent(String jarFile, String argument) throws IOException {
-            connect();
-            write(PROTOCOL_VERSION.getBytes(UTF_8));
-            write(BLANK);
-            write(LOAD_COMMAND.getBytes(UTF_8));
-            write(BLANK);
-            write(INSTRUMENT_COMMAND.getBytes(UTF_8));
-            write(BLANK);
-            write(Boolean.FALSE.toString().getBytes(UTF_8));
-            write(BLANK);
-            write((argument == null
+            execute(LOAD_COMMAND, INSTRUMENT_COMMAND, Boolean.FALSE.toString(), argument == null
                     ? jarFile
-                    : jarFile + ARGUMENT_DELIMITER + argument).getBytes(UTF_8));
-            write(BLANK);
-            byte[] buffer = new byte[1];
-            StringBuilder stringBuilder = new StringBuilder();
-            int length;
-            while ((length = read(buffer)) != -1) {
-                if (length > 0) {
-                    if (buffer[0] == 10) {
-                        break;
+                    : jarFile + ARGUMENT_DELIMITER + argument);
+        }
+
+        /**
+         * Returns the system properties of the represented virtual machine.
+         *
+         * @return The system properties of the represented virtual machine.
+         * @throws IOException If an I/O exception occurs.
+         */
+        public Properties getSystemProperties() throws IOException {
+            return getProperties(SYSTEM_PROPERTIES_COMMAND);
+        }
+
+        /**
+         * Returns the agent properties of the represented virtual machine.
+         *
+         * @return The agent properties of the represented virtual machine.
+         * @throws IOException If an I/O exception occurs.
+         */
+        public Properties getAgentProperties() throws IOException {
+            return getProperties(AGENT_PROPERTIES_COMMAND);
+        }
+
+        /**
+         * Executes a command that returns properties.
+         *
+         * @param command The command to execute.
+         * @return The properties that are returned by the command.
+         * @throws IOException If an I/O exception occurs.
+         */
+        private Properties getProperties(String command) throws IOException {
+            Properties properties = new Properties();
+            properties.load(new ByteArrayInputStream(execute(command)));
+            return properties;
+        }
+
+        /**
+         * Executes a command on the target VM using a new connection.
+         *
+         * @param command   The command to execute.
+         * @param arguments The command's arguments where missing arguments or {@code null} are sent as empty arguments.
+         * @return The response of the target VM that follows the response code.
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected synchronized byte[] execute(String command, String... arguments) throws IOException {
+            if (arguments.length > ARGUMENT_COUNT) {
+                throw new IllegalArgumentException("Cannot send more than " + ARGUMENT_COUNT + " arguments: " + arguments.length);
+            }
+            connect();
+            try {
+                write(PROTOCOL_VERSION.getBytes(UTF_8));
+                write(BLANK);
+                write(command.getBytes(UTF_8));
+                write(BLANK);
+                for (int index = 0; index < ARGUMENT_COUNT; index++) {
+                    if (index < arguments.length && arguments[index] != null) {
+                        write(arguments[index].getBytes(UTF_8));
                     }
-                    stringBuilder.append((char) buffer[0]);
+                    write(BLANK);
                 }
-            }
-            switch (Integer.parseInt(stringBuilder.toString())) {
-                case 0:
-                    return;
-                case 101:
-                    throw new IOException("Protocol mismatch with target VM");
-                default:
-                    buffer = new byte[1024];
-                    stringBuilder = new StringBuilder();
-                    while ((length = read(buffer)) != -1) {
-                        stringBuilder.append(new String(buffer, 0, length, UTF_8));
+                byte[] buffer = new byte[1];
+                StringBuilder stringBuilder = new StringBuilder();
+                int length;
+                while ((length = read(buffer)) != -1) {
+                    if (length > 0) {
+                        if (buffer[0] == NEWLINE) {
+                            break;
+                        }
+                        stringBuilder.append((char) buffer[0]);
                     }
-                    throw new IllegalStateException(stringBuilder.toString());
+                }
+                int code = Integer.parseInt(stringBuilder.toString());
+                if (code == PROTOCOL_MISMATCH) {
+                    throw new IOException("Protocol mismatch with target VM");
+                }
+                buffer = new byte[1024];
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                while ((length = read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, length);
+                }
+                if (code == SUCCESS) {
+                    return outputStream.toByteArray();
+                } else {
+                    throw new IllegalStateException(new String(outputStream.toByteArray(), UTF_8));
+                }
+            } finally {
+                disconnect();
             }
         }
 
         /**
-         * Connects to the target VM.
+         * Connects to the target VM for executing a single command.
          *
          * @throws IOException If an I/O exception occurs.
          */
         protected abstract void connect() throws IOException;
 
+        /**
+         * Closes the connection to the target VM after executing a single command.
+         *
+         * @throws IOException If an I/O exception occurs.
+         */
+        protected abstract void disconnect() throws IOException;
+
         /**
          * Reads from the communication channel.
          *
@@ -166,9 +267,14 @@ public interface VirtualMachine {
             private static final int DEFAULT_ATTEMPTS = 10;
 
             /**
-             * The default pause between two attempts.
+             * The default pause after the first attempt.
              */
-            private static final long DEFAULT_PAUSE = 200;
+            private static final long DEFAULT_PAUSE = 5;
+
+            /**
+             * The default maximum pause between two attempts.
+             */
+            private static final long DEFAULT_MAXIMUM_PAUSE = 500;
 
             /**
              * The default socket timeout.
@@ -191,10 +297,15 @@ public interface VirtualMachine {
             private static final String ATTACH_FILE_PREFIX = ".attach_pid";
 
             /**
-             * The Unix socket to use for communication. The containing object is supposed to be an instance
-             * of {@link AFUNIXSocket} which is however not set to avoid eager loading
+             * Indicates that no connection to the target VM is open.
+             */
+            private static final Object NO_SOCKET = null;
+
+            /**
+             * The Unix socket of the currently executed command or {@code null} if no command is executed. The containing object
+             * is supposed to be an instance of {@link AFUNIXSocket} which is however not set to avoid eager loading.
              */
-            private final Object socket;
+            private Object socket;
 
             /**
              * The number of attempts to connect.
@@ -202,10 +313,15 @@ public interface VirtualMachine {
             private final int attempts;
 
             /**
-             * The time to pause between attempts.
+             * The time to pause after the first attempt which is doubled after every further attempt.
              */
             private final long pause;
 
+            /**
+             * The maximum time to pause between two attempts.
+             */
+            private final long maximumPause;
+
             /**
              * The socket timeout.
              */
@@ -220,19 +336,37 @@ public interface VirtualMachine {
              * Creates a new VM implementation for a HotSpot VM running on Unix.
              *
              * @param processId The process id of the target VM.
-             * @param socket    The Unix socket to use for communication.
+             * @param socket    The Unix socket to use for communication. This argument is ignored as a new socket is opened
+             *                  for every command that is executed on the target VM.
              * @param attempts  The number of attempts to connect.
-             * @param pause     The pause time between two VMs.
+             * @param pause     The pause time between two attempts.
              * @param timeout   The socket timeout.
              * @param timeUnit  The time unit of the pause time.
+             * @deprecated Use {@link OnUnix#OnUnix(String, int, long, long, long, TimeUnit)} as a socket is opened for every command.
              */
+            @Deprecated
             public OnUnix(String processId, Object socket, int attempts, long pause, long timeout, TimeUnit timeUnit) {
+                this(processId, attempts, pause, pause, timeout, timeUnit);
+            }
+
+            /**
+             * Creates a new VM implementation for a HotSpot VM running on Unix.
+             *
+             * @param processId    The process id of the target VM.
+             * @param attempts     The number of attempts to connect.
+             * @param pause        The time to pause after the first attempt which is doubled after every further attempt.
+             * @param maximumPause The maximum time to pause between two attempts.
+             * @param timeout      The socket timeout.
+             * @param timeUnit     The time unit of the pause times and the socket timeout.
+             */
+            public OnUnix(String processId, int attempts, long pause, long maximumPause, long timeout, TimeUnit timeUnit) {
                 super(processId);
-                this.socket = socket;
                 this.attempts = attempts;
                 this.pause = pause;
+                this.maximumPause = maximumPause;
                 this.timeout = timeout;
                 this.timeUnit = timeUnit;
+                socket = NO_SOCKET;
             }
 
             /**
@@ -260,7 +394,7 @@ public interface VirtualMachine {
              * @throws IOException If an I/O exception occurs.
              */
             public static VirtualMachine attach(String processId) throws IOException {
-                return new OnUnix(processId, AFUNIXSocket.newInstance(), DEFAULT_ATTEMPTS, DEFAULT_PAUSE, DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
+                return new OnUnix(processId, DEFAULT_ATTEMPTS, DEFAULT_PAUSE, DEFAULT_MAXIMUM_PAUSE, DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS);
             }
 
             @Override
@@ -284,6 +418,7 @@ public interface VirtualMachine {
                         // The HotSpot attachment API attempts to send the signal to all children of a process
                         Process process = Runtime.getRuntime().exec("kill -3 " + processId);
                         int attempts = this.attempts;
+                        long pause = this.pause;
                         boolean killed = false;
                         do {
                             try {
@@ -294,15 +429,16 @@ public interface VirtualMachine {
                                 break;
                             } catch (IllegalThreadStateException ignored) {
                                 attempts -= 1;
-                                Thread.sleep(timeUnit.toMillis(pause));
+                                pause = await(pause);
                             }
                         } while (attempts > 0);
                         if (!killed) {
                             throw new IllegalStateException("Target VM did not respond to signal: " + processId);
                         }
                         attempts = this.attempts;
+                        pause = this.pause;
                         while (attempts-- > 0 && !socketFile.exists()) {
-                            Thread.sleep(timeUnit.toMillis(pause));
+                            pause = await(pause);
                         }
                         if (!socketFile.exists()) {
                             throw new IllegalStateException("Target VM did not respond: " + processId);
@@ -315,8 +451,36 @@ public interface VirtualMachine {
                         }
                     }
                 }
-                ((AFUNIXSocket) socket).setSoTimeout((int) timeUnit.toMillis(timeout));
-                ((AFUNIXSocket) socket).connect(new AFUNIXSocketAddress(socketFile));
+                AFUNIXSocket socket = AFUNIXSocket.newInstance();
+                try {
+                    socket.setSoTimeout((int) timeUnit.toMillis(timeout));
+                    socket.connect(new AFUNIXSocketAddress(socketFile));
+                } catch (IOException exception) {
+                    socket.close();
+                    throw exception;
+                }
+                this.socket = socket;
+            }
+
+            /**
+             * Pauses the current thread and returns the pause to apply after the next attempt.
+             *
+             * @param pause The time to pause.
+             * @return The time to pause after the next attempt.
+             * @throws InterruptedException If the current thread is interrupted.
+             */
+            private long await(long pause) throws InterruptedException {
+                Thread.sleep(timeUnit.toMillis(pause));
+                return Math.min(pause * 2, maximumPause);
+            }
+
+            @Override
+            protected void disconnect() throws IOException {
+                try {
+                    ((AFUNIXSocket) socket).close();
+                } finally {
+                    socket = NO_SOCKET;
+                }
             }
 
             @Override
@@ -330,8 +494,8 @@ public interface VirtualMachine {
             }
 
             @Override
-            public void detach() throws IOException {
-                ((AFUNIXSocket) this.socket).close();
+            public void detach() {
+                /* do nothing as every connection is closed after executing its command */
             }
         }
     }
@@ -8,9 +8,15 @@ import org.junit.rules.MethodRule;
 import org.mockito.InOrder;
 
 import java.io.IOException;
+import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class VirtualMachineForHotSpotTest {
 
@@ -37,6 +43,7 @@ public class VirtualMachineForHotSpotTest {
         order.verify(virtualMachine).write(new byte[1]);
         order.verify(virtualMachine).write("foo=bar".getBytes("UTF-8"));
         order.verify(virtualMachine).write(new byte[1]);
+        order.verify(virtualMachine).disconnect();
     }
 
     @Test
@@ -59,6 +66,74 @@ public class VirtualMachineForHotSpotTest {
         order.verify(virtualMachine).write(new byte[1]);
         order.verify(virtualMachine).write("foo".getBytes("UTF-8"));
         order.verify(virtualMachine).write(new byte[1]);
+        order.verify(virtualMachine).disconnect();
+    }
+
+    @Test
+    @UnixSocketRule.Enforce
+    public void testAttachmentOfMultipleAgents() throws Exception {
+        VirtualMachine.ForHotSpot virtualMachine = spy(new PseudoMachine(
+                "0".getBytes("UTF-8"),
+                new byte[]{10},
+                null,
+                "0".getBytes("UTF-8"),
+                new byte[]{10}
+        ));
+        virtualMachine.loadAgent("foo", null);
+        virtualMachine.loadAgent("bar", null);
+        InOrder order = inOrder(virtualMachine);
+        order.verify(virtualMachine).connect();
+        order.verify(virtualMachine).write("foo".getBytes("UTF-8"));
+        order.verify(virtualMachine).disconnect();
+        order.verify(virtualMachine).connect();
+        order.verify(virtualMachine).write("bar".getBytes("UTF-8"));
+        order.verify(virtualMachine).disconnect();
+    }
+
+    @Test
+    @UnixSocketRule.Enforce
+    public void testSystemProperties() throws Exception {
+        VirtualMachine.ForHotSpot virtualMachine = spy(new PseudoMachine(
+                "0".getBytes("UTF-8"),
+                new byte[]{10},
+                "foo=bar\n".getBytes("UTF-8")
+        ));
+        Properties properties = virtualMachine.getSystemProperties();
+        assertThat(properties.size(), is(1));
+        assertThat(properties.getProperty("foo"), is("bar"));
+        InOrder order = inOrder(virtualMachine);
+        order.verify(virtualMachine).connect();
+        order.verify(virtualMachine).write("1".getBytes("UTF-8"));
+        order.verify(virtualMachine).write(new byte[1]);
+        order.verify(virtualMachine).write("properties".getBytes("UTF-8"));
+        order.verify(virtualMachine, times(4)).write(new byte[1]);
+        order.verify(virtualMachine).disconnect();
+    }
+
+    @Test
+    @UnixSocketRule.Enforce
+    public void testAgentProperties() throws Exception {
+        VirtualMachine.ForHotSpot virtualMachine = spy(new PseudoMachine(
+                "0".getBytes("UTF-8"),
+                new byte[]{10},
+                "foo=bar\n".getBytes("UTF-8")
+        ));
+        Properties properties = virtualMachine.getAgentProperties();
+        assertThat(properties.size(), is(1));
+        assertThat(properties.getProperty("foo"), is("bar"));
+        InOrder order = inOrder(virtualMachine);
+        order.verify(virtualMachine).connect();
+        order.verify(virtualMachine).write("1".getBytes("UTF-8"));
+        order.verify(virtualMachine).write(new byte[1]);
+        order.verify(virtualMachine).write("agentProperties".getBytes("UTF-8"));
+        order.verify(virtualMachine, times(4)).write(new byte[1]);
+        order.verify(virtualMachine).disconnect();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @UnixSocketRule.Enforce
+    public void testTooManyArguments() throws Exception {
+        new PseudoMachine().execute("foo", "bar", "qux", "baz", "foobar");
     }
 
     @Test(expected = IOException.class)
@@ -72,6 +147,24 @@ public class VirtualMachineForHotSpotTest {
         ).loadAgent("foo", null);
     }
 
+    @Test
+    @UnixSocketRule.Enforce
+    public void testAttachmentIncompatibleProtocolDisconnects() throws Exception {
+        VirtualMachine.ForHotSpot virtualMachine = spy(new PseudoMachine(
+                "1".getBytes("UTF-8"),
+                "0".getBytes("UTF-8"),
+                "1".getBytes("UTF-8"),
+                new byte[]{10}
+        ));
+        try {
+            virtualMachine.loadAgent("foo", null);
+            fail();
+        } catch (IOException ignored) {
+            /* expected */
+        }
+        verify(virtualMachine).disconnect();
+    }
+
     @Test(expected = IllegalStateException.class)
     @UnixSocketRule.Enforce
     public void testAttachmentUnknownError() throws Exception {
@@ -102,12 +195,20 @@ public class VirtualMachineForHotSpotTest {
 
         }
 
+        @Override
+        protected void disconnect() throws IOException {
+
+        }
+
         @Override
         protected int read(byte[] buffer) throws IOException {
             if (index == read.length) {
                 return -1;
             }
             byte[] read = this.read[index++];
+            if (read == null) {
+                return -1;
+            }
             System.arraycopy(read, 0, buffer, 0, read.length);
             return read.length;
         }
@@ -0,0 +1,157 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.benchmark.specimen.ExampleAdvice;
+import net.bytebuddy.benchmark.specimen.ExampleAdvisedClass;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+
+/**
+ * <p>
+ * A benchmark for inlining {@link Advice} into methods of varied size. The benchmark redefines a class with the advice
+ * being applied to a small method, a medium method, a large method or all methods of the class. The baseline redefines
+ * the class without applying any advice. All class files are provided from memory to exclude I/O from the measurement.
+ * </p>
+ * <p>
+ * In order to measure allocation rates, the benchmark should be run by specifying JMH's garbage collection profiler via
+ * {@code -prof gc}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdviceInliningBenchmark {
+
+    /**
+     * The name of the small method.
+     */
+    private String small = "small";
+
+    /**
+     * The name of the medium method.
+     */
+    private String medium = "medium";
+
+    /**
+     * The name of the large method.
+     */
+    private String large = "large";
+
+    /**
+     * A description of the advised type.
+     */
+    private TypeDescription advisedType;
+
+    /**
+     * A description of the advice type.
+     */
+    private TypeDescription adviceType;
+
+    /**
+     * A class file locator that provides the class files of the advised and the advice type from memory.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * Reads the class files of the advised and the advice type.
+     *
+     * @throws Exception If a class file cannot be read.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        advisedType = new TypeDescription.ForLoadedType(ExampleAdvisedClass.class);
+        adviceType = new TypeDescription.ForLoadedType(ExampleAdvice.class);
+        Map<String, byte[]> classFiles = new HashMap<String, byte[]>();
+        classFiles.put(ExampleAdvisedClass.class.getName(), ClassFileLocator.ForClassLoader.read(ExampleAdvisedClass.class).resolve());
+        classFiles.put(ExampleAdvice.class.getName(), ClassFileLocator.ForClassLoader.read(ExampleAdvice.class).resolve());
+        classFileLocator = new ClassFileLocator.Simple(classFiles);
+    }
+
+    /**
+     * Performs a redefinition of the advised type without applying any advice as a baseline.
+     *
+     * @return The redefined class file.
+     */
+    @Benchmark
+    public byte[] baseline() {
+        return new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .redefine(advisedType, classFileLocator)
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * Performs a benchmark of inlining advice into a small method.
+     *
+     * @return The redefined class file.
+     */
+    @Benchmark
+    public byte[] benchmarkSmallMethod() {
+        return new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .redefine(advisedType, classFileLocator)
+                .visit(Advice.to(adviceType, classFileLocator).on(named(small)))
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * Performs a benchmark of inlining advice into a medium method.
+     *
+     * @return The redefined class file.
+     */
+    @Benchmark
+    public byte[] benchmarkMediumMethod() {
+        return new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .redefine(advisedType, classFileLocator)
+                .visit(Advice.to(adviceType, classFileLocator).on(named(medium)))
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * Performs a benchmark of inlining advice into a large method.
+     *
+     * @return The redefined class file.
+     */
+    @Benchmark
+    public byte[] benchmarkLargeMethod() {
+        return new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .redefine(advisedType, classFileLocator)
+                .visit(Advice.to(adviceType, classFileLocator).on(named(large)))
+                .make()
+                .getBytes();
+    }
+
+    /**
+     * Performs a benchmark of inlining advice into all methods of a class.
+     *
+     * @return The redefined class file.
+     */
+    @Benchmark
+    public byte[] benchmarkAllMethods() {
+        return new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .redefine(advisedType, classFileLocator)
+                .visit(Advice.to(adviceType, classFileLocator).on(isMethod()))
+                .make()
+                .getBytes();
+    }
+}
@@ -0,0 +1,123 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.SuperMethodCall;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+
+/**
+ * <p>
+ * A benchmark for creating and loading a number of subclasses of {@link ExampleClass}. The sequential benchmark creates and
+ * loads each type individually where each type is loaded by its own class loader. The batch benchmark creates all types
+ * concurrently by a {@link DynamicType.Batch} and loads all types by a single class loader.
+ * </p>
+ * <p>
+ * In order to measure allocation rates, the benchmark should be run by specifying JMH's garbage collection profiler via
+ * {@code -prof gc}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchCreationBenchmark {
+
+    /**
+     * The number of types that are created per benchmark invocation.
+     */
+    public static final int TYPES = 100;
+
+    /**
+     * The base class of the created types.
+     */
+    private Class<? extends ExampleClass> baseClass = ExampleClass.class;
+
+    /**
+     * The class loader that is used as a parent of all created class loaders.
+     */
+    private ClassLoader classLoader = getClass().getClassLoader();
+
+    /**
+     * A Byte Buddy instance that shares a method graph compiler among all created types.
+     */
+    private ByteBuddy byteBuddy;
+
+    /**
+     * The executor service to create types of a batch with.
+     */
+    private ExecutorService executorService;
+
+    /**
+     * Creates the Byte Buddy instance and the executor service.
+     */
+    @Setup
+    public void setUp() {
+        byteBuddy = new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .with(MethodGraph.Compiler.Default.Caching.forJavaHierarchy());
+        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Shuts down the executor service.
+     */
+    @TearDown
+    public void tearDown() {
+        executorService.shutdown();
+    }
+
+    /**
+     * Creates a builder for a subclass of the base class.
+     *
+     * @return A builder for a subclass of the base class.
+     */
+    private DynamicType.Builder<? extends ExampleClass> builder() {
+        return byteBuddy.subclass(baseClass)
+                .method(isDeclaredBy(baseClass))
+                .intercept(SuperMethodCall.INSTANCE);
+    }
+
+    /**
+     * Performs a benchmark of creating and loading all types sequentially, one at a time.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkSequential(Blackhole blackHole) {
+        for (int index = 0; index < TYPES; index++) {
+            blackHole.consume(builder().make().load(classLoader, ClassLoadingStrategy.Default.WRAPPER).getLoaded());
+        }
+    }
+
+    /**
+     * Performs a benchmark of creating all types concurrently and of loading them by a single class loader.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkBatch(Blackhole blackHole) {
+        List<DynamicType.Builder<?>> builders = new ArrayList<DynamicType.Builder<?>>(TYPES);
+        for (int index = 0; index < TYPES; index++) {
+            builders.add(builder());
+        }
+        for (DynamicType.Loaded<?> loaded : new DynamicType.Batch(builders).load(executorService, classLoader, ClassLoadingStrategy.Default.WRAPPER)) {
+            blackHole.consume(loaded.getLoaded());
+        }
+    }
+}
@@ -232,6 +232,27 @@ public class ClassByExtensionBenchmark {
                 .newInstance();
     }
 
+    /**
+     * Performs a benchmark of a class extension using Byte Buddy. This benchmark binds the invocation of super methods
+     * to lambda expressions that are created by {@code invokedynamic} call sites instead of to auxiliary classes.
+     *
+     * @return The created instance, in order to avoid JIT removal.
+     * @throws java.lang.Exception If the invocation causes an exception.
+     */
+    @Benchmark
+    public ExampleClass benchmarkByteBuddyWithLambda() throws Exception {
+        return new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .ignore(none())
+                .subclass(baseClass)
+                .method(isDeclaredBy(baseClass)).intercept(MethodDelegation.to(ByteBuddyLambdaInterceptor.class))
+                .make()
+                .load(newClassLoader(), ClassLoadingStrategy.Default.INJECTION)
+                .getLoaded()
+                .getDeclaredConstructor()
+                .newInstance();
+    }
+
     /**
      * Performs a benchmark of a class extension using Byte Buddy. This benchmark also uses the annotation-based approach
      * but creates delegation methods which do not require the creation of additional classes.
@@ -522,6 +543,32 @@ public class ClassByExtensionBenchmark {
         }
     }
 
+    /**
+     * An interceptor that binds the super method invocation to a lambda expression which is created by an {@code invokedynamic}
+     * call site such that no auxiliary class is defined and the JIT compiler can avoid the proxy's allocation.
+     */
+    public static class ByteBuddyLambdaInterceptor {
+
+        /**
+         * The interceptor's constructor is not supposed to be invoked.
+         */
+        private ByteBuddyLambdaInterceptor() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Call the super method.
+         *
+         * @param zuper A lambda expression for invoking the super method.
+         * @return The return value of the super method invocation.
+         * @throws Exception As declared by {@link java.util.concurrent.Callable}'s contract.
+         */
+        @RuntimeType
+        public static Object intercept(@SuperCall(invokeDynamic = true) Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+
     /**
      * Instead of using the {@link net.bytebuddy.implementation.SuperMethodCall} implementation, we are creating
      * delegate methods that allow the invocation of the original code.
@@ -0,0 +1,125 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.benchmark.specimen.ExampleAdvice;
+import net.bytebuddy.benchmark.specimen.ExampleAdvisedClass;
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isMethod;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.none;
+
+/**
+ * <p>
+ * A benchmark for the class file transformer that is created by an {@link AgentBuilder}. The benchmark applies the
+ * transformer to a class file that is matched by the agent builder and which is therefore transformed by applying
+ * advice and to a class file that is not matched and which is therefore discarded. The baseline returns the original
+ * class file without invoking the transformer.
+ * </p>
+ * <p>
+ * In order to measure allocation rates, the benchmark should be run by specifying JMH's garbage collection profiler via
+ * {@code -prof gc}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClassFileTransformerBenchmark {
+
+    /**
+     * The class loader to supply to the transformer.
+     */
+    private ClassLoader classLoader = ClassFileTransformerBenchmark.class.getClassLoader();
+
+    /**
+     * The protection domain to supply to the transformer.
+     */
+    private ProtectionDomain protectionDomain = ClassFileTransformerBenchmark.class.getProtectionDomain();
+
+    /**
+     * The internal name of the type that is matched by the transformer.
+     */
+    private String matchedName = ExampleAdvisedClass.class.getName().replace('.', '/');
+
+    /**
+     * The internal name of the type that is not matched by the transformer.
+     */
+    private String unmatchedName = ExampleClass.class.getName().replace('.', '/');
+
+    /**
+     * The class file of the type that is matched by the transformer.
+     */
+    private byte[] matchedBinaryRepresentation;
+
+    /**
+     * The class file of the type that is not matched by the transformer.
+     */
+    private byte[] unmatchedBinaryRepresentation;
+
+    /**
+     * The class file transformer to benchmark.
+     */
+    private ClassFileTransformer classFileTransformer;
+
+    /**
+     * Creates the class file transformer and reads the class files to transform.
+     *
+     * @throws Exception If a class file cannot be read.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        matchedBinaryRepresentation = ClassFileLocator.ForClassLoader.read(ExampleAdvisedClass.class).resolve();
+        unmatchedBinaryRepresentation = ClassFileLocator.ForClassLoader.read(ExampleClass.class).resolve();
+        classFileTransformer = new AgentBuilder.Default(new ByteBuddy().with(TypeValidation.DISABLED))
+                .ignore(none())
+                .type(named(ExampleAdvisedClass.class.getName()))
+                .transform(new AgentBuilder.Transformer.ForAdvice()
+                        .include(ExampleAdvice.class.getClassLoader())
+                        .advice(isMethod(), ExampleAdvice.class.getName()))
+                .makeRaw();
+    }
+
+    /**
+     * Returns the untransformed class file as a baseline.
+     *
+     * @return The untransformed class file.
+     */
+    @Benchmark
+    public byte[] baseline() {
+        return matchedBinaryRepresentation;
+    }
+
+    /**
+     * Performs a benchmark of transforming a class file that is matched by the transformer.
+     *
+     * @return The transformed class file.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    public byte[] benchmarkMatched() throws Exception {
+        return classFileTransformer.transform(classLoader, matchedName, null, protectionDomain, matchedBinaryRepresentation);
+    }
+
+    /**
+     * Performs a benchmark of transforming a class file that is not matched by the transformer.
+     *
+     * @return {@code null} as the class file is not transformed.
+     * @throws Exception If the transformation fails.
+     */
+    @Benchmark
+    public byte[] benchmarkUnmatched() throws Exception {
+        return classFileTransformer.transform(classLoader, unmatchedName, null, protectionDomain, unmatchedBinaryRepresentation);
+    }
+}
@@ -0,0 +1,123 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.benchmark.specimen.ExampleInterface;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.scaffold.MethodGraph;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.StubMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+
+/**
+ * <p>
+ * A benchmark for compiling the method graph of a type with a deep class hierarchy where each type overrides the
+ * methods of its super class and declares additional methods. The base of the hierarchy implements
+ * {@link ExampleInterface}. The baseline compiles the method graph of {@link Object}.
+ * </p>
+ * <p>
+ * In order to measure allocation rates, the benchmark should be run by specifying JMH's garbage collection profiler via
+ * {@code -prof gc}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MethodGraphCompilerBenchmark {
+
+    /**
+     * The depth of the created class hierarchy.
+     */
+    public static final int DEPTH = 20;
+
+    /**
+     * The number of methods that each type of the class hierarchy overrides.
+     */
+    public static final int METHODS = 10;
+
+    /**
+     * A method graph compiler for the Java programming language.
+     */
+    private MethodGraph.Compiler javaCompiler = MethodGraph.Compiler.Default.forJavaHierarchy();
+
+    /**
+     * A method graph compiler for the Java virtual machine.
+     */
+    private MethodGraph.Compiler jvmCompiler = MethodGraph.Compiler.Default.forJVMHierarchy();
+
+    /**
+     * A description of {@link Object} for the baseline.
+     */
+    private TypeDescription baseType = TypeDescription.OBJECT;
+
+    /**
+     * A description of the most specific type of the class hierarchy.
+     */
+    private TypeDescription typeDescription;
+
+    /**
+     * Creates the class hierarchy of which the most specific type is used for compiling a method graph.
+     */
+    @Setup
+    public void setUp() {
+        TypeDescription typeDescription = new ByteBuddy()
+                .with(TypeValidation.DISABLED)
+                .subclass(Object.class)
+                .implement(ExampleInterface.class)
+                .method(isDeclaredBy(ExampleInterface.class))
+                .intercept(StubMethod.INSTANCE)
+                .make()
+                .getTypeDescription();
+        for (int depth = 0; depth < DEPTH; depth++) {
+            DynamicType.Builder<?> builder = new ByteBuddy()
+                    .with(TypeValidation.DISABLED)
+                    .subclass(typeDescription)
+                    .defineMethod("level" + depth, void.class, Visibility.PUBLIC)
+                    .intercept(StubMethod.INSTANCE);
+            for (int index = 0; index < METHODS; index++) {
+                builder = builder.defineMethod("method" + index, void.class, Visibility.PUBLIC).intercept(StubMethod.INSTANCE);
+            }
+            typeDescription = builder.make().getTypeDescription();
+        }
+        this.typeDescription = typeDescription;
+    }
+
+    /**
+     * Compiles the method graph of {@link Object} as a baseline.
+     *
+     * @return The compiled method graph.
+     */
+    @Benchmark
+    public MethodGraph.Linked baseline() {
+        return javaCompiler.compile(baseType);
+    }
+
+    /**
+     * Performs a benchmark of compiling the method graph of a deep class hierarchy for the Java programming language.
+     *
+     * @return The compiled method graph.
+     */
+    @Benchmark
+    public MethodGraph.Linked benchmarkJavaHierarchy() {
+        return javaCompiler.compile(typeDescription);
+    }
+
+    /**
+     * Performs a benchmark of compiling the method graph of a deep class hierarchy for the Java virtual machine.
+     *
+     * @return The compiled method graph.
+     */
+    @Benchmark
+    public MethodGraph.Linked benchmarkJvmHierarchy() {
+        return jvmCompiler.compile(typeDescription);
+    }
+}
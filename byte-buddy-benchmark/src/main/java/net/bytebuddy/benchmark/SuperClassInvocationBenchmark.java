@@ -78,6 +78,13 @@ public class SuperClassInvocationBenchmark {
      */
     private ExampleClass byteBuddyWithProxyInstance;
 
+    /**
+     * An instance created by Byte Buddy for performing benchmarks on. This instance is created by binding
+     * lambda expressions that are created by {@code invokedynamic} call sites for invoking a method from a
+     * delegation target.
+     */
+    private ExampleClass byteBuddyWithLambdaInstance;
+
     /**
      * An instance created by Byte Buddy for performing benchmarks on. This instance is created by adding
      * super invocation methods which are exposed via the reflection API.
@@ -117,6 +124,7 @@ public class SuperClassInvocationBenchmark {
         ClassByExtensionBenchmark classByExtensionBenchmark = new ClassByExtensionBenchmark();
         baselineInstance = classByExtensionBenchmark.baseline();
         byteBuddyWithProxyInstance = classByExtensionBenchmark.benchmarkByteBuddyWithProxy();
+        byteBuddyWithLambdaInstance = classByExtensionBenchmark.benchmarkByteBuddyWithLambda();
         byteBuddyWithAccessorInstance = classByExtensionBenchmark.benchmarkByteBuddyWithAccessor();
         byteBuddyWithPrefixInstance = classByExtensionBenchmark.benchmarkByteBuddyWithPrefix();
         byteBuddySpecializedInstance = classByExtensionBenchmark.benchmarkByteBuddySpecialized();
@@ -185,6 +193,38 @@ public class SuperClassInvocationBenchmark {
         blackHole.consume(byteBuddyWithProxyInstance.method(stringValue, stringValue, stringValue));
     }
 
+    /**
+     * Performs a benchmark of a super method invocation using Byte Buddy. This benchmark uses an annotation-based
+     * approach but binds lambda expressions which only capture the intercepted method's arguments such that the JIT
+     * compiler can avoid their allocation.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    @OperationsPerInvocation(20)
+    public void benchmarkByteBuddyWithLambda(Blackhole blackHole) {
+        blackHole.consume(byteBuddyWithLambdaInstance.method(booleanValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(byteValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(shortValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(intValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(charValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(intValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(longValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(floatValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(doubleValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(stringValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(booleanValue, booleanValue, booleanValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(byteValue, byteValue, byteValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(shortValue, shortValue, shortValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(intValue, intValue, intValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(charValue, charValue, charValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(intValue, intValue, intValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(longValue, longValue, longValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(floatValue, floatValue, floatValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(doubleValue, doubleValue, doubleValue));
+        blackHole.consume(byteBuddyWithLambdaInstance.method(stringValue, stringValue, stringValue));
+    }
+
     /**
      * Performs a benchmark of a super method invocation using Byte Buddy. This benchmark also uses the annotation-based approach
      * but creates delegation methods which do not require the creation of additional classes.
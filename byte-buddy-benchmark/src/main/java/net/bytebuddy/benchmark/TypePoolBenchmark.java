@@ -0,0 +1,105 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * A benchmark for describing and resolving types by a {@link TypePool.Default}. The described class file is provided
+ * from memory and types of the Java class library are described by a class loading parent pool to exclude I/O from
+ * the measurement. The benchmark measures the description of a type by a pool without a cached representation, by a
+ * pool with a cached representation and the resolution of all declared methods of a type including their parameter and
+ * return types.
+ * </p>
+ * <p>
+ * In order to measure allocation rates, the benchmark should be run by specifying JMH's garbage collection profiler via
+ * {@code -prof gc}.
+ * </p>
+ * <p>
+ * Note that this class defines all values that are accessed by benchmark methods as instance fields. This way, the JIT
+ * compiler's capability of constant folding is limited in order to produce more comparable test results.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypePoolBenchmark {
+
+    /**
+     * The name of the type being described.
+     */
+    private String name = ExampleClass.class.getName();
+
+    /**
+     * A class file locator that provides the described class file from memory.
+     */
+    private ClassFileLocator classFileLocator;
+
+    /**
+     * A parent pool that describes types of the Java class library by loading them.
+     */
+    private TypePool parentPool;
+
+    /**
+     * A type pool that retains a cached representation of the described type.
+     */
+    private TypePool typePool;
+
+    /**
+     * Reads the described class file and creates a type pool with a cached representation.
+     *
+     * @throws Exception If a class file cannot be read.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        parentPool = TypePool.ClassLoading.ofBootPath();
+        classFileLocator = ClassFileLocator.Simple.of(name, ClassFileLocator.ForClassLoader.read(ExampleClass.class).resolve());
+        typePool = new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator, TypePool.Default.ReaderMode.FAST, parentPool);
+        typePool.describe(name).resolve();
+    }
+
+    /**
+     * Performs a benchmark of describing a type without a cached representation.
+     *
+     * @return The described type.
+     */
+    @Benchmark
+    public TypeDescription benchmarkDescribe() {
+        return new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator, TypePool.Default.ReaderMode.FAST, parentPool)
+                .describe(name)
+                .resolve();
+    }
+
+    /**
+     * Performs a benchmark of describing a type with a cached representation.
+     *
+     * @return The described type.
+     */
+    @Benchmark
+    public TypeDescription benchmarkDescribeCached() {
+        return typePool.describe(name).resolve();
+    }
+
+    /**
+     * Performs a benchmark of describing a type and resolving all of its declared methods.
+     *
+     * @param blackHole A black hole for avoiding JIT erasure.
+     */
+    @Benchmark
+    public void benchmarkResolve(Blackhole blackHole) {
+        TypeDescription typeDescription = new TypePool.Default(new TypePool.CacheProvider.Simple(), classFileLocator, TypePool.Default.ReaderMode.FAST, parentPool)
+                .describe(name)
+                .resolve();
+        for (MethodDescription.InDefinedShape methodDescription : typeDescription.getDeclaredMethods()) {
+            blackHole.consume(methodDescription.getDescriptor());
+            blackHole.consume(methodDescription.getModifiers());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package net.bytebuddy.benchmark.runner;
 
 import net.bytebuddy.benchmark.*;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -8,7 +9,8 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 /**
  * A runner for completing a benchmark with only one JMH fork. This benchmark completes rather quick and can give
  * a great first performance indication. A published benchmark should rather be backed by an execution with additional
- * forks.
+ * forks. The runner applies JMH's garbage collection profiler such that allocation rates are reported for all benchmarks,
+ * equivalently to specifying {@code -prof gc} when running the benchmark jar from the command line.
  */
 public class QuickRunner {
 
@@ -37,6 +39,12 @@ public class QuickRunner {
                 .include(WILDCARD + ClassByImplementationBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + ClassByExtensionBenchmark.class.getSimpleName() + WILDCARD)
                 .include(WILDCARD + TrivialClassCreationBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + AdviceInliningBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + ClassFileTransformerBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + TypePoolBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + MethodGraphCompilerBenchmark.class.getSimpleName() + WILDCARD)
+                .include(WILDCARD + BatchCreationBenchmark.class.getSimpleName() + WILDCARD)
+                .addProfiler(GCProfiler.class)
                 .forks(0) // Should rather be 1 but there seems to be a bug in JMH.
                 .build()).run();
     }
@@ -0,0 +1,37 @@
+package net.bytebuddy.benchmark.specimen;
+
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.implementation.bytecode.assign.Assigner;
+
+/**
+ * An example advice which is inlined into the methods of {@link ExampleAdvisedClass} when benchmarking advice.
+ */
+public class ExampleAdvice {
+
+    /**
+     * Records the time of entering the advised method.
+     *
+     * @return The current time in nano seconds.
+     */
+    @Advice.OnMethodEnter
+    public static long enter() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Reads the time of entering the advised method and the advised method's arguments.
+     *
+     * @param enter     The time of entering the advised method.
+     * @param arguments The advised method's arguments.
+     * @param returned  The advised method's return value.
+     * @param thrown    The exception thrown by the advised method or {@code null} if no exception was thrown.
+     * @return {@code true} if the advised method completed within a positive time span.
+     */
+    @Advice.OnMethodExit(onThrowable = Throwable.class)
+    public static boolean exit(@Advice.Enter long enter,
+                               @Advice.AllArguments Object[] arguments,
+                               @Advice.Return(typing = Assigner.Typing.DYNAMIC) Object returned,
+                               @Advice.Thrown Throwable thrown) {
+        return System.nanoTime() - enter > arguments.length && returned != thrown;
+    }
+}
@@ -0,0 +1,73 @@
+package net.bytebuddy.benchmark.specimen;
+
+/**
+ * An example class with methods of varied size which is used as a specimen for benchmarking advice.
+ */
+public class ExampleAdvisedClass {
+
+    /**
+     * A method with a minimal amount of byte code.
+     *
+     * @return A constant value.
+     */
+    public int small() {
+        return 42;
+    }
+
+    /**
+     * A method with a medium amount of byte code.
+     *
+     * @param arg An argument.
+     * @return A value that is computed from the input argument.
+     */
+    public int medium(int arg) {
+        int value = 0;
+        for (int index = 0; index < arg; index++) {
+            if (index % 2 == 0) {
+                value += index;
+            } else {
+                value -= index;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * A method with a large amount of byte code containing branches, loops and exception handlers.
+     *
+     * @param arg    An argument.
+     * @param values Several argument values.
+     * @return A value that is computed from the input arguments.
+     */
+    public long large(String arg, int... values) {
+        long value = arg.hashCode();
+        for (int index = 0; index < values.length; index++) {
+            switch (values[index] % 4) {
+                case 0:
+                    value += values[index];
+                    break;
+                case 1:
+                    value -= values[index];
+                    break;
+                case 2:
+                    value *= values[index];
+                    break;
+                default:
+                    value ^= values[index];
+            }
+        }
+        try {
+            value += Long.parseLong(arg);
+        } catch (NumberFormatException exception) {
+            value -= arg.length();
+        }
+        StringBuilder stringBuilder = new StringBuilder(arg);
+        while (stringBuilder.length() < values.length) {
+            stringBuilder.append(value);
+        }
+        synchronized (this) {
+            value += stringBuilder.toString().hashCode();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AdviceInliningBenchmarkTest {
+
+    private AdviceInliningBenchmark adviceInliningBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        adviceInliningBenchmark = new AdviceInliningBenchmark();
+        adviceInliningBenchmark.setUp();
+    }
+
+    @Test
+    public void testBaseline() throws Exception {
+        assertThat(adviceInliningBenchmark.baseline().length > 0, is(true));
+    }
+
+    @Test
+    public void testSmallMethod() throws Exception {
+        assertThat(adviceInliningBenchmark.benchmarkSmallMethod(), not(adviceInliningBenchmark.baseline()));
+    }
+
+    @Test
+    public void testMediumMethod() throws Exception {
+        assertThat(adviceInliningBenchmark.benchmarkMediumMethod(), not(adviceInliningBenchmark.baseline()));
+    }
+
+    @Test
+    public void testLargeMethod() throws Exception {
+        assertThat(adviceInliningBenchmark.benchmarkLargeMethod(), not(adviceInliningBenchmark.baseline()));
+    }
+
+    @Test
+    public void testAllMethods() throws Exception {
+        assertThat(adviceInliningBenchmark.benchmarkAllMethods().length > adviceInliningBenchmark.benchmarkLargeMethod().length, is(true));
+    }
+}
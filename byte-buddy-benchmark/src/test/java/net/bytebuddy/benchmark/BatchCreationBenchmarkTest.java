@@ -0,0 +1,31 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchCreationBenchmarkTest extends AbstractBlackHoleTest {
+
+    private BatchCreationBenchmark batchCreationBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        batchCreationBenchmark = new BatchCreationBenchmark();
+        batchCreationBenchmark.setUp();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        batchCreationBenchmark.tearDown();
+    }
+
+    @Test
+    public void testSequential() throws Exception {
+        batchCreationBenchmark.benchmarkSequential(blackHole);
+    }
+
+    @Test
+    public void testBatch() throws Exception {
+        batchCreationBenchmark.benchmarkBatch(blackHole);
+    }
+}
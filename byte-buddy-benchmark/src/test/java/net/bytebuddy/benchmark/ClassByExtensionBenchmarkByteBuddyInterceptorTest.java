@@ -21,6 +21,18 @@ public class ClassByExtensionBenchmarkByteBuddyInterceptorTest {
         }
     }
 
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLambdaInterceptor() throws Exception {
+        Constructor<?> constructor = ClassByExtensionBenchmark.ByteBuddyLambdaInterceptor.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        try {
+            constructor.newInstance();
+            fail();
+        } catch (InvocationTargetException exception) {
+            throw (UnsupportedOperationException) exception.getCause();
+        }
+    }
+
     @Test(expected = UnsupportedOperationException.class)
     public void testAccessorInterceptor() throws Exception {
         Constructor<?> constructor = ClassByExtensionBenchmark.ByteBuddyAccessInterceptor.class.getDeclaredConstructor();
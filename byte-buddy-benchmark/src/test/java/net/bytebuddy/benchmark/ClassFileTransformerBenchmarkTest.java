@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassFileTransformerBenchmarkTest {
+
+    private ClassFileTransformerBenchmark classFileTransformerBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        classFileTransformerBenchmark = new ClassFileTransformerBenchmark();
+        classFileTransformerBenchmark.setUp();
+    }
+
+    @Test
+    public void testBaseline() throws Exception {
+        assertThat(classFileTransformerBenchmark.baseline(), notNullValue(byte[].class));
+    }
+
+    @Test
+    public void testMatched() throws Exception {
+        byte[] binaryRepresentation = classFileTransformerBenchmark.benchmarkMatched();
+        assertThat(binaryRepresentation, notNullValue(byte[].class));
+        assertThat(binaryRepresentation, not(classFileTransformerBenchmark.baseline()));
+    }
+
+    @Test
+    public void testUnmatched() throws Exception {
+        assertThat(classFileTransformerBenchmark.benchmarkUnmatched(), nullValue(byte[].class));
+    }
+}
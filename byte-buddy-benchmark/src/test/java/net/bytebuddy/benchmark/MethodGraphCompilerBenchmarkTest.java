@@ -0,0 +1,39 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleInterface;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerBenchmarkTest {
+
+    private MethodGraphCompilerBenchmark methodGraphCompilerBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        methodGraphCompilerBenchmark = new MethodGraphCompilerBenchmark();
+        methodGraphCompilerBenchmark.setUp();
+    }
+
+    @Test
+    public void testBaseline() throws Exception {
+        assertThat(methodGraphCompilerBenchmark.baseline().listNodes().size() > 0, is(true));
+    }
+
+    @Test
+    public void testJavaHierarchy() throws Exception {
+        int size = methodGraphCompilerBenchmark.benchmarkJavaHierarchy().listNodes().size();
+        assertThat(size, is(methodGraphCompilerBenchmark.baseline().listNodes().size()
+                + ExampleInterface.class.getDeclaredMethods().length
+                + MethodGraphCompilerBenchmark.DEPTH
+                + MethodGraphCompilerBenchmark.METHODS));
+    }
+
+    @Test
+    public void testJvmHierarchy() throws Exception {
+        assertThat(methodGraphCompilerBenchmark.benchmarkJvmHierarchy().listNodes().size(),
+                is(methodGraphCompilerBenchmark.benchmarkJavaHierarchy().listNodes().size()));
+    }
+}
@@ -23,6 +23,11 @@ public class SuperClassInvocationBenchmarkTest extends AbstractBlackHoleTest {
         superClassInvocationBenchmark.benchmarkByteBuddyWithProxy(blackHole);
     }
 
+    @Test
+    public void testByteBuddyWithLambdasBenchmark() throws Exception {
+        superClassInvocationBenchmark.benchmarkByteBuddyWithLambda(blackHole);
+    }
+
     @Test
     public void testByteBuddyWithAccessorsBenchmark() throws Exception {
         superClassInvocationBenchmark.benchmarkByteBuddyWithAccessor(blackHole);
@@ -0,0 +1,35 @@
+package net.bytebuddy.benchmark;
+
+import net.bytebuddy.benchmark.specimen.ExampleClass;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class TypePoolBenchmarkTest extends AbstractBlackHoleTest {
+
+    private TypePoolBenchmark typePoolBenchmark;
+
+    @Before
+    public void setUp() throws Exception {
+        typePoolBenchmark = new TypePoolBenchmark();
+        typePoolBenchmark.setUp();
+    }
+
+    @Test
+    public void testDescribe() throws Exception {
+        assertThat(typePoolBenchmark.benchmarkDescribe().represents(ExampleClass.class), is(true));
+    }
+
+    @Test
+    public void testDescribeCached() throws Exception {
+        assertThat(typePoolBenchmark.benchmarkDescribeCached().represents(ExampleClass.class), is(true));
+        assertThat(typePoolBenchmark.benchmarkDescribeCached(), is(typePoolBenchmark.benchmarkDescribeCached()));
+    }
+
+    @Test
+    public void testResolve() throws Exception {
+        typePoolBenchmark.benchmarkResolve(blackHole);
+    }
+}
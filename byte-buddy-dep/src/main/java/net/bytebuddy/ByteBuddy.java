@@ -237,7 +237,7 @@ public class ByteBuddy {
      */
     @SuppressWarnings("unchecked")
     public <T> DynamicType.Builder<T> subclass(Class<T> superType) {
-        return (DynamicType.Builder<T>) subclass(new TypeDescription.ForLoadedType(superType));
+        return (DynamicType.Builder<T>) subclass(TypeDescription.ForLoadedType.of(superType));
     }
 
     /**
@@ -260,7 +260,7 @@ public class ByteBuddy {
      */
     @SuppressWarnings("unchecked")
     public <T> DynamicType.Builder<T> subclass(Class<T> superType, ConstructorStrategy constructorStrategy) {
-        return (DynamicType.Builder<T>) subclass(new TypeDescription.ForLoadedType(superType), constructorStrategy);
+        return (DynamicType.Builder<T>) subclass(TypeDescription.ForLoadedType.of(superType), constructorStrategy);
     }
 
     /**
@@ -673,7 +673,7 @@ public class ByteBuddy {
      * @return A type builder for redefining the provided type.
      */
     public <T> DynamicType.Builder<T> redefine(Class<T> type, ClassFileLocator classFileLocator) {
-        return redefine(new TypeDescription.ForLoadedType(type), classFileLocator);
+        return redefine(TypeDescription.ForLoadedType.of(type), classFileLocator);
     }
 
     /**
@@ -745,7 +745,7 @@ public class ByteBuddy {
      * @return A type builder for rebasing the provided type.
      */
     public <T> DynamicType.Builder<T> rebase(Class<T> type, ClassFileLocator classFileLocator) {
-        return rebase(new TypeDescription.ForLoadedType(type), classFileLocator);
+        return rebase(TypeDescription.ForLoadedType.of(type), classFileLocator);
     }
 
     /**
@@ -760,7 +760,7 @@ public class ByteBuddy {
      * @return A type builder for rebasing the provided type.
      */
     public <T> DynamicType.Builder<T> rebase(Class<T> type, ClassFileLocator classFileLocator, MethodNameTransformer methodNameTransformer) {
-        return rebase(new TypeDescription.ForLoadedType(type), classFileLocator, methodNameTransformer);
+        return rebase(TypeDescription.ForLoadedType.of(type), classFileLocator, methodNameTransformer);
     }
 
     /**
@@ -12,6 +12,8 @@ import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 /**
  * <p>
@@ -35,6 +37,7 @@ import java.util.concurrent.ConcurrentMap;
  *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
  *            by class loader, it is normally sufficient to store types by their name.
  * @see WithInlineExpunction
+ * @see WithInFlightDeduplication
  * @see SimpleKey
  */
 public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
@@ -359,6 +362,297 @@ public class TypeCache<T> extends ReferenceQueue<ClassLoader> {
         }
     }
 
+    /**
+     * <p>
+     * An implementation of a {@link TypeCache} that deduplicates concurrent creations of a type for the same class loader and key. If
+     * several threads fail to find a type, only the first thread creates the type while all other threads await this creation. Creations
+     * of types for different class loaders or keys are not synchronized with one another such that they can proceed in parallel. It is
+     * therefore not necessary to provide a global monitor when calling {@link TypeCache#findOrInsert(ClassLoader, Object, Callable)}.
+     * </p>
+     * <p>
+     * <b>Important</b>: A class loader that is currently involved in the creation of a type is strongly referenced until the creation is
+     * complete. If a type creation awaits a creation that itself awaits the first creation, either recursively on the same thread or
+     * because two threads create types that depend on one another, the awaiting thread does not block but creates the type without
+     * deduplication. In this case, a type might be created more than once while only the first inserted type is returned.
+     * </p>
+     *
+     * @param <S> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
+     *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
+     *            by class loader, it is normally sufficient to store types by their name.
+     * @see TypeCache
+     */
+    public static class WithInFlightDeduplication<S> extends TypeCache<S> {
+
+        /**
+         * A map of creations that are currently in flight.
+         */
+        protected final ConcurrentMap<InFlightKey<S>, InFlightCreation> inFlight;
+
+        /**
+         * A map of threads that currently await a creation to the threads that execute the awaited creation.
+         */
+        protected final ConcurrentMap<Thread, Thread> awaiting;
+
+        /**
+         * Creates a new type cache with in-flight deduplication.
+         *
+         * @param sort The reference type to use for stored types.
+         */
+        public WithInFlightDeduplication(Sort sort) {
+            super(sort);
+            inFlight = new ConcurrentHashMap<InFlightKey<S>, InFlightCreation>();
+            awaiting = new ConcurrentHashMap<Thread, Thread>();
+        }
+
+        @Override
+        public Class<?> findOrInsert(ClassLoader classLoader, S key, Callable<Class<?>> lazy) {
+            Class<?> type = find(classLoader, key);
+            if (type != null) {
+                return type;
+            }
+            InFlightKey<S> inFlightKey = new InFlightKey<S>(classLoader, key);
+            Thread thread = Thread.currentThread();
+            InFlightCreation creation = new InFlightCreation(new Creation<S>(this, classLoader, key, lazy), thread), previous = inFlight.putIfAbsent(inFlightKey, creation);
+            if (previous == null) {
+                try {
+                    creation.run();
+                } finally {
+                    inFlight.remove(inFlightKey, creation);
+                }
+                return resolve(creation);
+            }
+            awaiting.put(thread, previous.getOwner());
+            try {
+                if (!isCircular(thread, previous.getOwner())) {
+                    return resolve(previous);
+                }
+            } finally {
+                awaiting.remove(thread);
+            }
+            creation.run();
+            return resolve(creation);
+        }
+
+        /**
+         * Determines if awaiting a creation of the supplied owner would never complete as the owner directly or indirectly awaits a
+         * creation of the supplied thread.
+         *
+         * @param thread The thread that awaits a creation.
+         * @param owner  The thread that executes the awaited creation.
+         * @return {@code true} if the supplied thread would await its own creation.
+         */
+        private boolean isCircular(Thread thread, Thread owner) {
+            Set<Thread> threads = new HashSet<Thread>();
+            while (owner != null && threads.add(owner)) {
+                if (owner == thread) {
+                    return true;
+                }
+                owner = awaiting.get(owner);
+            }
+            return false;
+        }
+
+        /**
+         * Resolves the type of a completed or currently executed creation.
+         *
+         * @param creation The creation to resolve.
+         * @return The created type.
+         */
+        private static Class<?> resolve(InFlightCreation creation) {
+            try {
+                return creation.get();
+            } catch (ExecutionException exception) {
+                throw new IllegalArgumentException("Could not create type", exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while awaiting the creation of a type", exception);
+            }
+        }
+
+        /**
+         * A key for identifying a creation of a type that is currently in flight. The class loader is compared by identity.
+         *
+         * @param <U> The type of the key that is used for identifying stored classes per class loader.
+         */
+        protected static class InFlightKey<U> {
+
+            /**
+             * The class loader for which a type is created.
+             */
+            private final ClassLoader classLoader;
+
+            /**
+             * The key of the created type.
+             */
+            private final U key;
+
+            /**
+             * Creates a new in-flight key.
+             *
+             * @param classLoader The class loader for which a type is created.
+             * @param key         The key of the created type.
+             */
+            protected InFlightKey(ClassLoader classLoader, U key) {
+                this.classLoader = classLoader;
+                this.key = key;
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * System.identityHashCode(classLoader) + key.hashCode();
+            }
+
+            @Override
+            public boolean equals(Object other) {
+                if (other == this) {
+                    return true;
+                } else if (other == null || other.getClass() != getClass()) {
+                    return false;
+                }
+                InFlightKey<?> inFlightKey = (InFlightKey<?>) other;
+                return classLoader == inFlightKey.classLoader && key.equals(inFlightKey.key);
+            }
+        }
+
+        /**
+         * A creation of a type that is currently in flight and that is executed by a given thread.
+         */
+        protected static class InFlightCreation extends FutureTask<Class<?>> {
+
+            /**
+             * The thread that executes this creation.
+             */
+            private final Thread owner;
+
+            /**
+             * Creates a new in-flight creation.
+             *
+             * @param creation The creation to execute.
+             * @param owner    The thread that executes this creation.
+             */
+            protected InFlightCreation(Callable<Class<?>> creation, Thread owner) {
+                super(creation);
+                this.owner = owner;
+            }
+
+            /**
+             * Returns the thread that executes this creation.
+             *
+             * @return The thread that executes this creation.
+             */
+            protected Thread getOwner() {
+                return owner;
+            }
+        }
+
+        /**
+         * A creation of a type that inserts the created type into a type cache unless another type was inserted previously.
+         *
+         * @param <U> The type of the key that is used for identifying stored classes per class loader.
+         */
+        protected static class Creation<U> implements Callable<Class<?>> {
+
+            /**
+             * The type cache to insert the created type into.
+             */
+            private final TypeCache<U> typeCache;
+
+            /**
+             * The class loader for which the type is created.
+             */
+            private final ClassLoader classLoader;
+
+            /**
+             * The key of the created type.
+             */
+            private final U key;
+
+            /**
+             * A lazy creator for the type.
+             */
+            private final Callable<Class<?>> lazy;
+
+            /**
+             * Creates a new creation.
+             *
+             * @param typeCache   The type cache to insert the created type into.
+             * @param classLoader The class loader for which the type is created.
+             * @param key         The key of the created type.
+             * @param lazy        A lazy creator for the type.
+             */
+            protected Creation(TypeCache<U> typeCache, ClassLoader classLoader, U key, Callable<Class<?>> lazy) {
+                this.typeCache = typeCache;
+                this.classLoader = classLoader;
+                this.key = key;
+                this.lazy = lazy;
+            }
+
+            @Override
+            public Class<?> call() throws Exception {
+                Class<?> type = typeCache.find(classLoader, key);
+                return type == null
+                        ? typeCache.insert(classLoader, key, lazy.call())
+                        : type;
+            }
+        }
+
+        /**
+         * An implementation of a {@link TypeCache} with in-flight deduplication where obsolete references are cleared upon any call.
+         *
+         * @param <U> The type of the key that is used for identifying stored classes per class loader. Such keys must not strongly reference any
+         *            types or class loaders without potentially corrupting the garbage eligibility of stored classes. As the storage is segmented
+         *            by class loader, it is normally sufficient to store types by their name.
+         * @see TypeCache.WithInlineExpunction
+         */
+        public static class WithInlineExpunction<U> extends WithInFlightDeduplication<U> {
+
+            /**
+             * Creates a new type cache with in-flight deduplication and inlined expunction.
+             *
+             * @param sort The reference type to use for stored types.
+             */
+            public WithInlineExpunction(Sort sort) {
+                super(sort);
+            }
+
+            @Override
+            public Class<?> find(ClassLoader classLoader, U key) {
+                try {
+                    return super.find(classLoader, key);
+                } finally {
+                    expungeStaleEntries();
+                }
+            }
+
+            @Override
+            public Class<?> insert(ClassLoader classLoader, U key, Class<?> type) {
+                try {
+                    return super.insert(classLoader, key, type);
+                } finally {
+                    expungeStaleEntries();
+                }
+            }
+
+            @Override
+            public Class<?> findOrInsert(ClassLoader classLoader, U key, Callable<Class<?>> builder) {
+                try {
+                    return super.findOrInsert(classLoader, key, builder);
+                } finally {
+                    expungeStaleEntries();
+                }
+            }
+
+            @Override
+            public Class<?> findOrInsert(ClassLoader classLoader, U key, Callable<Class<?>> builder, Object monitor) {
+                try {
+                    return super.findOrInsert(classLoader, key, builder, monitor);
+                } finally {
+                    expungeStaleEntries();
+                }
+            }
+        }
+    }
+
     /**
      * A simple key based on a collection of types where no type is strongly referenced.
      */
@@ -39,13 +39,16 @@ import net.bytebuddy.implementation.bytecode.member.FieldAccess;
 import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
 import net.bytebuddy.implementation.bytecode.member.MethodReturn;
 import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.matcher.CachingSuperTypeMatcher;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.LatentMatcher;
+import net.bytebuddy.matcher.MatcherOptimizer;
 import net.bytebuddy.pool.TypePool;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.JavaConstant;
 import net.bytebuddy.utility.JavaModule;
 import net.bytebuddy.utility.JavaType;
+import net.bytebuddy.utility.StreamDrainer;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
@@ -56,11 +59,15 @@ import java.lang.instrument.ClassDefinition;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.Instrumentation;
 import java.lang.instrument.UnmodifiableClassException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.security.AccessControlContext;
 import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
@@ -228,6 +235,25 @@ public interface AgentBuilder {
      */
     AgentBuilder with(InstallationListener installationListener);
 
+    /**
+     * Defines a class file cache that stores the result of a transformation such that an unchanged class file is not described,
+     * matched and transformed again. A class file cache is only applied by class file transformers that are created by this agent
+     * builder and is not applied when loaded types are redefined by {@link RedefinitionStrategy#REDEFINITION}.
+     *
+     * @param classFileCache The class file cache to use.
+     * @return A new agent builder that applies the supplied class file cache.
+     */
+    AgentBuilder with(ClassFileCache classFileCache);
+
+    /**
+     * Registers a name filter that excludes types from a transformation by their name and class loader before a type description
+     * is created for them. If several name filters are registered, a type is only transformed if it is accepted by all filters.
+     *
+     * @param nameFilter The name filter to register.
+     * @return A new agent builder that applies the supplied name filter.
+     */
+    AgentBuilder with(NameFilter nameFilter);
+
     /**
      * Enables class injection of auxiliary classes into the bootstrap class loader.
      *
@@ -619,6 +645,28 @@ public interface AgentBuilder {
      */
     ResettableClassFileTransformer installOn(Instrumentation instrumentation);
 
+    /**
+     * <p>
+     * Creates and installs a {@link java.lang.instrument.ClassFileTransformer} that implements the configuration of
+     * this agent builder with a given {@link java.lang.instrument.Instrumentation}. If a {@link RedefinitionStrategy} is
+     * enabled, all loaded types are discovered, matched and redefined on the supplied executor service such that this
+     * method returns without awaiting the redefinition. The progress of the redefinition is reported to any registered
+     * {@link RedefinitionStrategy.Listener} from within the executor service's threads.
+     * </p>
+     * <p>
+     * Resetting the returned {@link ResettableClassFileTransformer} cancels any redefinition that is not yet completed
+     * prior to its next batch. Errors that occur during an asynchronous redefinition are reported to the registered
+     * {@link InstallationListener} but do not cause the class file transformer to be removed.
+     * </p>
+     *
+     * @param instrumentation The instrumentation on which this agent builder's configuration is to be installed.
+     * @param executorService The executor service to apply the redefinition of loaded types on. Must not be {@code null}.
+     * @return The installed class file transformer.
+     * @throws IllegalArgumentException If the supplied executor service is {@code null}.
+     * @see AgentBuilder#installOn(Instrumentation)
+     */
+    ResettableClassFileTransformer installOn(Instrumentation instrumentation, ExecutorService executorService);
+
     /**
      * Creates and installs a {@link java.lang.instrument.ClassFileTransformer} that implements the configuration of
      * this agent builder with the Byte Buddy-agent which must be installed prior to calling this method.
@@ -1187,7 +1235,7 @@ public interface AgentBuilder {
             /**
              * Creates a new {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher} that only matches the
              * supplied {@link TypeDescription}, its {@link java.lang.ClassLoader} and module against element
-             * suitable matchers.
+             * suitable matchers. All matchers are optimized by the {@link MatcherOptimizer}.
              *
              * @param typeMatcher        The type matcher to apply to a {@link TypeDescription}.
              * @param classLoaderMatcher The class loader matcher to apply to a {@link java.lang.ClassLoader}.
@@ -1196,9 +1244,9 @@ public interface AgentBuilder {
             public ForElementMatchers(ElementMatcher<? super TypeDescription> typeMatcher,
                                       ElementMatcher<? super ClassLoader> classLoaderMatcher,
                                       ElementMatcher<? super JavaModule> moduleMatcher) {
-                this.typeMatcher = typeMatcher;
-                this.classLoaderMatcher = classLoaderMatcher;
-                this.moduleMatcher = moduleMatcher;
+                this.typeMatcher = MatcherOptimizer.INSTANCE.optimize(typeMatcher);
+                this.classLoaderMatcher = MatcherOptimizer.INSTANCE.optimize(classLoaderMatcher);
+                this.moduleMatcher = MatcherOptimizer.INSTANCE.optimize(moduleMatcher);
             }
 
             @Override
@@ -1210,6 +1258,364 @@ public interface AgentBuilder {
                 return moduleMatcher.matches(module) && classLoaderMatcher.matches(classLoader) && typeMatcher.matches(typeDescription);
             }
         }
+
+        /**
+         * <p>
+         * A raw matcher that matches a type if the type's erasure or any of its erased super classes or interfaces is matched by
+         * an element matcher. The outcome of matching a type is remembered per class loader by a {@link CachingSuperTypeMatcher}
+         * such that a super type that is shared by several types of a class loader is only matched and resolved once.
+         * </p>
+         * <p>
+         * <b>Note</b>: Class loaders are only referenced weakly. The cache of a class loader is removed once the class loader
+         * is garbage collected and this matcher is applied the next time.
+         * </p>
+         */
+        @EqualsAndHashCode(callSuper = false, exclude = "cache")
+        class ForSuperTypes extends ReferenceQueue<ClassLoader> implements RawMatcher {
+
+            /**
+             * The matcher to apply to the erasure of the matched type and any of its super types.
+             */
+            private final ElementMatcher<? super TypeDescription> matcher;
+
+            /**
+             * A map of class loaders to a map of type names to the outcome of matching the named type.
+             */
+            private final ConcurrentMap<StorageKey, ConcurrentMap<String, Boolean>> cache;
+
+            /**
+             * Creates a new raw matcher for super types.
+             *
+             * @param matcher The matcher to apply to the erasure of the matched type and any of its super types.
+             */
+            public ForSuperTypes(ElementMatcher<? super TypeDescription> matcher) {
+                this.matcher = matcher;
+                cache = new ConcurrentHashMap<StorageKey, ConcurrentMap<String, Boolean>>();
+            }
+
+            @Override
+            public boolean matches(TypeDescription typeDescription,
+                                   ClassLoader classLoader,
+                                   JavaModule module,
+                                   Class<?> classBeingRedefined,
+                                   ProtectionDomain protectionDomain) {
+                expungeStaleEntries();
+                ConcurrentMap<String, Boolean> names = cache.get(new LookupKey(classLoader));
+                if (names == null) {
+                    names = new ConcurrentHashMap<String, Boolean>();
+                    ConcurrentMap<String, Boolean> previous = cache.putIfAbsent(new StorageKey(classLoader, this), names);
+                    if (previous != null) {
+                        names = previous;
+                    }
+                }
+                return new CachingSuperTypeMatcher<TypeDescription>(matcher, names).matches(typeDescription);
+            }
+
+            /**
+             * Removes the caches of any class loader that was garbage collected.
+             */
+            protected void expungeStaleEntries() {
+                Reference<?> reference;
+                while ((reference = poll()) != null) {
+                    cache.remove(reference);
+                }
+            }
+
+            /**
+             * A key for a class loader that can only be used for looking up a preexisting value but avoids reference management.
+             */
+            protected static class LookupKey {
+
+                /**
+                 * The represented class loader.
+                 */
+                private final ClassLoader classLoader;
+
+                /**
+                 * The represented class loader's hash code or {@code 0} if this entry represents the bootstrap class loader.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new lookup key.
+                 *
+                 * @param classLoader The represented class loader.
+                 */
+                protected LookupKey(ClassLoader classLoader) {
+                    this.classLoader = classLoader;
+                    hashCode = System.identityHashCode(classLoader);
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended")
+                public boolean equals(Object object) {
+                    if (this == object) {
+                        return true;
+                    } else if (object instanceof LookupKey) {
+                        return classLoader == ((LookupKey) object).classLoader;
+                    } else if (object instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) object;
+                        return hashCode == storageKey.hashCode && classLoader == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+            }
+
+            /**
+             * A key for a class loader that only weakly references the class loader.
+             */
+            protected static class StorageKey extends WeakReference<ClassLoader> {
+
+                /**
+                 * The represented class loader's hash code or {@code 0} if this entry represents the bootstrap class loader.
+                 */
+                private final int hashCode;
+
+                /**
+                 * Creates a new storage key.
+                 *
+                 * @param classLoader    The represented class loader or {@code null} for the bootstrap class loader.
+                 * @param referenceQueue The reference queue to notify upon a garbage collection of the class loader.
+                 */
+                protected StorageKey(ClassLoader classLoader, ReferenceQueue<? super ClassLoader> referenceQueue) {
+                    super(classLoader, referenceQueue);
+                    hashCode = System.identityHashCode(classLoader);
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended")
+                public boolean equals(Object object) {
+                    if (this == object) {
+                        return true;
+                    } else if (object instanceof LookupKey) {
+                        LookupKey lookupKey = (LookupKey) object;
+                        return hashCode == lookupKey.hashCode && get() == lookupKey.classLoader;
+                    } else if (object instanceof StorageKey) {
+                        StorageKey storageKey = (StorageKey) object;
+                        return hashCode == storageKey.hashCode && get() == storageKey.get();
+                    } else {
+                        return false;
+                    }
+                }
+
+                @Override
+                public int hashCode() {
+                    return hashCode;
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * A raw matcher that decides on types that are expected to be loaded before they are loaded, for example on several threads of a
+         * bounded executor while an application is starting up. A class file transformation then only picks up the precomputed decision for
+         * a type. If a decision is not yet computed, it is computed by the transforming thread instead. If a decision is computed concurrently,
+         * it is awaited. A precomputed decision is only applied once such that decisions on types that were loaded are not retained.
+         * </p>
+         * <p>
+         * <b>Important</b>: A decision is precomputed for the description that a type pool resolves for a type's name, without a protection
+         * domain and as if the type was not yet loaded. A precomputed decision is therefore only applied to a type that is not yet loaded.
+         * The decorated matcher must not consider a type's protection domain. Also, the class file that is located for a type must not differ
+         * from the class file that is loaded in any way that is relevant to the decorated matcher. Decisions on types that are never loaded
+         * are retained until their class loader is garbage collected. The supplied executor service is not shut down by this matcher.
+         * </p>
+         */
+        @EqualsAndHashCode(callSuper = false, exclude = "decisions")
+        class Precomputing extends ReferenceQueue<ClassLoader> implements RawMatcher {
+
+            /**
+             * Indicates that a type is not yet loaded when a decision is precomputed.
+             */
+            private static final Class<?> NOT_PREVIOUSLY_DEFINED = null;
+
+            /**
+             * Indicates that a protection domain is not known when a decision is precomputed.
+             */
+            private static final ProtectionDomain UNKNOWN_PROTECTION_DOMAIN = null;
+
+            /**
+             * The matcher whose decisions are precomputed.
+             */
+            private final RawMatcher matcher;
+
+            /**
+             * The executor service to use for precomputing decisions.
+             */
+            private final ExecutorService executorService;
+
+            /**
+             * A map of class loaders to a map of type names to the precomputed decision on the named type.
+             */
+            private final ConcurrentMap<ForSuperTypes.StorageKey, ConcurrentMap<String, FutureTask<Boolean>>> decisions;
+
+            /**
+             * Creates a new raw matcher that precomputes decisions.
+             *
+             * @param matcher         The matcher whose decisions are precomputed.
+             * @param executorService The executor service to use for precomputing decisions.
+             */
+            public Precomputing(RawMatcher matcher, ExecutorService executorService) {
+                this.matcher = matcher;
+                this.executorService = executorService;
+                decisions = new ConcurrentHashMap<ForSuperTypes.StorageKey, ConcurrentMap<String, FutureTask<Boolean>>>();
+            }
+
+            /**
+             * Precomputes decisions on the supplied types in the background. The types are described by a type pool of the supplied pool
+             * strategy that locates class files using the supplied location strategy. If the pool strategy is a
+             * {@link PoolStrategy.WithTypePoolCache.Preloading} strategy that is also used by the agent builder, the described types
+             * are reused by any later transformation.
+             *
+             * @param locationStrategy The location strategy that is used for locating class files.
+             * @param poolStrategy     The pool strategy that is used for describing the types.
+             * @param classLoader      The class loader of the types or {@code null} if the types are loaded by the bootstrap loader.
+             * @param module           The module of the types or {@code null} if the current VM does not support modules.
+             * @param typeNames        The binary names of the types that are expected to be loaded.
+             * @return A list of futures that yield the decision on every type in the order of the supplied names.
+             */
+            public List<Future<Boolean>> precompute(LocationStrategy locationStrategy,
+                                                    PoolStrategy poolStrategy,
+                                                    ClassLoader classLoader,
+                                                    JavaModule module,
+                                                    Collection<String> typeNames) {
+                return precompute(poolStrategy.typePool(locationStrategy.classFileLocator(classLoader, module), classLoader), classLoader, module, typeNames);
+            }
+
+            /**
+             * Precomputes decisions on the supplied types in the background.
+             *
+             * @param typePool    The type pool to use for describing the types.
+             * @param classLoader The class loader of the types or {@code null} if the types are loaded by the bootstrap loader.
+             * @param module      The module of the types or {@code null} if the current VM does not support modules.
+             * @param typeNames   The binary names of the types that are expected to be loaded.
+             * @return A list of futures that yield the decision on every type in the order of the supplied names.
+             */
+            public List<Future<Boolean>> precompute(TypePool typePool, ClassLoader classLoader, JavaModule module, Collection<String> typeNames) {
+                expungeStaleEntries();
+                ConcurrentMap<String, FutureTask<Boolean>> decisions = this.decisions.get(new ForSuperTypes.LookupKey(classLoader));
+                if (decisions == null) {
+                    decisions = new ConcurrentHashMap<String, FutureTask<Boolean>>();
+                    ConcurrentMap<String, FutureTask<Boolean>> previous = this.decisions.putIfAbsent(new ForSuperTypes.StorageKey(classLoader, this), decisions);
+                    if (previous != null) {
+                        decisions = previous;
+                    }
+                }
+                List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>(typeNames.size());
+                for (String typeName : typeNames) {
+                    FutureTask<Boolean> decision = new FutureTask<Boolean>(new Decision(matcher, typePool, typeName, classLoader, module));
+                    FutureTask<Boolean> previous = decisions.putIfAbsent(typeName, decision);
+                    if (previous == null) {
+                        try {
+                            executorService.execute(decision);
+                        } catch (RuntimeException exception) {
+                            decisions.remove(typeName, decision);
+                            throw exception;
+                        }
+                        futures.add(decision);
+                    } else {
+                        futures.add(previous);
+                    }
+                }
+                return futures;
+            }
+
+            @Override
+            public boolean matches(TypeDescription typeDescription,
+                                   ClassLoader classLoader,
+                                   JavaModule module,
+                                   Class<?> classBeingRedefined,
+                                   ProtectionDomain protectionDomain) {
+                expungeStaleEntries();
+                if (classBeingRedefined == null) {
+                    ConcurrentMap<String, FutureTask<Boolean>> decisions = this.decisions.get(new ForSuperTypes.LookupKey(classLoader));
+                    FutureTask<Boolean> decision = decisions == null
+                            ? null
+                            : decisions.remove(typeDescription.getName());
+                    if (decision != null && !decision.cancel(false)) {
+                        try {
+                            return decision.get();
+                        } catch (ExecutionException ignored) {
+                            /* do nothing */
+                        } catch (CancellationException ignored) {
+                            /* do nothing */
+                        } catch (InterruptedException ignored) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+                return matcher.matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain);
+            }
+
+            /**
+             * Removes the decisions of any class loader that was garbage collected.
+             */
+            protected void expungeStaleEntries() {
+                Reference<?> reference;
+                while ((reference = poll()) != null) {
+                    decisions.remove(reference);
+                }
+            }
+
+            /**
+             * A decision on a type that is computed in the background.
+             */
+            @EqualsAndHashCode
+            protected static class Decision implements Callable<Boolean> {
+
+                /**
+                 * The matcher to apply.
+                 */
+                private final RawMatcher matcher;
+
+                /**
+                 * The type pool to use for describing the type.
+                 */
+                private final TypePool typePool;
+
+                /**
+                 * The binary name of the type.
+                 */
+                private final String typeName;
+
+                /**
+                 * The class loader of the type or {@code null} if the type is loaded by the bootstrap loader.
+                 */
+                private final ClassLoader classLoader;
+
+                /**
+                 * The module of the type or {@code null} if the current VM does not support modules.
+                 */
+                private final JavaModule module;
+
+                /**
+                 * Creates a new decision.
+                 *
+                 * @param matcher     The matcher to apply.
+                 * @param typePool    The type pool to use for describing the type.
+                 * @param typeName    The binary name of the type.
+                 * @param classLoader The class loader of the type or {@code null} if the type is loaded by the bootstrap loader.
+                 * @param module      The module of the type or {@code null} if the current VM does not support modules.
+                 */
+                protected Decision(RawMatcher matcher, TypePool typePool, String typeName, ClassLoader classLoader, JavaModule module) {
+                    this.matcher = matcher;
+                    this.typePool = typePool;
+                    this.typeName = typeName;
+                    this.classLoader = classLoader;
+                    this.module = module;
+                }
+
+                @Override
+                public Boolean call() {
+                    return matcher.matches(typePool.describe(typeName).resolve(), classLoader, module, NOT_PREVIOUSLY_DEFINED, UNKNOWN_PROTECTION_DOMAIN);
+                }
+            }
+        }
     }
 
     /**
@@ -2601,58 +3007,168 @@ public interface AgentBuilder {
                     return ClassLoader.getSystemClassLoader();
                 }
             }
-        }
-    }
-
-    /**
-     * An initialization strategy which determines the handling of {@link net.bytebuddy.implementation.LoadedTypeInitializer}s
-     * and the loading of auxiliary types. The agent builder does not reuse the {@link TypeResolutionStrategy} as Javaagents cannot access
-     * a loaded class after a transformation such that different initialization strategies become meaningful.
-     */
-    interface InitializationStrategy {
-
-        /**
-         * Creates a new dispatcher for injecting this initialization strategy during a transformation process.
-         *
-         * @return The dispatcher to be used.
-         */
-        Dispatcher dispatcher();
-
-        /**
-         * A dispatcher for changing a class file to adapt a self-initialization strategy.
-         */
-        interface Dispatcher {
 
             /**
-             * Transforms the instrumented type to implement an appropriate initialization strategy.
-             *
-             * @param builder The builder which should implement the initialization strategy.
-             * @return The given {@code builder} with the initialization strategy applied.
-             */
-            DynamicType.Builder<?> apply(DynamicType.Builder<?> builder);
-
-            /**
-             * Registers a dynamic type for initialization and/or begins the initialization process.
-             *
-             * @param dynamicType     The dynamic type that is created.
-             * @param classLoader     The class loader of the dynamic type.
-             * @param injectorFactory The injector factory
+             * <p>
+             * A type locator that caches a cache provider per class loader in a concurrent map, similar to {@link Simple}, but which
+             * additionally allows to resolve types on a background executor before they are requested by a class file transformation.
+             * Doing so, the parsing of class files that is required for matching a type can be performed on multiple threads such that
+             * a later transformation only looks up a resolution that is already contained in the class loader's cache.
+             * </p>
+             * <p>
+             * <b>Important</b>: The preloading is only an optimization. Types that are not preloaded or whose preloading is still
+             * in progress are resolved by the transforming thread as by any other pool strategy. The supplied executor service is not
+             * shut down by this pool strategy.
+             * </p>
              */
-            void register(DynamicType dynamicType, ClassLoader classLoader, InjectorFactory injectorFactory);
+            @EqualsAndHashCode(callSuper = true)
+            public static class Preloading extends Simple {
 
-            /**
-             * A factory for creating a {@link ClassInjector} only if it is required.
-             */
-            interface InjectorFactory {
+                /**
+                 * The executor service to use for resolving types in the background.
+                 */
+                private final ExecutorService executorService;
 
                 /**
-                 * Resolves the class injector for this factory.
+                 * Creates a new type locator that resolves types on a background executor. The type locator uses a fast
+                 * {@link net.bytebuddy.pool.TypePool.Default.ReaderMode}.
                  *
-                 * @return The class injector for this factory.
+                 * @param executorService The executor service to use for resolving types in the background.
+                 * @param cacheProviders  The concurrent map that is used for storing a cache provider per class loader.
                  */
-                ClassInjector resolve();
-            }
-        }
+                public Preloading(ExecutorService executorService, ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                    this(TypePool.Default.ReaderMode.FAST, executorService, cacheProviders);
+                }
+
+                /**
+                 * Creates a new type locator that resolves types on a background executor.
+                 *
+                 * @param readerMode      The reader mode to use for parsing a class file.
+                 * @param executorService The executor service to use for resolving types in the background.
+                 * @param cacheProviders  The concurrent map that is used for storing a cache provider per class loader.
+                 */
+                public Preloading(TypePool.Default.ReaderMode readerMode,
+                                  ExecutorService executorService,
+                                  ConcurrentMap<? super ClassLoader, TypePool.CacheProvider> cacheProviders) {
+                    super(readerMode, cacheProviders);
+                    this.executorService = executorService;
+                }
+
+                /**
+                 * Resolves the supplied types in the background using the class file locator that is provided by the supplied location strategy.
+                 *
+                 * @param locationStrategy The location strategy that is used for locating class files.
+                 * @param classLoader      The class loader of the preloaded types or {@code null} if the types are loaded by the bootstrap loader.
+                 * @param module           The module of the preloaded types or {@code null} if the current VM does not support modules.
+                 * @param typeNames        The binary names of the types that are expected to be loaded.
+                 * @return A list of futures that yield {@code true} for any type that could be resolved.
+                 */
+                public List<Future<Boolean>> preload(LocationStrategy locationStrategy, ClassLoader classLoader, JavaModule module, Collection<String> typeNames) {
+                    return preload(locationStrategy.classFileLocator(classLoader, module), classLoader, typeNames);
+                }
+
+                /**
+                 * Resolves the supplied types in the background using the supplied class file locator.
+                 *
+                 * @param classFileLocator The class file locator to use.
+                 * @param classLoader      The class loader of the preloaded types or {@code null} if the types are loaded by the bootstrap loader.
+                 * @param typeNames        The binary names of the types that are expected to be loaded.
+                 * @return A list of futures that yield {@code true} for any type that could be resolved.
+                 */
+                public List<Future<Boolean>> preload(ClassFileLocator classFileLocator, ClassLoader classLoader, Collection<String> typeNames) {
+                    TypePool typePool = typePool(classFileLocator, classLoader);
+                    List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>(typeNames.size());
+                    for (String typeName : typeNames) {
+                        futures.add(executorService.submit(new Resolution(typePool, typeName)));
+                    }
+                    return futures;
+                }
+
+                /**
+                 * A resolution of a type that is executed in the background.
+                 */
+                @EqualsAndHashCode
+                protected static class Resolution implements Callable<Boolean> {
+
+                    /**
+                     * The type pool to use for resolving the type.
+                     */
+                    private final TypePool typePool;
+
+                    /**
+                     * The binary name of the type to resolve.
+                     */
+                    private final String typeName;
+
+                    /**
+                     * Creates a new resolution.
+                     *
+                     * @param typePool The type pool to use for resolving the type.
+                     * @param typeName The binary name of the type to resolve.
+                     */
+                    protected Resolution(TypePool typePool, String typeName) {
+                        this.typePool = typePool;
+                        this.typeName = typeName;
+                    }
+
+                    @Override
+                    public Boolean call() {
+                        return typePool.describe(typeName).isResolved();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An initialization strategy which determines the handling of {@link net.bytebuddy.implementation.LoadedTypeInitializer}s
+     * and the loading of auxiliary types. The agent builder does not reuse the {@link TypeResolutionStrategy} as Javaagents cannot access
+     * a loaded class after a transformation such that different initialization strategies become meaningful.
+     */
+    interface InitializationStrategy {
+
+        /**
+         * Creates a new dispatcher for injecting this initialization strategy during a transformation process.
+         *
+         * @return The dispatcher to be used.
+         */
+        Dispatcher dispatcher();
+
+        /**
+         * A dispatcher for changing a class file to adapt a self-initialization strategy.
+         */
+        interface Dispatcher {
+
+            /**
+             * Transforms the instrumented type to implement an appropriate initialization strategy.
+             *
+             * @param builder The builder which should implement the initialization strategy.
+             * @return The given {@code builder} with the initialization strategy applied.
+             */
+            DynamicType.Builder<?> apply(DynamicType.Builder<?> builder);
+
+            /**
+             * Registers a dynamic type for initialization and/or begins the initialization process.
+             *
+             * @param dynamicType     The dynamic type that is created.
+             * @param classLoader     The class loader of the dynamic type.
+             * @param injectorFactory The injector factory
+             */
+            void register(DynamicType dynamicType, ClassLoader classLoader, InjectorFactory injectorFactory);
+
+            /**
+             * A factory for creating a {@link ClassInjector} only if it is required.
+             */
+            interface InjectorFactory {
+
+                /**
+                 * Resolves the class injector for this factory.
+                 *
+                 * @return The class injector for this factory.
+                 */
+                ClassInjector resolve();
+            }
+        }
 
         /**
          * A non-initializing initialization strategy.
@@ -3087,7 +3603,7 @@ public interface AgentBuilder {
                                              JavaModule module) {
                     return type == null
                             ? typePool.describe(typeName).resolve()
-                            : new TypeDescription.ForLoadedType(type);
+                            : TypeDescription.ForLoadedType.of(type);
                 }
             },
 
@@ -3139,7 +3655,7 @@ public interface AgentBuilder {
                     TypePool.Resolution resolution = typePool.describe(typeName);
                     return resolution.isResolved() || type == null
                             ? resolution.resolve()
-                            : new TypeDescription.ForLoadedType(type);
+                            : TypeDescription.ForLoadedType.of(type);
                 }
             };
 
@@ -4017,603 +4533,1786 @@ public interface AgentBuilder {
 
     /**
      * <p>
-     * A redefinition strategy regulates how already loaded classes are modified by a built agent.
+     * A class file cache allows to store the result of a transformation such that a later transformation of an unchanged class file
+     * does not require to transform the class file once again. A cache is only queried after a type was matched by the agent's ignore
+     * and type matchers and is supplied the indices of the transformations that matched the instrumented type. A cache therefore
+     * only avoids the transformation of a matched type but not its description or matching. The {@link Listener}
+     * is notified of a cached result as of any other transformation where the reported {@link DynamicType} only represents the cached
+     * class file.
      * </p>
      * <p>
-     * <b>Important</b>: Most JVMs do not support changes of a class's structure after a class was already
-     * loaded. Therefore, it is typically required that this class file transformer was built while enabling
-     * {@link AgentBuilder#disableClassFormatChanges()}.
+     * <b>Important</b>: A class file cache assumes that a transformation only depends on the original class file, on whether a type is
+     * already loaded, on the matched transformations, on the instrumented type's class loader and module and on a configuration that is
+     * identified by the cache. It is the responsibility of a cache to discriminate results by class loader and module to the extent that
+     * the transformation depends on them. A transformation that requires auxiliary types or that defines alive
+     * {@link net.bytebuddy.implementation.LoadedTypeInitializer}s is never registered with a cache as such a transformation
+     * cannot be applied from a cached class file.
      * </p>
      */
-    enum RedefinitionStrategy {
+    interface ClassFileCache {
 
         /**
-         * Disables redefinition such that already loaded classes are not affected by the agent.
+         * Looks up the cached result of a transformation.
+         *
+         * @param typeName             The binary name of the instrumented type.
+         * @param classLoader          The instrumented type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+         * @param module               The instrumented type's module or {@code null} if the current VM does not support modules.
+         * @param loaded               {@code true} if the instrumented type is already loaded.
+         * @param transformations      The indices of the transformations that matched the instrumented type in their registration order.
+         * @param binaryRepresentation The class file of the instrumented type before its transformation.
+         * @return A resolution of the cached transformation.
          */
-        DISABLED(false, false) {
-            @Override
-            public void apply(Instrumentation instrumentation,
-                              AgentBuilder.Listener listener,
-                              CircularityLock circularityLock,
-                              PoolStrategy poolStrategy,
-                              LocationStrategy locationStrategy,
-                              DiscoveryStrategy discoveryStrategy,
-                              BatchAllocator redefinitionBatchAllocator,
-                              Listener redefinitionListener,
-                              LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
-                              DescriptionStrategy descriptionStrategy,
-                              FallbackStrategy fallbackStrategy,
-                              RawMatcher typeMatcher,
-                              RawMatcher ignoredTypeMatcher) {
-                /* do nothing */
-            }
+        Resolution find(String typeName, ClassLoader classLoader, JavaModule module, boolean loaded, List<Integer> transformations, byte[] binaryRepresentation);
 
-            @Override
-            protected void check(Instrumentation instrumentation) {
-                throw new IllegalStateException("Cannot apply redefinition on disabled strategy");
+        /**
+         * A resolution of a class file cache lookup.
+         */
+        interface Resolution {
+
+            /**
+             * Returns {@code true} if a cached result was found.
+             *
+             * @return {@code true} if a cached result was found.
+             */
+            boolean isResolved();
+
+            /**
+             * Returns the cached result of a transformation. This method must only be invoked if this resolution is resolved.
+             *
+             * @return The transformed class file.
+             */
+            byte[] resolve();
+
+            /**
+             * Registers the result of a transformation. This method must only be invoked if this resolution is not resolved.
+             * Registering a result must not throw an exception.
+             *
+             * @param binaryRepresentation The transformed class file.
+             */
+            void register(byte[] binaryRepresentation);
+
+            /**
+             * A resolution for a cache lookup that did not yield a result and that does not register a result.
+             */
+            enum Unresolved implements Resolution {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public boolean isResolved() {
+                    return false;
+                }
+
+                @Override
+                public byte[] resolve() {
+                    throw new IllegalStateException("Cannot resolve an unresolved class file cache lookup");
+                }
+
+                @Override
+                public void register(byte[] binaryRepresentation) {
+                    /* do nothing */
+                }
             }
 
-            @Override
-            protected Collector make() {
-                throw new IllegalStateException("A disabled redefinition strategy cannot create a collector");
+            /**
+             * A resolution of a cache lookup that yielded a result.
+             */
+            @EqualsAndHashCode
+            class Resolved implements Resolution {
+
+                /**
+                 * The transformed class file.
+                 */
+                private final byte[] binaryRepresentation;
+
+                /**
+                 * Creates a new resolved class file cache lookup.
+                 *
+                 * @param binaryRepresentation The transformed class file.
+                 */
+                @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The array is not to be modified by contract")
+                public Resolved(byte[] binaryRepresentation) {
+                    this.binaryRepresentation = binaryRepresentation;
+                }
+
+                @Override
+                public boolean isResolved() {
+                    return true;
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The array is not to be modified by contract")
+                public byte[] resolve() {
+                    return binaryRepresentation;
+                }
+
+                @Override
+                public void register(byte[] binaryRepresentation) {
+                    throw new IllegalStateException("Cannot register a result for a resolved class file cache lookup");
+                }
             }
-        },
+        }
 
         /**
-         * <p>
-         * Applies a <b>redefinition</b> to all classes that are already loaded and that would have been transformed if
-         * the built agent was registered before they were loaded. The created {@link ClassFileTransformer} is <b>not</b>
-         * registered for applying retransformations.
-         * </p>
-         * <p>
-         * Using this strategy, a redefinition is applied as a single transformation request. This means that a single illegal
-         * redefinition of a class causes the entire redefinition attempt to fail.
-         * </p>
-         * <p>
-         * <b>Note</b>: When applying a redefinition, it is normally required to use a {@link TypeStrategy} that applies
-         * a redefinition instead of rebasing classes such as {@link TypeStrategy.Default#REDEFINE}. Also, consider
-         * the constrains given by this type strategy.
-         * </p>
+         * A non-operational class file cache that never yields a result.
          */
-        REDEFINITION(true, false) {
-            @Override
-            protected void check(Instrumentation instrumentation) {
-                if (!instrumentation.isRedefineClassesSupported()) {
-                    throw new IllegalStateException("Cannot apply redefinition on " + instrumentation);
-                }
-            }
+        enum NoOp implements ClassFileCache {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
 
             @Override
-            protected Collector make() {
-                return new Collector.ForRedefinition();
+            public Resolution find(String typeName,
+                                   ClassLoader classLoader,
+                                   JavaModule module,
+                                   boolean loaded,
+                                   List<Integer> transformations,
+                                   byte[] binaryRepresentation) {
+                return Resolution.Unresolved.INSTANCE;
             }
-        },
+        }
 
         /**
          * <p>
-         * Applies a <b>retransformation</b> to all classes that are already loaded and that would have been transformed if
-         * the built agent was registered before they were loaded. The created {@link ClassFileTransformer} is registered
-         * for applying retransformations.
-         * </p>
-         * <p>
-         * Using this strategy, a retransformation is applied as a single transformation request. This means that a single illegal
-         * retransformation of a class causes the entire retransformation attempt to fail.
+         * A class file cache that persists transformed class files within a folder. Each result is stored in a file that is named by
+         * a hash of the original class file, the Byte Buddy version, an identifier of the agent's configuration, the indices of the
+         * matched transformations and the names of the instrumented type's class loader type and module. Only transformed class files
+         * are stored as a type that is not transformed is never looked up in a cache.
          * </p>
          * <p>
-         * <b>Note</b>: When applying a redefinition, it is normally required to use a {@link TypeStrategy} that applies
-         * a redefinition instead of rebasing classes such as {@link TypeStrategy.Default#REDEFINE}. Also, consider
-         * the constrains given by this type strategy.
+         * <b>Important</b>: The configuration identifier must change whenever the agent's transformation changes. As a cache outlives
+         * the class loaders of a single VM, class loaders are only discriminated by their type such that this cache assumes that two
+         * class loaders of the same type resolve an identical class file to the same type hierarchy. An agent that does not meet this
+         * assumption must not use this cache. Any error when reading from or writing to the folder is ignored and the type is transformed
+         * as if no cache was present.
          * </p>
          */
-        RETRANSFORMATION(true, true) {
-            @Override
-            protected void check(Instrumentation instrumentation) {
-                if (!instrumentation.isRetransformClassesSupported()) {
-                    throw new IllegalStateException("Cannot apply redefinition on " + instrumentation);
-                }
-            }
+        @EqualsAndHashCode
+        class ForFolder implements ClassFileCache {
 
-            @Override
-            protected Collector make() {
-                return new Collector.ForRetransformation();
-            }
-        };
+            /**
+             * The hash algorithm to use for computing a cache key.
+             */
+            private static final String ALGORITHM = "SHA-1";
 
-        /**
-         * Indicates that this redefinition strategy is enabled.
-         */
-        private final boolean enabled;
+            /**
+             * The version of Byte Buddy that is included in any cache key.
+             */
+            private static final String VERSION = version();
 
-        /**
-         * {@code true} if this strategy applies retransformation.
-         */
-        private final boolean retransforming;
+            /**
+             * The folder in which class files are cached.
+             */
+            private final File folder;
 
-        /**
-         * Creates a new redefinition strategy.
-         *
-         * @param enabled        {@code true} if this strategy is enabled.
-         * @param retransforming {@code true} if this strategy applies retransformation.
-         */
-        RedefinitionStrategy(boolean enabled, boolean retransforming) {
-            this.enabled = enabled;
-            this.retransforming = retransforming;
-        }
+            /**
+             * An identifier of the agent's configuration.
+             */
+            private final String configuration;
 
-        /**
-         * Indicates if this strategy requires a class file transformer to be registered with a hint to apply the
-         * transformer for retransformation.
-         *
-         * @return {@code true} if a class file transformer must be registered with a hint for retransformation.
-         */
-        protected boolean isRetransforming() {
-            return retransforming;
+            /**
+             * Creates a new class file cache for a folder.
+             *
+             * @param folder        The folder in which class files are cached.
+             * @param configuration An identifier of the agent's configuration which must change whenever the applied transformation changes.
+             */
+            public ForFolder(File folder, String configuration) {
+                this.folder = folder;
+                this.configuration = configuration;
+            }
+
+            /**
+             * Resolves the version of Byte Buddy.
+             *
+             * @return The version of Byte Buddy or a placeholder if the version cannot be determined.
+             */
+            private static String version() {
+                Package target = AgentBuilder.class.getPackage();
+                return target == null || target.getImplementationVersion() == null
+                        ? "unknown"
+                        : target.getImplementationVersion();
+            }
+
+            @Override
+            public ClassFileCache.Resolution find(String typeName,
+                                                  ClassLoader classLoader,
+                                                  JavaModule module,
+                                                  boolean loaded,
+                                                  List<Integer> transformations,
+                                                  byte[] binaryRepresentation) {
+                File file = new File(folder, key(classLoader, module, loaded, transformations, binaryRepresentation));
+                if (file.isFile()) {
+                    try {
+                        InputStream inputStream = new FileInputStream(file);
+                        try {
+                            return new ClassFileCache.Resolution.Resolved(StreamDrainer.DEFAULT.drain(inputStream));
+                        } finally {
+                            inputStream.close();
+                        }
+                    } catch (IOException ignored) {
+                        /* transform the class file as if it was not cached */
+                    }
+                }
+                return new Resolution(folder, file);
+            }
+
+            /**
+             * Computes the cache key of a class file.
+             *
+             * @param classLoader          The instrumented type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+             * @param module               The instrumented type's module or {@code null} if the current VM does not support modules.
+             * @param loaded               {@code true} if the instrumented type is already loaded.
+             * @param transformations      The indices of the transformations that matched the instrumented type in their registration order.
+             * @param binaryRepresentation The class file of the instrumented type before its transformation.
+             * @return The cache key of the class file.
+             */
+            private String key(ClassLoader classLoader, JavaModule module, boolean loaded, List<Integer> transformations, byte[] binaryRepresentation) {
+                MessageDigest messageDigest;
+                try {
+                    messageDigest = MessageDigest.getInstance(ALGORITHM);
+                } catch (NoSuchAlgorithmException exception) {
+                    throw new IllegalStateException("Cannot compute hash using " + ALGORITHM, exception);
+                }
+                try {
+                    messageDigest.update(VERSION.getBytes("UTF-8"));
+                    messageDigest.update((byte) 0);
+                    messageDigest.update(configuration.getBytes("UTF-8"));
+                    messageDigest.update((byte) 0);
+                    messageDigest.update((classLoader == null
+                            ? ""
+                            : classLoader.getClass().getName()).getBytes("UTF-8"));
+                    messageDigest.update((byte) 0);
+                    messageDigest.update((module == null || !module.isNamed()
+                            ? ""
+                            : module.getActualName()).getBytes("UTF-8"));
+                    messageDigest.update((byte) 0);
+                } catch (UnsupportedEncodingException exception) {
+                    throw new IllegalStateException("Cannot encode configuration as UTF-8", exception);
+                }
+                for (int transformation : transformations) {
+                    messageDigest.update((byte) (transformation >>> 24));
+                    messageDigest.update((byte) (transformation >>> 16));
+                    messageDigest.update((byte) (transformation >>> 8));
+                    messageDigest.update((byte) transformation);
+                }
+                messageDigest.update((byte) (loaded ? 1 : 0));
+                messageDigest.update(binaryRepresentation);
+                StringBuilder stringBuilder = new StringBuilder();
+                for (byte aByte : messageDigest.digest()) {
+                    stringBuilder.append(Character.forDigit((aByte >> 4) & 0xF, 16)).append(Character.forDigit(aByte & 0xF, 16));
+                }
+                return stringBuilder.toString();
+            }
+
+            /**
+             * A resolution of a class file that is not yet contained in the cache folder.
+             */
+            @EqualsAndHashCode
+            protected static class Resolution implements ClassFileCache.Resolution {
+
+                /**
+                 * The prefix of a temporary file.
+                 */
+                private static final String TEMP_PREFIX = "bytebuddy";
+
+                /**
+                 * The suffix of a temporary file.
+                 */
+                private static final String TEMP_SUFFIX = ".tmp";
+
+                /**
+                 * The folder in which class files are cached.
+                 */
+                private final File folder;
+
+                /**
+                 * The file in which the result of the transformation is to be stored.
+                 */
+                private final File file;
+
+                /**
+                 * Creates a new resolution for a class file that is not yet cached.
+                 *
+                 * @param folder The folder in which class files are cached.
+                 * @param file   The file in which the result of the transformation is to be stored.
+                 */
+                protected Resolution(File folder, File file) {
+                    this.folder = folder;
+                    this.file = file;
+                }
+
+                @Override
+                public boolean isResolved() {
+                    return false;
+                }
+
+                @Override
+                public byte[] resolve() {
+                    throw new IllegalStateException("Cannot resolve a class file that is not cached: " + file);
+                }
+
+                @Override
+                public void register(byte[] binaryRepresentation) {
+                    try {
+                        File temporary = File.createTempFile(TEMP_PREFIX, TEMP_SUFFIX, folder);
+                        try {
+                            OutputStream outputStream = new FileOutputStream(temporary);
+                            try {
+                                outputStream.write(binaryRepresentation);
+                            } finally {
+                                outputStream.close();
+                            }
+                            if (!temporary.renameTo(file)) {
+                                throw new IOException("Could not move " + temporary + " to " + file);
+                            }
+                        } finally {
+                            if (temporary.exists() && !temporary.delete()) {
+                                temporary.deleteOnExit();
+                            }
+                        }
+                    } catch (IOException ignored) {
+                        /* the cache is not mandatory for a transformation */
+                    }
+                }
+            }
         }
+    }
+
+    /**
+     * <p>
+     * A name filter allows to exclude types from a transformation only by their internal name and class loader, before a class file
+     * locator, a type pool or a type description is created for the type. Name filters therefore allow to discard the majority of loaded
+     * types at a minimal cost, for example by ignoring all types of a package that is known not to contain any instrumented type.
+     * </p>
+     * <p>
+     * <b>Important</b>: A type that is rejected by a name filter is not transformed, even if it was matched by a transformation. No
+     * {@link Listener} is notified for such a type. When loaded types are redefined or retransformed, a rejected type is not
+     * described and is never submitted for redefinition.
+     * </p>
+     */
+    interface NameFilter {
 
         /**
-         * Checks if this strategy can be applied to the supplied instrumentation instance.
+         * Determines if a type is a candidate for a transformation.
          *
-         * @param instrumentation The instrumentation instance to validate.
+         * @param internalTypeName The internal name of the type.
+         * @param classLoader      The type's class loader or {@code null} if the type is loaded by the bootstrap loader.
+         * @return {@code true} if the type might be transformed, {@code false} if the type is certainly not transformed.
          */
-        protected abstract void check(Instrumentation instrumentation);
+        boolean isCandidate(String internalTypeName, ClassLoader classLoader);
 
         /**
-         * Indicates that this redefinition strategy applies a modification of already loaded classes.
-         *
-         * @return {@code true} if this redefinition strategy applies a modification of already loaded classes.
+         * A non-operational name filter that considers any type a candidate for transformation.
          */
-        protected boolean isEnabled() {
-            return enabled;
+        enum NoOp implements NameFilter {
+
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public boolean isCandidate(String internalTypeName, ClassLoader classLoader) {
+                return true;
+            }
         }
 
         /**
-         * Creates a collector instance that is responsible for collecting loaded classes for potential retransformation.
-         *
-         * @return A new collector for collecting already loaded classes for transformation.
+         * A name filter that rejects any type that is loaded by the bootstrap class loader.
          */
-        protected abstract Collector make();
+        enum ForBootstrapClassLoader implements NameFilter {
 
-        /**
-         * Applies this redefinition strategy by submitting all loaded types to redefiniton. If this redefinition strategy is disabled,
-         * this method is non-operational.
-         *
-         * @param instrumentation               The instrumentation instance to use.
-         * @param listener                      The listener to notify on transformations.
-         * @param circularityLock               The circularity lock to use.
-         * @param poolStrategy                  The type locator to use.
-         * @param locationStrategy              The location strategy to use.
-         * @param redefinitionDiscoveryStrategy The discovery strategy for loaded types to be redefined.
-         * @param redefinitionBatchAllocator    The batch allocator for the redefinition strategy to apply.
-         * @param redefinitionListener          The redefinition listener for the redefinition strategy to apply.
-         * @param lambdaInstrumentationStrategy A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
-         *                                      instrumentation of classes that represent lambda expressions.
-         * @param descriptionStrategy           The description strategy for resolving type descriptions for types.
-         * @param fallbackStrategy              The fallback strategy to apply.
-         * @param typeMatcher                   Identifies types that should be instrumented.
-         * @param ignoredTypeMatcher            Identifies types that should not be instrumented.
-         */
-        public void apply(Instrumentation instrumentation,
-                          AgentBuilder.Listener listener,
-                          CircularityLock circularityLock,
-                          PoolStrategy poolStrategy,
-                          LocationStrategy locationStrategy,
-                          DiscoveryStrategy redefinitionDiscoveryStrategy,
-                          BatchAllocator redefinitionBatchAllocator,
-                          Listener redefinitionListener,
-                          LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
-                          DescriptionStrategy descriptionStrategy,
-                          FallbackStrategy fallbackStrategy,
-                          RawMatcher typeMatcher,
-                          RawMatcher ignoredTypeMatcher) {
-            check(instrumentation);
-            int batch = RedefinitionStrategy.BatchAllocator.FIRST_BATCH;
-            for (Iterable<Class<?>> types : redefinitionDiscoveryStrategy.resolve(instrumentation)) {
-                RedefinitionStrategy.Collector collector = make();
-                for (Class<?> type : types) {
-                    if (type.isArray() || !lambdaInstrumentationStrategy.isInstrumented(type)) {
-                        continue;
-                    }
-                    JavaModule module = JavaModule.ofType(type);
-                    try {
-                        TypePool typePool = poolStrategy.typePool(locationStrategy.classFileLocator(type.getClassLoader(), module), type.getClassLoader());
-                        try {
-                            collector.consider(typeMatcher,
-                                    ignoredTypeMatcher,
-                                    listener,
-                                    descriptionStrategy.apply(TypeDescription.ForLoadedType.getName(type), type, typePool, circularityLock, type.getClassLoader(), module),
-                                    type,
-                                    type,
-                                    module,
-                                    !instrumentation.isModifiableClass(type));
-                        } catch (Throwable throwable) {
-                            if (descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(type, throwable)) {
-                                collector.consider(typeMatcher,
-                                        ignoredTypeMatcher,
-                                        listener,
-                                        typePool.describe(TypeDescription.ForLoadedType.getName(type)).resolve(),
-                                        type,
-                                        module);
-                            } else {
-                                throw throwable;
-                            }
-                        }
-                    } catch (Throwable throwable) {
-                        try {
-                            try {
-                                listener.onError(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED, throwable);
-                            } finally {
-                                listener.onComplete(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED);
-                            }
-                        } catch (Throwable ignored) {
-                            // Ignore exceptions that are thrown by listeners to mimic the behavior of a transformation.
-                        }
-                    }
-                }
-                batch = collector.apply(instrumentation, circularityLock, locationStrategy, listener, redefinitionBatchAllocator, redefinitionListener, batch);
+            /**
+             * The singleton instance.
+             */
+            INSTANCE;
+
+            @Override
+            public boolean isCandidate(String internalTypeName, ClassLoader classLoader) {
+                return classLoader != null;
             }
         }
 
         /**
-         * A batch allocator which is responsible for applying a redefinition in a batches. A class redefinition or
-         * retransformation can be a time-consuming operation rendering a JVM non-responsive. In combination with a
-         * a {@link RedefinitionStrategy.Listener}, it is also possible to apply pauses between batches to distribute
-         * the load of a retransformation over time.
+         * A name filter that matches type names against a set of package or name prefixes. The prefixes are compiled into a trie such
+         * that a type name is matched against all prefixes in a single pass over the name without any allocation.
          */
-        public interface BatchAllocator {
+        @EqualsAndHashCode
+        class ForPrefixes implements NameFilter {
 
             /**
-             * The index of the first batch.
+             * The root of the trie that contains all prefixes in their internal form.
              */
-            int FIRST_BATCH = 0;
+            private final Node root;
 
             /**
-             * Splits a list of types to be retransformed into separate batches.
+             * {@code true} if a type that matches any prefix is a candidate for transformation, {@code false} if such a type is rejected.
+             */
+            private final boolean candidate;
+
+            /**
+             * Creates a new name filter for prefixes.
              *
-             * @param types A list of types which should be retransformed.
-             * @return An iterable of retransformations within a batch.
+             * @param prefixes  The binary name prefixes to match, for example {@code com.example.}.
+             * @param candidate {@code true} if a type that matches any prefix is a candidate for transformation,
+             *                  {@code false} if such a type is rejected.
              */
-            Iterable<? extends List<Class<?>>> batch(List<Class<?>> types);
+            protected ForPrefixes(Collection<String> prefixes, boolean candidate) {
+                root = new Node();
+                for (String prefix : prefixes) {
+                    root.add(prefix.replace('.', '/'), 0);
+                }
+                this.candidate = candidate;
+            }
 
             /**
-             * A batch allocator that includes all types in a single batch.
+             * Creates a name filter that only considers types to be candidates for transformation if their binary name starts with
+             * any of the supplied prefixes.
+             *
+             * @param prefix The binary name prefixes of the types to consider for transformation.
+             * @return An appropriate name filter.
              */
-            enum ForTotal implements BatchAllocator {
+            public static NameFilter including(String... prefix) {
+                return including(Arrays.asList(prefix));
+            }
 
-                /**
-                 * The singleton instance.
-                 */
-                INSTANCE;
+            /**
+             * Creates a name filter that only considers types to be candidates for transformation if their binary name starts with
+             * any of the supplied prefixes.
+             *
+             * @param prefixes The binary name prefixes of the types to consider for transformation.
+             * @return An appropriate name filter.
+             */
+            public static NameFilter including(Collection<String> prefixes) {
+                return new ForPrefixes(prefixes, true);
+            }
 
-                @Override
-                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
-                    return types.isEmpty()
-                            ? Collections.<List<Class<?>>>emptySet()
-                            : Collections.singleton(types);
-                }
+            /**
+             * Creates a name filter that rejects any type whose binary name starts with any of the supplied prefixes.
+             *
+             * @param prefix The binary name prefixes of the types to exclude from transformation.
+             * @return An appropriate name filter.
+             */
+            public static NameFilter excluding(String... prefix) {
+                return excluding(Arrays.asList(prefix));
             }
 
             /**
-             * A batch allocator that creates chunks with a fixed size as batch jobs.
+             * Creates a name filter that rejects any type whose binary name starts with any of the supplied prefixes.
+             *
+             * @param prefixes The binary name prefixes of the types to exclude from transformation.
+             * @return An appropriate name filter.
+             */
+            public static NameFilter excluding(Collection<String> prefixes) {
+                return new ForPrefixes(prefixes, false);
+            }
+
+            @Override
+            public boolean isCandidate(String internalTypeName, ClassLoader classLoader) {
+                return root.matches(internalTypeName) == candidate;
+            }
+
+            /**
+             * A node of a prefix trie.
              */
             @EqualsAndHashCode
-            class ForFixedSize implements BatchAllocator {
+            protected static class Node {
 
                 /**
-                 * The size of each chunk.
+                 * The characters of this node's children in ascending order.
                  */
-                private final int size;
+                private char[] keys;
+
+                /**
+                 * The children of this node in the order of their characters.
+                 */
+                private Node[] children;
+
+                /**
+                 * {@code true} if a prefix ends in this node.
+                 */
+                private boolean terminal;
+
+                /**
+                 * Creates a new node without children.
+                 */
+                protected Node() {
+                    keys = new char[0];
+                    children = new Node[0];
+                }
+
+                /**
+                 * Adds a prefix to this node.
+                 *
+                 * @param prefix The prefix to add.
+                 * @param index  The index of the prefix's character that is represented by this node's children.
+                 */
+                protected void add(String prefix, int index) {
+                    if (index == prefix.length()) {
+                        terminal = true;
+                        return;
+                    }
+                    int position = Arrays.binarySearch(keys, prefix.charAt(index));
+                    if (position < 0) {
+                        position = -(position + 1);
+                        char[] keys = new char[this.keys.length + 1];
+                        Node[] children = new Node[this.children.length + 1];
+                        System.arraycopy(this.keys, 0, keys, 0, position);
+                        System.arraycopy(this.children, 0, children, 0, position);
+                        keys[position] = prefix.charAt(index);
+                        children[position] = new Node();
+                        System.arraycopy(this.keys, position, keys, position + 1, this.keys.length - position);
+                        System.arraycopy(this.children, position, children, position + 1, this.children.length - position);
+                        this.keys = keys;
+                        this.children = children;
+                    }
+                    children[position].add(prefix, index + 1);
+                }
+
+                /**
+                 * Checks if any prefix of this trie is a prefix of the supplied name.
+                 *
+                 * @param name The name to match.
+                 * @return {@code true} if any prefix of this trie is a prefix of the supplied name.
+                 */
+                protected boolean matches(String name) {
+                    Node node = this;
+                    for (int index = 0; !node.terminal; index++) {
+                        if (index == name.length()) {
+                            return false;
+                        }
+                        int position = Arrays.binarySearch(node.keys, name.charAt(index));
+                        if (position < 0) {
+                            return false;
+                        }
+                        node = node.children[position];
+                    }
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * A compound name filter that only considers a type a candidate for transformation if all of its name filters do so.
+         */
+        @EqualsAndHashCode
+        class Compound implements NameFilter {
+
+            /**
+             * The name filters to apply.
+             */
+            private final List<NameFilter> nameFilters;
+
+            /**
+             * Creates a new compound name filter.
+             *
+             * @param nameFilter The name filters to apply.
+             */
+            public Compound(NameFilter... nameFilter) {
+                this(Arrays.asList(nameFilter));
+            }
+
+            /**
+             * Creates a new compound name filter.
+             *
+             * @param nameFilters The name filters to apply.
+             */
+            public Compound(List<? extends NameFilter> nameFilters) {
+                this.nameFilters = new ArrayList<NameFilter>();
+                for (NameFilter nameFilter : nameFilters) {
+                    if (nameFilter instanceof Compound) {
+                        this.nameFilters.addAll(((Compound) nameFilter).nameFilters);
+                    } else if (!(nameFilter instanceof NoOp)) {
+                        this.nameFilters.add(nameFilter);
+                    }
+                }
+            }
+
+            @Override
+            public boolean isCandidate(String internalTypeName, ClassLoader classLoader) {
+                for (NameFilter nameFilter : nameFilters) {
+                    if (!nameFilter.isCandidate(internalTypeName, classLoader)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * A redefinition strategy regulates how already loaded classes are modified by a built agent.
+     * </p>
+     * <p>
+     * <b>Important</b>: Most JVMs do not support changes of a class's structure after a class was already
+     * loaded. Therefore, it is typically required that this class file transformer was built while enabling
+     * {@link AgentBuilder#disableClassFormatChanges()}.
+     * </p>
+     */
+    enum RedefinitionStrategy {
+
+        /**
+         * Disables redefinition such that already loaded classes are not affected by the agent.
+         */
+        DISABLED(false, false) {
+            @Override
+            public void apply(Instrumentation instrumentation,
+                              AgentBuilder.Listener listener,
+                              CircularityLock circularityLock,
+                              PoolStrategy poolStrategy,
+                              LocationStrategy locationStrategy,
+                              DiscoveryStrategy discoveryStrategy,
+                              BatchAllocator redefinitionBatchAllocator,
+                              Listener redefinitionListener,
+                              LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
+                              DescriptionStrategy descriptionStrategy,
+                              FallbackStrategy fallbackStrategy,
+                              RawMatcher typeMatcher,
+                              RawMatcher ignoredTypeMatcher,
+                              NameFilter nameFilter) {
+                /* do nothing */
+            }
+
+            @Override
+            protected void check(Instrumentation instrumentation) {
+                throw new IllegalStateException("Cannot apply redefinition on disabled strategy");
+            }
+
+            @Override
+            protected Collector make() {
+                throw new IllegalStateException("A disabled redefinition strategy cannot create a collector");
+            }
+        },
+
+        /**
+         * <p>
+         * Applies a <b>redefinition</b> to all classes that are already loaded and that would have been transformed if
+         * the built agent was registered before they were loaded. The created {@link ClassFileTransformer} is <b>not</b>
+         * registered for applying retransformations.
+         * </p>
+         * <p>
+         * Using this strategy, a redefinition is applied as a single transformation request. This means that a single illegal
+         * redefinition of a class causes the entire redefinition attempt to fail.
+         * </p>
+         * <p>
+         * <b>Note</b>: When applying a redefinition, it is normally required to use a {@link TypeStrategy} that applies
+         * a redefinition instead of rebasing classes such as {@link TypeStrategy.Default#REDEFINE}. Also, consider
+         * the constrains given by this type strategy.
+         * </p>
+         */
+        REDEFINITION(true, false) {
+            @Override
+            protected void check(Instrumentation instrumentation) {
+                if (!instrumentation.isRedefineClassesSupported()) {
+                    throw new IllegalStateException("Cannot apply redefinition on " + instrumentation);
+                }
+            }
+
+            @Override
+            protected Collector make() {
+                return new Collector.ForRedefinition();
+            }
+        },
+
+        /**
+         * <p>
+         * Applies a <b>retransformation</b> to all classes that are already loaded and that would have been transformed if
+         * the built agent was registered before they were loaded. The created {@link ClassFileTransformer} is registered
+         * for applying retransformations.
+         * </p>
+         * <p>
+         * Using this strategy, a retransformation is applied as a single transformation request. This means that a single illegal
+         * retransformation of a class causes the entire retransformation attempt to fail.
+         * </p>
+         * <p>
+         * <b>Note</b>: When applying a redefinition, it is normally required to use a {@link TypeStrategy} that applies
+         * a redefinition instead of rebasing classes such as {@link TypeStrategy.Default#REDEFINE}. Also, consider
+         * the constrains given by this type strategy.
+         * </p>
+         */
+        RETRANSFORMATION(true, true) {
+            @Override
+            protected void check(Instrumentation instrumentation) {
+                if (!instrumentation.isRetransformClassesSupported()) {
+                    throw new IllegalStateException("Cannot apply redefinition on " + instrumentation);
+                }
+            }
+
+            @Override
+            protected Collector make() {
+                return new Collector.ForRetransformation();
+            }
+        };
+
+        /**
+         * Indicates that this redefinition strategy is enabled.
+         */
+        private final boolean enabled;
+
+        /**
+         * {@code true} if this strategy applies retransformation.
+         */
+        private final boolean retransforming;
+
+        /**
+         * Creates a new redefinition strategy.
+         *
+         * @param enabled        {@code true} if this strategy is enabled.
+         * @param retransforming {@code true} if this strategy applies retransformation.
+         */
+        RedefinitionStrategy(boolean enabled, boolean retransforming) {
+            this.enabled = enabled;
+            this.retransforming = retransforming;
+        }
+
+        /**
+         * Indicates if this strategy requires a class file transformer to be registered with a hint to apply the
+         * transformer for retransformation.
+         *
+         * @return {@code true} if a class file transformer must be registered with a hint for retransformation.
+         */
+        protected boolean isRetransforming() {
+            return retransforming;
+        }
+
+        /**
+         * Checks if this strategy can be applied to the supplied instrumentation instance.
+         *
+         * @param instrumentation The instrumentation instance to validate.
+         */
+        protected abstract void check(Instrumentation instrumentation);
+
+        /**
+         * Indicates that this redefinition strategy applies a modification of already loaded classes.
+         *
+         * @return {@code true} if this redefinition strategy applies a modification of already loaded classes.
+         */
+        protected boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Creates a collector instance that is responsible for collecting loaded classes for potential retransformation.
+         *
+         * @return A new collector for collecting already loaded classes for transformation.
+         */
+        protected abstract Collector make();
+
+        /**
+         * Applies this redefinition strategy by submitting all loaded types to redefiniton. If this redefinition strategy is disabled,
+         * this method is non-operational.
+         *
+         * @param instrumentation               The instrumentation instance to use.
+         * @param listener                      The listener to notify on transformations.
+         * @param circularityLock               The circularity lock to use.
+         * @param poolStrategy                  The type locator to use.
+         * @param locationStrategy              The location strategy to use.
+         * @param redefinitionDiscoveryStrategy The discovery strategy for loaded types to be redefined.
+         * @param redefinitionBatchAllocator    The batch allocator for the redefinition strategy to apply.
+         * @param redefinitionListener          The redefinition listener for the redefinition strategy to apply.
+         * @param lambdaInstrumentationStrategy A strategy to determine of the {@code LambdaMetafactory} should be instrumented to allow for the
+         *                                      instrumentation of classes that represent lambda expressions.
+         * @param descriptionStrategy           The description strategy for resolving type descriptions for types.
+         * @param fallbackStrategy              The fallback strategy to apply.
+         * @param typeMatcher                   Identifies types that should be instrumented.
+         * @param ignoredTypeMatcher            Identifies types that should not be instrumented.
+         * @param nameFilter                    The name filter for excluding types from a redefinition before they are described.
+         */
+        public void apply(Instrumentation instrumentation,
+                          AgentBuilder.Listener listener,
+                          CircularityLock circularityLock,
+                          PoolStrategy poolStrategy,
+                          LocationStrategy locationStrategy,
+                          DiscoveryStrategy redefinitionDiscoveryStrategy,
+                          BatchAllocator redefinitionBatchAllocator,
+                          Listener redefinitionListener,
+                          LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
+                          DescriptionStrategy descriptionStrategy,
+                          FallbackStrategy fallbackStrategy,
+                          RawMatcher typeMatcher,
+                          RawMatcher ignoredTypeMatcher,
+                          NameFilter nameFilter) {
+            check(instrumentation);
+            int batch = RedefinitionStrategy.BatchAllocator.FIRST_BATCH;
+            for (Iterable<Class<?>> types : redefinitionDiscoveryStrategy.resolve(instrumentation)) {
+                RedefinitionStrategy.Collector collector = make();
+                for (Class<?> type : types) {
+                    if (type.isArray()
+                            || !nameFilter.isCandidate(TypeDescription.ForLoadedType.getName(type).replace('.', '/'), type.getClassLoader())
+                            || !lambdaInstrumentationStrategy.isInstrumented(type)) {
+                        continue;
+                    }
+                    JavaModule module = JavaModule.ofType(type);
+                    try {
+                        TypePool typePool = poolStrategy.typePool(locationStrategy.classFileLocator(type.getClassLoader(), module), type.getClassLoader());
+                        try {
+                            collector.consider(typeMatcher,
+                                    ignoredTypeMatcher,
+                                    listener,
+                                    descriptionStrategy.apply(TypeDescription.ForLoadedType.getName(type), type, typePool, circularityLock, type.getClassLoader(), module),
+                                    type,
+                                    type,
+                                    module,
+                                    !instrumentation.isModifiableClass(type));
+                        } catch (Throwable throwable) {
+                            if (descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(type, throwable)) {
+                                collector.consider(typeMatcher,
+                                        ignoredTypeMatcher,
+                                        listener,
+                                        typePool.describe(TypeDescription.ForLoadedType.getName(type)).resolve(),
+                                        type,
+                                        module);
+                            } else {
+                                throw throwable;
+                            }
+                        }
+                    } catch (Throwable throwable) {
+                        try {
+                            try {
+                                listener.onError(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED, throwable);
+                            } finally {
+                                listener.onComplete(TypeDescription.ForLoadedType.getName(type), type.getClassLoader(), module, AgentBuilder.Listener.LOADED);
+                            }
+                        } catch (Throwable ignored) {
+                            // Ignore exceptions that are thrown by listeners to mimic the behavior of a transformation.
+                        }
+                    }
+                }
+                batch = collector.apply(instrumentation, circularityLock, locationStrategy, listener, redefinitionBatchAllocator, redefinitionListener, batch);
+            }
+        }
+
+        /**
+         * A batch allocator which is responsible for applying a redefinition in a batches. A class redefinition or
+         * retransformation can be a time-consuming operation rendering a JVM non-responsive. In combination with a
+         * a {@link RedefinitionStrategy.Listener}, it is also possible to apply pauses between batches to distribute
+         * the load of a retransformation over time.
+         */
+        public interface BatchAllocator {
+
+            /**
+             * The index of the first batch.
+             */
+            int FIRST_BATCH = 0;
+
+            /**
+             * Splits a list of types to be retransformed into separate batches.
+             *
+             * @param types A list of types which should be retransformed.
+             * @return An iterable of retransformations within a batch.
+             */
+            Iterable<? extends List<Class<?>>> batch(List<Class<?>> types);
+
+            /**
+             * A batch allocator that includes all types in a single batch.
+             */
+            enum ForTotal implements BatchAllocator {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                @Override
+                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+                    return types.isEmpty()
+                            ? Collections.<List<Class<?>>>emptySet()
+                            : Collections.singleton(types);
+                }
+            }
+
+            /**
+             * A batch allocator that creates chunks with a fixed size as batch jobs.
+             */
+            @EqualsAndHashCode
+            class ForFixedSize implements BatchAllocator {
+
+                /**
+                 * The size of each chunk.
+                 */
+                private final int size;
+
+                /**
+                 * Creates a new batch allocator that creates fixed-sized chunks.
+                 *
+                 * @param size The size of each chunk.
+                 */
+                protected ForFixedSize(int size) {
+                    this.size = size;
+                }
+
+                /**
+                 * Creates a new batch allocator that creates chunks of a fixed size.
+                 *
+                 * @param size The size of each chunk or {@code 0} if the batch should be included in a single chunk.
+                 * @return An appropriate batch allocator.
+                 */
+                public static BatchAllocator ofSize(int size) {
+                    if (size > 0) {
+                        return new ForFixedSize(size);
+                    } else if (size == 0) {
+                        return ForTotal.INSTANCE;
+                    } else {
+                        throw new IllegalArgumentException("Cannot define a batch with a negative size: " + size);
+                    }
+                }
+
+                @Override
+                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+                    List<List<Class<?>>> batches = new ArrayList<List<Class<?>>>();
+                    for (int index = 0; index < types.size(); index += size) {
+                        batches.add(new ArrayList<Class<?>>(types.subList(index, Math.min(types.size(), index + size))));
+                    }
+                    return batches;
+                }
+            }
+
+            /**
+             * A batch allocator that groups all batches by discriminating types using a type matcher.
+             */
+            @EqualsAndHashCode
+            class ForMatchedGrouping implements BatchAllocator {
+
+                /**
+                 * The type matchers to apply.
+                 */
+                private final Collection<? extends ElementMatcher<? super TypeDescription>> matchers;
+
+                /**
+                 * Creates a new batch allocator that groups all batches by discriminating types using a type matcher. All batches
+                 * are applied in their application order with any unmatched type being included in the last batch.
+                 *
+                 * @param matcher The type matchers to apply in their application order.
+                 */
+                @SuppressWarnings("unchecked") // In absence of @SafeVarargs for Java 6
+                public ForMatchedGrouping(ElementMatcher<? super TypeDescription>... matcher) {
+                    this(new LinkedHashSet<ElementMatcher<? super TypeDescription>>(Arrays.asList(matcher)));
+                }
+
+                /**
+                 * Creates a new batch allocator that groups all batches by discriminating types using a type matcher. All batches
+                 * are applied in their application order with any unmatched type being included in the last batch.
+                 *
+                 * @param matchers The type matchers to apply in their application order.
+                 */
+                public ForMatchedGrouping(Collection<? extends ElementMatcher<? super TypeDescription>> matchers) {
+                    this.matchers = matchers;
+                }
+
+                /**
+                 * Assures that any group is at least of a given size. If a group is smaller than a given size, it is merged with its types
+                 * are merged with its subsequent group(s) as long as such groups exist.
+                 *
+                 * @param threshold The minimum threshold for any batch.
+                 * @return An appropriate batch allocator.
+                 */
+                public BatchAllocator withMinimum(int threshold) {
+                    return Slicing.withMinimum(threshold, this);
+                }
+
+                /**
+                 * Assures that any group is at least of a given size. If a group is bigger than a given size, it is split into two several
+                 * batches.
+                 *
+                 * @param threshold The maximum threshold for any batch.
+                 * @return An appropriate batch allocator.
+                 */
+                public BatchAllocator withMaximum(int threshold) {
+                    return Slicing.withMaximum(threshold, this);
+                }
+
+                /**
+                 * Assures that any group is within a size range described by the supplied minimum and maximum. Groups are split and merged
+                 * according to the supplied thresholds. The last group contains might be smaller than the supplied minimum.
+                 *
+                 * @param minimum The minimum threshold for any batch.
+                 * @param maximum The maximum threshold for any batch.
+                 * @return An appropriate batch allocator.
+                 */
+                public BatchAllocator withinRange(int minimum, int maximum) {
+                    return Slicing.withinRange(minimum, maximum, this);
+                }
+
+                @Override
+                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+                    Map<ElementMatcher<? super TypeDescription>, List<Class<?>>> matched = new LinkedHashMap<ElementMatcher<? super TypeDescription>, List<Class<?>>>();
+                    List<Class<?>> unmatched = new ArrayList<Class<?>>();
+                    for (ElementMatcher<? super TypeDescription> matcher : matchers) {
+                        matched.put(matcher, new ArrayList<Class<?>>());
+                    }
+                    typeLoop:
+                    for (Class<?> type : types) {
+                        for (ElementMatcher<? super TypeDescription> matcher : matchers) {
+                            if (matcher.matches(TypeDescription.ForLoadedType.of(type))) {
+                                matched.get(matcher).add(type);
+                                continue typeLoop;
+                            }
+                        }
+                        unmatched.add(type);
+                    }
+                    List<List<Class<?>>> batches = new ArrayList<List<Class<?>>>(matchers.size() + 1);
+                    for (List<Class<?>> batch : matched.values()) {
+                        if (!batch.isEmpty()) {
+                            batches.add(batch);
+                        }
+                    }
+                    if (!unmatched.isEmpty()) {
+                        batches.add(unmatched);
+                    }
+                    return batches;
+                }
+            }
+
+            /**
+             * A slicing batch allocator that assures that any batch is within a certain size range.
+             */
+            @EqualsAndHashCode
+            class Slicing implements BatchAllocator {
+
+                /**
+                 * The minimum size of each slice.
+                 */
+                private final int minimum;
+
+                /**
+                 * The maximum size of each slice.
+                 */
+                private final int maximum;
+
+                /**
+                 * The delegate batch allocator.
+                 */
+                private final BatchAllocator batchAllocator;
+
+                /**
+                 * Creates a new slicing batch allocator.
+                 *
+                 * @param minimum        The minimum size of each slice.
+                 * @param maximum        The maximum size of each slice.
+                 * @param batchAllocator The delegate batch allocator.
+                 */
+                protected Slicing(int minimum, int maximum, BatchAllocator batchAllocator) {
+                    this.minimum = minimum;
+                    this.maximum = maximum;
+                    this.batchAllocator = batchAllocator;
+                }
+
+                /**
+                 * Creates a new slicing batch allocator.
+                 *
+                 * @param minimum        The minimum size of each slice.
+                 * @param batchAllocator The delegate batch allocator.
+                 * @return An appropriate slicing batch allocator.
+                 */
+                public static BatchAllocator withMinimum(int minimum, BatchAllocator batchAllocator) {
+                    return withinRange(minimum, Integer.MAX_VALUE, batchAllocator);
+                }
+
+                /**
+                 * Creates a new slicing batch allocator.
+                 *
+                 * @param maximum        The maximum size of each slice.
+                 * @param batchAllocator The delegate batch allocator.
+                 * @return An appropriate slicing batch allocator.
+                 */
+                public static BatchAllocator withMaximum(int maximum, BatchAllocator batchAllocator) {
+                    return withinRange(1, maximum, batchAllocator);
+                }
+
+                /**
+                 * Creates a new slicing batch allocator.
+                 *
+                 * @param minimum        The minimum size of each slice.
+                 * @param maximum        The maximum size of each slice.
+                 * @param batchAllocator The delegate batch allocator.
+                 * @return An appropriate slicing batch allocator.
+                 */
+                public static BatchAllocator withinRange(int minimum, int maximum, BatchAllocator batchAllocator) {
+                    if (minimum <= 0) {
+                        throw new IllegalArgumentException("Minimum must be a positive number: " + minimum);
+                    } else if (minimum > maximum) {
+                        throw new IllegalArgumentException("Minimum must not be bigger than maximum: " + minimum + " >" + maximum);
+                    }
+                    return new Slicing(minimum, maximum, batchAllocator);
+                }
+
+                @Override
+                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+                    return new SlicingIterable(minimum, maximum, batchAllocator.batch(types));
+                }
+
+                /**
+                 * An iterable that slices batches into parts of a minimum and maximum size.
+                 */
+                protected static class SlicingIterable implements Iterable<List<Class<?>>> {
+
+                    /**
+                     * The minimum size of any slice.
+                     */
+                    private final int minimum;
+
+                    /**
+                     * The maximum size of any slice.
+                     */
+                    private final int maximum;
+
+                    /**
+                     * The delegate iterable.
+                     */
+                    private final Iterable<? extends List<Class<?>>> iterable;
+
+                    /**
+                     * Creates a new slicing iterable.
+                     *
+                     * @param minimum  The minimum size of any slice.
+                     * @param maximum  The maximum size of any slice.
+                     * @param iterable The delegate iterable.
+                     */
+                    protected SlicingIterable(int minimum, int maximum, Iterable<? extends List<Class<?>>> iterable) {
+                        this.minimum = minimum;
+                        this.maximum = maximum;
+                        this.iterable = iterable;
+                    }
+
+                    @Override
+                    public Iterator<List<Class<?>>> iterator() {
+                        return new SlicingIterator(minimum, maximum, iterable.iterator());
+                    }
+
+                    /**
+                     * An iterator that slices batches into parts of a minimum and maximum size.
+                     */
+                    protected static class SlicingIterator implements Iterator<List<Class<?>>> {
+
+                        /**
+                         * The minimum size of any slice.
+                         */
+                        private final int minimum;
+
+                        /**
+                         * The maximum size of any slice.
+                         */
+                        private final int maximum;
+
+                        /**
+                         * The delegate iterator.
+                         */
+                        private final Iterator<? extends List<Class<?>>> iterator;
+
+                        /**
+                         * A buffer containing all types that surpassed the maximum.
+                         */
+                        private List<Class<?>> buffer;
+
+                        /**
+                         * Creates a new slicing iterator.
+                         *
+                         * @param minimum  The minimum size of any slice.
+                         * @param maximum  The maximum size of any slice.
+                         * @param iterator The delegate iterator.
+                         */
+                        protected SlicingIterator(int minimum, int maximum, Iterator<? extends List<Class<?>>> iterator) {
+                            this.minimum = minimum;
+                            this.maximum = maximum;
+                            this.iterator = iterator;
+                            buffer = new ArrayList<Class<?>>();
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return !buffer.isEmpty() || iterator.hasNext();
+                        }
+
+                        @Override
+                        public List<Class<?>> next() {
+                            if (buffer.isEmpty()) {
+                                buffer = iterator.next();
+                            }
+                            while (buffer.size() < minimum && iterator.hasNext()) {
+                                buffer.addAll(iterator.next());
+                            }
+                            if (buffer.size() > maximum) {
+                                try {
+                                    return buffer.subList(0, maximum);
+                                } finally {
+                                    buffer = new ArrayList<Class<?>>(buffer.subList(maximum, buffer.size()));
+                                }
+                            } else {
+                                try {
+                                    return buffer;
+                                } finally {
+                                    buffer = new ArrayList<Class<?>>();
+                                }
+                            }
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException("remove");
+                        }
+                    }
+                }
+            }
+
+            /**
+             * A partitioning batch allocator that splits types for redefinition into a fixed amount of parts.
+             */
+            @EqualsAndHashCode
+            class Partitioning implements BatchAllocator {
+
+                /**
+                 * The amount of batches to generate.
+                 */
+                private final int parts;
+
+                /**
+                 * Creates a new batch allocator that splits types for redefinition into a fixed amount of parts.
+                 *
+                 * @param parts The amount of parts to create.
+                 */
+                protected Partitioning(int parts) {
+                    this.parts = parts;
+                }
+
+                /**
+                 * Creates a part-splitting batch allocator.
+                 *
+                 * @param parts The amount of parts to create.
+                 * @return A batch allocator that splits the redefined types into a fixed amount of batches.
+                 */
+                public static BatchAllocator of(int parts) {
+                    if (parts < 1) {
+                        throw new IllegalArgumentException("A batch size must be positive: " + parts);
+                    }
+                    return new Partitioning(parts);
+                }
+
+                @Override
+                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+                    if (types.isEmpty()) {
+                        return Collections.emptyList();
+                    } else {
+                        List<List<Class<?>>> batches = new ArrayList<List<Class<?>>>();
+                        int size = types.size() / parts, reminder = types.size() % parts;
+                        for (int index = reminder; index < types.size(); index += size) {
+                            batches.add(new ArrayList<Class<?>>(types.subList(index, index + size)));
+                        }
+                        if (batches.isEmpty()) {
+                            return Collections.singletonList(types);
+                        } else {
+                            batches.get(0).addAll(0, types.subList(0, reminder));
+                            return batches;
+                        }
+                    }
+                }
+            }
+
+            /**
+             * <p>
+             * An adaptive batch allocator that measures the duration of every retransformation batch and that sizes the next batch such that
+             * its duration is expected to stay within a given budget. The budget limits the overall duration of a batch and not a pause of the
+             * virtual machine: the class file transformers of a batch are applied before the virtual machine reaches a safepoint and only the
+             * subsequent redefinition of the transformed classes pauses the virtual machine. To allow for a measurement, this batch allocator
+             * must also be registered as a {@link Listener} of the redefinition.
+             * </p>
+             * <p>
+             * A batch is measured from the notification of its application until the notification of the following batch or the completion of
+             * the redefinition. Therefore, this listener should be registered after any other listener that pauses or otherwise delays a batch.
+             * A batch size can at most double from one batch to the next whereas it is reduced instantly if a batch exceeded the budget.
+             * </p>
+             */
+            class Adaptive implements BatchAllocator, Listener {
+
+                /**
+                 * Indicates that no batch is currently measured.
+                 */
+                private static final long NOT_STARTED = -1L;
+
+                /**
+                 * The amount of nanoseconds in a second.
+                 */
+                private static final double NANOS_PER_SECOND = 1000000000d;
+
+                /**
+                 * The targeted duration of a batch in nanoseconds.
+                 */
+                private final long budget;
+
+                /**
+                 * The minimum size of a batch.
+                 */
+                private final int minimum;
+
+                /**
+                 * The maximum size of a batch.
+                 */
+                private final int maximum;
+
+                /**
+                 * The reporter to notify of measured batches.
+                 */
+                private final Reporter reporter;
+
+                /**
+                 * The size of the next batch.
+                 */
+                private int size;
+
+                /**
+                 * The size of the currently measured batch.
+                 */
+                private int current;
+
+                /**
+                 * The time stamp of the beginning of the currently measured batch or {@link Adaptive#NOT_STARTED}.
+                 */
+                private long started;
+
+                /**
+                 * The statistics of all batches that were measured.
+                 */
+                private Statistics statistics;
+
+                /**
+                 * Creates a new adaptive batch allocator.
+                 *
+                 * @param budget   The targeted duration of a batch in nanoseconds.
+                 * @param initial  The size of the first batch.
+                 * @param minimum  The minimum size of a batch.
+                 * @param maximum  The maximum size of a batch.
+                 * @param reporter The reporter to notify of measured batches.
+                 */
+                protected Adaptive(long budget, int initial, int minimum, int maximum, Reporter reporter) {
+                    this.budget = budget;
+                    this.minimum = minimum;
+                    this.maximum = maximum;
+                    this.reporter = reporter;
+                    size = initial;
+                    started = NOT_STARTED;
+                    statistics = new Statistics();
+                }
 
                 /**
-                 * Creates a new batch allocator that creates fixed-sized chunks.
+                 * Creates an adaptive batch allocator that starts with a single type per batch.
                  *
-                 * @param size The size of each chunk.
+                 * @param budget   The targeted duration of a batch.
+                 * @param timeUnit The time unit of {@code budget}.
+                 * @return An appropriate adaptive batch allocator.
                  */
-                protected ForFixedSize(int size) {
-                    this.size = size;
+                public static Adaptive of(long budget, TimeUnit timeUnit) {
+                    return of(budget, timeUnit, 1, 1, Integer.MAX_VALUE, Reporter.NoOp.INSTANCE);
                 }
 
                 /**
-                 * Creates a new batch allocator that creates chunks of a fixed size.
+                 * Creates an adaptive batch allocator.
                  *
-                 * @param size The size of each chunk or {@code 0} if the batch should be included in a single chunk.
-                 * @return An appropriate batch allocator.
-                 */
-                public static BatchAllocator ofSize(int size) {
-                    if (size > 0) {
-                        return new ForFixedSize(size);
-                    } else if (size == 0) {
-                        return ForTotal.INSTANCE;
-                    } else {
-                        throw new IllegalArgumentException("Cannot define a batch with a negative size: " + size);
+                 * @param budget   The targeted duration of a batch.
+                 * @param timeUnit The time unit of {@code budget}.
+                 * @param initial  The size of the first batch.
+                 * @param minimum  The minimum size of a batch.
+                 * @param maximum  The maximum size of a batch.
+                 * @param reporter The reporter to notify of measured batches.
+                 * @return An appropriate adaptive batch allocator.
+                 */
+                public static Adaptive of(long budget, TimeUnit timeUnit, int initial, int minimum, int maximum, Reporter reporter) {
+                    if (budget <= 0L) {
+                        throw new IllegalArgumentException("Budget must be a positive amount of time: " + budget);
+                    } else if (minimum <= 0) {
+                        throw new IllegalArgumentException("Minimum must be a positive number: " + minimum);
+                    } else if (minimum > maximum) {
+                        throw new IllegalArgumentException("Minimum must not be bigger than maximum: " + minimum + " >" + maximum);
+                    } else if (initial < minimum || initial > maximum) {
+                        throw new IllegalArgumentException("Initial size must be within " + minimum + " and " + maximum + ": " + initial);
                     }
+                    return new Adaptive(timeUnit.toNanos(budget), initial, minimum, maximum, reporter);
                 }
 
                 @Override
                 public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
-                    List<List<Class<?>>> batches = new ArrayList<List<Class<?>>>();
-                    for (int index = 0; index < types.size(); index += size) {
-                        batches.add(new ArrayList<Class<?>>(types.subList(index, Math.min(types.size(), index + size))));
-                    }
-                    return batches;
+                    return new AdaptiveIterable(this, types);
                 }
-            }
 
-            /**
-             * A batch allocator that groups all batches by discriminating types using a type matcher.
-             */
-            @EqualsAndHashCode
-            class ForMatchedGrouping implements BatchAllocator {
+                @Override
+                public synchronized void onBatch(int index, List<Class<?>> batch, List<Class<?>> types) {
+                    measure(System.nanoTime());
+                    current = batch.size();
+                    started = System.nanoTime();
+                }
 
-                /**
-                 * The type matchers to apply.
-                 */
-                private final Collection<? extends ElementMatcher<? super TypeDescription>> matchers;
+                @Override
+                public Iterable<? extends List<Class<?>>> onError(int index, List<Class<?>> batch, Throwable throwable, List<Class<?>> types) {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public synchronized void onComplete(int amount, List<Class<?>> types, Map<List<Class<?>>, Throwable> failures) {
+                    measure(System.nanoTime());
+                    reporter.onComplete(statistics);
+                }
 
                 /**
-                 * Creates a new batch allocator that groups all batches by discriminating types using a type matcher. All batches
-                 * are applied in their application order with any unmatched type being included in the last batch.
+                 * Completes the measurement of the current batch, if any, and computes the size of the next batch.
                  *
-                 * @param matcher The type matchers to apply in their application order.
+                 * @param time The time stamp of the batch's completion.
                  */
-                @SuppressWarnings("unchecked") // In absence of @SafeVarargs for Java 6
-                public ForMatchedGrouping(ElementMatcher<? super TypeDescription>... matcher) {
-                    this(new LinkedHashSet<ElementMatcher<? super TypeDescription>>(Arrays.asList(matcher)));
+                private void measure(long time) {
+                    if (started == NOT_STARTED) {
+                        return;
+                    }
+                    long duration = time - started;
+                    started = NOT_STARTED;
+                    long target = duration > 0L
+                            ? (long) (current * ((double) budget / duration))
+                            : Long.MAX_VALUE;
+                    size = (int) Math.max(minimum, Math.min(maximum, Math.min(target, 2L * Math.max(current, size))));
+                    statistics = statistics.record(current, duration);
+                    reporter.onBatch(current, duration, size);
                 }
 
                 /**
-                 * Creates a new batch allocator that groups all batches by discriminating types using a type matcher. All batches
-                 * are applied in their application order with any unmatched type being included in the last batch.
+                 * Completes the measurement of the current batch, if any, and returns the size of the next batch.
                  *
-                 * @param matchers The type matchers to apply in their application order.
+                 * @return The size of the next batch.
                  */
-                public ForMatchedGrouping(Collection<? extends ElementMatcher<? super TypeDescription>> matchers) {
-                    this.matchers = matchers;
+                protected synchronized int allocate() {
+                    measure(System.nanoTime());
+                    return size;
                 }
 
                 /**
-                 * Assures that any group is at least of a given size. If a group is smaller than a given size, it is merged with its types
-                 * are merged with its subsequent group(s) as long as such groups exist.
+                 * Returns the size of the next batch.
                  *
-                 * @param threshold The minimum threshold for any batch.
-                 * @return An appropriate batch allocator.
+                 * @return The size of the next batch.
                  */
-                public BatchAllocator withMinimum(int threshold) {
-                    return Slicing.withMinimum(threshold, this);
+                public synchronized int getSize() {
+                    return size;
                 }
 
                 /**
-                 * Assures that any group is at least of a given size. If a group is bigger than a given size, it is split into two several
-                 * batches.
+                 * Returns the statistics of all batches that were measured by this allocator.
                  *
-                 * @param threshold The maximum threshold for any batch.
-                 * @return An appropriate batch allocator.
+                 * @return The statistics of all batches that were measured by this allocator.
                  */
-                public BatchAllocator withMaximum(int threshold) {
-                    return Slicing.withMaximum(threshold, this);
+                public synchronized Statistics getStatistics() {
+                    return statistics;
                 }
 
                 /**
-                 * Assures that any group is within a size range described by the supplied minimum and maximum. Groups are split and merged
-                 * according to the supplied thresholds. The last group contains might be smaller than the supplied minimum.
-                 *
-                 * @param minimum The minimum threshold for any batch.
-                 * @param maximum The maximum threshold for any batch.
-                 * @return An appropriate batch allocator.
+                 * A reporter that is notified of the measurements of an adaptive batch allocator.
                  */
-                public BatchAllocator withinRange(int minimum, int maximum) {
-                    return Slicing.withinRange(minimum, maximum, this);
-                }
+                public interface Reporter {
 
-                @Override
-                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
-                    Map<ElementMatcher<? super TypeDescription>, List<Class<?>>> matched = new LinkedHashMap<ElementMatcher<? super TypeDescription>, List<Class<?>>>();
-                    List<Class<?>> unmatched = new ArrayList<Class<?>>();
-                    for (ElementMatcher<? super TypeDescription> matcher : matchers) {
-                        matched.put(matcher, new ArrayList<Class<?>>());
-                    }
-                    typeLoop:
-                    for (Class<?> type : types) {
-                        for (ElementMatcher<? super TypeDescription> matcher : matchers) {
-                            if (matcher.matches(new TypeDescription.ForLoadedType(type))) {
-                                matched.get(matcher).add(type);
-                                continue typeLoop;
-                            }
+                    /**
+                     * Invoked after a batch was measured.
+                     *
+                     * @param size     The size of the measured batch.
+                     * @param duration The duration of the measured batch in nanoseconds.
+                     * @param next     The size of the next batch.
+                     */
+                    void onBatch(int size, long duration, int next);
+
+                    /**
+                     * Invoked upon the completion of a redefinition.
+                     *
+                     * @param statistics The statistics of all batches that were measured so far.
+                     */
+                    void onComplete(Statistics statistics);
+
+                    /**
+                     * A non-operational reporter.
+                     */
+                    enum NoOp implements Reporter {
+
+                        /**
+                         * The singleton instance.
+                         */
+                        INSTANCE;
+
+                        @Override
+                        public void onBatch(int size, long duration, int next) {
+                            /* do nothing */
                         }
-                        unmatched.add(type);
-                    }
-                    List<List<Class<?>>> batches = new ArrayList<List<Class<?>>>(matchers.size() + 1);
-                    for (List<Class<?>> batch : matched.values()) {
-                        if (!batch.isEmpty()) {
-                            batches.add(batch);
+
+                        @Override
+                        public void onComplete(Statistics statistics) {
+                            /* do nothing */
                         }
                     }
-                    if (!unmatched.isEmpty()) {
-                        batches.add(unmatched);
-                    }
-                    return batches;
-                }
-            }
 
-            /**
-             * A slicing batch allocator that assures that any batch is within a certain size range.
-             */
-            @EqualsAndHashCode
-            class Slicing implements BatchAllocator {
+                    /**
+                     * A reporter that writes measurements to a {@link PrintStream}.
+                     */
+                    @EqualsAndHashCode
+                    class StreamWriting implements Reporter {
 
-                /**
-                 * The minimum size of each slice.
-                 */
-                private final int minimum;
+                        /**
+                         * The print stream to write any measurements to.
+                         */
+                        private final PrintStream printStream;
 
-                /**
-                 * The maximum size of each slice.
-                 */
-                private final int maximum;
+                        /**
+                         * Creates a new stream writing reporter.
+                         *
+                         * @param printStream The print stream to write any measurements to.
+                         */
+                        public StreamWriting(PrintStream printStream) {
+                            this.printStream = printStream;
+                        }
 
-                /**
-                 * The delegate batch allocator.
-                 */
-                private final BatchAllocator batchAllocator;
+                        /**
+                         * Writes the measurements to {@link System#out}.
+                         *
+                         * @return An appropriate reporter.
+                         */
+                        public static Reporter toSystemOut() {
+                            return new StreamWriting(System.out);
+                        }
 
-                /**
-                 * Creates a new slicing batch allocator.
-                 *
-                 * @param minimum        The minimum size of each slice.
-                 * @param maximum        The maximum size of each slice.
-                 * @param batchAllocator The delegate batch allocator.
-                 */
-                protected Slicing(int minimum, int maximum, BatchAllocator batchAllocator) {
-                    this.minimum = minimum;
-                    this.maximum = maximum;
-                    this.batchAllocator = batchAllocator;
-                }
+                        @Override
+                        public void onBatch(int size, long duration, int next) {
+                            printStream.printf(AgentBuilder.Listener.StreamWriting.PREFIX + " REDEFINE MEASURED [%d type(s) in %d ms, next %d type(s)]%n",
+                                    size,
+                                    TimeUnit.NANOSECONDS.toMillis(duration),
+                                    next);
+                        }
 
-                /**
-                 * Creates a new slicing batch allocator.
-                 *
-                 * @param minimum        The minimum size of each slice.
-                 * @param batchAllocator The delegate batch allocator.
-                 * @return An appropriate slicing batch allocator.
-                 */
-                public static BatchAllocator withMinimum(int minimum, BatchAllocator batchAllocator) {
-                    return withinRange(minimum, Integer.MAX_VALUE, batchAllocator);
+                        @Override
+                        public void onComplete(Statistics statistics) {
+                            printStream.printf(AgentBuilder.Listener.StreamWriting.PREFIX + " REDEFINE STATISTICS %s%n", statistics);
+                        }
+                    }
                 }
 
                 /**
-                 * Creates a new slicing batch allocator.
-                 *
-                 * @param maximum        The maximum size of each slice.
-                 * @param batchAllocator The delegate batch allocator.
-                 * @return An appropriate slicing batch allocator.
+                 * An immutable representation of the measured batches of an adaptive batch allocator. Batch durations are recorded in a
+                 * histogram where the bucket at index {@code i} counts batches that lasted less than {@code 2^i} milliseconds and that are
+                 * not counted by a previous bucket. The last bucket counts all batches that exceeded the previous buckets.
                  */
-                public static BatchAllocator withMaximum(int maximum, BatchAllocator batchAllocator) {
-                    return withinRange(1, maximum, batchAllocator);
-                }
+                @EqualsAndHashCode
+                public static class Statistics {
 
-                /**
-                 * Creates a new slicing batch allocator.
-                 *
-                 * @param minimum        The minimum size of each slice.
-                 * @param maximum        The maximum size of each slice.
-                 * @param batchAllocator The delegate batch allocator.
-                 * @return An appropriate slicing batch allocator.
-                 */
-                public static BatchAllocator withinRange(int minimum, int maximum, BatchAllocator batchAllocator) {
-                    if (minimum <= 0) {
-                        throw new IllegalArgumentException("Minimum must be a positive number: " + minimum);
-                    } else if (minimum > maximum) {
-                        throw new IllegalArgumentException("Minimum must not be bigger than maximum: " + minimum + " >" + maximum);
+                    /**
+                     * The amount of buckets of a histogram.
+                     */
+                    public static final int BUCKETS = 16;
+
+                    /**
+                     * The amount of measured batches.
+                     */
+                    private final int batches;
+
+                    /**
+                     * The amount of types within all measured batches.
+                     */
+                    private final long types;
+
+                    /**
+                     * The total duration of all measured batches in nanoseconds.
+                     */
+                    private final long duration;
+
+                    /**
+                     * The longest duration of any measured batch in nanoseconds.
+                     */
+                    private final long longest;
+
+                    /**
+                     * The histogram of batch durations.
+                     */
+                    private final long[] histogram;
+
+                    /**
+                     * Creates statistics without any measured batches.
+                     */
+                    protected Statistics() {
+                        this(0, 0L, 0L, 0L, new long[BUCKETS]);
+                    }
+
+                    /**
+                     * Creates new statistics.
+                     *
+                     * @param batches   The amount of measured batches.
+                     * @param types     The amount of types within all measured batches.
+                     * @param duration  The total duration of all measured batches in nanoseconds.
+                     * @param longest   The longest duration of any measured batch in nanoseconds.
+                     * @param histogram The histogram of batch durations.
+                     */
+                    protected Statistics(int batches, long types, long duration, long longest, long[] histogram) {
+                        this.batches = batches;
+                        this.types = types;
+                        this.duration = duration;
+                        this.longest = longest;
+                        this.histogram = histogram;
+                    }
+
+                    /**
+                     * Records a measured batch.
+                     *
+                     * @param size     The size of the measured batch.
+                     * @param duration The duration of the measured batch in nanoseconds.
+                     * @return Statistics that include the measured batch.
+                     */
+                    protected Statistics record(int size, long duration) {
+                        long[] histogram = this.histogram.clone();
+                        long millis = TimeUnit.NANOSECONDS.toMillis(duration);
+                        int bucket = 0;
+                        while (bucket < BUCKETS - 1 && millis >= 1L << bucket) {
+                            bucket++;
+                        }
+                        histogram[bucket]++;
+                        return new Statistics(batches + 1, types + size, this.duration + duration, Math.max(longest, duration), histogram);
+                    }
+
+                    /**
+                     * Returns the amount of measured batches.
+                     *
+                     * @return The amount of measured batches.
+                     */
+                    public int getBatches() {
+                        return batches;
+                    }
+
+                    /**
+                     * Returns the amount of types within all measured batches.
+                     *
+                     * @return The amount of types within all measured batches.
+                     */
+                    public long getTypes() {
+                        return types;
+                    }
+
+                    /**
+                     * Returns the total duration of all measured batches.
+                     *
+                     * @param timeUnit The time unit of the returned value.
+                     * @return The total duration of all measured batches.
+                     */
+                    public long getDuration(TimeUnit timeUnit) {
+                        return timeUnit.convert(duration, TimeUnit.NANOSECONDS);
+                    }
+
+                    /**
+                     * Returns the longest duration of any measured batch.
+                     *
+                     * @param timeUnit The time unit of the returned value.
+                     * @return The longest duration of any measured batch.
+                     */
+                    public long getLongest(TimeUnit timeUnit) {
+                        return timeUnit.convert(longest, TimeUnit.NANOSECONDS);
+                    }
+
+                    /**
+                     * Returns the amount of retransformed types per second of batch duration.
+                     *
+                     * @return The amount of retransformed types per second of batch duration or {@code 0} if no duration was measured.
+                     */
+                    public double getTypesPerSecond() {
+                        return duration == 0L
+                                ? 0d
+                                : types * NANOS_PER_SECOND / duration;
+                    }
+
+                    /**
+                     * Returns a histogram of batch durations where the bucket at index {@code i} counts batches that lasted less than
+                     * {@code 2^i} milliseconds and that are not counted by a previous bucket.
+                     *
+                     * @return A histogram of batch durations.
+                     */
+                    public long[] getHistogram() {
+                        return histogram.clone();
                     }
-                    return new Slicing(minimum, maximum, batchAllocator);
-                }
 
-                @Override
-                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
-                    return new SlicingIterable(minimum, maximum, batchAllocator.batch(types));
+                    @Override
+                    public String toString() {
+                        return "[" + batches + " batch(es) with " + types + " type(s) in "
+                                + TimeUnit.NANOSECONDS.toMillis(duration) + " ms, longest " + TimeUnit.NANOSECONDS.toMillis(longest) + " ms, "
+                                + String.format("%.1f", getTypesPerSecond()) + " type(s) per second, histogram " + Arrays.toString(histogram) + "]";
+                    }
                 }
 
                 /**
-                 * An iterable that slices batches into parts of a minimum and maximum size.
+                 * An iterable that creates batches of the size that is currently determined by an adaptive batch allocator.
                  */
-                protected static class SlicingIterable implements Iterable<List<Class<?>>> {
-
-                    /**
-                     * The minimum size of any slice.
-                     */
-                    private final int minimum;
+                protected static class AdaptiveIterable implements Iterable<List<Class<?>>> {
 
                     /**
-                     * The maximum size of any slice.
+                     * The adaptive batch allocator that determines the batch sizes.
                      */
-                    private final int maximum;
+                    private final Adaptive adaptive;
 
                     /**
-                     * The delegate iterable.
+                     * The types to split into batches.
                      */
-                    private final Iterable<? extends List<Class<?>>> iterable;
+                    private final List<Class<?>> types;
 
                     /**
-                     * Creates a new slicing iterable.
+                     * Creates a new adaptive iterable.
                      *
-                     * @param minimum  The minimum size of any slice.
-                     * @param maximum  The maximum size of any slice.
-                     * @param iterable The delegate iterable.
+                     * @param adaptive The adaptive batch allocator that determines the batch sizes.
+                     * @param types    The types to split into batches.
                      */
-                    protected SlicingIterable(int minimum, int maximum, Iterable<? extends List<Class<?>>> iterable) {
-                        this.minimum = minimum;
-                        this.maximum = maximum;
-                        this.iterable = iterable;
+                    protected AdaptiveIterable(Adaptive adaptive, List<Class<?>> types) {
+                        this.adaptive = adaptive;
+                        this.types = types;
                     }
 
                     @Override
                     public Iterator<List<Class<?>>> iterator() {
-                        return new SlicingIterator(minimum, maximum, iterable.iterator());
+                        return new AdaptiveIterator(adaptive, types);
                     }
 
                     /**
-                     * An iterator that slices batches into parts of a minimum and maximum size.
+                     * An iterator that creates batches of the size that is currently determined by an adaptive batch allocator.
                      */
-                    protected static class SlicingIterator implements Iterator<List<Class<?>>> {
-
-                        /**
-                         * The minimum size of any slice.
-                         */
-                        private final int minimum;
+                    protected static class AdaptiveIterator implements Iterator<List<Class<?>>> {
 
                         /**
-                         * The maximum size of any slice.
+                         * The adaptive batch allocator that determines the batch sizes.
                          */
-                        private final int maximum;
+                        private final Adaptive adaptive;
 
                         /**
-                         * The delegate iterator.
+                         * The types to split into batches.
                          */
-                        private final Iterator<? extends List<Class<?>>> iterator;
+                        private final List<Class<?>> types;
 
                         /**
-                         * A buffer containing all types that surpassed the maximum.
+                         * The index of the first type of the next batch.
                          */
-                        private List<Class<?>> buffer;
+                        private int index;
 
                         /**
-                         * Creates a new slicing iterator.
+                         * Creates a new adaptive iterator.
                          *
-                         * @param minimum  The minimum size of any slice.
-                         * @param maximum  The maximum size of any slice.
-                         * @param iterator The delegate iterator.
+                         * @param adaptive The adaptive batch allocator that determines the batch sizes.
+                         * @param types    The types to split into batches.
                          */
-                        protected SlicingIterator(int minimum, int maximum, Iterator<? extends List<Class<?>>> iterator) {
-                            this.minimum = minimum;
-                            this.maximum = maximum;
-                            this.iterator = iterator;
-                            buffer = new ArrayList<Class<?>>();
+                        protected AdaptiveIterator(Adaptive adaptive, List<Class<?>> types) {
+                            this.adaptive = adaptive;
+                            this.types = types;
                         }
 
                         @Override
                         public boolean hasNext() {
-                            return !buffer.isEmpty() || iterator.hasNext();
+                            return index < types.size();
                         }
 
                         @Override
                         public List<Class<?>> next() {
-                            if (buffer.isEmpty()) {
-                                buffer = iterator.next();
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
                             }
-                            while (buffer.size() < minimum && iterator.hasNext()) {
-                                buffer.addAll(iterator.next());
-                            }
-                            if (buffer.size() > maximum) {
-                                try {
-                                    return buffer.subList(0, maximum);
-                                } finally {
-                                    buffer = new ArrayList<Class<?>>(buffer.subList(maximum, buffer.size()));
-                                }
-                            } else {
-                                try {
-                                    return buffer;
-                                } finally {
-                                    buffer = new ArrayList<Class<?>>();
-                                }
+                            int size = Math.min(types.size() - index, adaptive.allocate());
+                            try {
+                                return new ArrayList<Class<?>>(types.subList(index, index + size));
+                            } finally {
+                                index += size;
                             }
                         }
 
@@ -4624,59 +6323,6 @@ public interface AgentBuilder {
                     }
                 }
             }
-
-            /**
-             * A partitioning batch allocator that splits types for redefinition into a fixed amount of parts.
-             */
-            @EqualsAndHashCode
-            class Partitioning implements BatchAllocator {
-
-                /**
-                 * The amount of batches to generate.
-                 */
-                private final int parts;
-
-                /**
-                 * Creates a new batch allocator that splits types for redefinition into a fixed amount of parts.
-                 *
-                 * @param parts The amount of parts to create.
-                 */
-                protected Partitioning(int parts) {
-                    this.parts = parts;
-                }
-
-                /**
-                 * Creates a part-splitting batch allocator.
-                 *
-                 * @param parts The amount of parts to create.
-                 * @return A batch allocator that splits the redefined types into a fixed amount of batches.
-                 */
-                public static BatchAllocator of(int parts) {
-                    if (parts < 1) {
-                        throw new IllegalArgumentException("A batch size must be positive: " + parts);
-                    }
-                    return new Partitioning(parts);
-                }
-
-                @Override
-                public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
-                    if (types.isEmpty()) {
-                        return Collections.emptyList();
-                    } else {
-                        List<List<Class<?>>> batches = new ArrayList<List<Class<?>>>();
-                        int size = types.size() / parts, reminder = types.size() % parts;
-                        for (int index = reminder; index < types.size(); index += size) {
-                            batches.add(new ArrayList<Class<?>>(types.subList(index, index + size)));
-                        }
-                        if (batches.isEmpty()) {
-                            return Collections.singletonList(types);
-                        } else {
-                            batches.get(0).addAll(0, types.subList(0, reminder));
-                            return batches;
-                        }
-                    }
-                }
-            }
         }
 
         /**
@@ -5436,56 +7082,318 @@ public interface AgentBuilder {
                     return !scheduledExecutorService.isShutdown();
                 }
 
-                @Override
-                public Cancelable schedule(Runnable job) {
-                    return new Cancelable.ForFuture(scheduledExecutorService.scheduleAtFixedRate(job, time, time, timeUnit));
-                }
-            }
+                @Override
+                public Cancelable schedule(Runnable job) {
+                    return new Cancelable.ForFuture(scheduledExecutorService.scheduleAtFixedRate(job, time, time, timeUnit));
+                }
+            }
+
+            /**
+             * A resubmission scheduler that schedules jobs with a fixed delay.
+             */
+            @EqualsAndHashCode
+            class WithFixedDelay implements ResubmissionScheduler {
+
+                /**
+                 * The executor service to schedule to.
+                 */
+                private final ScheduledExecutorService scheduledExecutorService;
+
+                /**
+                 * The time interval to pause between completed jobs.
+                 */
+                private final long time;
+
+                /**
+                 * The time's time unit.
+                 */
+                private final TimeUnit timeUnit;
+
+                /**
+                 * Creates a new resubmission scheduler with a fixed delay between job executions.
+                 *
+                 * @param scheduledExecutorService The executor service to schedule to.
+                 * @param time                     The time interval to pause between completed jobs.
+                 * @param timeUnit                 The time's time unit.
+                 */
+                public WithFixedDelay(ScheduledExecutorService scheduledExecutorService, long time, TimeUnit timeUnit) {
+                    this.scheduledExecutorService = scheduledExecutorService;
+                    this.time = time;
+                    this.timeUnit = timeUnit;
+                }
+
+                @Override
+                public boolean isAlive() {
+                    return !scheduledExecutorService.isShutdown();
+                }
+
+                @Override
+                public Cancelable schedule(Runnable job) {
+                    return new Cancelable.ForFuture(scheduledExecutorService.scheduleWithFixedDelay(job, time, time, timeUnit));
+                }
+            }
+        }
+
+        /**
+         * <p>
+         * An installation listener that applies a redefinition on an executor service once a class file transformer is installed, such that
+         * the installation does not block until all loaded types are redefined. Any progress of the redefinition is reported to the configured
+         * {@link Listener} from within the executor service's threads. Upon a reset of the installed class file transformer, the redefinition
+         * is canceled prior to the application of its next batch. A batch that is currently applied is always completed. A canceled redefinition
+         * is reported as completed to the redefinition listener with the number of batches that were applied before the cancellation. If the
+         * executor service rejects the redefinition, it is applied synchronously upon installation.
+         * </p>
+         * <p>
+         * This class also implements {@link Listener} where it checks for a cancellation of the redefinition before each batch.
+         * </p>
+         */
+        protected static class AsynchronousApplication extends AgentBuilder.InstallationListener.Adapter implements Listener, Runnable {
+
+            /**
+             * The executor service to apply the redefinition on.
+             */
+            private final ExecutorService executorService;
+
+            /**
+             * The redefinition strategy to apply.
+             */
+            private final RedefinitionStrategy redefinitionStrategy;
+
+            /**
+             * The listener to notify on transformations.
+             */
+            private final AgentBuilder.Listener listener;
+
+            /**
+             * The installation listener to notify of errors that occur during the redefinition.
+             */
+            private final InstallationListener installationListener;
+
+            /**
+             * The circularity lock that is held by the installing thread.
+             */
+            private final CircularityLock circularityLock;
+
+            /**
+             * The type locator to use.
+             */
+            private final PoolStrategy poolStrategy;
+
+            /**
+             * The location strategy to use.
+             */
+            private final LocationStrategy locationStrategy;
+
+            /**
+             * The discovery strategy for loaded types to be redefined.
+             */
+            private final DiscoveryStrategy redefinitionDiscoveryStrategy;
+
+            /**
+             * The batch allocator for the redefinition strategy to apply.
+             */
+            private final BatchAllocator redefinitionBatchAllocator;
+
+            /**
+             * The redefinition listener for the redefinition strategy to apply.
+             */
+            private final Listener redefinitionListener;
+
+            /**
+             * The lambda instrumentation strategy to use.
+             */
+            private final LambdaInstrumentationStrategy lambdaInstrumentationStrategy;
+
+            /**
+             * The description strategy for resolving type descriptions for types.
+             */
+            private final DescriptionStrategy descriptionStrategy;
+
+            /**
+             * The fallback strategy to apply.
+             */
+            private final FallbackStrategy fallbackStrategy;
+
+            /**
+             * Identifies types that should be instrumented.
+             */
+            private final RawMatcher typeMatcher;
+
+            /**
+             * Identifies types that should not be instrumented.
+             */
+            private final RawMatcher ignoredTypeMatcher;
+
+            /**
+             * The name filter for excluding types from a redefinition before they are described.
+             */
+            private final NameFilter nameFilter;
+
+            /**
+             * {@code true} if this redefinition was canceled.
+             */
+            private volatile boolean canceled;
+
+            /**
+             * {@code true} if this redefinition was either started or canceled before it was started.
+             */
+            private final AtomicBoolean started;
+
+            /**
+             * A mapping of batches to their unhandled failures since the redefinition was last completed.
+             */
+            private final Map<List<Class<?>>, Throwable> failures;
+
+            /**
+             * The instrumentation instance to apply the redefinition to or {@code null} if the class file transformer is not yet installed.
+             */
+            private volatile Instrumentation instrumentation;
 
             /**
-             * A resubmission scheduler that schedules jobs with a fixed delay.
+             * The installed class file transformer or {@code null} if the class file transformer is not yet installed.
              */
-            @EqualsAndHashCode
-            class WithFixedDelay implements ResubmissionScheduler {
+            private volatile ResettableClassFileTransformer classFileTransformer;
 
-                /**
-                 * The executor service to schedule to.
-                 */
-                private final ScheduledExecutorService scheduledExecutorService;
+            /**
+             * The future of the submitted redefinition or {@code null} if the redefinition was not yet submitted.
+             */
+            private volatile Future<?> future;
 
-                /**
-                 * The time interval to pause between completed jobs.
-                 */
-                private final long time;
+            /**
+             * Creates a new asynchronous application of a redefinition strategy.
+             *
+             * @param executorService               The executor service to apply the redefinition on.
+             * @param redefinitionStrategy          The redefinition strategy to apply.
+             * @param listener                      The listener to notify on transformations.
+             * @param installationListener          The installation listener to notify of errors that occur during the redefinition.
+             * @param circularityLock               The circularity lock that is held by the installing thread.
+             * @param poolStrategy                  The type locator to use.
+             * @param locationStrategy              The location strategy to use.
+             * @param redefinitionDiscoveryStrategy The discovery strategy for loaded types to be redefined.
+             * @param redefinitionBatchAllocator    The batch allocator for the redefinition strategy to apply.
+             * @param redefinitionListener          The redefinition listener for the redefinition strategy to apply.
+             * @param lambdaInstrumentationStrategy The lambda instrumentation strategy to use.
+             * @param descriptionStrategy           The description strategy for resolving type descriptions for types.
+             * @param fallbackStrategy              The fallback strategy to apply.
+             * @param typeMatcher                   Identifies types that should be instrumented.
+             * @param ignoredTypeMatcher            Identifies types that should not be instrumented.
+             * @param nameFilter                    The name filter for excluding types from a redefinition before they are described.
+             */
+            protected AsynchronousApplication(ExecutorService executorService,
+                                              RedefinitionStrategy redefinitionStrategy,
+                                              AgentBuilder.Listener listener,
+                                              InstallationListener installationListener,
+                                              CircularityLock circularityLock,
+                                              PoolStrategy poolStrategy,
+                                              LocationStrategy locationStrategy,
+                                              DiscoveryStrategy redefinitionDiscoveryStrategy,
+                                              BatchAllocator redefinitionBatchAllocator,
+                                              Listener redefinitionListener,
+                                              LambdaInstrumentationStrategy lambdaInstrumentationStrategy,
+                                              DescriptionStrategy descriptionStrategy,
+                                              FallbackStrategy fallbackStrategy,
+                                              RawMatcher typeMatcher,
+                                              RawMatcher ignoredTypeMatcher,
+                                              NameFilter nameFilter) {
+                this.executorService = executorService;
+                this.redefinitionStrategy = redefinitionStrategy;
+                this.listener = listener;
+                this.installationListener = installationListener;
+                this.circularityLock = circularityLock;
+                this.poolStrategy = poolStrategy;
+                this.locationStrategy = locationStrategy;
+                this.redefinitionDiscoveryStrategy = redefinitionDiscoveryStrategy;
+                this.redefinitionBatchAllocator = redefinitionBatchAllocator;
+                this.redefinitionListener = redefinitionListener;
+                this.lambdaInstrumentationStrategy = lambdaInstrumentationStrategy;
+                this.descriptionStrategy = descriptionStrategy;
+                this.fallbackStrategy = fallbackStrategy;
+                this.typeMatcher = typeMatcher;
+                this.ignoredTypeMatcher = ignoredTypeMatcher;
+                this.nameFilter = nameFilter;
+                started = new AtomicBoolean();
+                failures = new HashMap<List<Class<?>>, Throwable>();
+            }
 
-                /**
-                 * The time's time unit.
-                 */
-                private final TimeUnit timeUnit;
+            @Override
+            public void onInstall(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                this.instrumentation = instrumentation;
+                this.classFileTransformer = classFileTransformer;
+                try {
+                    future = executorService.submit(this);
+                } catch (RejectedExecutionException ignored) {
+                    apply(circularityLock);
+                }
+            }
 
-                /**
-                 * Creates a new resubmission scheduler with a fixed delay between job executions.
-                 *
-                 * @param scheduledExecutorService The executor service to schedule to.
-                 * @param time                     The time interval to pause between completed jobs.
-                 * @param timeUnit                 The time's time unit.
-                 */
-                public WithFixedDelay(ScheduledExecutorService scheduledExecutorService, long time, TimeUnit timeUnit) {
-                    this.scheduledExecutorService = scheduledExecutorService;
-                    this.time = time;
-                    this.timeUnit = timeUnit;
+            @Override
+            public void onReset(Instrumentation instrumentation, ResettableClassFileTransformer classFileTransformer) {
+                canceled = true;
+                Future<?> future = this.future;
+                if (future != null) {
+                    future.cancel(false);
                 }
+                if (started.compareAndSet(false, true)) {
+                    redefinitionListener.onComplete(0, Collections.<Class<?>>emptyList(), Collections.<List<Class<?>>, Throwable>emptyMap());
+                }
+            }
 
-                @Override
-                public boolean isAlive() {
-                    return !scheduledExecutorService.isShutdown();
+            @Override
+            public void run() {
+                apply(CircularityLock.Inactive.INSTANCE);
+            }
+
+            /**
+             * Applies the redefinition unless it was already started or canceled. When this redefinition is executed asynchronously, no
+             * circularity lock is held during the redefinition such that threads that load classes concurrently are not blocked or excluded
+             * from transformation. Instead, the installed class file transformer acquires the circularity lock for every type it transforms.
+             *
+             * @param circularityLock The circularity lock that is held by the current thread.
+             */
+            private void apply(CircularityLock circularityLock) {
+                if (!started.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    redefinitionStrategy.apply(instrumentation,
+                            listener,
+                            circularityLock,
+                            poolStrategy,
+                            locationStrategy,
+                            redefinitionDiscoveryStrategy,
+                            redefinitionBatchAllocator,
+                            new Listener.Compound(this, redefinitionListener),
+                            lambdaInstrumentationStrategy,
+                            descriptionStrategy,
+                            fallbackStrategy,
+                            typeMatcher,
+                            ignoredTypeMatcher,
+                            nameFilter);
+                } catch (CancellationException ignored) {
+                    /* do nothing */
+                } catch (Throwable throwable) {
+                    installationListener.onError(instrumentation, classFileTransformer, throwable);
                 }
+            }
 
-                @Override
-                public Cancelable schedule(Runnable job) {
-                    return new Cancelable.ForFuture(scheduledExecutorService.scheduleWithFixedDelay(job, time, time, timeUnit));
+            @Override
+            public void onBatch(int index, List<Class<?>> batch, List<Class<?>> types) {
+                if (canceled) {
+                    redefinitionListener.onComplete(index, types, new HashMap<List<Class<?>>, Throwable>(failures));
+                    throw new CancellationException("Redefinition was canceled before batch #" + index);
                 }
             }
+
+            @Override
+            public Iterable<? extends List<Class<?>>> onError(int index, List<Class<?>> batch, Throwable throwable, List<Class<?>> types) {
+                failures.put(batch, throwable);
+                return Collections.emptyList();
+            }
+
+            @Override
+            public void onComplete(int amount, List<Class<?>> types, Map<List<Class<?>>, Throwable> failures) {
+                this.failures.clear();
+            }
         }
 
         /**
@@ -5762,7 +7670,7 @@ public interface AgentBuilder {
                                         try {
                                             Class<?> type = Class.forName(iterator.next(), false, classLoader);
                                             try {
-                                                if (instrumentation.isModifiableClass(type) && matcher.matches(new TypeDescription.ForLoadedType(type),
+                                                if (instrumentation.isModifiableClass(type) && matcher.matches(TypeDescription.ForLoadedType.of(type),
                                                         type.getClassLoader(),
                                                         JavaModule.ofType(type),
                                                         type,
@@ -6457,7 +8365,7 @@ public interface AgentBuilder {
                         builder = builder.implement(Serializable.class);
                     }
                     builder = builder.defineMethod("writeReplace", Object.class, Visibility.PRIVATE)
-                            .intercept(new SerializationImplementation(new TypeDescription.ForLoadedType(targetType),
+                            .intercept(new SerializationImplementation(TypeDescription.ForLoadedType.of(targetType),
                                     factoryMethod.getReturnType(),
                                     lambdaMethodName,
                                     lambdaMethod,
@@ -6798,7 +8706,7 @@ public interface AgentBuilder {
                 public ByteCodeAppender appender(Target implementationTarget) {
                     TypeDescription serializedLambda;
                     try {
-                        serializedLambda = new TypeDescription.ForLoadedType(Class.forName("java.lang.invoke.SerializedLambda"));
+                        serializedLambda = TypeDescription.ForLoadedType.of(Class.forName("java.lang.invoke.SerializedLambda"));
                     } catch (ClassNotFoundException exception) {
                         throw new IllegalStateException("Cannot find class for lambda serialization", exception);
                     }
@@ -7429,6 +9337,12 @@ public interface AgentBuilder {
          */
         private static final byte[] NO_TRANSFORMATION = null;
 
+        /**
+         * Indicates to {@link Default#doInstall(Instrumentation, ExecutorService)} that a redefinition is applied synchronously,
+         * upon installation. This value is never accepted from a user.
+         */
+        private static final ExecutorService SYNCHRONOUS = null;
+
         /**
          * Indicates that a loaded type should be considered as non-available.
          */
@@ -7541,6 +9455,16 @@ public interface AgentBuilder {
          */
         protected final Transformation transformation;
 
+        /**
+         * The class file cache for storing and looking up the results of a transformation.
+         */
+        protected final ClassFileCache classFileCache;
+
+        /**
+         * The name filter for excluding types from a transformation before they are described.
+         */
+        protected final NameFilter nameFilter;
+
         /**
          * Creates a new default agent builder that uses a default {@link net.bytebuddy.ByteBuddy} instance for creating classes.
          */
@@ -7578,7 +9502,9 @@ public interface AgentBuilder {
                     new RawMatcher.Disjunction(
                             new RawMatcher.ForElementMatchers(any(), isBootstrapClassLoader()),
                             new RawMatcher.ForElementMatchers(nameStartsWith("net.bytebuddy.").or(nameStartsWith("sun.reflect.")).<TypeDescription>or(isSynthetic()))),
-                    Transformation.Ignored.INSTANCE);
+                    Transformation.Ignored.INSTANCE,
+                    ClassFileCache.NoOp.INSTANCE,
+                    NameFilter.NoOp.INSTANCE);
         }
 
         /**
@@ -7605,6 +9531,8 @@ public interface AgentBuilder {
          * @param installationListener             The installation listener to notify.
          * @param ignoredTypeMatcher               Identifies types that should not be instrumented.
          * @param transformation                   The transformation object for handling type transformations.
+         * @param classFileCache                   The class file cache for storing and looking up the results of a transformation.
+         * @param nameFilter                       The name filter for excluding types from a transformation before they are described.
          */
         protected Default(ByteBuddy byteBuddy,
                           Listener listener,
@@ -7625,7 +9553,9 @@ public interface AgentBuilder {
                           FallbackStrategy fallbackStrategy,
                           InstallationListener installationListener,
                           RawMatcher ignoredTypeMatcher,
-                          Transformation transformation) {
+                          Transformation transformation,
+                          ClassFileCache classFileCache,
+                          NameFilter nameFilter) {
             this.byteBuddy = byteBuddy;
             this.listener = listener;
             this.circularityLock = circularityLock;
@@ -7646,6 +9576,8 @@ public interface AgentBuilder {
             this.installationListener = installationListener;
             this.ignoredTypeMatcher = ignoredTypeMatcher;
             this.transformation = transformation;
+            this.classFileCache = classFileCache;
+            this.nameFilter = nameFilter;
         }
 
         /**
@@ -7761,7 +9693,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7785,7 +9719,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7809,7 +9745,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7833,7 +9771,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7857,7 +9797,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7881,7 +9823,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7905,7 +9849,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7929,7 +9875,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7953,7 +9901,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -7977,7 +9927,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8001,7 +9953,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8025,7 +9979,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8049,7 +10005,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8073,7 +10031,61 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     new InstallationListener.Compound(this.installationListener, installationListener),
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
+        }
+
+        @Override
+        public AgentBuilder with(ClassFileCache classFileCache) {
+            return new Default(byteBuddy,
+                    listener,
+                    circularityLock,
+                    poolStrategy,
+                    typeStrategy,
+                    locationStrategy,
+                    nativeMethodStrategy,
+                    initializationStrategy,
+                    redefinitionStrategy,
+                    redefinitionDiscoveryStrategy,
+                    redefinitionBatchAllocator,
+                    redefinitionListener,
+                    redefinitionResubmissionStrategy,
+                    bootstrapInjectionStrategy,
+                    lambdaInstrumentationStrategy,
+                    descriptionStrategy,
+                    fallbackStrategy,
+                    installationListener,
+                    ignoredTypeMatcher,
+                    transformation,
+                    classFileCache,
+                    nameFilter);
+        }
+
+        @Override
+        public AgentBuilder with(NameFilter nameFilter) {
+            return new Default(byteBuddy,
+                    listener,
+                    circularityLock,
+                    poolStrategy,
+                    typeStrategy,
+                    locationStrategy,
+                    nativeMethodStrategy,
+                    initializationStrategy,
+                    redefinitionStrategy,
+                    redefinitionDiscoveryStrategy,
+                    redefinitionBatchAllocator,
+                    redefinitionListener,
+                    redefinitionResubmissionStrategy,
+                    bootstrapInjectionStrategy,
+                    lambdaInstrumentationStrategy,
+                    descriptionStrategy,
+                    fallbackStrategy,
+                    installationListener,
+                    ignoredTypeMatcher,
+                    transformation,
+                    classFileCache,
+                    new NameFilter.Compound(this.nameFilter, nameFilter));
         }
 
         @Override
@@ -8097,7 +10109,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8121,7 +10135,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8145,7 +10161,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8169,7 +10187,9 @@ public interface AgentBuilder {
                     fallbackStrategy,
                     installationListener,
                     ignoredTypeMatcher,
-                    transformation);
+                    transformation,
+                    classFileCache,
+                    nameFilter);
         }
 
         @Override
@@ -8277,11 +10297,33 @@ public interface AgentBuilder {
                     installationListener,
                     ignoredTypeMatcher,
                     transformation,
+                    classFileCache,
+                    nameFilter,
                     circularityLock);
         }
 
         @Override
         public ResettableClassFileTransformer installOn(Instrumentation instrumentation) {
+            return doInstall(instrumentation, SYNCHRONOUS);
+        }
+
+        @Override
+        public ResettableClassFileTransformer installOn(Instrumentation instrumentation, ExecutorService executorService) {
+            if (executorService == null) {
+                throw new IllegalArgumentException("Cannot apply an asynchronous redefinition without an executor service");
+            }
+            return doInstall(instrumentation, executorService);
+        }
+
+        /**
+         * Installs a class file transformer that implements the configuration of this agent builder.
+         *
+         * @param instrumentation The instrumentation on which this agent builder's configuration is to be installed.
+         * @param executorService The executor service to apply the redefinition of loaded types on or {@code null} if the
+         *                        redefinition should be applied synchronously.
+         * @return The installed class file transformer.
+         */
+        private ResettableClassFileTransformer doInstall(Instrumentation instrumentation, ExecutorService executorService) {
             if (!circularityLock.acquire()) {
                 throw new IllegalStateException("Could not acquire the circularity lock upon installation.");
             }
@@ -8295,15 +10337,36 @@ public interface AgentBuilder {
                         redefinitionStrategy,
                         redefinitionBatchAllocator,
                         redefinitionListener);
-                ResettableClassFileTransformer classFileTransformer = makeRaw(installation.getListener(), installation.getInstallationListener());
-                installation.getInstallationListener().onBeforeInstall(instrumentation, classFileTransformer);
+                InstallationListener installationListener = installation.getInstallationListener();
+                if (executorService != SYNCHRONOUS && redefinitionStrategy.isEnabled()) {
+                    installationListener = new InstallationListener.Compound(installationListener, new RedefinitionStrategy.AsynchronousApplication(executorService,
+                            redefinitionStrategy,
+                            installation.getListener(),
+                            installation.getInstallationListener(),
+                            circularityLock,
+                            poolStrategy,
+                            locationStrategy,
+                            redefinitionDiscoveryStrategy,
+                            redefinitionBatchAllocator,
+                            redefinitionListener,
+                            lambdaInstrumentationStrategy,
+                            descriptionStrategy,
+                            fallbackStrategy,
+                            transformation,
+                            ignoredTypeMatcher,
+                            nameFilter));
+                }
+                ResettableClassFileTransformer classFileTransformer = makeRaw(installation.getListener(), installationListener);
+                installationListener.onBeforeInstall(instrumentation, classFileTransformer);
                 try {
                     instrumentation.addTransformer(classFileTransformer, redefinitionStrategy.isRetransforming());
                     if (nativeMethodStrategy.isEnabled(instrumentation)) {
                         instrumentation.setNativeMethodPrefix(classFileTransformer, nativeMethodStrategy.getPrefix());
                     }
                     lambdaInstrumentationStrategy.apply(byteBuddy, instrumentation, classFileTransformer);
-                    if (redefinitionStrategy.isEnabled()) {
+                    if (redefinitionStrategy.isEnabled() && executorService != SYNCHRONOUS) {
+                        redefinitionStrategy.check(instrumentation);
+                    } else if (redefinitionStrategy.isEnabled()) {
                         redefinitionStrategy.apply(instrumentation,
                                 installation.getListener(),
                                 circularityLock,
@@ -8316,16 +10379,17 @@ public interface AgentBuilder {
                                 descriptionStrategy,
                                 fallbackStrategy,
                                 transformation,
-                                ignoredTypeMatcher);
+                                ignoredTypeMatcher,
+                                nameFilter);
                     }
                 } catch (Throwable throwable) {
-                    throwable = installation.getInstallationListener().onError(instrumentation, classFileTransformer, throwable);
+                    throwable = installationListener.onError(instrumentation, classFileTransformer, throwable);
                     if (throwable != null) {
                         instrumentation.removeTransformer(classFileTransformer);
                         throw new IllegalStateException("Could not install class file transformer", throwable);
                     }
                 }
-                installation.getInstallationListener().onInstall(instrumentation, classFileTransformer);
+                installationListener.onInstall(instrumentation, classFileTransformer);
                 return classFileTransformer;
             } finally {
                 circularityLock.release();
@@ -8575,6 +10639,21 @@ public interface AgentBuilder {
                  */
                 Sort getSort();
 
+                /**
+                 * Returns the indices of the transformations that are applied by this resolution in their registration order.
+                 *
+                 * @return The indices of the transformations that are applied by this resolution.
+                 */
+                List<Integer> getIndices();
+
+                /**
+                 * Returns this resolution as the resolution of the transformation with the given index.
+                 *
+                 * @param index The index of the transformation that yielded this resolution.
+                 * @return This resolution as a resolution of the transformation with the given index.
+                 */
+                Resolution withIndex(int index);
+
                 /**
                  * Resolves this resolution as a decorator of the supplied resolution.
                  *
@@ -8602,6 +10681,7 @@ public interface AgentBuilder {
                  * @param bootstrapInjectionStrategy The bootstrap injection strategy to be used.
                  * @param accessControlContext       The access control context to be used.
                  * @param listener                   The listener to be invoked to inform about an applied or non-applied transformation.
+                 * @param classFileCacheResolution   The resolution of a class file cache lookup for the instrumented type.
                  * @return The class file of the transformed class or {@code null} if no transformation is attempted.
                  */
                 byte[] apply(InitializationStrategy initializationStrategy,
@@ -8611,7 +10691,8 @@ public interface AgentBuilder {
                              NativeMethodStrategy methodNameTransformer,
                              BootstrapInjectionStrategy bootstrapInjectionStrategy,
                              AccessControlContext accessControlContext,
-                             Listener listener);
+                             Listener listener,
+                             ClassFileCache.Resolution classFileCacheResolution);
 
                 /**
                  * Describes a specific sort of a {@link Resolution}.
@@ -8667,9 +10748,10 @@ public interface AgentBuilder {
                      * Appends the supplied transformer to this resolution.
                      *
                      * @param transformer The transformer to append to the transformer that is represented bz this instance.
+                     * @param indices     The indices of the transformations that yielded the appended transformer.
                      * @return A new resolution with the supplied transformer appended to this transformer.
                      */
-                    Resolution append(Transformer transformer);
+                    Resolution append(Transformer transformer, List<Integer> indices);
                 }
 
                 /**
@@ -8718,6 +10800,16 @@ public interface AgentBuilder {
                         return Sort.UNDEFINED;
                     }
 
+                    @Override
+                    public List<Integer> getIndices() {
+                        return Collections.emptyList();
+                    }
+
+                    @Override
+                    public Resolution withIndex(int index) {
+                        return this;
+                    }
+
                     @Override
                     public Resolution asDecoratorOf(Resolution resolution) {
                         return resolution;
@@ -8736,7 +10828,8 @@ public interface AgentBuilder {
                                         NativeMethodStrategy methodNameTransformer,
                                         BootstrapInjectionStrategy bootstrapInjectionStrategy,
                                         AccessControlContext accessControlContext,
-                                        Listener listener) {
+                                        Listener listener,
+                                        ClassFileCache.Resolution classFileCacheResolution) {
                         listener.onIgnored(typeDescription, classLoader, module, loaded);
                         return NO_TRANSFORMATION;
                     }
@@ -8826,7 +10919,7 @@ public interface AgentBuilder {
                                                          ProtectionDomain protectionDomain,
                                                          TypePool typePool) {
                     return matches(typeDescription, classLoader, module, classBeingRedefined, protectionDomain)
-                            ? new Resolution(typeDescription, classLoader, module, protectionDomain, loaded, typePool, transformer, decorator)
+                            ? new Resolution(typeDescription, classLoader, module, protectionDomain, loaded, typePool, transformer, decorator, Collections.singletonList(0))
                             : new Transformation.Resolution.Unresolved(typeDescription, classLoader, module, loaded);
                 }
 
@@ -8876,6 +10969,11 @@ public interface AgentBuilder {
                      */
                     private final boolean decorator;
 
+                    /**
+                     * The indices of the transformations that are applied by this resolution in their registration order.
+                     */
+                    private final List<Integer> indices;
+
                     /**
                      * Creates a new active transformation.
                      *
@@ -8887,6 +10985,7 @@ public interface AgentBuilder {
                      * @param typePool         The type pool to apply during type creation.
                      * @param transformer      The transformer to be applied.
                      * @param decorator        {@code true} if this transformer serves as a decorator.
+                     * @param indices          The indices of the transformations that are applied by this resolution in their registration order.
                      */
                     protected Resolution(TypeDescription typeDescription,
                                          ClassLoader classLoader,
@@ -8895,7 +10994,8 @@ public interface AgentBuilder {
                                          boolean loaded,
                                          TypePool typePool,
                                          Transformer transformer,
-                                         boolean decorator) {
+                                         boolean decorator,
+                                         List<Integer> indices) {
                         this.typeDescription = typeDescription;
                         this.classLoader = classLoader;
                         this.module = module;
@@ -8904,6 +11004,7 @@ public interface AgentBuilder {
                         this.typePool = typePool;
                         this.transformer = transformer;
                         this.decorator = decorator;
+                        this.indices = indices;
                     }
 
                     @Override
@@ -8913,6 +11014,24 @@ public interface AgentBuilder {
                                 : Sort.TERMINAL;
                     }
 
+                    @Override
+                    public List<Integer> getIndices() {
+                        return indices;
+                    }
+
+                    @Override
+                    public Transformation.Resolution withIndex(int index) {
+                        return new Resolution(typeDescription,
+                                classLoader,
+                                module,
+                                protectionDomain,
+                                loaded,
+                                typePool,
+                                transformer,
+                                decorator,
+                                Collections.singletonList(index));
+                    }
+
                     @Override
                     public Transformation.Resolution asDecoratorOf(Transformation.Resolution resolution) {
                         return resolution.prepend(this);
@@ -8920,11 +11039,11 @@ public interface AgentBuilder {
 
                     @Override
                     public Transformation.Resolution prepend(Decoratable resolution) {
-                        return resolution.append(transformer);
+                        return resolution.append(transformer, indices);
                     }
 
                     @Override
-                    public Transformation.Resolution append(Transformer transformer) {
+                    public Transformation.Resolution append(Transformer transformer, List<Integer> indices) {
                         return new Resolution(typeDescription,
                                 classLoader,
                                 module,
@@ -8932,7 +11051,8 @@ public interface AgentBuilder {
                                 loaded,
                                 typePool,
                                 new Transformer.Compound(this.transformer, transformer),
-                                decorator);
+                                decorator,
+                                CompoundList.of(this.indices, indices));
                     }
 
                     @Override
@@ -8943,7 +11063,16 @@ public interface AgentBuilder {
                                         NativeMethodStrategy methodNameTransformer,
                                         BootstrapInjectionStrategy bootstrapInjectionStrategy,
                                         AccessControlContext accessControlContext,
-                                        Listener listener) {
+                                        Listener listener,
+                                        ClassFileCache.Resolution classFileCacheResolution) {
+                        if (classFileCacheResolution.isResolved()) {
+                            byte[] binaryRepresentation = classFileCacheResolution.resolve();
+                            listener.onTransformation(typeDescription, classLoader, module, loaded, new DynamicType.Default(typeDescription,
+                                    binaryRepresentation,
+                                    LoadedTypeInitializer.NoOp.INSTANCE,
+                                    Collections.<DynamicType>emptyList()));
+                            return binaryRepresentation;
+                        }
                         InitializationStrategy.Dispatcher dispatcher = initializationStrategy.dispatcher();
                         DynamicType.Unloaded<?> dynamicType = dispatcher.apply(transformer.transform(typeStrategy.builder(typeDescription,
                                 byteBuddy,
@@ -8953,6 +11082,9 @@ public interface AgentBuilder {
                                 classLoader,
                                 protectionDomain));
                         listener.onTransformation(typeDescription, classLoader, module, loaded, dynamicType);
+                        if (dynamicType.getAuxiliaryTypes().isEmpty() && !dynamicType.hasAliveLoadedTypeInitializers()) {
+                            classFileCacheResolution.register(dynamicType.getBytes());
+                        }
                         return dynamicType.getBytes();
                     }
 
@@ -9061,6 +11193,7 @@ public interface AgentBuilder {
                                           ProtectionDomain protectionDomain,
                                           TypePool typePool) {
                     Resolution current = new Resolution.Unresolved(typeDescription, classLoader, module, classBeingRedefined != null);
+                    int index = 0;
                     for (Transformation transformation : transformations) {
                         Resolution resolution = transformation.resolve(typeDescription,
                                 classLoader,
@@ -9068,7 +11201,7 @@ public interface AgentBuilder {
                                 classBeingRedefined,
                                 loaded,
                                 protectionDomain,
-                                typePool);
+                                typePool).withIndex(index++);
                         switch (resolution.getSort()) {
                             case TERMINAL:
                                 return current.asDecoratorOf(resolution);
@@ -9167,6 +11300,16 @@ public interface AgentBuilder {
              */
             private final Transformation transformation;
 
+            /**
+             * The class file cache for storing and looking up the results of a transformation.
+             */
+            private final ClassFileCache classFileCache;
+
+            /**
+             * The name filter for excluding types from a transformation before they are described.
+             */
+            private final NameFilter nameFilter;
+
             /**
              * A lock that prevents circular class transformations.
              */
@@ -9194,6 +11337,8 @@ public interface AgentBuilder {
              * @param installationListener          The installation listener to notify.
              * @param ignoredTypeMatcher            Identifies types that should not be instrumented.
              * @param transformation                The transformation object for handling type transformations.
+             * @param classFileCache                The class file cache for storing and looking up the results of a transformation.
+             * @param nameFilter                    The name filter for excluding types from a transformation before they are described.
              * @param circularityLock               The circularity lock to use.
              */
             public ExecutingTransformer(ByteBuddy byteBuddy,
@@ -9210,6 +11355,8 @@ public interface AgentBuilder {
                                         InstallationListener installationListener,
                                         RawMatcher ignoredTypeMatcher,
                                         Transformation transformation,
+                                        ClassFileCache classFileCache,
+                                        NameFilter nameFilter,
                                         CircularityLock circularityLock) {
                 this.byteBuddy = byteBuddy;
                 this.typeStrategy = typeStrategy;
@@ -9225,6 +11372,8 @@ public interface AgentBuilder {
                 this.installationListener = installationListener;
                 this.ignoredTypeMatcher = ignoredTypeMatcher;
                 this.transformation = transformation;
+                this.classFileCache = classFileCache;
+                this.nameFilter = nameFilter;
                 this.circularityLock = circularityLock;
                 accessControlContext = AccessController.getContext();
             }
@@ -9301,7 +11450,9 @@ public interface AgentBuilder {
                                      Class<?> classBeingRedefined,
                                      ProtectionDomain protectionDomain,
                                      byte[] binaryRepresentation) {
-                if (internalTypeName == null || !lambdaInstrumentationStrategy.isInstrumented(classBeingRedefined)) {
+                if (internalTypeName == null
+                        || !nameFilter.isCandidate(internalTypeName, classLoader)
+                        || !lambdaInstrumentationStrategy.isInstrumented(classBeingRedefined)) {
                     return NO_TRANSFORMATION;
                 }
                 String typeName = internalTypeName.replace('/', '.');
@@ -9311,15 +11462,17 @@ public interface AgentBuilder {
                             binaryRepresentation,
                             locationStrategy.classFileLocator(classLoader, module));
                     TypePool typePool = poolStrategy.typePool(classFileLocator, classLoader);
+                    byte[] transformed;
                     try {
-                        return doTransform(module, classLoader, typeName, classBeingRedefined, classBeingRedefined != null, protectionDomain, typePool, classFileLocator);
+                        transformed = doTransform(module, classLoader, typeName, classBeingRedefined, classBeingRedefined != null, protectionDomain, typePool, classFileLocator, binaryRepresentation);
                     } catch (Throwable throwable) {
                         if (classBeingRedefined != null && descriptionStrategy.isLoadedFirst() && fallbackStrategy.isFallback(classBeingRedefined, throwable)) {
-                            return doTransform(module, classLoader, typeName, NO_LOADED_TYPE, Listener.LOADED, protectionDomain, typePool, classFileLocator);
+                            transformed = doTransform(module, classLoader, typeName, NO_LOADED_TYPE, Listener.LOADED, protectionDomain, typePool, classFileLocator, binaryRepresentation);
                         } else {
                             throw throwable;
                         }
                     }
+                    return transformed;
                 } catch (Throwable throwable) {
                     listener.onError(typeName, classLoader, module, classBeingRedefined != null, throwable);
                     return NO_TRANSFORMATION;
@@ -9331,14 +11484,15 @@ public interface AgentBuilder {
             /**
              * Applies a transformation for a class that was captured by this {@link ClassFileTransformer}.
              *
-             * @param module              The instrumented class's Java module in its wrapped form or {@code null} if the current VM does not support modules.
-             * @param classLoader         The instrumented class's class loader.
-             * @param typeName            The binary name of the instrumented class.
-             * @param classBeingRedefined The loaded {@link Class} being redefined or {@code null} if no such class exists.
-             * @param loaded              {@code true} if the instrumented type is loaded.
-             * @param protectionDomain    The instrumented type's protection domain.
-             * @param typePool            The type pool to use.
-             * @param classFileLocator    The class file locator to use.
+             * @param module               The instrumented class's Java module in its wrapped form or {@code null} if the current VM does not support modules.
+             * @param classLoader          The instrumented class's class loader.
+             * @param typeName             The binary name of the instrumented class.
+             * @param classBeingRedefined  The loaded {@link Class} being redefined or {@code null} if no such class exists.
+             * @param loaded               {@code true} if the instrumented type is loaded.
+             * @param protectionDomain     The instrumented type's protection domain.
+             * @param typePool             The type pool to use.
+             * @param classFileLocator     The class file locator to use.
+             * @param binaryRepresentation The class file of the instrumented class in its current state.
              * @return The transformed class file or an empty byte array if this transformer does not apply an instrumentation.
              */
             private byte[] doTransform(JavaModule module,
@@ -9348,15 +11502,20 @@ public interface AgentBuilder {
                                        boolean loaded,
                                        ProtectionDomain protectionDomain,
                                        TypePool typePool,
-                                       ClassFileLocator classFileLocator) {
-                return resolve(module, classLoader, typeName, classBeingRedefined, loaded, protectionDomain, typePool).apply(initializationStrategy,
+                                       ClassFileLocator classFileLocator,
+                                       byte[] binaryRepresentation) {
+                Transformation.Resolution resolution = resolve(module, classLoader, typeName, classBeingRedefined, loaded, protectionDomain, typePool);
+                return resolution.apply(initializationStrategy,
                         classFileLocator,
                         typeStrategy,
                         byteBuddy,
                         nativeMethodStrategy,
                         bootstrapInjectionStrategy,
                         accessControlContext,
-                        listener);
+                        listener,
+                        resolution.getSort().isAlive()
+                                ? classFileCache.find(typeName, classLoader, module, loaded, resolution.getIndices(), binaryRepresentation)
+                                : ClassFileCache.Resolution.Unresolved.INSTANCE);
             }
 
 
@@ -9404,7 +11563,8 @@ public interface AgentBuilder {
                             descriptionStrategy,
                             fallbackStrategy,
                             transformation,
-                            ignoredTypeMatcher);
+                            ignoredTypeMatcher,
+                            nameFilter);
                     installationListener.onReset(instrumentation, this);
                     return true;
                 } else {
@@ -9436,6 +11596,8 @@ public interface AgentBuilder {
                  * @param installationListener          The installation listener to notify.
                  * @param ignoredTypeMatcher            Identifies types that should not be instrumented.
                  * @param transformation                The transformation object for handling type transformations.
+                 * @param classFileCache                The class file cache for storing and looking up the results of a transformation.
+                 * @param nameFilter                    The name filter for excluding types from a transformation before they are described.
                  * @param circularityLock               The circularity lock to use.
                  * @return A class file transformer for the current VM that supports the API of the current VM.
                  */
@@ -9453,6 +11615,8 @@ public interface AgentBuilder {
                                                     InstallationListener installationListener,
                                                     RawMatcher ignoredTypeMatcher,
                                                     Transformation transformation,
+                                                    ClassFileCache classFileCache,
+                                                    NameFilter nameFilter,
                                                     CircularityLock circularityLock);
 
                 /**
@@ -9498,6 +11662,8 @@ public interface AgentBuilder {
                                             InstallationListener.class,
                                             RawMatcher.class,
                                             Transformation.class,
+                                            ClassFileCache.class,
+                                            NameFilter.class,
                                             CircularityLock.class));
                         } catch (Exception ignored) {
                             return Factory.ForLegacyVm.INSTANCE;
@@ -9543,6 +11709,8 @@ public interface AgentBuilder {
                                                                InstallationListener installationListener,
                                                                RawMatcher ignoredTypeMatcher,
                                                                Transformation transformation,
+                                                               ClassFileCache classFileCache,
+                                                               NameFilter nameFilter,
                                                                CircularityLock circularityLock) {
                         try {
                             return executingTransformer.newInstance(byteBuddy,
@@ -9559,6 +11727,8 @@ public interface AgentBuilder {
                                     installationListener,
                                     ignoredTypeMatcher,
                                     transformation,
+                                    classFileCache,
+                                    nameFilter,
                                     circularityLock);
                         } catch (IllegalAccessException exception) {
                             throw new IllegalStateException("Cannot access " + executingTransformer, exception);
@@ -9595,6 +11765,8 @@ public interface AgentBuilder {
                                                                InstallationListener installationListener,
                                                                RawMatcher ignoredTypeMatcher,
                                                                Transformation transformation,
+                                                               ClassFileCache classFileCache,
+                                                               NameFilter nameFilter,
                                                                CircularityLock circularityLock) {
                         return new ExecutingTransformer(byteBuddy,
                                 listener,
@@ -9610,6 +11782,8 @@ public interface AgentBuilder {
                                 installationListener,
                                 ignoredTypeMatcher,
                                 transformation,
+                                classFileCache,
+                                nameFilter,
                                 circularityLock);
                     }
                 }
@@ -9891,6 +12065,16 @@ public interface AgentBuilder {
                 return materialize().with(installationListener);
             }
 
+            @Override
+            public AgentBuilder with(ClassFileCache classFileCache) {
+                return materialize().with(classFileCache);
+            }
+
+            @Override
+            public AgentBuilder with(NameFilter nameFilter) {
+                return materialize().with(nameFilter);
+            }
+
             @Override
             public AgentBuilder enableBootstrapInjection(Instrumentation instrumentation, File folder) {
                 return materialize().enableBootstrapInjection(instrumentation, folder);
@@ -10006,6 +12190,11 @@ public interface AgentBuilder {
                 return materialize().installOn(instrumentation);
             }
 
+            @Override
+            public ResettableClassFileTransformer installOn(Instrumentation instrumentation, ExecutorService executorService) {
+                return materialize().installOn(instrumentation, executorService);
+            }
+
             @Override
             public ResettableClassFileTransformer installOnByteBuddyAgent() {
                 return materialize().installOnByteBuddyAgent();
@@ -10052,7 +12241,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         rawMatcher,
-                        transformation);
+                        transformation,
+                        classFileCache,
+                        nameFilter);
             }
 
             @Override
@@ -10118,6 +12309,8 @@ public interface AgentBuilder {
              * @param installationListener             The installation listener to notify.
              * @param ignoredTypeMatcher               Identifies types that should not be instrumented.
              * @param transformation                   The transformation object for handling type transformations.
+             * @param classFileCache                   The class file cache for storing and looking up the results of a transformation.
+             * @param nameFilter                       The name filter for excluding types from a transformation before they are described.
              */
             protected Redefining(ByteBuddy byteBuddy,
                                  Listener listener,
@@ -10138,7 +12331,9 @@ public interface AgentBuilder {
                                  FallbackStrategy fallbackStrategy,
                                  InstallationListener installationListener,
                                  RawMatcher ignoredTypeMatcher,
-                                 Transformation transformation) {
+                                 Transformation transformation,
+                                 ClassFileCache classFileCache,
+                                 NameFilter nameFilter) {
                 super(byteBuddy,
                         listener,
                         circularityLock,
@@ -10158,7 +12353,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         ignoredTypeMatcher,
-                        transformation);
+                        transformation,
+                        classFileCache,
+                        nameFilter);
             }
 
             @Override
@@ -10186,7 +12383,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         ignoredTypeMatcher,
-                        transformation);
+                        transformation,
+                        classFileCache,
+                        nameFilter);
             }
 
             @Override
@@ -10218,7 +12417,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         ignoredTypeMatcher,
-                        transformation);
+                        transformation,
+                        classFileCache,
+                        nameFilter);
             }
 
             @Override
@@ -10245,7 +12446,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         ignoredTypeMatcher,
-                        transformation);
+                        transformation,
+                        classFileCache,
+                        nameFilter);
             }
 
             @Override
@@ -10277,7 +12480,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         ignoredTypeMatcher,
-                        transformation);
+                        transformation,
+                        classFileCache,
+                        nameFilter);
             }
         }
 
@@ -10337,7 +12542,9 @@ public interface AgentBuilder {
                         fallbackStrategy,
                         installationListener,
                         ignoredTypeMatcher,
-                        new Transformation.Compound(new Transformation.Simple(rawMatcher, transformer, decorator), transformation));
+                        new Transformation.Compound(new Transformation.Simple(rawMatcher, transformer, decorator), transformation),
+                        classFileCache,
+                        nameFilter);
             }
 
             @Override
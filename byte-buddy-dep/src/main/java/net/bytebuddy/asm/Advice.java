@@ -184,12 +184,12 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
      * Extracts the annotation values for the enter and exit advice annotations.
      */
     static {
-        MethodList<MethodDescription.InDefinedShape> enter = new TypeDescription.ForLoadedType(OnMethodEnter.class).getDeclaredMethods();
+        MethodList<MethodDescription.InDefinedShape> enter = TypeDescription.ForLoadedType.of(OnMethodEnter.class).getDeclaredMethods();
         INLINE_ENTER = enter.filter(named("inline")).getOnly();
         SUPPRESS_ENTER = enter.filter(named("suppress")).getOnly();
         SKIP_ON = enter.filter(named("skipOn")).getOnly();
         PREPEND_LINE_NUMBER = enter.filter(named("prependLineNumber")).getOnly();
-        MethodList<MethodDescription.InDefinedShape> exit = new TypeDescription.ForLoadedType(OnMethodExit.class).getDeclaredMethods();
+        MethodList<MethodDescription.InDefinedShape> exit = TypeDescription.ForLoadedType.of(OnMethodExit.class).getDeclaredMethods();
         INLINE_EXIT = exit.filter(named("inline")).getOnly();
         SUPPRESS_EXIT = exit.filter(named("suppress")).getOnly();
         ON_THROWABLE = exit.filter(named("onThrowable")).getOnly();
@@ -271,7 +271,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
      * @return A method visitor wrapper representing the supplied advice.
      */
     public static Advice to(Class<?> advice, ClassFileLocator classFileLocator) {
-        return to(new TypeDescription.ForLoadedType(advice), classFileLocator);
+        return to(TypeDescription.ForLoadedType.of(advice), classFileLocator);
     }
 
     /**
@@ -349,7 +349,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
      * @return A method visitor wrapper representing the supplied advice.
      */
     public static Advice to(Class<?> enterAdvice, Class<?> exitAdvice, ClassFileLocator classFileLocator) {
-        return to(new TypeDescription.ForLoadedType(enterAdvice), new TypeDescription.ForLoadedType(exitAdvice), classFileLocator);
+        return to(TypeDescription.ForLoadedType.of(enterAdvice), TypeDescription.ForLoadedType.of(exitAdvice), classFileLocator);
     }
 
     /**
@@ -1924,6 +1924,41 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
              * @return {@code true} if this method is representable.
              */
             protected abstract boolean isRepresentable(MethodDescription instrumentedMethod);
+
+            /**
+             * Maps a constant representing the instrumented method that is stored in a {@code static} field of the instrumented type.
+             * The field is initialized once within the instrumented type's type initializer such that the constant is not looked up
+             * for every read. This requires the implementation context to allow the definition of cached fields.
+             */
+            @EqualsAndHashCode
+            public static class Cached implements OffsetMapping {
+
+                /**
+                 * The offset mapping that determines if the instrumented method is representable.
+                 */
+                private final ForInstrumentedMethod forInstrumentedMethod;
+
+                /**
+                 * Creates a new offset mapping for a cached constant representing the instrumented method.
+                 *
+                 * @param forInstrumentedMethod The offset mapping that determines if the instrumented method is representable.
+                 */
+                public Cached(ForInstrumentedMethod forInstrumentedMethod) {
+                    this.forInstrumentedMethod = forInstrumentedMethod;
+                }
+
+                @Override
+                public Target resolve(TypeDescription instrumentedType,
+                                      MethodDescription instrumentedMethod,
+                                      Assigner assigner,
+                                      ArgumentHandler argumentHandler,
+                                      Sort sort) {
+                    if (!forInstrumentedMethod.isRepresentable(instrumentedMethod)) {
+                        throw new IllegalStateException("Cannot represent " + instrumentedMethod + " as given method constant");
+                    }
+                    return new Target.ForStackManipulation(MethodConstant.forMethod(instrumentedMethod.asDefined()).cached());
+                }
+            }
         }
 
         /**
@@ -1956,7 +1991,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
              * Looks up all annotation properties to avoid loading of the declaring field type.
              */
             static {
-                MethodList<MethodDescription.InDefinedShape> methods = new TypeDescription.ForLoadedType(FieldValue.class).getDeclaredMethods();
+                MethodList<MethodDescription.InDefinedShape> methods = TypeDescription.ForLoadedType.of(FieldValue.class).getDeclaredMethods();
                 VALUE = methods.filter(named("value")).getOnly();
                 DECLARING_TYPE = methods.filter(named("declaringType")).getOnly();
                 READ_ONLY = methods.filter(named("readOnly")).getOnly();
@@ -2575,17 +2610,30 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                     if (target.getType().asErasure().represents(Class.class)) {
                         return OffsetMapping.ForInstrumentedType.INSTANCE;
                     } else if (target.getType().asErasure().represents(Method.class)) {
-                        return OffsetMapping.ForInstrumentedMethod.METHOD;
+                        return of(OffsetMapping.ForInstrumentedMethod.METHOD, annotation.loadSilent().cache());
                     } else if (target.getType().asErasure().represents(Constructor.class)) {
-                        return OffsetMapping.ForInstrumentedMethod.CONSTRUCTOR;
+                        return of(OffsetMapping.ForInstrumentedMethod.CONSTRUCTOR, annotation.loadSilent().cache());
                     } else if (JavaType.EXECUTABLE.getTypeStub().equals(target.getType().asErasure())) {
-                        return OffsetMapping.ForInstrumentedMethod.EXECUTABLE;
+                        return of(OffsetMapping.ForInstrumentedMethod.EXECUTABLE, annotation.loadSilent().cache());
                     } else if (target.getType().asErasure().isAssignableFrom(String.class)) {
                         return ForOrigin.parse(annotation.loadSilent().value());
                     } else {
                         throw new IllegalStateException("Non-supported type " + target.getType() + " for @Origin annotation");
                     }
                 }
+
+                /**
+                 * Resolves an offset mapping for a constant representing the instrumented method.
+                 *
+                 * @param forInstrumentedMethod The offset mapping for the represented constant.
+                 * @param cache                 {@code true} if the constant should be cached in a {@code static} field.
+                 * @return An appropriate offset mapping.
+                 */
+                private static OffsetMapping of(OffsetMapping.ForInstrumentedMethod forInstrumentedMethod, boolean cache) {
+                    return cache
+                            ? new OffsetMapping.ForInstrumentedMethod.Cached(forInstrumentedMethod)
+                            : forInstrumentedMethod;
+                }
             }
         }
 
@@ -3122,28 +3170,28 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                         return new OfDefaultValue<S>(annotationType);
                     } else if (value instanceof Boolean) {
                         stackManipulation = IntegerConstant.forValue((Boolean) value);
-                        typeDescription = new TypeDescription.ForLoadedType(boolean.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(boolean.class);
                     } else if (value instanceof Byte) {
                         stackManipulation = IntegerConstant.forValue((Byte) value);
-                        typeDescription = new TypeDescription.ForLoadedType(byte.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(byte.class);
                     } else if (value instanceof Short) {
                         stackManipulation = IntegerConstant.forValue((Short) value);
-                        typeDescription = new TypeDescription.ForLoadedType(short.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(short.class);
                     } else if (value instanceof Character) {
                         stackManipulation = IntegerConstant.forValue((Character) value);
-                        typeDescription = new TypeDescription.ForLoadedType(char.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(char.class);
                     } else if (value instanceof Integer) {
                         stackManipulation = IntegerConstant.forValue((Integer) value);
-                        typeDescription = new TypeDescription.ForLoadedType(int.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(int.class);
                     } else if (value instanceof Long) {
                         stackManipulation = LongConstant.forValue((Long) value);
-                        typeDescription = new TypeDescription.ForLoadedType(long.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(long.class);
                     } else if (value instanceof Float) {
                         stackManipulation = FloatConstant.forValue((Float) value);
-                        typeDescription = new TypeDescription.ForLoadedType(float.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(float.class);
                     } else if (value instanceof Double) {
                         stackManipulation = DoubleConstant.forValue((Double) value);
-                        typeDescription = new TypeDescription.ForLoadedType(double.class);
+                        typeDescription = TypeDescription.ForLoadedType.of(double.class);
                     } else if (value instanceof String) {
                         stackManipulation = new TextConstant((String) value);
                         typeDescription = TypeDescription.STRING;
@@ -3366,7 +3414,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                     if (!targetType.isInstance(target)) {
                         throw new IllegalArgumentException(target + " is no instance of " + targetType);
                     }
-                    return new Factory<S>(annotationType, new TypeDescription.ForLoadedType(targetType), SerializedConstant.of(target));
+                    return new Factory<S>(annotationType, TypeDescription.ForLoadedType.of(targetType), SerializedConstant.of(target));
                 }
 
                 @Override
@@ -5830,7 +5878,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                     this.adviceMethod = adviceMethod;
                     Map<TypeDescription, OffsetMapping.Factory<?>> offsetMappings = new HashMap<TypeDescription, OffsetMapping.Factory<?>>();
                     for (OffsetMapping.Factory<?> factory : factories) {
-                        offsetMappings.put(new TypeDescription.ForLoadedType(factory.getAnnotationType()), factory);
+                        offsetMappings.put(TypeDescription.ForLoadedType.of(factory.getAnnotationType()), factory);
                     }
                     this.offsetMappings = new HashMap<Integer, OffsetMapping>();
                     for (ParameterDescription.InDefinedShape parameterDescription : adviceMethod.getParameters()) {
@@ -7069,7 +7117,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
                     this.adviceMethod = adviceMethod;
                     Map<TypeDescription, OffsetMapping.Factory<?>> offsetMappings = new HashMap<TypeDescription, OffsetMapping.Factory<?>>();
                     for (OffsetMapping.Factory<?> factory : factories) {
-                        offsetMappings.put(new TypeDescription.ForLoadedType(factory.getAnnotationType()), factory);
+                        offsetMappings.put(TypeDescription.ForLoadedType.of(factory.getAnnotationType()), factory);
                     }
                     this.offsetMappings = new ArrayList<OffsetMapping>();
                     for (ParameterDescription.InDefinedShape parameterDescription : adviceMethod.getParameters()) {
@@ -8650,9 +8698,17 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
     }
 
     /**
+     * <p>
      * Assigns an array containing all arguments of the instrumented method to the annotated parameter. The annotated parameter must
      * be an array type. If the annotation indicates writability, the assigned array must have at least as many values as the
      * instrumented method or an {@link ArrayIndexOutOfBoundsException} is thrown.
+     * </p>
+     * <p>
+     * <b>Note</b>: If the advice is inlined, a new array is created for every read of the annotated parameter. A read-only array
+     * is of a constant length such that the just-in-time compiler can replace it by its values if it is read once, for example
+     * by assigning it to a local variable, and if it does not escape the advice method. Arrays are never reused between invocations
+     * as such an array would be overridden by recursive or concurrent invocations of the instrumented method.
+     * </p>
      */
     @Documented
     @Retention(RetentionPolicy.RUNTIME)
@@ -8821,7 +8877,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
      * </p>
      * <p>
      * <b>Note</b>: A constant representing a {@link Method} or {@link Constructor} is not cached but is recreated for
-     * every read.
+     * every read unless {@link Origin#cache()} is set to {@code true}.
      * </p>
      *
      * @see Advice
@@ -8854,6 +8910,16 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
          * @return The pattern the annotated parameter should be assigned.
          */
         String value() default DEFAULT;
+
+        /**
+         * Indicates if a {@link Method}, {@link Constructor} or {@code java.lang.reflect.Executable} constant should be stored in a
+         * {@code static} field of the instrumented type which is initialized once within the type's initializer instead of being
+         * looked up for every read. Caching requires a field to be added to the instrumented type which is not possible if class format changes
+         * are disabled, for example when retransforming loaded classes. This property is ignored for any other parameter type.
+         *
+         * @return {@code true} if a method or constructor constant should be cached.
+         */
+        boolean cache() default false;
     }
 
     /**
@@ -9044,7 +9110,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
          * @return A new builder for an advice that considers the supplied annotation type during binding.
          */
         public <T extends Annotation> WithCustomMapping bind(Class<T> type, Class<?> value) {
-            return bind(type, new TypeDescription.ForLoadedType(value));
+            return bind(type, TypeDescription.ForLoadedType.of(value));
         }
 
         /**
@@ -9196,7 +9262,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
          * @return A method visitor wrapper representing the supplied advice.
          */
         public Advice to(Class<?> advice, ClassFileLocator classFileLocator) {
-            return to(new TypeDescription.ForLoadedType(advice), classFileLocator);
+            return to(TypeDescription.ForLoadedType.of(advice), classFileLocator);
         }
 
         /**
@@ -9234,7 +9300,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
          * @return A method visitor wrapper representing the supplied advice.
          */
         public Advice to(Class<?> enterAdvice, Class<?> exitAdvice, ClassFileLocator classFileLocator) {
-            return to(new TypeDescription.ForLoadedType(enterAdvice), new TypeDescription.ForLoadedType(exitAdvice), classFileLocator);
+            return to(TypeDescription.ForLoadedType.of(enterAdvice), TypeDescription.ForLoadedType.of(exitAdvice), classFileLocator);
         }
 
         /**
@@ -9271,7 +9337,7 @@ public class Advice implements AsmVisitorWrapper.ForDeclaredMethods.MethodVisito
         /**
          * A description of the {@link NoExceptionHandler} type.
          */
-        private static final TypeDescription DESCRIPTION = new TypeDescription.ForLoadedType(NoExceptionHandler.class);
+        private static final TypeDescription DESCRIPTION = TypeDescription.ForLoadedType.of(NoExceptionHandler.class);
 
         /**
          * A private constructor as this class is not supposed to be invoked.
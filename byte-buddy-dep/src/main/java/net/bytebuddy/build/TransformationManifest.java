@@ -0,0 +1,413 @@
+package net.bytebuddy.build;
+
+import lombok.EqualsAndHashCode;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.utility.StreamDrainer;
+
+import java.io.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * A manifest of a build tool's previous transformation of a folder of class files. Using a manifest, a build tool only needs to apply
+ * a transformation to class files that changed since the last build or whose super types changed since the last build.
+ */
+public interface TransformationManifest {
+
+    /**
+     * Selects the class files of a folder that require a transformation. If a previously transformed class file is selected only
+     * because one of its super types changed, its original class file is restored such that it is not transformed twice.
+     *
+     * @param root  The folder containing the class files.
+     * @param files All class files within the folder, relative to the folder and separated by {@code /}.
+     * @return The class files that require a transformation in their original order.
+     * @throws IOException If an I/O exception occurs.
+     */
+    List<String> select(File root, List<String> files) throws IOException;
+
+    /**
+     * Registers the processing of a class file. This method must be invoked before a transformed class file is written to the folder.
+     *
+     * @param root            The folder containing the class files.
+     * @param file            The processed class file, relative to the folder and separated by {@code /}.
+     * @param typeDescription A description of the type that is represented by the class file before its transformation.
+     * @param dynamicType     The dynamic type that replaces the class file or {@code null} if the class file is not transformed.
+     * @throws IOException If an I/O exception occurs.
+     */
+    void register(File root, String file, TypeDescription typeDescription, DynamicType dynamicType) throws IOException;
+
+    /**
+     * Writes this manifest after all selected class files were processed successfully.
+     *
+     * @throws IOException If an I/O exception occurs.
+     */
+    void write() throws IOException;
+
+    /**
+     * A non-operational manifest that selects all class files for a transformation.
+     */
+    enum NoOp implements TransformationManifest {
+
+        /**
+         * The singleton instance.
+         */
+        INSTANCE;
+
+        @Override
+        public List<String> select(File root, List<String> files) {
+            return files;
+        }
+
+        @Override
+        public void register(File root, String file, TypeDescription typeDescription, DynamicType dynamicType) {
+            /* do nothing */
+        }
+
+        @Override
+        public void write() {
+            /* do nothing */
+        }
+    }
+
+    /**
+     * <p>
+     * A manifest that is stored as a properties file. For every processed class file, the manifest stores a hash of the class file
+     * as it was left by the transformation and the names of the class file's direct super types. Class files that are transformed
+     * are additionally stored in a folder next to the manifest file in their original form.
+     * </p>
+     * <p>
+     * If the configuration of a transformation changes, the manifest is discarded and all class files are transformed. Any change
+     * of the transformation, including the applied plugins, their versions and the transformed folder's class path, must therefore
+     * be reflected by the configuration.
+     * </p>
+     */
+    @EqualsAndHashCode(of = {"file", "configuration"})
+    class ForFile implements TransformationManifest {
+
+        /**
+         * The hash algorithm to use for computing a hash of a class file or configuration.
+         */
+        private static final String ALGORITHM = "SHA-1";
+
+        /**
+         * The version of Byte Buddy that is included in any configuration.
+         */
+        private static final String VERSION = version();
+
+        /**
+         * The key of the configuration's hash.
+         */
+        private static final String CONFIGURATION = "configuration";
+
+        /**
+         * The prefix of the key of a class file's hash.
+         */
+        private static final String HASH = "hash.";
+
+        /**
+         * The prefix of the key of a class file's super types.
+         */
+        private static final String SUPER_TYPES = "super.";
+
+        /**
+         * The suffix of the folder in which original class files are stored.
+         */
+        private static final String ORIGINALS = ".originals";
+
+        /**
+         * The separator of type names.
+         */
+        private static final String SEPARATOR = ",";
+
+        /**
+         * The file extension of a Java class file.
+         */
+        private static final String CLASS_FILE_EXTENSION = ".class";
+
+        /**
+         * The manifest file.
+         */
+        private final File file;
+
+        /**
+         * A hash of the transformation's configuration.
+         */
+        private final String configuration;
+
+        /**
+         * The entries of the manifest as they were read from the manifest file.
+         */
+        private final Properties previous;
+
+        /**
+         * The entries of the manifest that are written to the manifest file.
+         */
+        private final Properties current;
+
+        /**
+         * Creates a new manifest that is stored in a file.
+         *
+         * @param file          The manifest file.
+         * @param configuration A hash of the transformation's configuration.
+         * @param previous      The entries of the manifest as they were read from the manifest file.
+         */
+        protected ForFile(File file, String configuration, Properties previous) {
+            this.file = file;
+            this.configuration = configuration;
+            this.previous = previous;
+            current = new Properties();
+        }
+
+        /**
+         * Reads a manifest from a file. If the file does not exist, cannot be read or represents another configuration, all class files
+         * are selected for a transformation.
+         *
+         * @param file          The manifest file.
+         * @param configuration A description of the transformation's configuration, for example as computed by {@link ForFile#configuration(Collection, Iterable)}.
+         * @return A manifest that is stored in the supplied file.
+         */
+        public static TransformationManifest read(File file, String configuration) {
+            String hash;
+            try {
+                hash = hash(configuration.getBytes("UTF-8"));
+            } catch (UnsupportedEncodingException exception) {
+                throw new IllegalStateException("Cannot encode configuration as UTF-8", exception);
+            }
+            Properties properties = new Properties();
+            if (file.isFile()) {
+                try {
+                    InputStream inputStream = new FileInputStream(file);
+                    try {
+                        properties.load(inputStream);
+                    } finally {
+                        inputStream.close();
+                    }
+                } catch (IOException ignored) {
+                    properties.clear();
+                }
+                if (!hash.equals(properties.getProperty(CONFIGURATION))) {
+                    properties.clear();
+                }
+            }
+            return new ForFile(file, hash, properties);
+        }
+
+        /**
+         * Resolves the version of Byte Buddy.
+         *
+         * @return The version of Byte Buddy or a placeholder if the version cannot be determined.
+         */
+        private static String version() {
+            Package target = TransformationManifest.class.getPackage();
+            return target == null || target.getImplementationVersion() == null
+                    ? "unknown"
+                    : target.getImplementationVersion();
+        }
+
+        /**
+         * Describes the configuration of a transformation.
+         *
+         * @param elements  The elements of the configuration, for example the names of the applied plugins, that are represented by their string representation.
+         * @param classPath The class path of the transformation and the applied plugins where the modification date and size of each file is considered.
+         * @return A description of the configuration.
+         */
+        public static String configuration(Collection<?> elements, Iterable<? extends File> classPath) {
+            StringBuilder stringBuilder = new StringBuilder(VERSION);
+            for (Object element : elements) {
+                stringBuilder.append('\n').append(element);
+            }
+            for (File element : classPath) {
+                stringBuilder.append('\n').append(element.getAbsolutePath()).append(':');
+                describe(element, stringBuilder);
+            }
+            return stringBuilder.toString();
+        }
+
+        /**
+         * Describes the state of a class path element by its modification date and size.
+         *
+         * @param file          The class path element to describe.
+         * @param stringBuilder The string builder to append the description to.
+         */
+        private static void describe(File file, StringBuilder stringBuilder) {
+            if (file.isDirectory()) {
+                File[] child = file.listFiles();
+                if (child != null) {
+                    Arrays.sort(child);
+                    for (File aChild : child) {
+                        describe(aChild, stringBuilder);
+                    }
+                }
+            } else if (file.isFile()) {
+                stringBuilder.append(file.lastModified()).append('/').append(file.length()).append(';');
+            }
+        }
+
+        /**
+         * Computes a hash of a binary representation.
+         *
+         * @param binaryRepresentation The binary representation to hash.
+         * @return A hexadecimal representation of the hash.
+         */
+        private static String hash(byte[] binaryRepresentation) {
+            MessageDigest messageDigest;
+            try {
+                messageDigest = MessageDigest.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException("Cannot compute hash using " + ALGORITHM, exception);
+            }
+            StringBuilder stringBuilder = new StringBuilder();
+            for (byte aByte : messageDigest.digest(binaryRepresentation)) {
+                stringBuilder.append(Character.forDigit((aByte >> 4) & 0xF, 16)).append(Character.forDigit(aByte & 0xF, 16));
+            }
+            return stringBuilder.toString();
+        }
+
+        /**
+         * Reads a file.
+         *
+         * @param file The file to read.
+         * @return The file's content.
+         * @throws IOException If an I/O exception occurs.
+         */
+        private static byte[] read(File file) throws IOException {
+            InputStream inputStream = new FileInputStream(file);
+            try {
+                return StreamDrainer.DEFAULT.drain(inputStream);
+            } finally {
+                inputStream.close();
+            }
+        }
+
+        /**
+         * Writes a file and creates its parent folder if it does not exist.
+         *
+         * @param file                 The file to write.
+         * @param binaryRepresentation The file's content.
+         * @throws IOException If an I/O exception occurs.
+         */
+        private static void write(File file, byte[] binaryRepresentation) throws IOException {
+            if (file.getParentFile() != null && !file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+                throw new IOException("Could not create directory: " + file.getParentFile());
+            }
+            OutputStream outputStream = new FileOutputStream(file);
+            try {
+                outputStream.write(binaryRepresentation);
+            } finally {
+                outputStream.close();
+            }
+        }
+
+        /**
+         * Returns the file in which the original version of a transformed class file is stored.
+         *
+         * @param file The transformed class file, relative to the transformed folder.
+         * @return The file in which the original version of the class file is stored.
+         */
+        private File original(String file) {
+            return new File(this.file.getPath() + ORIGINALS, file.replace('/', File.separatorChar));
+        }
+
+        /**
+         * Returns the name of the type that is represented by a class file.
+         *
+         * @param file The class file, relative to the transformed folder.
+         * @return The name of the type that is represented by the class file.
+         */
+        private static String toTypeName(String file) {
+            return file.substring(0, file.length() - CLASS_FILE_EXTENSION.length()).replace('/', '.');
+        }
+
+        @Override
+        public List<String> select(File root, List<String> files) throws IOException {
+            Set<String> changed = new HashSet<String>();
+            Map<String, String> unchanged = new HashMap<String, String>();
+            for (String file : files) {
+                String hash = previous.getProperty(HASH + file);
+                if (hash == null || !hash.equals(hash(read(new File(root, file))))) {
+                    changed.add(toTypeName(file));
+                } else {
+                    unchanged.put(toTypeName(file), file);
+                }
+            }
+            boolean resolved;
+            do {
+                resolved = true;
+                Iterator<Map.Entry<String, String>> iterator = unchanged.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    Map.Entry<String, String> entry = iterator.next();
+                    String superTypes = previous.getProperty(SUPER_TYPES + entry.getValue(), "");
+                    for (String superType : superTypes.split(SEPARATOR)) {
+                        if (changed.contains(superType)) {
+                            File original = original(entry.getValue());
+                            if (original.isFile()) {
+                                write(new File(root, entry.getValue()), read(original));
+                            }
+                            changed.add(entry.getKey());
+                            iterator.remove();
+                            resolved = false;
+                            break;
+                        }
+                    }
+                }
+            } while (!resolved);
+            List<String> selected = new ArrayList<String>(changed.size());
+            for (String file : files) {
+                String typeName = toTypeName(file);
+                if (unchanged.containsKey(typeName)) {
+                    for (String prefix : Arrays.asList(HASH, SUPER_TYPES)) {
+                        String value = previous.getProperty(prefix + file);
+                        if (value != null) {
+                            current.setProperty(prefix + file, value);
+                        }
+                    }
+                } else {
+                    selected.add(file);
+                }
+            }
+            return selected;
+        }
+
+        @Override
+        public synchronized void register(File root, String file, TypeDescription typeDescription, DynamicType dynamicType) throws IOException {
+            StringBuilder superTypes = new StringBuilder();
+            TypeDescription.Generic superClass = typeDescription.getSuperClass();
+            if (superClass != null) {
+                superTypes.append(superClass.asErasure().getName());
+            }
+            for (TypeDefinition interfaceType : typeDescription.getInterfaces()) {
+                superTypes.append(SEPARATOR).append(interfaceType.asErasure().getName());
+            }
+            current.setProperty(SUPER_TYPES + file, superTypes.toString());
+            File original = original(file);
+            if (dynamicType == null) {
+                current.setProperty(HASH + file, hash(read(new File(root, file))));
+                if (original.isFile() && !original.delete()) {
+                    throw new IOException("Could not delete " + original);
+                }
+            } else {
+                write(original, read(new File(root, file)));
+                for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+                    current.setProperty(HASH + entry.getKey().getInternalName() + CLASS_FILE_EXTENSION, hash(entry.getValue()));
+                }
+            }
+        }
+
+        @Override
+        public synchronized void write() throws IOException {
+            current.setProperty(CONFIGURATION, configuration);
+            if (file.getParentFile() != null && !file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+                throw new IOException("Could not create directory: " + file.getParentFile());
+            }
+            OutputStream outputStream = new FileOutputStream(file);
+            try {
+                current.store(outputStream, "Byte Buddy transformation manifest");
+            } finally {
+                outputStream.close();
+            }
+        }
+    }
+}
@@ -21,6 +21,8 @@ import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.utility.CompoundList;
 import net.bytebuddy.utility.JavaType;
 import net.bytebuddy.utility.privilege.GetSystemPropertyAction;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.objectweb.asm.signature.SignatureVisitor;
@@ -29,10 +31,16 @@ import org.objectweb.asm.signature.SignatureWriter;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.ElementType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.*;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.is;
 
@@ -45,27 +53,27 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
     /**
      * A representation of the {@link java.lang.Object} type.
      */
-    TypeDescription OBJECT = new ForLoadedType(Object.class);
+    TypeDescription OBJECT = ForLoadedType.of(Object.class);
 
     /**
      * A representation of the {@link java.lang.String} type.
      */
-    TypeDescription STRING = new ForLoadedType(String.class);
+    TypeDescription STRING = ForLoadedType.of(String.class);
 
     /**
      * A representation of the {@link java.lang.Class} type.
      */
-    TypeDescription CLASS = new ForLoadedType(Class.class);
+    TypeDescription CLASS = ForLoadedType.of(Class.class);
 
     /**
      * A representation of the {@link java.lang.Throwable} type.
      */
-    TypeDescription THROWABLE = new ForLoadedType(Throwable.class);
+    TypeDescription THROWABLE = ForLoadedType.of(Throwable.class);
 
     /**
      * A representation of the {@code void} non-type.
      */
-    TypeDescription VOID = new ForLoadedType(void.class);
+    TypeDescription VOID = ForLoadedType.of(void.class);
 
     /**
      * A list of interfaces that are implicitly implemented by any array type.
@@ -3506,7 +3514,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType(type);
+                    return TypeDescription.ForLoadedType.of(type);
                 }
 
                 @Override
@@ -4577,7 +4585,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType((Class<?>) parameterizedType.getRawType());
+                    return TypeDescription.ForLoadedType.of((Class<?>) parameterizedType.getRawType());
                 }
 
                 @Override
@@ -5135,7 +5143,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
                 public TypeVariableSource getTypeVariableSource() {
                     GenericDeclaration genericDeclaration = typeVariable.getGenericDeclaration();
                     if (genericDeclaration instanceof Class) {
-                        return new TypeDescription.ForLoadedType((Class<?>) genericDeclaration);
+                        return TypeDescription.ForLoadedType.of((Class<?>) genericDeclaration);
                     } else if (genericDeclaration instanceof Method) {
                         return new MethodDescription.ForLoadedMethod((Method) genericDeclaration);
                     } else if (genericDeclaration instanceof Constructor) {
@@ -5621,7 +5629,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
                     Class<?> superClass = type.getSuperclass();
                     return superClass == null
                             ? TypeDescription.UNDEFINED
-                            : new ForLoadedType(superClass);
+                            : ForLoadedType.of(superClass);
                 }
 
                 @Override
@@ -5656,7 +5664,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new ForLoadedType(field.getType());
+                    return ForLoadedType.of(field.getType());
                 }
 
                 @Override
@@ -5691,7 +5699,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new ForLoadedType(method.getReturnType());
+                    return ForLoadedType.of(method.getReturnType());
                 }
 
                 @Override
@@ -5744,7 +5752,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType(erasure[index]);
+                    return TypeDescription.ForLoadedType.of(erasure[index]);
                 }
 
                 @Override
@@ -5797,7 +5805,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
                 @Override
                 public TypeDescription asErasure() {
-                    return new TypeDescription.ForLoadedType(erasure[index]);
+                    return TypeDescription.ForLoadedType.of(erasure[index]);
                 }
 
                 @Override
@@ -5898,7 +5906,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
              * @return A builder for creating a raw type.
              */
             public static Builder rawType(Class<?> type) {
-                return rawType(new ForLoadedType(type));
+                return rawType(ForLoadedType.of(type));
             }
 
             /**
@@ -5919,7 +5927,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
              * @return A builder for creating a raw type.
              */
             public static Builder rawType(Class<?> type, Generic ownerType) {
-                return rawType(new ForLoadedType(type), ownerType);
+                return rawType(ForLoadedType.of(type), ownerType);
             }
 
             /**
@@ -6029,7 +6037,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
              * @return A builder for creating a parameterized type.
              */
             public static Builder parameterizedType(Class<?> rawType, java.lang.reflect.Type ownerType, List<? extends java.lang.reflect.Type> parameters) {
-                return parameterizedType(new ForLoadedType(rawType),
+                return parameterizedType(ForLoadedType.of(rawType),
                         ownerType == null
                                 ? null
                                 : Sort.describe(ownerType),
@@ -6600,7 +6608,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
         @Override
         public boolean isAssignableFrom(Class<?> type) {
-            return isAssignableFrom(new ForLoadedType(type));
+            return isAssignableFrom(ForLoadedType.of(type));
         }
 
         @Override
@@ -6610,7 +6618,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
         @Override
         public boolean isAssignableTo(Class<?> type) {
-            return isAssignableTo(new ForLoadedType(type));
+            return isAssignableTo(ForLoadedType.of(type));
         }
 
         @Override
@@ -6900,21 +6908,21 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         @Override
         public TypeDescription asBoxed() {
             if (represents(boolean.class)) {
-                return new ForLoadedType(Boolean.class);
+                return ForLoadedType.of(Boolean.class);
             } else if (represents(byte.class)) {
-                return new ForLoadedType(Byte.class);
+                return ForLoadedType.of(Byte.class);
             } else if (represents(short.class)) {
-                return new ForLoadedType(Short.class);
+                return ForLoadedType.of(Short.class);
             } else if (represents(char.class)) {
-                return new ForLoadedType(Character.class);
+                return ForLoadedType.of(Character.class);
             } else if (represents(int.class)) {
-                return new ForLoadedType(Integer.class);
+                return ForLoadedType.of(Integer.class);
             } else if (represents(long.class)) {
-                return new ForLoadedType(Long.class);
+                return ForLoadedType.of(Long.class);
             } else if (represents(float.class)) {
-                return new ForLoadedType(Float.class);
+                return ForLoadedType.of(Float.class);
             } else if (represents(double.class)) {
-                return new ForLoadedType(Double.class);
+                return ForLoadedType.of(Double.class);
             } else {
                 return this;
             }
@@ -6923,21 +6931,21 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         @Override
         public TypeDescription asUnboxed() {
             if (represents(Boolean.class)) {
-                return new ForLoadedType(boolean.class);
+                return ForLoadedType.of(boolean.class);
             } else if (represents(Byte.class)) {
-                return new ForLoadedType(byte.class);
+                return ForLoadedType.of(byte.class);
             } else if (represents(Short.class)) {
-                return new ForLoadedType(short.class);
+                return ForLoadedType.of(short.class);
             } else if (represents(Character.class)) {
-                return new ForLoadedType(char.class);
+                return ForLoadedType.of(char.class);
             } else if (represents(Integer.class)) {
-                return new ForLoadedType(int.class);
+                return ForLoadedType.of(int.class);
             } else if (represents(Long.class)) {
-                return new ForLoadedType(long.class);
+                return ForLoadedType.of(long.class);
             } else if (represents(Float.class)) {
-                return new ForLoadedType(float.class);
+                return ForLoadedType.of(float.class);
             } else if (represents(Double.class)) {
-                return new ForLoadedType(double.class);
+                return ForLoadedType.of(double.class);
             } else {
                 return this;
             }
@@ -7160,6 +7168,16 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
          */
         private final Class<?> type;
 
+        /**
+         * The declared fields of this type or {@code null} if they were not yet resolved.
+         */
+        private transient FieldList<FieldDescription.InDefinedShape> declaredFields;
+
+        /**
+         * The declared methods of this type or {@code null} if they were not yet resolved.
+         */
+        private transient MethodList<MethodDescription.InDefinedShape> declaredMethods;
+
         /**
          * Creates a new immutable type description for a loaded type.
          *
@@ -7169,6 +7187,20 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             this.type = type;
         }
 
+        /**
+         * Returns a canonical type description for a loaded type. On a VM that supports {@code java.lang.ClassValue}, the description
+         * is softly referenced by the described type such that it is retained until memory is required. On other VMs, descriptions of
+         * types that are loaded by the bootstrap class loader are retained for the lifetime of the virtual machine whereas descriptions of
+         * other types are only weakly referenced. In either case, no class loader is kept from being garbage collected. A canonical
+         * description memorizes its declared fields and methods once they are resolved.
+         *
+         * @param type The type to be represented by the type description.
+         * @return A type description representing the given type.
+         */
+        public static TypeDescription of(Class<?> type) {
+            return Dispatcher.INSTANCE.describe(type);
+        }
+
         /**
          * Returns the type's actual name where it is taken into consideration that this type might be loaded anonymously.
          * In this case, the remainder of the types name is suffixed by {@code /<id>} which is removed when using this method
@@ -7208,7 +7240,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             Class<?> componentType = type.getComponentType();
             return componentType == null
                     ? TypeDescription.UNDEFINED
-                    : new ForLoadedType(componentType);
+                    : ForLoadedType.of(componentType);
         }
 
         @Override
@@ -7255,7 +7287,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             Class<?> declaringType = type.getDeclaringClass();
             return declaringType == null
                     ? TypeDescription.UNDEFINED
-                    : new ForLoadedType(declaringType);
+                    : ForLoadedType.of(declaringType);
         }
 
         @Override
@@ -7276,7 +7308,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             Class<?> enclosingType = type.getEnclosingClass();
             return enclosingType == null
                     ? TypeDescription.UNDEFINED
-                    : new ForLoadedType(enclosingType);
+                    : ForLoadedType.of(enclosingType);
         }
 
         @Override
@@ -7318,12 +7350,22 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
 
         @Override
         public FieldList<FieldDescription.InDefinedShape> getDeclaredFields() {
-            return new FieldList.ForLoadedFields(type.getDeclaredFields());
+            FieldList<FieldDescription.InDefinedShape> declaredFields = this.declaredFields;
+            if (declaredFields == null) {
+                declaredFields = new FieldList.ForLoadedFields(type.getDeclaredFields());
+                this.declaredFields = declaredFields;
+            }
+            return declaredFields;
         }
 
         @Override
         public MethodList<MethodDescription.InDefinedShape> getDeclaredMethods() {
-            return new MethodList.ForLoadedMethods(type);
+            MethodList<MethodDescription.InDefinedShape> declaredMethods = this.declaredMethods;
+            if (declaredMethods == null) {
+                declaredMethods = new MethodList.ForLoadedMethods(type);
+                this.declaredMethods = declaredMethods;
+            }
+            return declaredMethods;
         }
 
         @Override
@@ -7390,6 +7432,354 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
         public AnnotationList getDeclaredAnnotations() {
             return new AnnotationList.ForLoadedAnnotations(type.getDeclaredAnnotations());
         }
+
+        /**
+         * A dispatcher for looking up canonical type descriptions.
+         */
+        protected interface Dispatcher {
+
+            /**
+             * The dispatcher to use for looking up canonical type descriptions. The dispatcher is not stored by {@link ForLoadedType}
+             * as the initialization of the latter might initialize {@link TypeDescription} which requires canonical descriptions
+             * of its constants before the initialization of {@link ForLoadedType} is complete.
+             */
+            Dispatcher INSTANCE = AccessController.doPrivileged(CreationAction.INSTANCE);
+
+            /**
+             * Returns a canonical type description of the supplied type.
+             *
+             * @param type The type to describe.
+             * @return A canonical description of the supplied type.
+             */
+            TypeDescription describe(Class<?> type);
+
+            /**
+             * A creation action for a dispatcher.
+             */
+            enum CreationAction implements PrivilegedAction<Dispatcher> {
+
+                /**
+                 * The singleton instance.
+                 */
+                INSTANCE;
+
+                /**
+                 * The suffix of the name of the {@code java.lang.ClassValue} subclass that is defined for caching type descriptions.
+                 */
+                private static final String SUFFIX = "$ClassValue";
+
+                @Override
+                @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
+                public Dispatcher run() {
+                    try {
+                        Class<?> classValue = Class.forName("java.lang.ClassValue");
+                        String name = ForLoadedType.class.getName() + SUFFIX;
+                        Class<?> type = new ClassValueLoader(ForLoadedType.class.getClassLoader()).define(name, make(name, classValue));
+                        return new ForClassValue(type.getConstructor().newInstance(),
+                                classValue.getMethod("get", Class.class),
+                                classValue.getMethod("remove", Class.class));
+                    } catch (Exception ignored) {
+                        return new ForLegacyVm();
+                    }
+                }
+
+                /**
+                 * Creates the class file of a {@code java.lang.ClassValue} subclass that computes a {@link SoftReference} to a
+                 * {@link ForLoadedType} for any type.
+                 *
+                 * @param name       The binary name of the created class.
+                 * @param classValue The {@code java.lang.ClassValue} type.
+                 * @return The class file of the {@code java.lang.ClassValue} subclass.
+                 */
+                private static byte[] make(String name, Class<?> classValue) {
+                    ClassWriter classWriter = new ClassWriter(0);
+                    classWriter.visit(Opcodes.V1_7,
+                            Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER,
+                            name.replace('.', '/'),
+                            null,
+                            Type.getInternalName(classValue),
+                            null);
+                    MethodVisitor methodVisitor = classWriter.visitMethod(Opcodes.ACC_PUBLIC, MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", null, null);
+                    methodVisitor.visitCode();
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 0);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL, Type.getInternalName(classValue), MethodDescription.CONSTRUCTOR_INTERNAL_NAME, "()V", false);
+                    methodVisitor.visitInsn(Opcodes.RETURN);
+                    methodVisitor.visitMaxs(1, 1);
+                    methodVisitor.visitEnd();
+                    methodVisitor = classWriter.visitMethod(Opcodes.ACC_PROTECTED, "computeValue", "(Ljava/lang/Class;)Ljava/lang/Object;", null, null);
+                    methodVisitor.visitCode();
+                    methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(SoftReference.class));
+                    methodVisitor.visitInsn(Opcodes.DUP);
+                    methodVisitor.visitTypeInsn(Opcodes.NEW, Type.getInternalName(ForLoadedType.class));
+                    methodVisitor.visitInsn(Opcodes.DUP);
+                    methodVisitor.visitVarInsn(Opcodes.ALOAD, 1);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL,
+                            Type.getInternalName(ForLoadedType.class),
+                            MethodDescription.CONSTRUCTOR_INTERNAL_NAME,
+                            "(Ljava/lang/Class;)V",
+                            false);
+                    methodVisitor.visitMethodInsn(Opcodes.INVOKESPECIAL,
+                            Type.getInternalName(SoftReference.class),
+                            MethodDescription.CONSTRUCTOR_INTERNAL_NAME,
+                            "(Ljava/lang/Object;)V",
+                            false);
+                    methodVisitor.visitInsn(Opcodes.ARETURN);
+                    methodVisitor.visitMaxs(5, 2);
+                    methodVisitor.visitEnd();
+                    classWriter.visitEnd();
+                    return classWriter.toByteArray();
+                }
+            }
+
+            /**
+             * A class loader for defining a {@code java.lang.ClassValue} subclass. The class cannot be compiled as part of this library
+             * as the library's byte code level does not include the {@code java.lang.ClassValue} type.
+             */
+            class ClassValueLoader extends ClassLoader {
+
+                /**
+                 * Creates a new class loader for defining a {@code java.lang.ClassValue} subclass.
+                 *
+                 * @param parent The parent class loader which must be able to load the {@link ForLoadedType} type.
+                 */
+                protected ClassValueLoader(ClassLoader parent) {
+                    super(parent);
+                }
+
+                /**
+                 * Defines a class.
+                 *
+                 * @param name                 The binary name of the class.
+                 * @param binaryRepresentation The class file of the class.
+                 * @return The defined class.
+                 */
+                protected Class<?> define(String name, byte[] binaryRepresentation) {
+                    return defineClass(name, binaryRepresentation, 0, binaryRepresentation.length);
+                }
+            }
+
+            /**
+             * A dispatcher that stores type descriptions in a {@code java.lang.ClassValue}. The value that is stored for a type is a
+             * {@link SoftReference} to its description such that no described type, including types of the bootstrap class loader,
+             * strongly references the class loader of this library. If a reference was cleared, the description is computed anew.
+             */
+            @EqualsAndHashCode
+            class ForClassValue implements Dispatcher {
+
+                /**
+                 * The {@code java.lang.ClassValue} instance that computes type descriptions.
+                 */
+                private final Object classValue;
+
+                /**
+                 * The {@code java.lang.ClassValue#get(Class)} method.
+                 */
+                private final Method get;
+
+                /**
+                 * The {@code java.lang.ClassValue#remove(Class)} method.
+                 */
+                private final Method remove;
+
+                /**
+                 * Creates a new dispatcher for a {@code java.lang.ClassValue}.
+                 *
+                 * @param classValue The {@code java.lang.ClassValue} instance that computes type descriptions.
+                 * @param get        The {@code java.lang.ClassValue#get(Class)} method.
+                 * @param remove     The {@code java.lang.ClassValue#remove(Class)} method.
+                 */
+                protected ForClassValue(Object classValue, Method get, Method remove) {
+                    this.classValue = classValue;
+                    this.get = get;
+                    this.remove = remove;
+                }
+
+                @Override
+                public TypeDescription describe(Class<?> type) {
+                    TypeDescription typeDescription = (TypeDescription) ((Reference<?>) invoke(get, type)).get();
+                    while (typeDescription == null) {
+                        invoke(remove, type);
+                        typeDescription = (TypeDescription) ((Reference<?>) invoke(get, type)).get();
+                    }
+                    return typeDescription;
+                }
+
+                /**
+                 * Invokes a method of the {@code java.lang.ClassValue} instance.
+                 *
+                 * @param method The method to invoke.
+                 * @param type   The type to supply as an argument.
+                 * @return The method's return value.
+                 */
+                private Object invoke(Method method, Class<?> type) {
+                    try {
+                        return method.invoke(classValue, type);
+                    } catch (IllegalAccessException exception) {
+                        throw new IllegalStateException("Cannot access " + method, exception);
+                    } catch (InvocationTargetException exception) {
+                        throw new IllegalStateException("Cannot invoke " + method, exception.getCause());
+                    }
+                }
+            }
+
+            /**
+             * A dispatcher for a VM that does not support {@code java.lang.ClassValue}. Descriptions of types that are loaded by the
+             * bootstrap class loader are retained as such types are never unloaded. Descriptions of any other type are stored in a
+             * concurrent map that references both types and their descriptions weakly. Stale entries are removed on any lookup. As the
+             * description of a type that is not loaded by the bootstrap class loader is collected once it is no longer referenced elsewhere,
+             * reusing such descriptions is best-effort on such a VM.
+             */
+            class ForLegacyVm extends ReferenceQueue<Class<?>> implements Dispatcher {
+
+                /**
+                 * The descriptions of types that are loaded by the bootstrap class loader.
+                 */
+                private final ConcurrentMap<Class<?>, TypeDescription> bootstrapTypes;
+
+                /**
+                 * The descriptions of types that are not loaded by the bootstrap class loader.
+                 */
+                private final ConcurrentMap<Object, Reference<TypeDescription>> types;
+
+                /**
+                 * Creates a new dispatcher for a VM that does not support {@code java.lang.ClassValue}.
+                 */
+                protected ForLegacyVm() {
+                    bootstrapTypes = new ConcurrentHashMap<Class<?>, TypeDescription>();
+                    types = new ConcurrentHashMap<Object, Reference<TypeDescription>>();
+                }
+
+                @Override
+                public TypeDescription describe(Class<?> type) {
+                    if (type.getClassLoader() == null) {
+                        TypeDescription typeDescription = bootstrapTypes.get(type);
+                        if (typeDescription == null) {
+                            typeDescription = new ForLoadedType(type);
+                            TypeDescription previous = bootstrapTypes.putIfAbsent(type, typeDescription);
+                            if (previous != null) {
+                                typeDescription = previous;
+                            }
+                        }
+                        return typeDescription;
+                    }
+                    Object reference;
+                    while ((reference = poll()) != null) {
+                        types.remove(reference);
+                    }
+                    Reference<TypeDescription> previous = types.get(new LookupKey(type));
+                    TypeDescription typeDescription = previous == null
+                            ? null
+                            : previous.get();
+                    if (typeDescription != null) {
+                        return typeDescription;
+                    }
+                    typeDescription = new ForLoadedType(type);
+                    Reference<TypeDescription> current = new WeakReference<TypeDescription>(typeDescription);
+                    StorageKey storageKey = new StorageKey(type, this);
+                    previous = types.putIfAbsent(storageKey, current);
+                    while (previous != null) {
+                        TypeDescription previousTypeDescription = previous.get();
+                        if (previousTypeDescription != null) {
+                            return previousTypeDescription;
+                        } else if (types.replace(storageKey, previous, current)) {
+                            previous = null;
+                        } else {
+                            previous = types.putIfAbsent(storageKey, current);
+                        }
+                    }
+                    return typeDescription;
+                }
+
+                /**
+                 * A key for looking up a type description without registering a reference.
+                 */
+                protected static class LookupKey {
+
+                    /**
+                     * The represented type.
+                     */
+                    private final Class<?> type;
+
+                    /**
+                     * The type's identity hash code.
+                     */
+                    private final int hashCode;
+
+                    /**
+                     * Creates a new lookup key.
+                     *
+                     * @param type The represented type.
+                     */
+                    protected LookupKey(Class<?> type) {
+                        this.type = type;
+                        hashCode = System.identityHashCode(type);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return hashCode;
+                    }
+
+                    @Override
+                    @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended")
+                    public boolean equals(Object other) {
+                        if (other == this) {
+                            return true;
+                        } else if (other instanceof LookupKey) {
+                            return type == ((LookupKey) other).type;
+                        } else if (other instanceof StorageKey) {
+                            StorageKey storageKey = (StorageKey) other;
+                            return hashCode == storageKey.hashCode && type == storageKey.get();
+                        } else {
+                            return false;
+                        }
+                    }
+                }
+
+                /**
+                 * A key for storing a type description that references the described type weakly.
+                 */
+                protected static class StorageKey extends WeakReference<Class<?>> {
+
+                    /**
+                     * The type's identity hash code.
+                     */
+                    private final int hashCode;
+
+                    /**
+                     * Creates a new storage key.
+                     *
+                     * @param type           The represented type.
+                     * @param referenceQueue The reference queue to notify upon a garbage collection.
+                     */
+                    protected StorageKey(Class<?> type, ReferenceQueue<? super Class<?>> referenceQueue) {
+                        super(type, referenceQueue);
+                        hashCode = System.identityHashCode(type);
+                    }
+
+                    @Override
+                    public int hashCode() {
+                        return hashCode;
+                    }
+
+                    @Override
+                    @SuppressFBWarnings(value = "EQ_CHECK_FOR_OPERAND_NOT_COMPATIBLE_WITH_THIS", justification = "Cross-comparison is intended")
+                    public boolean equals(Object other) {
+                        if (other == this) {
+                            return true;
+                        } else if (other instanceof LookupKey) {
+                            LookupKey lookupKey = (LookupKey) other;
+                            return hashCode == lookupKey.hashCode && get() == lookupKey.type;
+                        } else if (other instanceof StorageKey) {
+                            StorageKey storageKey = (StorageKey) other;
+                            return hashCode == storageKey.hashCode && get() == storageKey.get();
+                        } else {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -8078,7 +8468,7 @@ public interface TypeDescription extends TypeDefinition, ByteCodeElement, TypeVa
             @Override
             public TypeDescription asErasure() {
                 try {
-                    return new ForLoadedType(classLoadingDelegate.load(delegate.asErasure().getName(), classLoader));
+                    return ForLoadedType.of(classLoadingDelegate.load(delegate.asErasure().getName(), classLoader));
                 } catch (ClassNotFoundException ignored) {
                     return delegate.asErasure();
                 }
@@ -2,6 +2,7 @@ package net.bytebuddy.dynamic;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.EqualsAndHashCode;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.NamedElement;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.utility.JavaModule;
@@ -14,12 +15,18 @@ import java.lang.instrument.Instrumentation;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
 import java.util.*;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 import java.util.regex.Pattern;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -683,6 +690,318 @@ public interface ClassFileLocator extends Closeable {
         }
     }
 
+    /**
+     * <p>
+     * A class file locator that locates classes within a Java <i>jar</i> file that is mapped into memory. The jar file's central
+     * directory is read once when the locator is created such that locating a class file does not require any further lookup
+     * within the archive. Stored class files are copied directly from the mapped file while compressed class files are inflated
+     * into an array of the class file's known size.
+     * </p>
+     * <p>
+     * If a jar file is declared to be a multi-release jar file, class files within {@code META-INF/versions/} are considered
+     * for any version that does not exceed the version that is supplied to this locator. Archives in the ZIP64 format are not supported.
+     * </p>
+     * <p>
+     * <b>Note</b>: The index of a jar file is not updated if the file changes after this locator was created. A jar file's
+     * memory mapping is only released once this locator is garbage collected.
+     * </p>
+     */
+    @EqualsAndHashCode(of = {"file", "classFileVersion"})
+    class ForIndexedJarFile implements ClassFileLocator {
+
+        /**
+         * The signature of a ZIP file's end of central directory record.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY = 0x06054B50;
+
+        /**
+         * The signature of a ZIP file's central directory entry.
+         */
+        private static final int CENTRAL_DIRECTORY_ENTRY = 0x02014B50;
+
+        /**
+         * The signature of a ZIP file's local file header.
+         */
+        private static final int LOCAL_FILE_HEADER = 0x04034B50;
+
+        /**
+         * The minimal size of a ZIP file's end of central directory record.
+         */
+        private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+
+        /**
+         * The maximal length of a ZIP file's comment.
+         */
+        private static final int MAXIMUM_COMMENT_LENGTH = 0xFFFF;
+
+        /**
+         * The size of a ZIP file's local file header without the variable-length fields.
+         */
+        private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+        /**
+         * The size of a ZIP file's central directory entry without the variable-length fields.
+         */
+        private static final int CENTRAL_DIRECTORY_ENTRY_SIZE = 46;
+
+        /**
+         * The compression method of an entry that is stored without compression.
+         */
+        private static final int STORED = 0;
+
+        /**
+         * The compression method of an entry that is compressed by the deflate algorithm.
+         */
+        private static final int DEFLATED = 8;
+
+        /**
+         * The value of a ZIP file's field that indicates that the actual value is stored in the ZIP64 format.
+         */
+        private static final long ZIP64_MARKER = 0xFFFFFFFFL;
+
+        /**
+         * The prefix of versioned entries of a multi-release jar file.
+         */
+        private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+        /**
+         * The name of the manifest attribute that declares a multi-release jar file.
+         */
+        private static final String MULTI_RELEASE_ATTRIBUTE = "Multi-Release";
+
+        /**
+         * The first Java version that supports multi-release jar files.
+         */
+        private static final int MINIMUM_MULTI_RELEASE_VERSION = 9;
+
+        /**
+         * The jar file to read from.
+         */
+        private final File file;
+
+        /**
+         * The class file version of the runtime for which versioned entries of a multi-release jar file are considered.
+         */
+        private final ClassFileVersion classFileVersion;
+
+        /**
+         * The memory mapping of the jar file.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * A mapping of class file names to their entries within the jar file.
+         */
+        private final Map<String, Entry> entries;
+
+        /**
+         * Creates a new class file locator for an indexed jar file.
+         *
+         * @param file             The jar file to read from.
+         * @param classFileVersion The class file version of the runtime for which versioned entries of a multi-release jar file are considered.
+         * @param buffer           The memory mapping of the jar file.
+         * @param entries          A mapping of class file names to their entries within the jar file.
+         */
+        protected ForIndexedJarFile(File file, ClassFileVersion classFileVersion, ByteBuffer buffer, Map<String, Entry> entries) {
+            this.file = file;
+            this.classFileVersion = classFileVersion;
+            this.buffer = buffer;
+            this.entries = entries;
+        }
+
+        /**
+         * Creates a new class file locator for an indexed jar file that considers the versioned entries of a multi-release
+         * jar file for the current VM's version.
+         *
+         * @param file The jar file to read from.
+         * @return A class file locator for the jar file.
+         * @throws IOException If an I/O exception is thrown.
+         */
+        public static ClassFileLocator of(File file) throws IOException {
+            return of(file, ClassFileVersion.ofThisVm(ClassFileVersion.JAVA_V6));
+        }
+
+        /**
+         * Creates a new class file locator for an indexed jar file.
+         *
+         * @param file             The jar file to read from.
+         * @param classFileVersion The class file version of the runtime for which versioned entries of a multi-release jar file are considered.
+         * @return A class file locator for the jar file.
+         * @throws IOException If an I/O exception is thrown.
+         */
+        public static ClassFileLocator of(File file, ClassFileVersion classFileVersion) throws IOException {
+            ByteBuffer buffer;
+            RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+            try {
+                buffer = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length());
+            } finally {
+                randomAccessFile.close();
+            }
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            Map<String, Entry> entries = new HashMap<String, Entry>();
+            int index = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE, minimum = Math.max(0, index - MAXIMUM_COMMENT_LENGTH);
+            while (index >= minimum && buffer.getInt(index) != END_OF_CENTRAL_DIRECTORY) {
+                index--;
+            }
+            if (index < minimum) {
+                throw new IOException("Cannot locate central directory of " + file);
+            }
+            int count = buffer.getShort(index + 10) & 0xFFFF;
+            long offset = buffer.getInt(index + 16) & ZIP64_MARKER;
+            if (count == 0xFFFF || offset == ZIP64_MARKER) {
+                throw new IOException("ZIP64 format is not supported for " + file);
+            }
+            index = (int) offset;
+            for (int entry = 0; entry < count; entry++) {
+                if (buffer.getInt(index) != CENTRAL_DIRECTORY_ENTRY) {
+                    throw new IOException("Malformed central directory entry in " + file);
+                }
+                int nameLength = buffer.getShort(index + 28) & 0xFFFF;
+                byte[] name = new byte[nameLength];
+                ByteBuffer duplicate = buffer.duplicate();
+                duplicate.position(index + CENTRAL_DIRECTORY_ENTRY_SIZE);
+                duplicate.get(name);
+                entries.put(new String(name, "UTF-8"), new Entry(buffer.getShort(index + 10) & 0xFFFF,
+                        buffer.getInt(index + 20) & ZIP64_MARKER,
+                        buffer.getInt(index + 24) & ZIP64_MARKER,
+                        buffer.getInt(index + 42) & ZIP64_MARKER));
+                index += CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength + (buffer.getShort(index + 30) & 0xFFFF) + (buffer.getShort(index + 32) & 0xFFFF);
+            }
+            Entry manifest = entries.get(JarFile.MANIFEST_NAME);
+            if (manifest != null && Boolean.parseBoolean(new Manifest(new ByteArrayInputStream(manifest.read(buffer)))
+                    .getMainAttributes()
+                    .getValue(MULTI_RELEASE_ATTRIBUTE))) {
+                Map<String, Integer> versions = new HashMap<String, Integer>();
+                Map<String, Entry> versioned = new HashMap<String, Entry>();
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    int separator = entry.getKey().indexOf('/', VERSIONS_PREFIX.length());
+                    if (entry.getKey().startsWith(VERSIONS_PREFIX) && separator != -1) {
+                        int version;
+                        try {
+                            version = Integer.parseInt(entry.getKey().substring(VERSIONS_PREFIX.length(), separator));
+                        } catch (NumberFormatException ignored) {
+                            continue;
+                        }
+                        String name = entry.getKey().substring(separator + 1);
+                        Integer previous = versions.get(name);
+                        if (version >= MINIMUM_MULTI_RELEASE_VERSION
+                                && version <= classFileVersion.getJavaVersion()
+                                && (previous == null || previous < version)) {
+                            versions.put(name, version);
+                            versioned.put(name, entry.getValue());
+                        }
+                    }
+                }
+                entries.putAll(versioned);
+            }
+            return new ForIndexedJarFile(file, classFileVersion, buffer, entries);
+        }
+
+        @Override
+        public Resolution locate(String typeName) throws IOException {
+            Entry entry = entries.get(typeName.replace('.', '/') + CLASS_FILE_EXTENSION);
+            return entry == null
+                    ? new Resolution.Illegal(typeName)
+                    : new Resolution.Explicit(entry.read(buffer));
+        }
+
+        @Override
+        public void close() throws IOException {
+            /* do nothing */
+        }
+
+        /**
+         * An entry of a jar file as described by the jar file's central directory.
+         */
+        @EqualsAndHashCode
+        protected static class Entry {
+
+            /**
+             * The entry's compression method.
+             */
+            private final int method;
+
+            /**
+             * The entry's compressed size.
+             */
+            private final long compressedSize;
+
+            /**
+             * The entry's uncompressed size.
+             */
+            private final long size;
+
+            /**
+             * The offset of the entry's local file header.
+             */
+            private final long offset;
+
+            /**
+             * Creates a new entry.
+             *
+             * @param method         The entry's compression method.
+             * @param compressedSize The entry's compressed size.
+             * @param size           The entry's uncompressed size.
+             * @param offset         The offset of the entry's local file header.
+             */
+            protected Entry(int method, long compressedSize, long size, long offset) {
+                this.method = method;
+                this.compressedSize = compressedSize;
+                this.size = size;
+                this.offset = offset;
+            }
+
+            /**
+             * Reads the uncompressed content of this entry.
+             *
+             * @param buffer The memory mapping of the jar file.
+             * @return The uncompressed content of this entry.
+             * @throws IOException If the entry cannot be read.
+             */
+            protected byte[] read(ByteBuffer buffer) throws IOException {
+                if (compressedSize == ZIP64_MARKER || size == ZIP64_MARKER || offset == ZIP64_MARKER) {
+                    throw new IOException("ZIP64 format is not supported");
+                } else if (buffer.getInt((int) offset) != LOCAL_FILE_HEADER) {
+                    throw new IOException("Malformed local file header at " + offset);
+                }
+                ByteBuffer duplicate = buffer.duplicate();
+                duplicate.position((int) offset
+                        + LOCAL_FILE_HEADER_SIZE
+                        + (buffer.getShort((int) offset + 26) & 0xFFFF)
+                        + (buffer.getShort((int) offset + 28) & 0xFFFF));
+                byte[] binaryRepresentation = new byte[(int) size];
+                switch (method) {
+                    case STORED:
+                        duplicate.get(binaryRepresentation);
+                        return binaryRepresentation;
+                    case DEFLATED:
+                        // An additional byte is required as input when inflating without a ZLIB header.
+                        byte[] compressed = new byte[(int) compressedSize + 1];
+                        duplicate.get(compressed, 0, (int) compressedSize);
+                        Inflater inflater = new Inflater(true);
+                        try {
+                            inflater.setInput(compressed);
+                            int length = 0;
+                            while (length < binaryRepresentation.length) {
+                                int inflated = inflater.inflate(binaryRepresentation, length, binaryRepresentation.length - length);
+                                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                                    throw new IOException("Unexpected end of compressed entry at " + offset);
+                                }
+                                length += inflated;
+                            }
+                            return binaryRepresentation;
+                        } catch (DataFormatException exception) {
+                            throw new IOException("Malformed compressed entry at " + offset, exception);
+                        } finally {
+                            inflater.end();
+                        }
+                    default:
+                        throw new IOException("Unsupported compression method " + method + " at " + offset);
+                }
+            }
+        }
+    }
+
     /**
      * A class file locator that locates classes within a Java <i>jmod</i> file. This class file locator should not be used
      * for reading modular jar files for which {@link ForJarFile} is appropriate.
@@ -34,6 +34,10 @@ import java.io.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.jar.*;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
@@ -4136,6 +4140,283 @@ public interface DynamicType {
         Map<TypeDescription, Class<?>> getLoadedAuxiliaryTypes();
     }
 
+    /**
+     * <p>
+     * A batch of dynamic type builders whose types are created concurrently and that are loaded by a single application of a
+     * {@link ClassLoadingStrategy}. Creating a dynamic type is a CPU-bound operation that does not depend on other dynamic types such that
+     * a large number of types can be created in parallel. Loading all types at once, the class loading strategy is only applied a single
+     * time what avoids the creation of a class loader per type or repeated injection.
+     * </p>
+     * <p>
+     * <b>Important</b>: Any cache that is used by the batched builders is shared among all threads that create types. By default, a single
+     * {@link TypePool} is used for all types of a batch. To share method graphs, the builders should be created by a {@link net.bytebuddy.ByteBuddy}
+     * instance that is configured with a single {@link MethodGraph.Compiler.Default.Caching} compiler.
+     * </p>
+     */
+    @EqualsAndHashCode
+    class Batch {
+
+        /**
+         * The builders of this batch.
+         */
+        private final List<? extends Builder<?>> builders;
+
+        /**
+         * The type resolution strategy to apply to all types of this batch.
+         */
+        private final TypeResolutionStrategy typeResolutionStrategy;
+
+        /**
+         * The type pool that is shared by all types of this batch.
+         */
+        private final TypePool typePool;
+
+        /**
+         * Creates a new batch of builders using a passive type resolution strategy and a shared class path type pool.
+         *
+         * @param builders The builders of this batch.
+         */
+        public Batch(List<? extends Builder<?>> builders) {
+            this(builders, TypeResolutionStrategy.Passive.INSTANCE, TypePool.ClassLoading.ofClassPath());
+        }
+
+        /**
+         * Creates a new batch of builders.
+         *
+         * @param builders               The builders of this batch.
+         * @param typeResolutionStrategy The type resolution strategy to apply to all types of this batch.
+         * @param typePool               The type pool that is shared by all types of this batch.
+         */
+        public Batch(List<? extends Builder<?>> builders, TypeResolutionStrategy typeResolutionStrategy, TypePool typePool) {
+            this.builders = builders;
+            this.typeResolutionStrategy = typeResolutionStrategy;
+            this.typePool = typePool;
+        }
+
+        /**
+         * Creates a new batch of builders using a passive type resolution strategy and a shared class path type pool.
+         *
+         * @param builder The builders of this batch.
+         * @return A batch of the supplied builders.
+         */
+        public static Batch of(Builder<?>... builder) {
+            return new Batch(Arrays.asList(builder));
+        }
+
+        /**
+         * Loads the supplied dynamic types by a single application of the default class loading strategy for the supplied class loader. If the
+         * class loader is the bootstrap class loader, a new class loader is created for loading those types. If the class loader is an instance
+         * of {@link InjectionClassLoader}, the classes are injected. And otherwise, the types are injected into the provided class loader.
+         *
+         * @param unloaded    The dynamic types to load.
+         * @param classLoader The class loader to use for this class loading.
+         * @return The loaded dynamic types in the order of the supplied unloaded dynamic types.
+         */
+        public static List<DynamicType.Loaded<?>> load(List<? extends DynamicType.Unloaded<?>> unloaded, ClassLoader classLoader) {
+            if (classLoader == null) {
+                return load(unloaded, ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER);
+            } else if (classLoader instanceof InjectionClassLoader) {
+                return load(unloaded, (InjectionClassLoader) classLoader, InjectionClassLoader.Strategy.INSTANCE);
+            } else {
+                return load(unloaded, classLoader, ClassLoadingStrategy.Default.INJECTION);
+            }
+        }
+
+        /**
+         * Loads the supplied dynamic types by a single application of the supplied class loading strategy. Any type resolution strategy of
+         * the supplied types is applied after all types are loaded.
+         *
+         * @param unloaded             The dynamic types to load.
+         * @param classLoader          The class loader to use for this class loading.
+         * @param classLoadingStrategy The class loading strategy to apply.
+         * @param <S>                  The least specific type of class loader the strategy can apply to.
+         * @return The loaded dynamic types in the order of the supplied unloaded dynamic types.
+         */
+        public static <S extends ClassLoader> List<DynamicType.Loaded<?>> load(List<? extends DynamicType.Unloaded<?>> unloaded,
+                                                                              S classLoader,
+                                                                              ClassLoadingStrategy<? super S> classLoadingStrategy) {
+            Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+            for (DynamicType.Unloaded<?> dynamicType : unloaded) {
+                types.putAll(dynamicType.getAllTypes());
+            }
+            ClassLoadingStrategy<ClassLoader> preloaded = new Preloaded(classLoadingStrategy.load(classLoader, types));
+            List<DynamicType.Loaded<?>> loaded = new ArrayList<DynamicType.Loaded<?>>(unloaded.size());
+            for (DynamicType.Unloaded<?> dynamicType : unloaded) {
+                loaded.add(dynamicType.load(classLoader, preloaded));
+            }
+            return loaded;
+        }
+
+        /**
+         * Returns a new batch that applies the supplied type resolution strategy to all of its types.
+         *
+         * @param typeResolutionStrategy The type resolution strategy to apply to all types of this batch.
+         * @return A new batch that applies the supplied type resolution strategy.
+         */
+        public Batch with(TypeResolutionStrategy typeResolutionStrategy) {
+            return new Batch(builders, typeResolutionStrategy, typePool);
+        }
+
+        /**
+         * Returns a new batch that shares the supplied type pool among all of its types.
+         *
+         * @param typePool The type pool that is shared by all types of this batch.
+         * @return A new batch that uses the supplied type pool.
+         */
+        public Batch with(TypePool typePool) {
+            return new Batch(builders, typeResolutionStrategy, typePool);
+        }
+
+        /**
+         * Creates all dynamic types of this batch on the current thread.
+         *
+         * @return The unloaded dynamic types of this batch in the order of this batch's builders.
+         */
+        public List<DynamicType.Unloaded<?>> make() {
+            List<DynamicType.Unloaded<?>> unloaded = new ArrayList<DynamicType.Unloaded<?>>(builders.size());
+            for (Builder<?> builder : builders) {
+                unloaded.add(builder.make(typeResolutionStrategy, typePool));
+            }
+            return unloaded;
+        }
+
+        /**
+         * Creates all dynamic types of this batch concurrently using the supplied executor service. If the creation of any type fails,
+         * an {@link IllegalStateException} is thrown after all types were attempted.
+         *
+         * @param executorService The executor service to use for creating the dynamic types.
+         * @return The unloaded dynamic types of this batch in the order of this batch's builders.
+         */
+        public List<DynamicType.Unloaded<?>> make(ExecutorService executorService) {
+            List<Future<DynamicType.Unloaded<?>>> futures = new ArrayList<Future<DynamicType.Unloaded<?>>>(builders.size());
+            for (Builder<?> builder : builders) {
+                futures.add(executorService.submit(new Creation(builder, typeResolutionStrategy, typePool)));
+            }
+            List<DynamicType.Unloaded<?>> unloaded = new ArrayList<DynamicType.Unloaded<?>>(builders.size());
+            Throwable throwable = null;
+            for (Future<DynamicType.Unloaded<?>> future : futures) {
+                try {
+                    unloaded.add(future.get());
+                } catch (ExecutionException exception) {
+                    throwable = throwable == null ? exception.getCause() : throwable;
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while creating batch of dynamic types", exception);
+                }
+            }
+            if (throwable instanceof RuntimeException) {
+                throw (RuntimeException) throwable;
+            } else if (throwable instanceof Error) {
+                throw (Error) throwable;
+            } else if (throwable != null) {
+                throw new IllegalStateException("Could not create batch of dynamic types", throwable);
+            }
+            return unloaded;
+        }
+
+        /**
+         * Creates all dynamic types of this batch concurrently using the supplied executor service and loads them by a single application of
+         * the default class loading strategy for the supplied class loader.
+         *
+         * @param executorService The executor service to use for creating the dynamic types.
+         * @param classLoader     The class loader to use for this class loading.
+         * @return The loaded dynamic types of this batch in the order of this batch's builders.
+         */
+        public List<DynamicType.Loaded<?>> load(ExecutorService executorService, ClassLoader classLoader) {
+            return load(make(executorService), classLoader);
+        }
+
+        /**
+         * Creates all dynamic types of this batch concurrently using the supplied executor service and loads them by a single application of
+         * the supplied class loading strategy.
+         *
+         * @param executorService      The executor service to use for creating the dynamic types.
+         * @param classLoader          The class loader to use for this class loading.
+         * @param classLoadingStrategy The class loading strategy to apply.
+         * @param <S>                  The least specific type of class loader the strategy can apply to.
+         * @return The loaded dynamic types of this batch in the order of this batch's builders.
+         */
+        public <S extends ClassLoader> List<DynamicType.Loaded<?>> load(ExecutorService executorService,
+                                                                       S classLoader,
+                                                                       ClassLoadingStrategy<? super S> classLoadingStrategy) {
+            return load(make(executorService), classLoader, classLoadingStrategy);
+        }
+
+        /**
+         * A task for creating a single dynamic type of a batch.
+         */
+        @EqualsAndHashCode
+        protected static class Creation implements Callable<DynamicType.Unloaded<?>> {
+
+            /**
+             * The builder to create a dynamic type from.
+             */
+            private final Builder<?> builder;
+
+            /**
+             * The type resolution strategy to apply.
+             */
+            private final TypeResolutionStrategy typeResolutionStrategy;
+
+            /**
+             * The type pool to use.
+             */
+            private final TypePool typePool;
+
+            /**
+             * Creates a new creation task.
+             *
+             * @param builder                The builder to create a dynamic type from.
+             * @param typeResolutionStrategy The type resolution strategy to apply.
+             * @param typePool               The type pool to use.
+             */
+            protected Creation(Builder<?> builder, TypeResolutionStrategy typeResolutionStrategy, TypePool typePool) {
+                this.builder = builder;
+                this.typeResolutionStrategy = typeResolutionStrategy;
+                this.typePool = typePool;
+            }
+
+            @Override
+            public DynamicType.Unloaded<?> call() {
+                return builder.make(typeResolutionStrategy, typePool);
+            }
+        }
+
+        /**
+         * A class loading strategy that resolves types that were already loaded by a preceding class loading.
+         */
+        @EqualsAndHashCode
+        protected static class Preloaded implements ClassLoadingStrategy<ClassLoader> {
+
+            /**
+             * The types that were already loaded.
+             */
+            private final Map<TypeDescription, Class<?>> types;
+
+            /**
+             * Creates a new class loading strategy for preloaded types.
+             *
+             * @param types The types that were already loaded.
+             */
+            protected Preloaded(Map<TypeDescription, Class<?>> types) {
+                this.types = types;
+            }
+
+            @Override
+            public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+                Map<TypeDescription, Class<?>> loaded = new LinkedHashMap<TypeDescription, Class<?>>();
+                for (TypeDescription typeDescription : types.keySet()) {
+                    Class<?> type = this.types.get(typeDescription);
+                    if (type == null) {
+                        throw new IllegalStateException("Type was not loaded as part of batch: " + typeDescription);
+                    }
+                    loaded.put(typeDescription, type);
+                }
+                return loaded;
+            }
+        }
+    }
+
     /**
      * A default implementation of a dynamic type.
      */
@@ -4,15 +4,14 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.EqualsAndHashCode;
 import net.bytebuddy.description.type.TypeDescription;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
+import java.io.*;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
@@ -153,7 +152,7 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
                                 PackageDefinitionStrategy packageDefinitionStrategy,
                                 ClassFileTransformer classFileTransformer) {
         super(parent);
-        this.typeDefinitions = new ConcurrentHashMap<String, byte[]>(typeDefinitions);
+        this.typeDefinitions = persistenceHandler.storage(typeDefinitions);
         this.protectionDomain = protectionDomain;
         this.persistenceHandler = persistenceHandler;
         this.packageDefinitionStrategy = packageDefinitionStrategy;
@@ -631,6 +630,37 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
             protected void release(String name, ConcurrentMap<String, byte[]> typeDefinitions) {
                 typeDefinitions.remove(name);
             }
+        },
+
+        /**
+         * The mapped persistence handler retains all class file representations and makes them accessible similarly to the
+         * {@link PersistenceHandler#MANIFEST} persistence handler. The class file representations are however stored in
+         * memory-mapped, off-heap memory such that only an index of the stored class files is retained on the heap. A class
+         * file's binary representation is only copied onto the heap when it is requested. The mapped memory is only released
+         * once the class loader becomes unreachable and is garbage collected.
+         */
+        MAPPED(true) {
+            @Override
+            protected ConcurrentMap<String, byte[]> storage(Map<String, byte[]> typeDefinitions) {
+                ConcurrentMap<String, byte[]> storage = new MappedStorage(MappedStorage.CHUNK_SIZE);
+                storage.putAll(typeDefinitions);
+                return storage;
+            }
+
+            @Override
+            protected byte[] lookup(String name, ConcurrentMap<String, byte[]> typeDefinitions) {
+                return MANIFEST.lookup(name, typeDefinitions);
+            }
+
+            @Override
+            protected URL url(String resourceName, ConcurrentMap<String, byte[]> typeDefinitions) {
+                return MANIFEST.url(resourceName, typeDefinitions);
+            }
+
+            @Override
+            protected void release(String name, ConcurrentMap<String, byte[]> typeDefinitions) {
+                MANIFEST.release(name, typeDefinitions);
+            }
         };
 
         /**
@@ -661,6 +691,16 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
             return manifest;
         }
 
+        /**
+         * Creates the storage of a class loader's type definitions.
+         *
+         * @param typeDefinitions A map of fully qualified class names pointing to their binary representations.
+         * @return A concurrent map that contains the supplied type definitions and that is used as the class loader's storage.
+         */
+        protected ConcurrentMap<String, byte[]> storage(Map<String, byte[]> typeDefinitions) {
+            return new ConcurrentHashMap<String, byte[]>(typeDefinitions);
+        }
+
         /**
          * Performs a lookup of a class file by its name.
          *
@@ -687,6 +727,362 @@ public class ByteArrayClassLoader extends InjectionClassLoader {
          */
         protected abstract void release(String name, ConcurrentMap<String, byte[]> typeDefinitions);
 
+        /**
+         * <p>
+         * A concurrent map of type names to their binary representations where the binary representations are appended to
+         * memory-mapped chunks of temporary files. Only an index of each binary representation's location is kept on the heap
+         * and the binary representation is copied onto the heap on each read. Bulk insertions map a single chunk that fits all
+         * inserted binary representations while chunks for single insertions grow geometrically up to a maximal chunk size such that
+         * a storage of only a few small class files does not map a large chunk. Key-based operations never read a binary representation.
+         * </p>
+         * <p>
+         * The storage is append-only, i.e. the memory that is used by a removed or replaced binary representation is only released
+         * once the storage itself becomes unreachable. The temporary file that backs a chunk is deleted as soon as the chunk is mapped,
+         * but a chunk is only unmapped when its buffer is collected by the garbage collector, i.e. after the storage and all slots of
+         * the chunk became unreachable. The JVM does not offer an API to unmap a chunk explicitly.
+         * </p>
+         */
+        protected static class MappedStorage extends AbstractMap<String, byte[]> implements ConcurrentMap<String, byte[]> {
+
+            /**
+             * The default maximal size in bytes up to which memory-mapped chunks grow when single binary representations are appended.
+             */
+            protected static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+            /**
+             * The prefix of the temporary files that back a chunk.
+             */
+            private static final String PREFIX = "bytebuddy";
+
+            /**
+             * The suffix of the temporary files that back a chunk.
+             */
+            private static final String SUFFIX = ".classes";
+
+            /**
+             * Indicates that no chunk was yet mapped.
+             */
+            private static final ByteBuffer NO_CHUNK = null;
+
+            /**
+             * The maximal size in bytes up to which memory-mapped chunks grow when single binary representations are appended.
+             */
+            private final int chunkSize;
+
+            /**
+             * A mapping of type names to the location of their binary representation.
+             */
+            private final ConcurrentMap<String, Slot> index;
+
+            /**
+             * The chunk that binary representations are currently appended to where the buffer's position marks the end of
+             * the written region. Any access to this field must be synchronized on this instance.
+             */
+            private ByteBuffer chunk;
+
+            /**
+             * A view of the current chunk that is shared by all slots of this chunk and whose position is never changed.
+             * Any access to this field must be synchronized on this instance.
+             */
+            private ByteBuffer view;
+
+            /**
+             * Creates a new mapped storage.
+             *
+             * @param chunkSize The maximal size in bytes up to which memory-mapped chunks grow when single binary representations are appended.
+             */
+            protected MappedStorage(int chunkSize) {
+                this.chunkSize = chunkSize;
+                index = new ConcurrentHashMap<String, Slot>();
+                chunk = NO_CHUNK;
+                view = NO_CHUNK;
+            }
+
+            /**
+             * Appends a binary representation to the current chunk or to a newly mapped chunk if the current chunk does not
+             * have sufficient capacity. A new chunk doubles the capacity of the previous chunk up to the maximal chunk size.
+             * This method must only be invoked when holding this instance's monitor.
+             *
+             * @param binaryRepresentation The binary representation to append.
+             * @return A slot that represents the location of the appended binary representation.
+             */
+            private Slot append(byte[] binaryRepresentation) {
+                if (chunk == NO_CHUNK || chunk.remaining() < binaryRepresentation.length) {
+                    reserve(Math.max(binaryRepresentation.length, chunk == NO_CHUNK
+                            ? 0
+                            : Math.min(chunkSize, chunk.capacity() * 2)));
+                }
+                int offset = chunk.position();
+                chunk.put(binaryRepresentation);
+                return new Slot(view, offset, binaryRepresentation.length);
+            }
+
+            /**
+             * Maps a new chunk of the given size that subsequent binary representations are appended to. This method must only
+             * be invoked when holding this instance's monitor.
+             *
+             * @param size The size of the chunk in bytes.
+             */
+            private void reserve(int size) {
+                chunk = map(size);
+                view = chunk.duplicate();
+            }
+
+            /**
+             * Maps a new chunk of a temporary file. The file is deleted immediately after it is mapped such that the
+             * mapped memory is released once the returned buffer becomes unreachable.
+             *
+             * @param size The size of the chunk in bytes.
+             * @return A buffer representing the mapped chunk.
+             */
+            private static ByteBuffer map(int size) {
+                try {
+                    File file = File.createTempFile(PREFIX, SUFFIX);
+                    try {
+                        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+                        try {
+                            return randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+                        } finally {
+                            randomAccessFile.close();
+                        }
+                    } finally {
+                        if (!file.delete()) {
+                            file.deleteOnExit();
+                        }
+                    }
+                } catch (IOException exception) {
+                    throw new IllegalStateException("Cannot map chunk of " + size + " bytes for storing class files", exception);
+                }
+            }
+
+            /**
+             * Reads the binary representation of a slot.
+             *
+             * @param slot The slot to read or {@code null} if no slot exists.
+             * @return The slot's binary representation or {@code null} if no slot was supplied.
+             */
+            private static byte[] read(Slot slot) {
+                return slot == null
+                        ? null
+                        : slot.read();
+            }
+
+            @Override
+            public int size() {
+                return index.size();
+            }
+
+            @Override
+            public boolean isEmpty() {
+                return index.isEmpty();
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return index.containsKey(key);
+            }
+
+            @Override
+            public boolean containsValue(Object value) {
+                if (value instanceof byte[]) {
+                    for (Slot slot : index.values()) {
+                        if (slot.isEqualTo((byte[]) value)) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return index.keySet();
+            }
+
+            @Override
+            public synchronized void putAll(Map<? extends String, ? extends byte[]> typeDefinitions) {
+                int size = 0;
+                for (byte[] binaryRepresentation : typeDefinitions.values()) {
+                    size += binaryRepresentation.length;
+                }
+                if (size > 0 && (chunk == NO_CHUNK || chunk.remaining() < size)) {
+                    reserve(size);
+                }
+                for (Entry<? extends String, ? extends byte[]> entry : typeDefinitions.entrySet()) {
+                    index.put(entry.getKey(), append(entry.getValue()));
+                }
+            }
+
+            @Override
+            public byte[] get(Object key) {
+                return read(index.get(key));
+            }
+
+            @Override
+            public synchronized byte[] put(String key, byte[] value) {
+                return read(index.put(key, append(value)));
+            }
+
+            @Override
+            public synchronized byte[] putIfAbsent(String key, byte[] value) {
+                Slot slot = index.get(key);
+                if (slot == null) {
+                    index.put(key, append(value));
+                    return null;
+                } else {
+                    return slot.read();
+                }
+            }
+
+            @Override
+            public byte[] remove(Object key) {
+                return read(index.remove(key));
+            }
+
+            @Override
+            public synchronized boolean remove(Object key, Object value) {
+                Slot slot = index.get(key);
+                if (slot != null && value instanceof byte[] && slot.isEqualTo((byte[]) value)) {
+                    index.remove(key);
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+
+            @Override
+            public synchronized boolean replace(String key, byte[] oldValue, byte[] newValue) {
+                Slot slot = index.get(key);
+                if (slot != null && slot.isEqualTo(oldValue)) {
+                    index.put(key, append(newValue));
+                    return true;
+                } else {
+                    return false;
+                }
+            }
+
+            @Override
+            public synchronized byte[] replace(String key, byte[] value) {
+                return index.containsKey(key)
+                        ? read(index.put(key, append(value)))
+                        : null;
+            }
+
+            @Override
+            public Set<Entry<String, byte[]>> entrySet() {
+                return new EntrySet();
+            }
+
+            /**
+             * A view of the entries of a mapped storage where each entry's value is read when the entry is iterated.
+             */
+            protected class EntrySet extends AbstractSet<Entry<String, byte[]>> {
+
+                @Override
+                public int size() {
+                    return index.size();
+                }
+
+                @Override
+                public Iterator<Entry<String, byte[]>> iterator() {
+                    return new EntryIterator(index.entrySet().iterator());
+                }
+            }
+
+            /**
+             * An iterator over the entries of a mapped storage that reads each entry's value when the entry is returned.
+             */
+            protected static class EntryIterator implements Iterator<Entry<String, byte[]>> {
+
+                /**
+                 * The iterator over the storage's index.
+                 */
+                private final Iterator<Entry<String, Slot>> iterator;
+
+                /**
+                 * Creates a new entry iterator.
+                 *
+                 * @param iterator The iterator over the storage's index.
+                 */
+                protected EntryIterator(Iterator<Entry<String, Slot>> iterator) {
+                    this.iterator = iterator;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<String, byte[]> next() {
+                    Entry<String, Slot> entry = iterator.next();
+                    return new SimpleImmutableEntry<String, byte[]>(entry.getKey(), entry.getValue().read());
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                }
+            }
+
+            /**
+             * Describes the location of a binary representation within a memory-mapped chunk.
+             */
+            protected static class Slot {
+
+                /**
+                 * A view of the chunk containing the binary representation. The view's position is never changed.
+                 */
+                private final ByteBuffer chunk;
+
+                /**
+                 * The offset of the binary representation within the chunk.
+                 */
+                private final int offset;
+
+                /**
+                 * The length of the binary representation.
+                 */
+                private final int length;
+
+                /**
+                 * Creates a new slot.
+                 *
+                 * @param chunk  A view of the chunk containing the binary representation. The view's position is never changed.
+                 * @param offset The offset of the binary representation within the chunk.
+                 * @param length The length of the binary representation.
+                 */
+                protected Slot(ByteBuffer chunk, int offset, int length) {
+                    this.chunk = chunk;
+                    this.offset = offset;
+                    this.length = length;
+                }
+
+                /**
+                 * Copies the binary representation of this slot onto the heap.
+                 *
+                 * @return A copy of the binary representation of this slot.
+                 */
+                protected byte[] read() {
+                    ByteBuffer buffer = chunk.duplicate();
+                    buffer.position(offset);
+                    byte[] binaryRepresentation = new byte[length];
+                    buffer.get(binaryRepresentation);
+                    return binaryRepresentation;
+                }
+
+                /**
+                 * Checks if this slot contains the supplied binary representation. The slot is only read if the lengths match.
+                 *
+                 * @param binaryRepresentation The binary representation to compare to.
+                 * @return {@code true} if this slot contains the supplied binary representation.
+                 */
+                protected boolean isEqualTo(byte[] binaryRepresentation) {
+                    return length == binaryRepresentation.length && Arrays.equals(read(), binaryRepresentation);
+                }
+            }
+        }
+
         /**
          * An action to define a URL that represents a class file.
          */
@@ -27,7 +27,9 @@ import java.security.AccessController;
 import java.security.Permission;
 import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -916,7 +918,7 @@ public interface ClassInjector {
         public Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
             Map<TypeDescription, Class<?>> loaded = new HashMap<TypeDescription, Class<?>>();
             for (Map.Entry<? extends TypeDescription, byte[]> entry : types.entrySet()) {
-                if (!entry.getKey().isSamePackage(new TypeDescription.ForLoadedType(lookupType()))) {
+                if (!entry.getKey().isSamePackage(TypeDescription.ForLoadedType.of(lookupType()))) {
                     throw new IllegalArgumentException(entry.getKey() + " must be defined in the same package as " + lookup);
                 }
                 loaded.put(entry.getKey(), DISPATCHER.defineClass(lookup, entry.getValue()));
@@ -1465,6 +1467,94 @@ public interface ClassInjector {
             }
         }
 
+        /**
+         * <p>
+         * A class injector that collects pending types and injects them together with the types of the next injection, where the returned
+         * map contains both the pending and the supplied types. When delegating to an instrumentation-based class injector, all types of an
+         * injection are written to a single jar file such that registering helper types up front avoids appending a separate jar file for
+         * each type that is later required.
+         * </p>
+         * <p>
+         * <b>Note</b>: A jar file cannot be extended after it was appended to a class loader's search path as the virtual machine might
+         * already have opened the file. Therefore, types are only ever added to jar files that are not yet appended.
+         * </p>
+         */
+        public static class Batching implements ClassInjector {
+
+            /**
+             * The class injector to which the collected types are injected.
+             */
+            private final ClassInjector classInjector;
+
+            /**
+             * The types that are pending for injection.
+             */
+            private final Map<TypeDescription, byte[]> pending;
+
+            /**
+             * Creates a new batching class injector.
+             *
+             * @param classInjector The class injector to which the collected types are injected.
+             */
+            public Batching(ClassInjector classInjector) {
+                this.classInjector = classInjector;
+                pending = new LinkedHashMap<TypeDescription, byte[]>();
+            }
+
+            /**
+             * Creates a batching class injector that injects all collected types using instrumentation.
+             *
+             * @param folder          The folder to be used for storing jar files.
+             * @param target          A representation of the target path to which classes are to be appended.
+             * @param instrumentation The instrumentation to use for appending to the class path or the boot path.
+             * @return An appropriate batching class injector.
+             */
+            public static Batching of(File folder, Target target, Instrumentation instrumentation) {
+                return new Batching(UsingInstrumentation.of(folder, target, instrumentation));
+            }
+
+            /**
+             * Registers types to be injected upon the next injection or flush of this injector.
+             *
+             * @param types The types to register.
+             * @return This class injector.
+             */
+            public synchronized Batching register(Map<? extends TypeDescription, byte[]> types) {
+                pending.putAll(types);
+                return this;
+            }
+
+            /**
+             * Returns the number of types that are pending for injection.
+             *
+             * @return The number of types that are pending for injection.
+             */
+            public synchronized int getPendingCount() {
+                return pending.size();
+            }
+
+            /**
+             * Injects all pending types.
+             *
+             * @return A mapping of all injected types to their loaded representation.
+             */
+            public Map<TypeDescription, Class<?>> flush() {
+                return inject(Collections.<TypeDescription, byte[]>emptyMap());
+            }
+
+            @Override
+            public synchronized Map<TypeDescription, Class<?>> inject(Map<? extends TypeDescription, byte[]> types) {
+                Map<TypeDescription, byte[]> injected = new LinkedHashMap<TypeDescription, byte[]>(pending);
+                injected.putAll(types);
+                if (injected.isEmpty()) {
+                    return Collections.emptyMap();
+                }
+                Map<TypeDescription, Class<?>> loaded = classInjector.inject(injected);
+                pending.clear();
+                return loaded;
+            }
+        }
+
         /**
          * A representation of the target to which Java classes should be appended to.
          */
@@ -1,12 +1,19 @@
 package net.bytebuddy.dynamic.loading;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.EqualsAndHashCode;
 import net.bytebuddy.description.type.TypeDescription;
 
 import java.io.File;
 import java.lang.instrument.Instrumentation;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.security.AccessControlContext;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.security.ProtectionDomain;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A strategy for loading a collection of types.
@@ -389,6 +396,413 @@ public interface ClassLoadingStrategy<T extends ClassLoader> {
         }
     }
 
+    /**
+     * <p>
+     * A class loading strategy that spreads the loading of types over a fixed number of parallel capable class loaders, the strategy's
+     * shards, which are all children of the same parent class loader. Compared to {@link Default#WRAPPER}, this strategy
+     * does not create a class loader for every loaded type while types that are loaded from different threads are not funneled through a
+     * single class loader. A shard is chosen by the package of the loaded types such that types of the same package are always defined
+     * within the same runtime package. For this reason, all types that are loaded by a single invocation of this strategy must be declared
+     * in the same package.
+     * </p>
+     * <p>
+     * <b>Important</b>: A shard can only define a single type of a given name. If a type is loaded for a name that was already loaded,
+     * the previously loaded type is returned. An exception is thrown if a type is already loaded by the shards' parent class loader or
+     * if the loaded types are declared in more than one package.
+     * </p>
+     */
+    class Sharded implements ClassLoadingStrategy<ClassLoader> {
+
+        /**
+         * The name of the default package.
+         */
+        private static final String DEFAULT_PACKAGE = "";
+
+        /**
+         * The parent class loader of all shards.
+         */
+        private final ClassLoader parent;
+
+        /**
+         * The class loaders that define the loaded types.
+         */
+        private final Shard[] shards;
+
+        /**
+         * Creates a new sharded class loading strategy with latent shards and a default protection domain.
+         *
+         * @param parent The parent class loader of all shards.
+         * @param shards The number of shards.
+         */
+        public Sharded(ClassLoader parent, int shards) {
+            this(parent, shards, NO_PROTECTION_DOMAIN, ByteArrayClassLoader.PersistenceHandler.LATENT, PackageDefinitionStrategy.Trivial.INSTANCE);
+        }
+
+        /**
+         * Creates a new sharded class loading strategy.
+         *
+         * @param parent                    The parent class loader of all shards.
+         * @param shards                    The number of shards.
+         * @param protectionDomain          The protection domain to apply where {@code null} references an implicit protection domain.
+         * @param persistenceHandler        The persistence handler of the shards.
+         * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+         */
+        @SuppressFBWarnings(value = "DP_CREATE_CLASSLOADER_INSIDE_DO_PRIVILEGED", justification = "Privilege is explicit user responsibility")
+        public Sharded(ClassLoader parent,
+                       int shards,
+                       ProtectionDomain protectionDomain,
+                       ByteArrayClassLoader.PersistenceHandler persistenceHandler,
+                       PackageDefinitionStrategy packageDefinitionStrategy) {
+            if (shards < 1) {
+                throw new IllegalArgumentException("Number of shards must be positive: " + shards);
+            }
+            this.parent = parent;
+            this.shards = new Shard[shards];
+            for (int index = 0; index < shards; index++) {
+                this.shards[index] = new Shard(parent, protectionDomain, persistenceHandler, packageDefinitionStrategy);
+            }
+        }
+
+        /**
+         * Resolves the name of the package of a type.
+         *
+         * @param name The name of the type.
+         * @return The name of the type's package.
+         */
+        private static String toPackageName(String name) {
+            int packageIndex = name.lastIndexOf('.');
+            return packageIndex == -1
+                    ? DEFAULT_PACKAGE
+                    : name.substring(0, packageIndex);
+        }
+
+        /**
+         * Locates the shard that defines types of a given name's package.
+         *
+         * @param name The name of the type.
+         * @return The shard that defines types of the name's package.
+         */
+        protected Shard locate(String name) {
+            return shards[(toPackageName(name).hashCode() & Integer.MAX_VALUE) % shards.length];
+        }
+
+        @Override
+        public Map<TypeDescription, Class<?>> load(ClassLoader classLoader, Map<TypeDescription, byte[]> types) {
+            if (classLoader != parent) {
+                throw new IllegalArgumentException("Cannot load types for " + classLoader + " with shards of " + parent);
+            } else if (types.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            Map<String, byte[]> typeDefinitions = new LinkedHashMap<String, byte[]>();
+            String packageName = null;
+            for (Map.Entry<TypeDescription, byte[]> entry : types.entrySet()) {
+                String name = entry.getKey().getName();
+                if (packageName == null) {
+                    packageName = toPackageName(name);
+                } else if (!packageName.equals(toPackageName(name))) {
+                    throw new IllegalArgumentException("Cannot load types of more than one package with a single shard: " + types.keySet());
+                }
+                typeDefinitions.put(name, entry.getValue());
+            }
+            Shard shard = locate(typeDefinitions.keySet().iterator().next());
+            Map<String, Class<?>> definedTypes;
+            try {
+                definedTypes = shard.defineClasses(typeDefinitions);
+            } catch (ClassNotFoundException exception) {
+                throw new IllegalStateException("Cannot load classes: " + types, exception);
+            }
+            Map<TypeDescription, Class<?>> loadedTypes = new LinkedHashMap<TypeDescription, Class<?>>();
+            for (TypeDescription typeDescription : types.keySet()) {
+                Class<?> type = definedTypes.get(typeDescription.getName());
+                if (type.getClassLoader() != shard) {
+                    throw new IllegalStateException("Class already loaded: " + type);
+                }
+                loadedTypes.put(typeDescription, type);
+            }
+            return loadedTypes;
+        }
+
+        /**
+         * A class loader that defines the types of a sharded class loading strategy. Other than a {@link ByteArrayClassLoader}, a shard
+         * is registered as parallel capable if the current VM supports it such that types of different names are loaded concurrently
+         * by the same shard. The registration is not applied to the byte array class loader as a class loader type can only be registered
+         * if its super class is registered and as the byte array class loader would then apply parallel locking for all its instances.
+         */
+        protected static class Shard extends ClassLoader {
+
+            /**
+             * Indicates that an array should be included from its first index. Improves the source code readability.
+             */
+            private static final int FROM_BEGINNING = 0;
+
+            /**
+             * The dispatcher for registering this class loader type as parallel capable.
+             */
+            protected static final ParallelCapability PARALLEL_CAPABILITY = AccessController.doPrivileged(ParallelCapability.CreationAction.INSTANCE);
+
+            /*
+             * Registers the class loader as parallel capable if the current VM supports it.
+             */
+            static {
+                try {
+                    PARALLEL_CAPABILITY.resolve().invoke(null);
+                } catch (Exception ignored) {
+                    /* do nothing */
+                }
+            }
+
+            /**
+             * A mutable map of type names mapped to their binary representation.
+             */
+            private final ConcurrentMap<String, byte[]> typeDefinitions;
+
+            /**
+             * The protection domain to apply where {@code null} references an implicit protection domain.
+             */
+            private final ProtectionDomain protectionDomain;
+
+            /**
+             * The persistence handler of this class loader.
+             */
+            private final ByteArrayClassLoader.PersistenceHandler persistenceHandler;
+
+            /**
+             * The package definer to be queried for package definitions.
+             */
+            private final PackageDefinitionStrategy packageDefinitionStrategy;
+
+            /**
+             * The access control context of this class loader's instantiation.
+             */
+            private final AccessControlContext accessControlContext;
+
+            /**
+             * Creates a new shard.
+             *
+             * @param parent                    The parent class loader of the shard.
+             * @param protectionDomain          The protection domain to apply where {@code null} references an implicit protection domain.
+             * @param persistenceHandler        The persistence handler of this class loader.
+             * @param packageDefinitionStrategy The package definer to be queried for package definitions.
+             */
+            protected Shard(ClassLoader parent,
+                            ProtectionDomain protectionDomain,
+                            ByteArrayClassLoader.PersistenceHandler persistenceHandler,
+                            PackageDefinitionStrategy packageDefinitionStrategy) {
+                super(parent);
+                typeDefinitions = persistenceHandler.storage(Collections.<String, byte[]>emptyMap());
+                this.protectionDomain = protectionDomain;
+                this.persistenceHandler = persistenceHandler;
+                this.packageDefinitionStrategy = packageDefinitionStrategy;
+                accessControlContext = AccessController.getContext();
+            }
+
+            /**
+             * Defines a group of types to be loaded by this class loader.
+             *
+             * @param typeDefinitions The types binary representations.
+             * @return The mapping of defined classes or previously defined classes by their name.
+             * @throws ClassNotFoundException If the class could not be loaded.
+             */
+            protected Map<String, Class<?>> defineClasses(Map<String, byte[]> typeDefinitions) throws ClassNotFoundException {
+                Map<String, byte[]> previous = new HashMap<String, byte[]>();
+                for (Map.Entry<String, byte[]> entry : typeDefinitions.entrySet()) {
+                    previous.put(entry.getKey(), this.typeDefinitions.putIfAbsent(entry.getKey(), entry.getValue()));
+                }
+                try {
+                    Map<String, Class<?>> types = new LinkedHashMap<String, Class<?>>();
+                    for (String name : typeDefinitions.keySet()) {
+                        synchronized (ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock(this, name)) {
+                            types.put(name, loadClass(name));
+                        }
+                    }
+                    return types;
+                } finally {
+                    for (Map.Entry<String, byte[]> entry : previous.entrySet()) {
+                        if (entry.getValue() == null) {
+                            persistenceHandler.release(entry.getKey(), this.typeDefinitions);
+                        } else {
+                            this.typeDefinitions.put(entry.getKey(), entry.getValue());
+                        }
+                    }
+                }
+            }
+
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                byte[] binaryRepresentation = persistenceHandler.lookup(name, typeDefinitions);
+                if (binaryRepresentation == null) {
+                    throw new ClassNotFoundException(name);
+                } else {
+                    return AccessController.doPrivileged(new ClassDefinitionAction(name, binaryRepresentation), accessControlContext);
+                }
+            }
+
+            @Override
+            protected URL findResource(String name) {
+                return persistenceHandler.url(name, typeDefinitions);
+            }
+
+            @Override
+            protected Enumeration<URL> findResources(String name) {
+                URL url = persistenceHandler.url(name, typeDefinitions);
+                return url == null
+                        ? ByteArrayClassLoader.EmptyEnumeration.INSTANCE
+                        : new ByteArrayClassLoader.SingletonEnumeration(url);
+            }
+
+            /**
+             * Returns the package for a given name.
+             *
+             * @param name The name of the package.
+             * @return A suitable package or {@code null} if no such package exists.
+             */
+            @SuppressWarnings("deprecation")
+            private Package doGetPackage(String name) {
+                return getPackage(name);
+            }
+
+            /**
+             * An action for defining a located class that is not yet loaded.
+             */
+            protected class ClassDefinitionAction implements PrivilegedAction<Class<?>> {
+
+                /**
+                 * The binary name of the class to define.
+                 */
+                private final String name;
+
+                /**
+                 * The binary representation of the class to be loaded.
+                 */
+                private final byte[] binaryRepresentation;
+
+                /**
+                 * Creates a new class definition action.
+                 *
+                 * @param name                 The binary name of the class to define.
+                 * @param binaryRepresentation The binary representation of the class to be loaded.
+                 */
+                protected ClassDefinitionAction(String name, byte[] binaryRepresentation) {
+                    this.name = name;
+                    this.binaryRepresentation = binaryRepresentation;
+                }
+
+                @Override
+                public Class<?> run() {
+                    int packageIndex = name.lastIndexOf('.');
+                    if (packageIndex != -1) {
+                        String packageName = name.substring(0, packageIndex);
+                        PackageDefinitionStrategy.Definition definition = packageDefinitionStrategy.define(Shard.this, packageName, name);
+                        if (definition.isDefined()) {
+                            Package definedPackage = doGetPackage(packageName);
+                            if (definedPackage == null) {
+                                try {
+                                    definePackage(packageName,
+                                            definition.getSpecificationTitle(),
+                                            definition.getSpecificationVersion(),
+                                            definition.getSpecificationVendor(),
+                                            definition.getImplementationTitle(),
+                                            definition.getImplementationVersion(),
+                                            definition.getImplementationVendor(),
+                                            definition.getSealBase());
+                                } catch (IllegalArgumentException exception) {
+                                    // As this class loader is parallel capable, the package might have been defined concurrently.
+                                    definedPackage = doGetPackage(packageName);
+                                    if (definedPackage == null) {
+                                        throw exception;
+                                    }
+                                }
+                            }
+                            if (definedPackage != null && !definition.isCompatibleTo(definedPackage)) {
+                                throw new SecurityException("Sealing violation for package " + packageName);
+                            }
+                        }
+                    }
+                    return defineClass(name, binaryRepresentation, FROM_BEGINNING, binaryRepresentation.length, protectionDomain);
+                }
+            }
+
+            /**
+             * A dispatcher for registering a class loader type as parallel capable. The registration is sensitive to its caller such
+             * that the resolved method must be invoked from the type initializer of the class loader type that is to be registered.
+             */
+            protected interface ParallelCapability {
+
+                /**
+                 * Resolves the {@code ClassLoader#registerAsParallelCapable()} method. Invoking this method does not require the method to
+                 * be made accessible as it is a protected method of the invoking class loader type's super class.
+                 *
+                 * @return The {@code ClassLoader#registerAsParallelCapable()} method.
+                 * @throws NoSuchMethodException If the current VM does not support parallel capable class loaders.
+                 */
+                Method resolve() throws NoSuchMethodException;
+
+                /**
+                 * A creation action for a parallel capability dispatcher.
+                 */
+                enum CreationAction implements PrivilegedAction<ParallelCapability> {
+
+                    /**
+                     * The singleton instance.
+                     */
+                    INSTANCE;
+
+                    @Override
+                    @SuppressFBWarnings(value = "REC_CATCH_EXCEPTION", justification = "Exception should not be rethrown but trigger a fallback")
+                    public ParallelCapability run() {
+                        try {
+                            return new ForJava7CapableVm(ClassLoader.class.getDeclaredMethod("registerAsParallelCapable"));
+                        } catch (Exception ignored) {
+                            return ForLegacyVm.INSTANCE;
+                        }
+                    }
+                }
+
+                /**
+                 * A parallel capability dispatcher for a VM that is not aware of parallel capable class loaders.
+                 */
+                enum ForLegacyVm implements ParallelCapability {
+
+                    /**
+                     * The singleton instance.
+                     */
+                    INSTANCE;
+
+                    @Override
+                    public Method resolve() throws NoSuchMethodException {
+                        throw new NoSuchMethodException("The current VM does not support parallel capable class loaders");
+                    }
+                }
+
+                /**
+                 * A parallel capability dispatcher for a VM that is aware of parallel capable class loaders.
+                 */
+                @EqualsAndHashCode
+                class ForJava7CapableVm implements ParallelCapability {
+
+                    /**
+                     * The {@code ClassLoader#registerAsParallelCapable()} method.
+                     */
+                    private final Method method;
+
+                    /**
+                     * Creates a new parallel capability dispatcher.
+                     *
+                     * @param method The {@code ClassLoader#registerAsParallelCapable()} method.
+                     */
+                    protected ForJava7CapableVm(Method method) {
+                        this.method = method;
+                    }
+
+                    @Override
+                    public Method resolve() {
+                        return method;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * A class loading strategy which allows class injection into the bootstrap class loader if
      * appropriate.
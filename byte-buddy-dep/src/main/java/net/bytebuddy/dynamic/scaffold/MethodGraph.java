@@ -5,13 +5,19 @@ import lombok.EqualsAndHashCode;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.PackageDescription;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.FilterableList;
 import org.objectweb.asm.Opcodes;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -504,7 +510,20 @@ public interface MethodGraph {
 
             @Override
             public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
-                Map<TypeDefinition, Key.Store<T>> snapshots = new HashMap<TypeDefinition, Key.Store<T>>();
+                return compile(typeDefinition, viewPoint, new HashMap<TypeDefinition, Key.Store<T>>());
+            }
+
+            /**
+             * Compiles the given type into a method graph.
+             *
+             * @param typeDefinition The type to be compiled.
+             * @param viewPoint      The view point that determines the method's visibility.
+             * @param snapshots      A map containing snapshots of key stores for previously analyzed types.
+             * @return A linked method graph representing the given type.
+             */
+            protected MethodGraph.Linked compile(TypeDefinition typeDefinition,
+                                                 TypeDescription viewPoint,
+                                                 Map<TypeDefinition, Key.Store<T>> snapshots) {
                 Key.Store<?> rootStore = doAnalyze(typeDefinition, snapshots, isVirtual().and(isVisibleTo(viewPoint)));
                 TypeDescription.Generic superClass = typeDefinition.getSuperClass();
                 List<TypeDescription.Generic> interfaceTypes = typeDefinition.getInterfaces();
@@ -579,6 +598,304 @@ public interface MethodGraph {
                 return store;
             }
 
+            /**
+             * <p>
+             * A default compiler that shares the key stores of analyzed super types between compilations. When compiling
+             * several types that share a super type, for example multiple subclasses of the same base class, the methods of
+             * the super type's hierarchy are only analyzed once and the compiled type's declared methods are merged on top.
+             * </p>
+             * <p>
+             * A key store is only shared if the view point is assignable to the compiled type such that the view point's
+             * package is the only property that determines the visibility of a super type's virtual methods. Super types are
+             * identified by their name and their generic context where type variables are identified by their declaring source.
+             * A caching compiler must therefore not be shared between different types of the same name, for example types of
+             * the same name that are defined by different class loaders. Cache keys only reference names such that the cache does
+             * not retain any type description or class loader other than by its cached key stores. Cached key stores are softly
+             * referenced and are evicted when they are collected by the garbage collector.
+             * </p>
+             *
+             * @param <T> The type of the harmonizer token to be used for linking methods of different types.
+             */
+            @EqualsAndHashCode(callSuper = true, exclude = {"cache", "referenceQueue"})
+            public static class Caching<T> extends Default<T> {
+
+                /**
+                 * A mapping of super types and view point packages to softly referenced key stores.
+                 */
+                private final ConcurrentMap<SnapshotKey, SnapshotReference<T>> cache;
+
+                /**
+                 * A reference queue of collected key stores.
+                 */
+                private final ReferenceQueue<Key.Store<T>> referenceQueue;
+
+                /**
+                 * Creates a new caching method graph compiler.
+                 *
+                 * @param harmonizer The harmonizer to be used.
+                 * @param merger     The merger to be used.
+                 * @param visitor    A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
+                 */
+                protected Caching(Harmonizer<T> harmonizer, Merger merger, TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor) {
+                    super(harmonizer, merger, visitor);
+                    cache = new ConcurrentHashMap<SnapshotKey, SnapshotReference<T>>();
+                    referenceQueue = new ReferenceQueue<Key.Store<T>>();
+                }
+
+                /**
+                 * Creates a caching compiler using the given harmonizer and merger. All raw types are reified before analyzing their properties.
+                 *
+                 * @param harmonizer The harmonizer to be used for creating tokens that uniquely identify a method hierarchy.
+                 * @param merger     The merger to be used for identifying a method to represent an ambiguous method resolution.
+                 * @param <S>        The type of the harmonizer token.
+                 * @return A caching compiler for the given harmonizer and merger.
+                 */
+                public static <S> Compiler of(Harmonizer<S> harmonizer, Merger merger) {
+                    return new Caching<S>(harmonizer, merger, TypeDescription.Generic.Visitor.Reifying.INITIATING);
+                }
+
+                /**
+                 * Creates a caching compiler using the given harmonizer and merger.
+                 *
+                 * @param harmonizer The harmonizer to be used for creating tokens that uniquely identify a method hierarchy.
+                 * @param merger     The merger to be used for identifying a method to represent an ambiguous method resolution.
+                 * @param visitor    A visitor to apply to all type descriptions before analyzing their methods or resolving super types.
+                 * @param <S>        The type of the harmonizer token.
+                 * @return A caching compiler for the given harmonizer and merger.
+                 */
+                public static <S> Compiler of(Harmonizer<S> harmonizer, Merger merger, TypeDescription.Generic.Visitor<? extends TypeDescription.Generic> visitor) {
+                    return new Caching<S>(harmonizer, merger, visitor);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java programming language.
+                 *
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java programming language.
+                 * @see Default#forJavaHierarchy()
+                 */
+                public static Compiler forJavaHierarchy() {
+                    return of(Harmonizer.ForJavaMethod.INSTANCE, Merger.Directional.LEFT);
+                }
+
+                /**
+                 * Creates a caching compiler for a method hierarchy following the rules of the Java virtual machine.
+                 *
+                 * @return A caching compiler for resolving a method hierarchy following the rules of the Java virtual machine.
+                 * @see Default#forJVMHierarchy()
+                 */
+                public static Compiler forJVMHierarchy() {
+                    return of(Harmonizer.ForJVMMethod.INSTANCE, Merger.Directional.LEFT);
+                }
+
+                @Override
+                public MethodGraph.Linked compile(TypeDefinition typeDefinition, TypeDescription viewPoint) {
+                    expungeStaleEntries();
+                    return viewPoint.isAssignableTo(typeDefinition.asErasure())
+                            ? compile(typeDefinition, viewPoint, new SharedSnapshots(packageNameOf(viewPoint)))
+                            : super.compile(typeDefinition, viewPoint);
+                }
+
+                /**
+                 * Returns the name of a type's package.
+                 *
+                 * @param typeDescription The type for which to resolve the package name.
+                 * @return The name of the type's package or {@code null} if the type does not define a package.
+                 */
+                private static String packageNameOf(TypeDescription typeDescription) {
+                    PackageDescription packageDescription = typeDescription.getPackage();
+                    return packageDescription == null
+                            ? null
+                            : packageDescription.getName();
+                }
+
+                /**
+                 * Removes all entries of collected key stores from the cache.
+                 */
+                @SuppressWarnings("unchecked")
+                private void expungeStaleEntries() {
+                    Reference<?> reference;
+                    while ((reference = referenceQueue.poll()) != null) {
+                        cache.remove(((SnapshotReference<T>) reference).getSnapshotKey(), reference);
+                    }
+                }
+
+                /**
+                 * Returns the number of super type key stores that are currently cached.
+                 *
+                 * @return The number of cached key stores.
+                 */
+                protected int size() {
+                    expungeStaleEntries();
+                    return cache.size();
+                }
+
+                /**
+                 * A key for a cached key store that only references names such that it does not retain the analyzed type or its class loader.
+                 */
+                @EqualsAndHashCode
+                protected static class SnapshotKey {
+
+                    /**
+                     * The name of the analyzed super type in its original form before applying the visitor, including its generic context.
+                     */
+                    private final String typeName;
+
+                    /**
+                     * The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    private final String packageName;
+
+                    /**
+                     * Creates a new snapshot key.
+                     *
+                     * @param typeDefinition The analyzed super type in its original form before applying the visitor.
+                     * @param packageName    The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    protected SnapshotKey(TypeDefinition typeDefinition, String packageName) {
+                        typeName = typeDefinition.asGenericType().accept(TypeNameRenderer.INSTANCE);
+                        this.packageName = packageName;
+                    }
+
+                    /**
+                     * A visitor that renders a generic type's name including the declaring sources of any type variables.
+                     */
+                    protected enum TypeNameRenderer implements TypeDescription.Generic.Visitor<String> {
+
+                        /**
+                         * The singleton instance.
+                         */
+                        INSTANCE;
+
+                        @Override
+                        public String onGenericArray(TypeDescription.Generic genericArray) {
+                            return genericArray.getComponentType().accept(this) + "[]";
+                        }
+
+                        @Override
+                        public String onWildcard(TypeDescription.Generic wildcard) {
+                            StringBuilder stringBuilder = new StringBuilder("?");
+                            for (TypeDescription.Generic upperBound : wildcard.getUpperBounds()) {
+                                stringBuilder.append(" extends ").append(upperBound.accept(this));
+                            }
+                            for (TypeDescription.Generic lowerBound : wildcard.getLowerBounds()) {
+                                stringBuilder.append(" super ").append(lowerBound.accept(this));
+                            }
+                            return stringBuilder.toString();
+                        }
+
+                        @Override
+                        public String onParameterizedType(TypeDescription.Generic parameterizedType) {
+                            StringBuilder stringBuilder = new StringBuilder();
+                            TypeDescription.Generic ownerType = parameterizedType.getOwnerType();
+                            if (ownerType != null) {
+                                stringBuilder.append(ownerType.accept(this)).append('/');
+                            }
+                            stringBuilder.append(parameterizedType.asErasure().getName()).append('<');
+                            boolean first = true;
+                            for (TypeDescription.Generic typeArgument : parameterizedType.getTypeArguments()) {
+                                if (!first) {
+                                    stringBuilder.append(',');
+                                }
+                                stringBuilder.append(typeArgument.accept(this));
+                                first = false;
+                            }
+                            return stringBuilder.append('>').toString();
+                        }
+
+                        @Override
+                        public String onTypeVariable(TypeDescription.Generic typeVariable) {
+                            return typeVariable.getSymbol() + "@" + typeVariable.getTypeVariableSource();
+                        }
+
+                        @Override
+                        public String onNonGenericType(TypeDescription.Generic typeDescription) {
+                            return typeDescription.asErasure().getName();
+                        }
+                    }
+                }
+
+                /**
+                 * A soft reference to a cached key store.
+                 *
+                 * @param <U> The type of the harmonizer token of the referenced key store.
+                 */
+                protected static class SnapshotReference<U> extends SoftReference<Key.Store<U>> {
+
+                    /**
+                     * The key of the referenced key store.
+                     */
+                    private final SnapshotKey snapshotKey;
+
+                    /**
+                     * Creates a new snapshot reference.
+                     *
+                     * @param store          The referenced key store.
+                     * @param referenceQueue The reference queue to register the reference with.
+                     * @param snapshotKey    The key of the referenced key store.
+                     */
+                    protected SnapshotReference(Key.Store<U> store, ReferenceQueue<? super Key.Store<U>> referenceQueue, SnapshotKey snapshotKey) {
+                        super(store, referenceQueue);
+                        this.snapshotKey = snapshotKey;
+                    }
+
+                    /**
+                     * Returns the key of the referenced key store.
+                     *
+                     * @return The key of the referenced key store.
+                     */
+                    protected SnapshotKey getSnapshotKey() {
+                        return snapshotKey;
+                    }
+                }
+
+                /**
+                 * A map of key store snapshots of a single compilation that reads from and writes to the compiler's cache.
+                 */
+                protected class SharedSnapshots extends HashMap<TypeDefinition, Key.Store<T>> {
+
+                    /**
+                     * The class's serial version UID.
+                     */
+                    private static final long serialVersionUID = 1L;
+
+                    /**
+                     * The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    private final String packageName;
+
+                    /**
+                     * Creates a new map of shared snapshots.
+                     *
+                     * @param packageName The name of the view point's package or {@code null} if the view point does not define a package.
+                     */
+                    protected SharedSnapshots(String packageName) {
+                        this.packageName = packageName;
+                    }
+
+                    @Override
+                    public Key.Store<T> get(Object key) {
+                        Key.Store<T> store = super.get(key);
+                        if (store == null && key instanceof TypeDefinition) {
+                            SnapshotReference<T> reference = cache.get(new SnapshotKey((TypeDefinition) key, packageName));
+                            store = reference == null
+                                    ? null
+                                    : reference.get();
+                            if (store != null) {
+                                super.put((TypeDefinition) key, store);
+                            }
+                        }
+                        return store;
+                    }
+
+                    @Override
+                    public Key.Store<T> put(TypeDefinition key, Key.Store<T> store) {
+                        SnapshotKey snapshotKey = new SnapshotKey(key, packageName);
+                        cache.put(snapshotKey, new SnapshotReference<T>(store, referenceQueue, snapshotKey));
+                        return super.put(key, store);
+                    }
+                }
+            }
+
             /**
              * A harmonizer is responsible for creating a token that identifies a method's relevant attributes for considering
              * two methods of being equal or not.
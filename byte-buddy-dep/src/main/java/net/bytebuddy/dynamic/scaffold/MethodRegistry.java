@@ -14,6 +14,7 @@ import net.bytebuddy.implementation.attribute.MethodAttributeAppender;
 import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.LatentMatcher;
+import net.bytebuddy.matcher.MatcherOptimizer;
 import net.bytebuddy.utility.CompoundList;
 
 import java.util.*;
@@ -417,18 +418,22 @@ public interface MethodRegistry {
             }
             MethodGraph.Linked methodGraph = methodGraphCompiler.compile(instrumentedType);
             // Casting required for Java 6 compiler.
-            ElementMatcher<? super MethodDescription> relevanceMatcher = (ElementMatcher<? super MethodDescription>) not(anyOf(implementations.keySet()))
+            ElementMatcher<? super MethodDescription> relevanceMatcher = MatcherOptimizer.INSTANCE.optimize((ElementMatcher<? super MethodDescription>) not(anyOf(implementations.keySet()))
                     .and(returns(isVisibleTo(instrumentedType)))
                     .and(hasParameters(whereNone(hasType(not(isVisibleTo(instrumentedType))))))
-                    .and(ignoredMethods.resolve(instrumentedType));
+                    .and(ignoredMethods.resolve(instrumentedType)));
+            List<ElementMatcher<? super MethodDescription>> matchers = new ArrayList<ElementMatcher<? super MethodDescription>>(entries.size());
+            for (Entry entry : entries) {
+                matchers.add(MatcherOptimizer.INSTANCE.optimize(entry.resolve(instrumentedType)));
+            }
             List<MethodDescription> methods = new ArrayList<MethodDescription>();
             for (MethodGraph.Node node : methodGraph.listNodes()) {
                 MethodDescription methodDescription = node.getRepresentative();
                 boolean visibilityBridge = instrumentedType.isPublic() && !instrumentedType.isInterface();
                 if (relevanceMatcher.matches(methodDescription)) {
-                    for (Entry entry : entries) {
-                        if (entry.resolve(instrumentedType).matches(methodDescription)) {
-                            implementations.put(methodDescription, entry.asPreparedEntry(instrumentedType,
+                    for (int index = 0; index < entries.size(); index++) {
+                        if (matchers.get(index).matches(methodDescription)) {
+                            implementations.put(methodDescription, entries.get(index).asPreparedEntry(instrumentedType,
                                     methodDescription,
                                     node.getMethodTypes(),
                                     node.getVisibility()));
@@ -450,9 +455,9 @@ public interface MethodRegistry {
             for (MethodDescription methodDescription : CompoundList.of(
                     instrumentedType.getDeclaredMethods().filter(not(isVirtual()).and(relevanceMatcher)),
                     new MethodDescription.Latent.TypeInitializer(instrumentedType))) {
-                for (Entry entry : entries) {
-                    if (entry.resolve(instrumentedType).matches(methodDescription)) {
-                        implementations.put(methodDescription, entry.asPreparedEntry(instrumentedType, methodDescription, methodDescription.getVisibility()));
+                for (int index = 0; index < entries.size(); index++) {
+                    if (matchers.get(index).matches(methodDescription)) {
+                        implementations.put(methodDescription, entries.get(index).asPreparedEntry(instrumentedType, methodDescription, methodDescription.getVisibility()));
                         break;
                     }
                 }
@@ -2754,7 +2754,8 @@ public interface TypeWriter<T> {
 
         /**
          * A class writer that piggy-backs on Byte Buddy's {@link ClassFileLocator} to avoid class loading or look-up errors when redefining a class.
-         * This is not available when creating a new class where automatic frame computation is however not normally a requirement.
+         * This is not available when creating a new class where automatic frame computation is however not normally a requirement. Resolved types
+         * and computed common super classes are memorized by each class writer such that a type is only resolved once per written class.
          */
         protected static class FrameComputingClassWriter extends ClassWriter {
 
@@ -2763,6 +2764,16 @@ public interface TypeWriter<T> {
              */
             private final TypePool typePool;
 
+            /**
+             * The types that were already resolved by this class writer by their internal names.
+             */
+            private final Map<String, TypeDescription> typeDescriptions;
+
+            /**
+             * The common super classes that were already computed by this class writer by the internal names of the left and the right type.
+             */
+            private final Map<String, Map<String, String>> commonSuperClasses;
+
             /**
              * Creates a new frame computing class writer.
              *
@@ -2772,6 +2783,8 @@ public interface TypeWriter<T> {
             protected FrameComputingClassWriter(int flags, TypePool typePool) {
                 super(flags);
                 this.typePool = typePool;
+                typeDescriptions = new HashMap<String, TypeDescription>();
+                commonSuperClasses = new HashMap<String, Map<String, String>>();
             }
 
             /**
@@ -2784,12 +2797,48 @@ public interface TypeWriter<T> {
             protected FrameComputingClassWriter(ClassReader classReader, int flags, TypePool typePool) {
                 super(classReader, flags);
                 this.typePool = typePool;
+                typeDescriptions = new HashMap<String, TypeDescription>();
+                commonSuperClasses = new HashMap<String, Map<String, String>>();
             }
 
             @Override
             protected String getCommonSuperClass(String leftTypeName, String rightTypeName) {
-                TypeDescription leftType = typePool.describe(leftTypeName.replace('/', '.')).resolve();
-                TypeDescription rightType = typePool.describe(rightTypeName.replace('/', '.')).resolve();
+                Map<String, String> commonSuperClasses = this.commonSuperClasses.get(leftTypeName);
+                if (commonSuperClasses == null) {
+                    commonSuperClasses = new HashMap<String, String>();
+                    this.commonSuperClasses.put(leftTypeName, commonSuperClasses);
+                }
+                String commonSuperClass = commonSuperClasses.get(rightTypeName);
+                if (commonSuperClass == null) {
+                    commonSuperClass = toCommonSuperClass(describe(leftTypeName), describe(rightTypeName));
+                    commonSuperClasses.put(rightTypeName, commonSuperClass);
+                }
+                return commonSuperClass;
+            }
+
+            /**
+             * Resolves a type by its internal name, either from the types that were already resolved or from this writer's type pool.
+             *
+             * @param internalName The internal name of the type.
+             * @return A description of the resolved type.
+             */
+            private TypeDescription describe(String internalName) {
+                TypeDescription typeDescription = typeDescriptions.get(internalName);
+                if (typeDescription == null) {
+                    typeDescription = typePool.describe(internalName.replace('/', '.')).resolve();
+                    typeDescriptions.put(internalName, typeDescription);
+                }
+                return typeDescription;
+            }
+
+            /**
+             * Computes the common super class of two types. The interfaces of a type are only resolved if an interface is assigned to.
+             *
+             * @param leftType  The left type.
+             * @param rightType The right type.
+             * @return The internal name of the common super class of both types.
+             */
+            private static String toCommonSuperClass(TypeDescription leftType, TypeDescription rightType) {
                 if (leftType.isAssignableFrom(rightType)) {
                     return leftType.getInternalName();
                 } else if (leftType.isAssignableTo(rightType)) {
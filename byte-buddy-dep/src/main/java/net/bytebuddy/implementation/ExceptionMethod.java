@@ -51,7 +51,7 @@ public class ExceptionMethod implements Implementation, ByteCodeAppender {
      * instrumented methods.
      */
     public static Implementation throwing(Class<? extends Throwable> exceptionType) {
-        return throwing(new TypeDescription.ForLoadedType(exceptionType));
+        return throwing(TypeDescription.ForLoadedType.of(exceptionType));
     }
 
     /**
@@ -81,7 +81,7 @@ public class ExceptionMethod implements Implementation, ByteCodeAppender {
      * instrumented methods.
      */
     public static Implementation throwing(Class<? extends Throwable> exceptionType, String message) {
-        return throwing(new TypeDescription.ForLoadedType(exceptionType), message);
+        return throwing(TypeDescription.ForLoadedType.of(exceptionType), message);
     }
 
     /**
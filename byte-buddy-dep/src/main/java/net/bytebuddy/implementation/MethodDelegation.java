@@ -537,7 +537,7 @@ public class MethodDelegation implements Implementation.Composable {
     public ByteCodeAppender appender(Target implementationTarget) {
         ImplementationDelegate.Compiled compiled = implementationDelegate.compile(implementationTarget.getInstrumentedType());
         return new Appender(implementationTarget,
-                new MethodDelegationBinder.Processor(compiled.getRecords(), ambiguityResolver, bindingResolver),
+                new MethodDelegationBinder.Processor(compiled.getIndex(), ambiguityResolver, bindingResolver),
                 terminationHandler,
                 assigner,
                 compiled);
@@ -582,11 +582,11 @@ public class MethodDelegation implements Implementation.Composable {
             MethodDelegationBinder.MethodInvoker invoke();
 
             /**
-             * Returns a list of binding records to consider for delegation.
+             * Returns an index of the binding records to consider for delegation.
              *
-             * @return A list of delegation binder records to consider.
+             * @return An index of the delegation binder records to consider.
              */
-            List<MethodDelegationBinder.Record> getRecords();
+            MethodDelegationBinder.Processor.Index getIndex();
 
             /**
              * A compiled implementation delegate for invoking a static method.
@@ -595,17 +595,17 @@ public class MethodDelegation implements Implementation.Composable {
             class ForStaticCall implements Compiled {
 
                 /**
-                 * The list of records to consider.
+                 * An index of the records to consider.
                  */
-                private final List<MethodDelegationBinder.Record> records;
+                private final MethodDelegationBinder.Processor.Index index;
 
                 /**
                  * Creates a new compiled implementation delegate for a static method call.
                  *
-                 * @param records The list of records to consider.
+                 * @param index An index of the records to consider.
                  */
-                protected ForStaticCall(List<MethodDelegationBinder.Record> records) {
-                    this.records = records;
+                protected ForStaticCall(MethodDelegationBinder.Processor.Index index) {
+                    this.index = index;
                 }
 
                 @Override
@@ -619,8 +619,8 @@ public class MethodDelegation implements Implementation.Composable {
                 }
 
                 @Override
-                public List<MethodDelegationBinder.Record> getRecords() {
-                    return records;
+                public MethodDelegationBinder.Processor.Index getIndex() {
+                    return index;
                 }
             }
 
@@ -636,19 +636,19 @@ public class MethodDelegation implements Implementation.Composable {
                 private final FieldDescription fieldDescription;
 
                 /**
-                 * The records to consider for delegation.
+                 * An index of the records to consider for delegation.
                  */
-                private final List<MethodDelegationBinder.Record> records;
+                private final MethodDelegationBinder.Processor.Index index;
 
                 /**
                  * Creates a new compiled implementation delegate for a field delegation.
                  *
                  * @param fieldDescription The field to delegate to.
-                 * @param records          The records to consider for delegation.
+                 * @param index            An index of the records to consider for delegation.
                  */
-                protected ForField(FieldDescription fieldDescription, List<MethodDelegationBinder.Record> records) {
+                protected ForField(FieldDescription fieldDescription, MethodDelegationBinder.Processor.Index index) {
                     this.fieldDescription = fieldDescription;
-                    this.records = records;
+                    this.index = index;
                 }
 
                 @Override
@@ -667,8 +667,8 @@ public class MethodDelegation implements Implementation.Composable {
                 }
 
                 @Override
-                public List<MethodDelegationBinder.Record> getRecords() {
-                    return records;
+                public MethodDelegationBinder.Processor.Index getIndex() {
+                    return index;
                 }
             }
 
@@ -684,19 +684,19 @@ public class MethodDelegation implements Implementation.Composable {
                 private final TypeDescription typeDescription;
 
                 /**
-                 * The records to consider for delegation.
+                 * An index of the records to consider for delegation.
                  */
-                private final List<MethodDelegationBinder.Record> records;
+                private final MethodDelegationBinder.Processor.Index index;
 
                 /**
                  * Creates a new compiled implementation delegate for a constructor delegation.
                  *
                  * @param typeDescription The type to be constructed.
-                 * @param records         The records to consider for delegation.
+                 * @param index           An index of the records to consider for delegation.
                  */
-                protected ForConstruction(TypeDescription typeDescription, List<MethodDelegationBinder.Record> records) {
+                protected ForConstruction(TypeDescription typeDescription, MethodDelegationBinder.Processor.Index index) {
                     this.typeDescription = typeDescription;
-                    this.records = records;
+                    this.index = index;
                 }
 
                 @Override
@@ -710,8 +710,8 @@ public class MethodDelegation implements Implementation.Composable {
                 }
 
                 @Override
-                public List<MethodDelegationBinder.Record> getRecords() {
-                    return records;
+                public MethodDelegationBinder.Processor.Index getIndex() {
+                    return index;
                 }
             }
         }
@@ -758,7 +758,7 @@ public class MethodDelegation implements Implementation.Composable {
 
             @Override
             public ImplementationDelegate.Compiled compile(TypeDescription instrumentedType) {
-                return new Compiled.ForStaticCall(records);
+                return new Compiled.ForStaticCall(new MethodDelegationBinder.Processor.Index(records));
             }
         }
 
@@ -821,7 +821,7 @@ public class MethodDelegation implements Implementation.Composable {
                     for (MethodDescription candidate : candidates) {
                         records.add(methodDelegationBinder.compile(candidate));
                     }
-                    return new Compiled.ForField(fieldDescription, records);
+                    return new Compiled.ForField(fieldDescription, new MethodDelegationBinder.Processor.Index(records));
                 }
             }
 
@@ -989,7 +989,7 @@ public class MethodDelegation implements Implementation.Composable {
 
             @Override
             public Compiled compile(TypeDescription instrumentedType) {
-                return new Compiled.ForConstruction(typeDescription, records);
+                return new Compiled.ForConstruction(typeDescription, new MethodDelegationBinder.Processor.Index(records));
             }
         }
     }
@@ -1191,7 +1191,7 @@ public class MethodDelegation implements Implementation.Composable {
          * @return A method delegation that redirects method calls to a static method of the supplied type.
          */
         public MethodDelegation to(Class<?> type) {
-            return to(new TypeDescription.ForLoadedType(type));
+            return to(TypeDescription.ForLoadedType.of(type));
         }
 
         /**
@@ -1361,7 +1361,7 @@ public class MethodDelegation implements Implementation.Composable {
          * @return A delegation that redirects method calls to a constructor of the supplied type.
          */
         public MethodDelegation toConstructor(Class<?> type) {
-            return toConstructor(new TypeDescription.ForLoadedType(type));
+            return toConstructor(TypeDescription.ForLoadedType.of(type));
         }
 
         /**
@@ -16,6 +16,8 @@ import org.objectweb.asm.MethodVisitor;
 
 import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A method delegation binder is responsible for creating a method binding for a <i>source method</i> to a
@@ -57,6 +59,16 @@ public interface MethodDelegationBinder {
                            MethodInvoker methodInvoker,
                            Assigner assigner);
 
+        /**
+         * Determines if this record might yield a valid binding for a source method with the given parameter types. A record
+         * must only return {@code false} if any binding of a source method with the given parameter types is illegal.
+         *
+         * @param parameterTypes The parameter types of the source method.
+         * @param assigner       The assigner to use.
+         * @return {@code false} if this record cannot bind a source method with the given parameter types.
+         */
+        boolean isCandidate(List<? extends TypeDescription.Generic> parameterTypes, Assigner assigner);
+
         /**
          * A compiled method delegation binder that only yields illegal bindings.
          */
@@ -75,6 +87,11 @@ public interface MethodDelegationBinder {
                                       Assigner assigner) {
                 return MethodBinding.Illegal.INSTANCE;
             }
+
+            @Override
+            public boolean isCandidate(List<? extends TypeDescription.Generic> parameterTypes, Assigner assigner) {
+                return false;
+            }
         }
     }
 
@@ -977,14 +994,17 @@ public interface MethodDelegationBinder {
      * <li>Try to bind the {@code source} method using the {@code MethodDelegationBinder}.</li>
      * <li>Find a best method among the successful bindings using the {@code AmbiguityResolver}.</li>
      * </ol>
+     * Before binding a {@code source} method, the {@code Processor} discards any records that cannot bind a method with the
+     * {@code source} method's parameter types. The remaining candidates are retained by an {@link Index} such that methods of
+     * an instrumented type that declare the same parameter types are only matched against the relevant records.
      */
     @EqualsAndHashCode
     class Processor implements MethodDelegationBinder.Record {
 
         /**
-         * The delegation records to consider.
+         * An index of the delegation records to consider.
          */
-        private final List<? extends Record> records;
+        private final Index index;
 
         /**
          * The processor's ambiguity resolver.
@@ -1004,7 +1024,18 @@ public interface MethodDelegationBinder {
          * @param bindingResolver   The binding resolver being used to select the relevant method binding.
          */
         public Processor(List<? extends Record> records, AmbiguityResolver ambiguityResolver, BindingResolver bindingResolver) {
-            this.records = records;
+            this(new Index(records), ambiguityResolver, bindingResolver);
+        }
+
+        /**
+         * Creates a new processor.
+         *
+         * @param index             An index of the delegation records to consider.
+         * @param ambiguityResolver The ambiguity resolver to apply.
+         * @param bindingResolver   The binding resolver being used to select the relevant method binding.
+         */
+        public Processor(Index index, AmbiguityResolver ambiguityResolver, BindingResolver bindingResolver) {
+            this.index = index;
             this.ambiguityResolver = ambiguityResolver;
             this.bindingResolver = bindingResolver;
         }
@@ -1016,16 +1047,113 @@ public interface MethodDelegationBinder {
                                   MethodInvoker methodInvoker,
                                   Assigner assigner) {
             List<MethodBinding> targets = new ArrayList<MethodBinding>();
-            for (Record record : records) {
+            for (Record record : index.candidates(source.getParameters().asTypeList(), assigner)) {
                 MethodBinding methodBinding = record.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner);
                 if (methodBinding.isValid()) {
                     targets.add(methodBinding);
                 }
             }
             if (targets.isEmpty()) {
-                throw new IllegalArgumentException("None of " + records + " allows for delegation from " + source);
+                throw new IllegalArgumentException("None of " + index.getRecords() + " allows for delegation from " + source);
             }
             return bindingResolver.resolve(ambiguityResolver, source, targets);
         }
+
+        @Override
+        public boolean isCandidate(List<? extends TypeDescription.Generic> parameterTypes, Assigner assigner) {
+            return !index.candidates(parameterTypes, assigner).isEmpty();
+        }
+
+        /**
+         * An index of delegation records by the parameter types of a source method and the assigner that is used for binding
+         * the source method. Records that cannot bind a source method with the given parameter types are discarded once for
+         * every combination of parameter types and assigner. An index is thread-safe but must only be used for a single instrumented
+         * type as the relevance of a record might depend on the class loader of a parameter type that is only identified by its name.
+         */
+        @EqualsAndHashCode(exclude = "candidates")
+        public static class Index {
+
+            /**
+             * The delegation records to consider.
+             */
+            private final List<? extends Record> records;
+
+            /**
+             * A map of parameter types and assigners to the records that are candidates for binding a matching source method.
+             */
+            private final ConcurrentMap<Key, List<Record>> candidates;
+
+            /**
+             * Creates a new index.
+             *
+             * @param records The delegation records to consider.
+             */
+            public Index(List<? extends Record> records) {
+                this.records = records;
+                candidates = new ConcurrentHashMap<Key, List<Record>>();
+            }
+
+            /**
+             * Returns the delegation records of this index.
+             *
+             * @return The delegation records of this index.
+             */
+            public List<? extends Record> getRecords() {
+                return records;
+            }
+
+            /**
+             * Returns all records that might yield a valid binding for a source method with the given parameter types.
+             *
+             * @param parameterTypes The parameter types of the source method.
+             * @param assigner       The assigner to use.
+             * @return All records that might bind a source method with the given parameter types in their original order.
+             */
+            public List<Record> candidates(List<? extends TypeDescription.Generic> parameterTypes, Assigner assigner) {
+                Key key = new Key(parameterTypes, assigner);
+                List<Record> candidates = this.candidates.get(key);
+                if (candidates == null) {
+                    candidates = new ArrayList<Record>(records.size());
+                    for (Record record : records) {
+                        if (record.isCandidate(parameterTypes, assigner)) {
+                            candidates.add(record);
+                        }
+                    }
+                    List<Record> previous = this.candidates.putIfAbsent(key, candidates);
+                    if (previous != null) {
+                        candidates = previous;
+                    }
+                }
+                return candidates;
+            }
+
+            /**
+             * A key of an index that represents the parameter types of a source method and an assigner.
+             */
+            @EqualsAndHashCode
+            protected static class Key {
+
+                /**
+                 * The parameter types of the source method.
+                 */
+                private final List<TypeDescription.Generic> parameterTypes;
+
+                /**
+                 * The assigner to use.
+                 */
+                private final Assigner assigner;
+
+                /**
+                 * Creates a new key.
+                 *
+                 * @param parameterTypes The parameter types of the source method.
+                 * @param assigner       The assigner to use.
+                 */
+                protected Key(List<? extends TypeDescription.Generic> parameterTypes, Assigner assigner) {
+                    this.parameterTypes = new ArrayList<TypeDescription.Generic>(parameterTypes);
+                    this.assigner = assigner;
+                }
+            }
+        }
     }
 }
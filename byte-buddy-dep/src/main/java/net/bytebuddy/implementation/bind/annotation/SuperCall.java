@@ -1,17 +1,33 @@
 package net.bytebuddy.implementation.bind.annotation;
 
+import lombok.EqualsAndHashCode;
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.annotation.AnnotationValue;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.ParameterDescription;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.TypeList;
+import net.bytebuddy.description.type.TypeVariableToken;
 import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.MethodAccessorFactory;
 import net.bytebuddy.implementation.auxiliary.MethodCallProxy;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
 import net.bytebuddy.implementation.bytecode.StackManipulation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.constant.NullConstant;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.utility.JavaConstant;
+import net.bytebuddy.utility.JavaType;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 import java.lang.annotation.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
@@ -53,6 +69,19 @@ public @interface SuperCall {
      */
     boolean nullIfImpossible() default false;
 
+    /**
+     * Determines if the proxy should be created by an {@code invokedynamic} call site that is bootstrapped by the
+     * {@code java.lang.invoke.LambdaMetafactory} instead of by instantiating an auxiliary {@link MethodCallProxy} class.
+     * Such a lambda proxy only captures the instance and the arguments of the intercepted method such that the JIT compiler
+     * can remove its allocation if the proxy does not escape the interceptor. A lambda proxy only implements the
+     * {@link Runnable} interface if the annotated parameter is of this type and the {@link Callable} interface otherwise.
+     * If the instrumented type's class file version predates Java 8, if the proxy is required to be serializable or if a
+     * {@code void} method is proxied as a {@link Callable}, a {@link MethodCallProxy} is created instead.
+     *
+     * @return {@code true} if the proxy should be created by an {@code invokedynamic} lambda call site.
+     */
+    boolean invokeDynamic() default false;
+
     /**
      * A binder for handling the
      * {@link net.bytebuddy.implementation.bind.annotation.SuperCall}
@@ -92,7 +121,9 @@ public @interface SuperCall {
                     : implementationTarget.invokeSuper(source.asSignatureToken());
             StackManipulation stackManipulation;
             if (specialMethodInvocation.isValid()) {
-                stackManipulation = new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.loadSilent().serializableProxy());
+                stackManipulation = annotation.loadSilent().invokeDynamic() && !annotation.loadSilent().serializableProxy()
+                        ? new LambdaCall(specialMethodInvocation, targetType.represents(Runnable.class))
+                        : new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, annotation.loadSilent().serializableProxy());
             } else if (annotation.loadSilent().nullIfImpossible()) {
                 stackManipulation = NullConstant.INSTANCE;
             } else {
@@ -100,5 +131,104 @@ public @interface SuperCall {
             }
             return new MethodDelegationBinder.ParameterBinding.Anonymous(stackManipulation);
         }
+
+        /**
+         * A stack manipulation that creates a proxy for a super method call by an {@code invokedynamic} call site that
+         * is bootstrapped by the {@code java.lang.invoke.LambdaMetafactory}. The created lambda expression invokes an
+         * accessor method of the instrumented type and only captures the instance and the arguments of the intercepted
+         * method. If a lambda expression cannot represent the proxy, a {@link MethodCallProxy} is created instead.
+         */
+        @EqualsAndHashCode
+        protected static class LambdaCall implements StackManipulation {
+
+            /**
+             * The name of the {@code java.lang.invoke.LambdaMetafactory} type.
+             */
+            private static final String LAMBDA_META_FACTORY = "java.lang.invoke.LambdaMetafactory";
+
+            /**
+             * The name of the lambda meta factory's bootstrap method.
+             */
+            private static final String META_FACTORY = "metafactory";
+
+            /**
+             * The special method invocation to be proxied by this stack manipulation.
+             */
+            private final Implementation.SpecialMethodInvocation specialMethodInvocation;
+
+            /**
+             * {@code true} if the proxy should implement {@link Runnable} or {@code false} if it should implement {@link Callable}.
+             */
+            private final boolean runnable;
+
+            /**
+             * Creates a new lambda call.
+             *
+             * @param specialMethodInvocation The special method invocation to be proxied by this stack manipulation.
+             * @param runnable                {@code true} if the proxy should implement {@link Runnable} or {@code false} if it
+             *                                should implement {@link Callable}.
+             */
+            protected LambdaCall(Implementation.SpecialMethodInvocation specialMethodInvocation, boolean runnable) {
+                this.specialMethodInvocation = specialMethodInvocation;
+                this.runnable = runnable;
+            }
+
+            /**
+             * Returns a description of the {@code java.lang.invoke.LambdaMetafactory#metafactory} bootstrap method.
+             *
+             * @return A description of the lambda meta factory's bootstrap method.
+             */
+            protected static MethodDescription.InDefinedShape metaFactory() {
+                return new MethodDescription.Latent(new TypeDescription.Latent(LAMBDA_META_FACTORY,
+                        Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL,
+                        TypeDescription.Generic.OBJECT),
+                        META_FACTORY,
+                        Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC,
+                        Collections.<TypeVariableToken>emptyList(),
+                        JavaType.CALL_SITE.getTypeStub().asGenericType(),
+                        Arrays.asList(new ParameterDescription.Token(JavaType.METHOD_HANDLES_LOOKUP.getTypeStub().asGenericType()),
+                                new ParameterDescription.Token(TypeDescription.STRING.asGenericType()),
+                                new ParameterDescription.Token(JavaType.METHOD_TYPE.getTypeStub().asGenericType()),
+                                new ParameterDescription.Token(JavaType.METHOD_TYPE.getTypeStub().asGenericType()),
+                                new ParameterDescription.Token(JavaType.METHOD_HANDLE.getTypeStub().asGenericType()),
+                                new ParameterDescription.Token(JavaType.METHOD_TYPE.getTypeStub().asGenericType())),
+                        Collections.<TypeDescription.Generic>emptyList(),
+                        Collections.<AnnotationDescription>emptyList(),
+                        AnnotationValue.UNDEFINED,
+                        TypeDescription.Generic.UNDEFINED);
+            }
+
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public Size apply(MethodVisitor methodVisitor, Implementation.Context implementationContext) {
+                if (!implementationContext.getClassFileVersion().isAtLeast(ClassFileVersion.JAVA_V8)
+                        || !runnable && specialMethodInvocation.getMethodDescription().getReturnType().represents(void.class)) {
+                    return new MethodCallProxy.AssignableSignatureCall(specialMethodInvocation, false).apply(methodVisitor, implementationContext);
+                }
+                MethodDescription.InDefinedShape accessorMethod = implementationContext.registerAccessorFor(specialMethodInvocation,
+                        MethodAccessorFactory.AccessType.DEFAULT);
+                List<TypeDescription> capturedTypes = new ArrayList<TypeDescription>(accessorMethod.getParameters().size() + 1);
+                if (!accessorMethod.isStatic()) {
+                    capturedTypes.add(accessorMethod.getDeclaringType());
+                }
+                capturedTypes.addAll(accessorMethod.getParameters().asTypeList().asErasures());
+                JavaConstant.MethodType functionalType = runnable
+                        ? JavaConstant.MethodType.of(TypeDescription.VOID, new TypeList.Empty())
+                        : JavaConstant.MethodType.of(TypeDescription.OBJECT, new TypeList.Empty());
+                return new Compound(
+                        MethodVariableAccess.allArgumentsOf(specialMethodInvocation.getMethodDescription()).prependThisReference(),
+                        MethodInvocation.invoke(metaFactory()).dynamic(runnable ? "run" : "call",
+                                TypeDescription.ForLoadedType.of(runnable ? Runnable.class : Callable.class),
+                                capturedTypes,
+                                Arrays.asList(functionalType.asConstantPoolValue(),
+                                        JavaConstant.MethodHandle.of(accessorMethod).asConstantPoolValue(),
+                                        functionalType.asConstantPoolValue()))
+                ).apply(methodVisitor, implementationContext);
+            }
+        }
     }
 }
@@ -0,0 +1,86 @@
+package net.bytebuddy.matcher;
+
+import lombok.EqualsAndHashCode;
+import net.bytebuddy.description.type.TypeDescription;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * An element matcher that matches a type if the type's erasure or any of its erased super classes or interfaces is matched
+ * by another matcher. The outcome of matching a type is remembered by the type's name such that a super type that is shared
+ * by several matched types, as for example a common base class or interface, is only matched and traversed once. Any type's
+ * hierarchy is therefore only resolved once what avoids repeated resolutions of the same types from a
+ * {@link net.bytebuddy.pool.TypePool}.
+ * </p>
+ * <p>
+ * <b>Important</b>: The supplied map must only be used by a single matcher. As types are only identified by their names,
+ * the map must only be used for matching types that are resolved from the same class loader or type pool. For matching
+ * types of several class loaders, a {@link net.bytebuddy.agent.builder.AgentBuilder.RawMatcher.ForSuperTypes} retains
+ * such a map per class loader.
+ * </p>
+ *
+ * @param <T> The type of the matched entity.
+ */
+@EqualsAndHashCode(callSuper = false, exclude = "cache")
+public class CachingSuperTypeMatcher<T extends TypeDescription> extends ElementMatcher.Junction.AbstractBase<T> {
+
+    /**
+     * The matcher to apply to the erasure of the matched type and any of its super types.
+     */
+    private final ElementMatcher<? super TypeDescription> matcher;
+
+    /**
+     * A map of type names to the outcome of matching the named type.
+     */
+    private final ConcurrentMap<String, Boolean> cache;
+
+    /**
+     * Creates a new caching super type matcher.
+     *
+     * @param matcher The matcher to apply to the erasure of the matched type and any of its super types.
+     * @param cache   A map of type names to the outcome of matching the named type.
+     */
+    public CachingSuperTypeMatcher(ElementMatcher<? super TypeDescription> matcher, ConcurrentMap<String, Boolean> cache) {
+        this.matcher = matcher;
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean matches(T target) {
+        return doMatch(target.asErasure());
+    }
+
+    /**
+     * Matches a type and its super types if the outcome is not already known.
+     *
+     * @param typeDescription The type to match.
+     * @return {@code true} if the type or any of its super types is matched.
+     */
+    private boolean doMatch(TypeDescription typeDescription) {
+        Boolean cached = cache.get(typeDescription.getName());
+        if (cached != null) {
+            return cached;
+        }
+        boolean matched = matcher.matches(typeDescription);
+        if (!matched) {
+            TypeDescription.Generic superClass = typeDescription.getSuperClass();
+            matched = superClass != null && doMatch(superClass.asErasure());
+        }
+        if (!matched) {
+            for (TypeDescription.Generic interfaceType : typeDescription.getInterfaces()) {
+                if (doMatch(interfaceType.asErasure())) {
+                    matched = true;
+                    break;
+                }
+            }
+        }
+        cache.put(typeDescription.getName(), matched);
+        return matched;
+    }
+
+    @Override
+    public String toString() {
+        return "cachedHasSuperType(" + matcher + ")";
+    }
+}
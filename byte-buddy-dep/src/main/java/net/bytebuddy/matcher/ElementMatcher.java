@@ -2,6 +2,10 @@ package net.bytebuddy.matcher;
 
 import lombok.EqualsAndHashCode;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * An element matcher is used as a predicate for identifying code elements such as types, methods, fields or
  * annotations. They are similar to Java 8's {@code Predicate}s but compatible to Java 6 and Java 7 and represent
@@ -80,9 +84,9 @@ public interface ElementMatcher<T> {
         class Conjunction<W> extends AbstractBase<W> {
 
             /**
-             * The element matchers that constitute this conjunction.
+             * The element matchers that constitute this conjunction in the order of their application.
              */
-            private final ElementMatcher<? super W> left, right;
+            protected final List<ElementMatcher<? super W>> matchers;
 
             /**
              * Creates a new conjunction matcher.
@@ -91,19 +95,44 @@ public interface ElementMatcher<T> {
              * @param right The second matcher to consult for a match. This matcher is only consulted
              *              if the {@code first} matcher constituted a match.
              */
+            @SuppressWarnings("unchecked")
             public Conjunction(ElementMatcher<? super W> left, ElementMatcher<? super W> right) {
-                this.left = left;
-                this.right = right;
+                this(Arrays.<ElementMatcher<? super W>>asList(left, right));
+            }
+
+            /**
+             * Creates a new conjunction matcher.
+             *
+             * @param matchers The matchers to consult for a match in their order. A matcher is only consulted if all previous matchers
+             *                 constituted a match.
+             */
+            public Conjunction(List<? extends ElementMatcher<? super W>> matchers) {
+                this.matchers = new ArrayList<ElementMatcher<? super W>>(matchers);
             }
 
             @Override
             public boolean matches(W target) {
-                return left.matches(target) && right.matches(target);
+                for (ElementMatcher<? super W> matcher : matchers) {
+                    if (!matcher.matches(target)) {
+                        return false;
+                    }
+                }
+                return true;
             }
 
             @Override
             public String toString() {
-                return "(" + left + " and " + right + ')';
+                StringBuilder stringBuilder = new StringBuilder("(");
+                boolean first = true;
+                for (ElementMatcher<? super W> matcher : matchers) {
+                    if (first) {
+                        first = false;
+                    } else {
+                        stringBuilder.append(" and ");
+                    }
+                    stringBuilder.append(matcher);
+                }
+                return stringBuilder.append(')').toString();
             }
         }
 
@@ -116,9 +145,9 @@ public interface ElementMatcher<T> {
         class Disjunction<W> extends AbstractBase<W> {
 
             /**
-             * The element matchers that constitute this disjunction.
+             * The element matchers that constitute this disjunction in the order of their application.
              */
-            private final ElementMatcher<? super W> left, right;
+            protected final List<ElementMatcher<? super W>> matchers;
 
             /**
              * Creates a new disjunction matcher.
@@ -127,19 +156,44 @@ public interface ElementMatcher<T> {
              * @param right The second matcher to consult for a match. This matcher is only consulted
              *              if the {@code first} matcher did not already constitute a match.
              */
+            @SuppressWarnings("unchecked")
             public Disjunction(ElementMatcher<? super W> left, ElementMatcher<? super W> right) {
-                this.left = left;
-                this.right = right;
+                this(Arrays.<ElementMatcher<? super W>>asList(left, right));
+            }
+
+            /**
+             * Creates a new disjunction matcher.
+             *
+             * @param matchers The matchers to consult for a match in their order. A matcher is only consulted if no previous matcher
+             *                 constituted a match.
+             */
+            public Disjunction(List<? extends ElementMatcher<? super W>> matchers) {
+                this.matchers = new ArrayList<ElementMatcher<? super W>>(matchers);
             }
 
             @Override
             public boolean matches(W target) {
-                return left.matches(target) || right.matches(target);
+                for (ElementMatcher<? super W> matcher : matchers) {
+                    if (matcher.matches(target)) {
+                        return true;
+                    }
+                }
+                return false;
             }
 
             @Override
             public String toString() {
-                return "(" + left + " or " + right + ')';
+                StringBuilder stringBuilder = new StringBuilder("(");
+                boolean first = true;
+                for (ElementMatcher<? super W> matcher : matchers) {
+                    if (first) {
+                        first = false;
+                    } else {
+                        stringBuilder.append(" or ");
+                    }
+                    stringBuilder.append(matcher);
+                }
+                return stringBuilder.append(')').toString();
             }
         }
     }
@@ -13,7 +13,7 @@ public class EqualityMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
     /**
      * The object that is checked to be equal to the matched value.
      */
-    private final Object value;
+    protected final Object value;
 
     /**
      * Creates an element matcher that tests for equality.
@@ -0,0 +1,50 @@
+package net.bytebuddy.matcher;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An element matcher that checks an object's equality to any object of a set of objects by a single hash lookup. This
+ * matcher requires all values to implement {@link Object#hashCode()} consistently to {@link Object#equals(Object)}.
+ *
+ * @param <T> The type of the matched entity.
+ */
+@EqualsAndHashCode(callSuper = false)
+public class EqualitySetMatcher<T> extends ElementMatcher.Junction.AbstractBase<T> {
+
+    /**
+     * The objects of which any object is checked to be equal to the matched value.
+     */
+    protected final Set<?> values;
+
+    /**
+     * Creates an element matcher that tests for equality to any of the supplied values.
+     *
+     * @param values The objects of which any object is checked to be equal to the matched value.
+     */
+    public EqualitySetMatcher(Set<?> values) {
+        this.values = new HashSet<Object>(values);
+    }
+
+    @Override
+    public boolean matches(T target) {
+        return values.contains(target);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("anyOf(");
+        boolean first = true;
+        for (Object value : values) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(value);
+        }
+        return stringBuilder.append(')').toString();
+    }
+}
@@ -0,0 +1,445 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.NamedElement;
+
+import java.util.*;
+
+/**
+ * <p>
+ * An optimizer for element matchers that are composed by {@link ElementMatcher.Junction#and(ElementMatcher)} and
+ * {@link ElementMatcher.Junction#or(ElementMatcher)}. Any junction nests another binary matcher such that long chains of
+ * junctions, as for example created by {@link ElementMatchers#anyOf(Iterable)}, result in deep trees of matchers that are
+ * evaluated one by one. This optimizer:
+ * </p>
+ * <ul>
+ * <li>flattens nested conjunctions and disjunctions into a single conjunction or disjunction and removes trivial matchers.</li>
+ * <li>merges disjunctions of equality matchers, of name equality matchers and of name prefix matchers into a single hash lookup
+ * or a single prefix trie. Conjunctions of negations of such matchers are merged accordingly.</li>
+ * <li>applies cheap matchers that only consider an element's name or modifiers prior to expensive matchers that consider an
+ * element's type hierarchy or annotations.</li>
+ * </ul>
+ * <p>
+ * Matchers are only reordered or merged with matchers of a type that is known to this optimizer. Any other matcher is applied
+ * in its original position relative to other matchers since its outcome might depend on previous matchers. For example, a
+ * custom matcher might only be safe to apply to elements that were previously matched by another matcher. Note that merging
+ * equality matchers into a hash lookup requires the matched values to implement {@link Object#hashCode()} consistently
+ * to {@link Object#equals(Object)} what is the case for all of Byte Buddy's descriptions.
+ * </p>
+ */
+public enum MatcherOptimizer {
+
+    /**
+     * The singleton instance.
+     */
+    INSTANCE;
+
+    /**
+     * Optimizes the supplied matcher. If the matcher cannot be optimized, the supplied matcher is returned.
+     *
+     * @param matcher The matcher to optimize.
+     * @param <T>     The type of the matched entity.
+     * @return A matcher that is equivalent to the supplied matcher.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ElementMatcher<? super T> optimize(ElementMatcher<? super T> matcher) {
+        return (ElementMatcher<? super T>) doOptimize((ElementMatcher<Object>) matcher);
+    }
+
+    /**
+     * Optimizes the supplied matcher.
+     *
+     * @param matcher The matcher to optimize.
+     * @return A matcher that is equivalent to the supplied matcher.
+     */
+    @SuppressWarnings("unchecked")
+    private static ElementMatcher<Object> doOptimize(ElementMatcher<Object> matcher) {
+        if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+            List<ElementMatcher<Object>> matchers = new ArrayList<ElementMatcher<Object>>();
+            for (ElementMatcher<?> element : ((ElementMatcher.Junction.Conjunction<?>) matcher).matchers) {
+                ElementMatcher<Object> optimized = doOptimize((ElementMatcher<Object>) element);
+                if (optimized instanceof ElementMatcher.Junction.Conjunction<?>) {
+                    matchers.addAll(((ElementMatcher.Junction.Conjunction<Object>) optimized).matchers);
+                } else if (!(optimized instanceof BooleanMatcher<?>) || !((BooleanMatcher<?>) optimized).matches) {
+                    matchers.add(optimized);
+                }
+            }
+            return compose(matchers, true);
+        } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+            List<ElementMatcher<Object>> matchers = new ArrayList<ElementMatcher<Object>>();
+            for (ElementMatcher<?> element : ((ElementMatcher.Junction.Disjunction<?>) matcher).matchers) {
+                ElementMatcher<Object> optimized = doOptimize((ElementMatcher<Object>) element);
+                if (optimized instanceof ElementMatcher.Junction.Disjunction<?>) {
+                    matchers.addAll(((ElementMatcher.Junction.Disjunction<Object>) optimized).matchers);
+                } else if (!(optimized instanceof BooleanMatcher<?>) || ((BooleanMatcher<?>) optimized).matches) {
+                    matchers.add(optimized);
+                }
+            }
+            return compose(matchers, false);
+        } else if (matcher instanceof NegatingMatcher<?>) {
+            ElementMatcher<Object> negated = (ElementMatcher<Object>) ((NegatingMatcher<?>) matcher).matcher;
+            ElementMatcher<Object> optimized = doOptimize(negated);
+            return optimized == negated
+                    ? matcher
+                    : new NegatingMatcher<Object>(optimized);
+        } else if (matcher instanceof NameMatcher<?>) {
+            ElementMatcher<Object> name = (ElementMatcher<Object>) (ElementMatcher<?>) ((NameMatcher<?>) matcher).matcher;
+            ElementMatcher<Object> optimized = doOptimize(name);
+            return optimized == name
+                    ? matcher
+                    : (ElementMatcher<Object>) (ElementMatcher<?>) new NameMatcher<NamedElement>((ElementMatcher<String>) (ElementMatcher<?>) optimized);
+        } else {
+            return matcher;
+        }
+    }
+
+    /**
+     * Composes a flat list of optimized matchers into a single conjunction or disjunction.
+     *
+     * @param matchers    The optimized matchers in their original order.
+     * @param conjunction {@code true} if the matchers represent a conjunction, {@code false} if they represent a disjunction.
+     * @return A matcher that represents the supplied matchers.
+     */
+    private static ElementMatcher<Object> compose(List<ElementMatcher<Object>> matchers, boolean conjunction) {
+        List<ElementMatcher<Object>> composed = new ArrayList<ElementMatcher<Object>>(matchers.size());
+        List<ElementMatcher<Object>> segment = new ArrayList<ElementMatcher<Object>>();
+        for (ElementMatcher<Object> matcher : matchers) {
+            if (Cost.of(matcher) == Cost.UNKNOWN) {
+                composed.addAll(arrange(segment, conjunction));
+                segment.clear();
+                composed.add(matcher);
+            } else {
+                segment.add(matcher);
+            }
+        }
+        composed.addAll(arrange(segment, conjunction));
+        if (composed.isEmpty()) {
+            return new BooleanMatcher<Object>(conjunction);
+        } else if (composed.size() == 1) {
+            return composed.get(0);
+        } else if (conjunction) {
+            return new ElementMatcher.Junction.Conjunction<Object>(composed);
+        } else {
+            return new ElementMatcher.Junction.Disjunction<Object>(composed);
+        }
+    }
+
+    /**
+     * Merges and reorders a list of matchers that are all known to this optimizer.
+     *
+     * @param matchers    The matchers to arrange in their original order.
+     * @param conjunction {@code true} if the matchers represent a conjunction, {@code false} if they represent a disjunction.
+     * @return The arranged matchers where cheap matchers are applied first.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<ElementMatcher<Object>> arrange(List<ElementMatcher<Object>> matchers, boolean conjunction) {
+        Map<Merge, List<ElementMatcher<Object>>> merges = new EnumMap<Merge, List<ElementMatcher<Object>>>(Merge.class);
+        List<Object> arranged = new ArrayList<Object>(matchers.size());
+        for (ElementMatcher<Object> matcher : matchers) {
+            Merge merge = Merge.of(conjunction ? negated(matcher) : matcher);
+            if (merge == null) {
+                arranged.add(matcher);
+            } else {
+                List<ElementMatcher<Object>> merged = merges.get(merge);
+                if (merged == null) {
+                    merged = new ArrayList<ElementMatcher<Object>>();
+                    merges.put(merge, merged);
+                    arranged.add(merge);
+                }
+                merged.add(matcher);
+            }
+        }
+        List<ElementMatcher<Object>> cheap = new ArrayList<ElementMatcher<Object>>(arranged.size()), expensive = new ArrayList<ElementMatcher<Object>>();
+        for (Object element : arranged) {
+            ElementMatcher<Object> matcher;
+            if (element instanceof Merge) {
+                List<ElementMatcher<Object>> merged = merges.get(element);
+                if (merged.size() == 1) {
+                    matcher = merged.get(0);
+                } else {
+                    Set<Object> values = new HashSet<Object>();
+                    for (ElementMatcher<Object> aMerged : merged) {
+                        ((Merge) element).collect(conjunction ? negated(aMerged) : aMerged, values);
+                    }
+                    matcher = ((Merge) element).make(values);
+                    if (conjunction) {
+                        matcher = new NegatingMatcher<Object>(matcher);
+                    }
+                }
+            } else {
+                matcher = (ElementMatcher<Object>) element;
+            }
+            (Cost.of(matcher) == Cost.LOW ? cheap : expensive).add(matcher);
+        }
+        cheap.addAll(expensive);
+        return cheap;
+    }
+
+    /**
+     * Returns the matcher that is negated by the supplied matcher.
+     *
+     * @param matcher The matcher to resolve.
+     * @return The negated matcher or {@code null} if the supplied matcher is not a negation.
+     */
+    @SuppressWarnings("unchecked")
+    private static ElementMatcher<Object> negated(ElementMatcher<Object> matcher) {
+        return matcher instanceof NegatingMatcher<?>
+                ? (ElementMatcher<Object>) ((NegatingMatcher<?>) matcher).matcher
+                : null;
+    }
+
+    /**
+     * Describes the cost of applying a matcher.
+     */
+    protected enum Cost {
+
+        /**
+         * Describes a matcher that only considers an element's name, modifiers or identity.
+         */
+        LOW,
+
+        /**
+         * Describes a matcher that considers an element's type hierarchy or annotations.
+         */
+        HIGH,
+
+        /**
+         * Describes a matcher that is not known to this optimizer and which must not be reordered.
+         */
+        UNKNOWN;
+
+        /**
+         * Resolves the cost of applying a matcher.
+         *
+         * @param matcher The matcher for which to resolve the cost.
+         * @return The cost of applying the supplied matcher.
+         */
+        protected static Cost of(ElementMatcher<?> matcher) {
+            if (matcher instanceof BooleanMatcher<?>
+                    || matcher instanceof NullMatcher<?>
+                    || matcher instanceof EqualityMatcher<?>
+                    || matcher instanceof EqualitySetMatcher<?>
+                    || matcher instanceof StringMatcher
+                    || matcher instanceof StringSetMatcher
+                    || matcher instanceof StringPrefixMatcher
+                    || matcher instanceof ModifierMatcher<?>
+                    || matcher instanceof MethodSortMatcher<?>
+                    || matcher instanceof IsNamedMatcher<?>) {
+                return LOW;
+            } else if (matcher instanceof HasSuperTypeMatcher<?>
+                    || matcher instanceof CachingSuperTypeMatcher<?>
+                    || matcher instanceof SuperTypeMatcher<?>
+                    || matcher instanceof SubTypeMatcher<?>
+                    || matcher instanceof InheritedAnnotationMatcher<?>
+                    || matcher instanceof DeclaringAnnotationMatcher<?>
+                    || matcher instanceof MethodOverrideMatcher<?>) {
+                return HIGH;
+            } else if (matcher instanceof NameMatcher<?>) {
+                return of(((NameMatcher<?>) matcher).matcher);
+            } else if (matcher instanceof NegatingMatcher<?>) {
+                return of(((NegatingMatcher<?>) matcher).matcher);
+            } else if (matcher instanceof ElementMatcher.Junction.Conjunction<?>) {
+                return of(((ElementMatcher.Junction.Conjunction<?>) matcher).matchers);
+            } else if (matcher instanceof ElementMatcher.Junction.Disjunction<?>) {
+                return of(((ElementMatcher.Junction.Disjunction<?>) matcher).matchers);
+            } else {
+                return UNKNOWN;
+            }
+        }
+
+        /**
+         * Resolves the cost of applying several matchers.
+         *
+         * @param matchers The matchers for which to resolve the cost.
+         * @return The cost of applying all supplied matchers.
+         */
+        private static Cost of(List<? extends ElementMatcher<?>> matchers) {
+            Cost cost = LOW;
+            for (ElementMatcher<?> matcher : matchers) {
+                Cost resolved = of(matcher);
+                if (resolved.compareTo(cost) > 0) {
+                    cost = resolved;
+                }
+            }
+            return cost;
+        }
+    }
+
+    /**
+     * A merge of several matchers of a disjunction into a single matcher.
+     */
+    protected enum Merge {
+
+        /**
+         * Merges matchers that check for the equality of the matched element into a single hash lookup.
+         */
+        EQUALITY {
+            @Override
+            protected boolean isMergeable(ElementMatcher<?> matcher) {
+                return matcher instanceof EqualityMatcher<?> || matcher instanceof EqualitySetMatcher<?>;
+            }
+
+            @Override
+            protected void collect(ElementMatcher<?> matcher, Set<Object> values) {
+                if (matcher instanceof EqualityMatcher<?>) {
+                    values.add(((EqualityMatcher<?>) matcher).value);
+                } else {
+                    values.addAll(((EqualitySetMatcher<?>) matcher).values);
+                }
+            }
+
+            @Override
+            protected ElementMatcher<Object> make(Set<Object> values) {
+                return new EqualitySetMatcher<Object>(values);
+            }
+        },
+
+        /**
+         * Merges matchers that check for the equality of a string into a single hash lookup.
+         */
+        STRING {
+            @Override
+            protected boolean isMergeable(ElementMatcher<?> matcher) {
+                return matcher instanceof StringMatcher && ((StringMatcher) matcher).mode == StringMatcher.Mode.EQUALS_FULLY
+                        || matcher instanceof StringSetMatcher;
+            }
+
+            @Override
+            protected void collect(ElementMatcher<?> matcher, Set<Object> values) {
+                if (matcher instanceof StringMatcher) {
+                    values.add(((StringMatcher) matcher).value);
+                } else {
+                    values.addAll(((StringSetMatcher) matcher).values);
+                }
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected ElementMatcher<Object> make(Set<Object> values) {
+                return (ElementMatcher<Object>) (ElementMatcher<?>) new StringSetMatcher(toStrings(values));
+            }
+        },
+
+        /**
+         * Merges matchers that check for a prefix of a string into a single prefix trie.
+         */
+        STRING_PREFIX {
+            @Override
+            protected boolean isMergeable(ElementMatcher<?> matcher) {
+                return matcher instanceof StringMatcher && ((StringMatcher) matcher).mode == StringMatcher.Mode.STARTS_WITH
+                        || matcher instanceof StringPrefixMatcher;
+            }
+
+            @Override
+            protected void collect(ElementMatcher<?> matcher, Set<Object> values) {
+                if (matcher instanceof StringMatcher) {
+                    values.add(((StringMatcher) matcher).value);
+                } else {
+                    values.addAll(((StringPrefixMatcher) matcher).prefixes);
+                }
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected ElementMatcher<Object> make(Set<Object> values) {
+                return (ElementMatcher<Object>) (ElementMatcher<?>) new StringPrefixMatcher(toStrings(values));
+            }
+        },
+
+        /**
+         * Merges matchers that check for the equality of an element's name into a single hash lookup.
+         */
+        NAME {
+            @Override
+            protected boolean isMergeable(ElementMatcher<?> matcher) {
+                return matcher instanceof NameMatcher<?> && STRING.isMergeable(((NameMatcher<?>) matcher).matcher);
+            }
+
+            @Override
+            protected void collect(ElementMatcher<?> matcher, Set<Object> values) {
+                STRING.collect(((NameMatcher<?>) matcher).matcher, values);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected ElementMatcher<Object> make(Set<Object> values) {
+                return (ElementMatcher<Object>) (ElementMatcher<?>) new NameMatcher<NamedElement>(new StringSetMatcher(toStrings(values)));
+            }
+        },
+
+        /**
+         * Merges matchers that check for a prefix of an element's name into a single prefix trie.
+         */
+        NAME_PREFIX {
+            @Override
+            protected boolean isMergeable(ElementMatcher<?> matcher) {
+                return matcher instanceof NameMatcher<?> && STRING_PREFIX.isMergeable(((NameMatcher<?>) matcher).matcher);
+            }
+
+            @Override
+            protected void collect(ElementMatcher<?> matcher, Set<Object> values) {
+                STRING_PREFIX.collect(((NameMatcher<?>) matcher).matcher, values);
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected ElementMatcher<Object> make(Set<Object> values) {
+                return (ElementMatcher<Object>) (ElementMatcher<?>) new NameMatcher<NamedElement>(new StringPrefixMatcher(toStrings(values)));
+            }
+        };
+
+        /**
+         * Resolves the merge that applies to a matcher.
+         *
+         * @param matcher The matcher to resolve or {@code null}.
+         * @return The merge that applies to the supplied matcher or {@code null} if the matcher cannot be merged.
+         */
+        protected static Merge of(ElementMatcher<?> matcher) {
+            if (matcher != null) {
+                for (Merge merge : values()) {
+                    if (merge.isMergeable(matcher)) {
+                        return merge;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Converts a set of values into a set of strings.
+         *
+         * @param values The values to convert which must all be strings.
+         * @return A set of the supplied strings.
+         */
+        private static Set<String> toStrings(Set<Object> values) {
+            Set<String> strings = new HashSet<String>();
+            for (Object value : values) {
+                strings.add((String) value);
+            }
+            return strings;
+        }
+
+        /**
+         * Checks if a matcher can be merged by this merge.
+         *
+         * @param matcher The matcher to check.
+         * @return {@code true} if the matcher can be merged by this merge.
+         */
+        protected abstract boolean isMergeable(ElementMatcher<?> matcher);
+
+        /**
+         * Collects the values of a mergeable matcher.
+         *
+         * @param matcher The matcher of which to collect the values.
+         * @param values  The set to add the values to.
+         */
+        protected abstract void collect(ElementMatcher<?> matcher, Set<Object> values);
+
+        /**
+         * Creates a matcher that matches any of the collected values.
+         *
+         * @param values The collected values.
+         * @return A matcher that matches any of the supplied values.
+         */
+        protected abstract ElementMatcher<Object> make(Set<Object> values);
+    }
+}
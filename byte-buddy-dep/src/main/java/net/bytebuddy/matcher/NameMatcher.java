@@ -21,7 +21,7 @@ public class NameMatcher<T extends NamedElement> extends ElementMatcher.Junction
     /**
      * The matcher that is applied to a byte code element's source code name.
      */
-    private final ElementMatcher<String> matcher;
+    protected final ElementMatcher<String> matcher;
 
     /**
      * Creates a new matcher for a byte code element's source name.
@@ -13,7 +13,7 @@ public class NegatingMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
     /**
      * The element matcher to be negated.
      */
-    private final ElementMatcher<? super T> matcher;
+    protected final ElementMatcher<? super T> matcher;
 
     /**
      * Creates a new negating element matcher.
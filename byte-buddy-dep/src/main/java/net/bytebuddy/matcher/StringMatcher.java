@@ -13,12 +13,12 @@ public class StringMatcher extends ElementMatcher.Junction.AbstractBase<String>
     /**
      * The text value to match against.
      */
-    private final String value;
+    protected final String value;
 
     /**
      * The mode to apply for matching the given value against the matcher's input.
      */
-    private final Mode mode;
+    protected final Mode mode;
 
     /**
      * Creates a new string matcher.
@@ -0,0 +1,158 @@
+package net.bytebuddy.matcher;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.*;
+
+/**
+ * An element matcher that checks if a string starts with any string of a set of prefixes. The prefixes are represented
+ * as a trie such that a string is matched by reading each of its characters at most once, independently of the number
+ * of prefixes.
+ */
+@EqualsAndHashCode(callSuper = false, exclude = "root")
+public class StringPrefixMatcher extends ElementMatcher.Junction.AbstractBase<String> {
+
+    /**
+     * The prefixes to match against.
+     */
+    protected final Set<String> prefixes;
+
+    /**
+     * The root node of the trie that represents the prefixes.
+     */
+    private final Node root;
+
+    /**
+     * Creates a new string prefix matcher.
+     *
+     * @param prefixes The prefixes to match against.
+     */
+    public StringPrefixMatcher(Set<String> prefixes) {
+        this.prefixes = new HashSet<String>(prefixes);
+        List<String> sorted = new ArrayList<String>(prefixes);
+        Collections.sort(sorted);
+        root = Node.of(sorted, 0);
+    }
+
+    @Override
+    public boolean matches(String target) {
+        Node node = root;
+        for (int index = 0; !node.isTerminal(); index++) {
+            if (index == target.length()) {
+                return false;
+            }
+            node = node.locate(target.charAt(index));
+            if (node == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("startsWithAnyOf(");
+        boolean first = true;
+        for (String prefix : prefixes) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(prefix);
+        }
+        return stringBuilder.append(')').toString();
+    }
+
+    /**
+     * A node of a trie of prefixes.
+     */
+    protected static class Node {
+
+        /**
+         * Indicates that a node does not have a child node for a given character.
+         */
+        private static final Node UNDEFINED = null;
+
+        /**
+         * {@code true} if a prefix ends at this node.
+         */
+        private final boolean terminal;
+
+        /**
+         * The characters for which this node has child nodes in their natural order.
+         */
+        private final char[] characters;
+
+        /**
+         * The child nodes in the order of their characters.
+         */
+        private final Node[] children;
+
+        /**
+         * Creates a new node.
+         *
+         * @param terminal   {@code true} if a prefix ends at this node.
+         * @param characters The characters for which this node has child nodes in their natural order.
+         * @param children   The child nodes in the order of their characters.
+         */
+        protected Node(boolean terminal, char[] characters, Node[] children) {
+            this.terminal = terminal;
+            this.characters = characters;
+            this.children = children;
+        }
+
+        /**
+         * Creates a node for a sorted list of prefixes that all share the same first characters up to the supplied depth.
+         *
+         * @param prefixes The sorted prefixes that are represented by the created node.
+         * @param depth    The number of characters that all prefixes share.
+         * @return A node that represents the supplied prefixes.
+         */
+        protected static Node of(List<String> prefixes, int depth) {
+            if (prefixes.isEmpty() || prefixes.get(0).length() == depth) {
+                return new Node(!prefixes.isEmpty(), new char[0], new Node[0]);
+            }
+            List<Character> characters = new ArrayList<Character>();
+            List<Node> children = new ArrayList<Node>();
+            int start = 0;
+            while (start < prefixes.size()) {
+                char character = prefixes.get(start).charAt(depth);
+                int end = start + 1;
+                while (end < prefixes.size() && prefixes.get(end).charAt(depth) == character) {
+                    end++;
+                }
+                characters.add(character);
+                children.add(of(prefixes.subList(start, end), depth + 1));
+                start = end;
+            }
+            char[] character = new char[characters.size()];
+            for (int index = 0; index < character.length; index++) {
+                character[index] = characters.get(index);
+            }
+            return new Node(false, character, children.toArray(new Node[children.size()]));
+        }
+
+        /**
+         * Returns {@code true} if a prefix ends at this node.
+         *
+         * @return {@code true} if a prefix ends at this node.
+         */
+        protected boolean isTerminal() {
+            return terminal;
+        }
+
+        /**
+         * Locates the child node for a character.
+         *
+         * @param character The character for which to locate the child node.
+         * @return The child node for the supplied character or {@code null} if no such node exists.
+         */
+        protected Node locate(char character) {
+            int index = Arrays.binarySearch(characters, character);
+            return index < 0
+                    ? UNDEFINED
+                    : children[index];
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package net.bytebuddy.matcher;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An element matcher that checks if a string is equal to any string of a set of strings by a single hash lookup.
+ */
+@EqualsAndHashCode(callSuper = false)
+public class StringSetMatcher extends ElementMatcher.Junction.AbstractBase<String> {
+
+    /**
+     * The values to match against.
+     */
+    protected final Set<String> values;
+
+    /**
+     * Creates a new string set matcher.
+     *
+     * @param values The values to match against.
+     */
+    public StringSetMatcher(Set<String> values) {
+        this.values = new HashSet<String>(values);
+    }
+
+    @Override
+    public boolean matches(String target) {
+        return values.contains(target);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("in(");
+        boolean first = true;
+        for (String value : values) {
+            if (first) {
+                first = false;
+            } else {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(value);
+        }
+        return stringBuilder.append(')').toString();
+    }
+}
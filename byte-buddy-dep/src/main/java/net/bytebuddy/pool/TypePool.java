@@ -22,13 +22,18 @@ import org.objectweb.asm.*;
 import org.objectweb.asm.signature.SignatureReader;
 import org.objectweb.asm.signature.SignatureVisitor;
 
-import java.io.IOException;
+import java.io.*;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericSignatureFormatError;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 import static net.bytebuddy.matcher.ElementMatchers.*;
 
@@ -242,6 +247,241 @@ public interface TypePool {
                 cache.clear();
             }
         }
+
+        /**
+         * <p>
+         * A thread-safe cache provider that retains a bounded number of resolutions and that evicts the least recently used
+         * resolution if this bound is exceeded. To reduce contention, the cache is split into several stripes where each stripe
+         * is guarded by its own lock and retains a fraction of the cache's capacity. Because of this, the least recently used
+         * resolution is only determined per stripe.
+         * </p>
+         * <p>
+         * This cache provider records the number of cache hits, misses and evictions what allows to size a cache appropriately.
+         * </p>
+         */
+        class Bounded implements CacheProvider {
+
+            /**
+             * The default number of stripes.
+             */
+            private static final int DEFAULT_STRIPES = 16;
+
+            /**
+             * The stripes of this cache.
+             */
+            private final Stripe[] stripes;
+
+            /**
+             * The number of cache hits.
+             */
+            private final AtomicLong hits;
+
+            /**
+             * The number of cache misses.
+             */
+            private final AtomicLong misses;
+
+            /**
+             * The number of evicted resolutions.
+             */
+            private final AtomicLong evictions;
+
+            /**
+             * Creates a new bounded cache with a default number of stripes.
+             *
+             * @param maximumSize The maximum number of resolutions to retain.
+             */
+            public Bounded(int maximumSize) {
+                this(maximumSize, DEFAULT_STRIPES);
+            }
+
+            /**
+             * Creates a new bounded cache.
+             *
+             * @param maximumSize The maximum number of resolutions to retain.
+             * @param stripes     The number of stripes to use which is rounded up to the next power of two.
+             */
+            public Bounded(int maximumSize, int stripes) {
+                if (maximumSize < 1) {
+                    throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+                } else if (stripes < 1) {
+                    throw new IllegalArgumentException("Number of stripes must be positive: " + stripes);
+                }
+                int size = 1;
+                while (size < stripes && size < maximumSize) {
+                    size <<= 1;
+                }
+                this.stripes = new Stripe[size];
+                for (int index = 0; index < size; index++) {
+                    this.stripes[index] = new Stripe(maximumSize / size + (index < maximumSize % size ? 1 : 0));
+                }
+                hits = new AtomicLong();
+                misses = new AtomicLong();
+                evictions = new AtomicLong();
+            }
+
+            /**
+             * Returns a bounded cache provider that is prepopulated with the {@link Object} type.
+             *
+             * @param maximumSize The maximum number of resolutions to retain.
+             * @return A bounded cache provider that is prepopulated with the {@link Object} type.
+             */
+            public static CacheProvider withObjectType(int maximumSize) {
+                CacheProvider cacheProvider = new Bounded(maximumSize);
+                cacheProvider.register(Object.class.getName(), new Resolution.Simple(TypeDescription.OBJECT));
+                return cacheProvider;
+            }
+
+            /**
+             * Returns the stripe that is responsible for a given name.
+             *
+             * @param name The name of the type.
+             * @return The stripe that is responsible for the given name.
+             */
+            private Stripe stripe(String name) {
+                int hash = name.hashCode();
+                return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+            }
+
+            @Override
+            public Resolution find(String name) {
+                Resolution resolution = stripe(name).find(name);
+                if (resolution == UNRESOLVED) {
+                    misses.incrementAndGet();
+                } else {
+                    hits.incrementAndGet();
+                }
+                return resolution;
+            }
+
+            @Override
+            public Resolution register(String name, Resolution resolution) {
+                return stripe(name).register(name, resolution, evictions);
+            }
+
+            @Override
+            public void clear() {
+                for (Stripe stripe : stripes) {
+                    stripe.clear();
+                }
+            }
+
+            /**
+             * Returns the number of resolutions that are currently retained by this cache.
+             *
+             * @return The number of resolutions that are currently retained by this cache.
+             */
+            public int size() {
+                int size = 0;
+                for (Stripe stripe : stripes) {
+                    size += stripe.size();
+                }
+                return size;
+            }
+
+            /**
+             * Returns the number of lookups that found a resolution in this cache.
+             *
+             * @return The number of cache hits.
+             */
+            public long getHits() {
+                return hits.get();
+            }
+
+            /**
+             * Returns the number of lookups that did not find a resolution in this cache.
+             *
+             * @return The number of cache misses.
+             */
+            public long getMisses() {
+                return misses.get();
+            }
+
+            /**
+             * Returns the number of resolutions that were evicted from this cache because its capacity was exceeded.
+             *
+             * @return The number of evicted resolutions.
+             */
+            public long getEvictions() {
+                return evictions.get();
+            }
+
+            /**
+             * A stripe of a bounded cache that retains resolutions in their access order.
+             */
+            protected static class Stripe {
+
+                /**
+                 * The maximum number of resolutions to retain in this stripe.
+                 */
+                private final int maximumSize;
+
+                /**
+                 * A map of all resolutions of this stripe in their access order.
+                 */
+                private final LinkedHashMap<String, Resolution> cache;
+
+                /**
+                 * Creates a new stripe.
+                 *
+                 * @param maximumSize The maximum number of resolutions to retain in this stripe.
+                 */
+                protected Stripe(int maximumSize) {
+                    this.maximumSize = maximumSize;
+                    cache = new LinkedHashMap<String, Resolution>(16, 0.75f, true);
+                }
+
+                /**
+                 * Attempts to find a resolution in this stripe.
+                 *
+                 * @param name The name of the type to describe.
+                 * @return A resolution of the type or {@code null} if no such resolution can be found in this stripe.
+                 */
+                protected synchronized Resolution find(String name) {
+                    return cache.get(name);
+                }
+
+                /**
+                 * Registers a resolution in this stripe unless a resolution is already registered and evicts the least recently
+                 * used resolution if this stripe's capacity is exceeded.
+                 *
+                 * @param name       The name of the type that is to be registered.
+                 * @param resolution The resolution to register.
+                 * @param evictions  The counter of evicted resolutions.
+                 * @return The resolution that is registered for the given name.
+                 */
+                protected synchronized Resolution register(String name, Resolution resolution, AtomicLong evictions) {
+                    Resolution cached = cache.get(name);
+                    if (cached != null) {
+                        return cached;
+                    }
+                    cache.put(name, resolution);
+                    Iterator<Resolution> iterator = cache.values().iterator();
+                    while (cache.size() > maximumSize && iterator.hasNext()) {
+                        iterator.next();
+                        iterator.remove();
+                        evictions.incrementAndGet();
+                    }
+                    return resolution;
+                }
+
+                /**
+                 * Clears this stripe.
+                 */
+                protected synchronized void clear() {
+                    cache.clear();
+                }
+
+                /**
+                 * Returns the number of resolutions in this stripe.
+                 *
+                 * @return The number of resolutions in this stripe.
+                 */
+                protected synchronized int size() {
+                    return cache.size();
+                }
+            }
+        }
     }
 
     /**
@@ -302,7 +542,7 @@ public interface TypePool {
                     float.class,
                     double.class,
                     void.class}) {
-                primitiveTypes.put(primitiveType.getName(), new TypeDescription.ForLoadedType(primitiveType));
+                primitiveTypes.put(primitiveType.getName(), TypeDescription.ForLoadedType.of(primitiveType));
                 primitiveDescriptors.put(Type.getDescriptor(primitiveType), primitiveType.getName());
             }
             PRIMITIVE_TYPES = Collections.unmodifiableMap(primitiveTypes);
@@ -725,7 +965,7 @@ public interface TypePool {
 
                 @Override
                 public String toString() {
-                    return RenderingDispatcher.CURRENT.toSourceString(new TypeDescription.ForLoadedType(type));
+                    return RenderingDispatcher.CURRENT.toSourceString(TypeDescription.ForLoadedType.of(type));
                 }
             }
         }
@@ -3277,7 +3517,7 @@ public interface TypePool {
                      * @param type The loaded type representing this primitive.
                      */
                     ForPrimitiveType(Class<?> type) {
-                        typeDescription = new ForLoadedType(type);
+                        typeDescription = ForLoadedType.of(type);
                     }
 
                     /**
@@ -5757,7 +5997,7 @@ public interface TypePool {
                      * @param values         A map of annotation value names to their value representations.
                      */
                     private Loadable(TypePool typePool, Class<S> annotationType, Map<String, AnnotationValue<?, ?>> values) {
-                        super(typePool, new ForLoadedType(annotationType), values);
+                        super(typePool, ForLoadedType.of(annotationType), values);
                         this.annotationType = annotationType;
                     }
 
@@ -7694,6 +7934,603 @@ public interface TypePool {
         }
     }
 
+    /**
+     * <p>
+     * A type pool that describes types from a precomputed, memory-mapped index. The index contains the name, the modifiers,
+     * the super class and the interfaces of each indexed type such that matching a type by these properties only requires a lookup
+     * within the index rather than parsing a class file. Any other property of a type, such as its members or annotations, is
+     * resolved from a delegate type pool once it is requested, typically by parsing the indexed class file.
+     * </p>
+     * <p>
+     * An index is created from a jar file or a folder of class files by {@link Index#write(File, File)}. The index does not
+     * reflect any change of the class files after it was written and must be recreated if any indexed class file changes.
+     * </p>
+     */
+    @EqualsAndHashCode(callSuper = true)
+    class ForIndex extends AbstractBase.Hierarchical {
+
+        /**
+         * The index to read type descriptions from.
+         */
+        private final Index index;
+
+        /**
+         * The type pool to use for types that are not indexed and for properties that are not contained in the index.
+         */
+        private final TypePool typePool;
+
+        /**
+         * Creates a new type pool for an index.
+         *
+         * @param cacheProvider The cache provider to use.
+         * @param parent        The parent type pool.
+         * @param index         The index to read type descriptions from.
+         * @param typePool      The type pool to use for types that are not indexed and for properties that are not contained in the index.
+         */
+        public ForIndex(CacheProvider cacheProvider, TypePool parent, Index index, TypePool typePool) {
+            super(cacheProvider, parent);
+            this.index = index;
+            this.typePool = typePool;
+        }
+
+        /**
+         * Creates a type pool for an index file that resolves any property that is not contained in the index by parsing class
+         * files that are located by the supplied class file locator.
+         *
+         * @param file             The index file.
+         * @param classFileLocator The class file locator for the indexed class files and any type that is not indexed.
+         * @return A type pool for the supplied index.
+         * @throws IOException If the index file cannot be read.
+         */
+        public static TypePool of(File file, ClassFileLocator classFileLocator) throws IOException {
+            return new ForIndex(new CacheProvider.Simple(),
+                    Empty.INSTANCE,
+                    Index.of(file),
+                    new Default.WithLazyResolution(new CacheProvider.Simple(), classFileLocator, Default.ReaderMode.FAST));
+        }
+
+        @Override
+        protected Resolution doDescribe(String name) {
+            int offset = index.locate(name);
+            return offset == Index.NOT_INDEXED
+                    ? typePool.describe(name)
+                    : new Resolution.Simple(new IndexedTypeDescription(this, typePool, index, offset, name));
+        }
+
+        /**
+         * <p>
+         * A read-only index of type descriptions. The index starts with a header that consists of a magic number, a format version and
+         * the number of indexed types. The header is followed by the hash codes of all type names in ascending order and by the offsets
+         * of the type records in the same order. Each type record contains the type's name, its modifiers, its actual modifiers, a flag
+         * that indicates if the type's super types are generic or annotated, the name of the super class and the names of the interfaces.
+         * Names are stored in their internal form as modified UTF-8.
+         * </p>
+         * <p>
+         * An index can be read concurrently.
+         * </p>
+         */
+        @EqualsAndHashCode
+        public static class Index {
+
+            /**
+             * Indicates that a type is not contained in the index.
+             */
+            protected static final int NOT_INDEXED = -1;
+
+            /**
+             * The magic number of an index file.
+             */
+            private static final int MAGIC = 0x42425449;
+
+            /**
+             * The version of the index format.
+             */
+            private static final int VERSION = 1;
+
+            /**
+             * The size of the index header.
+             */
+            private static final int HEADER_SIZE = 3 * 4;
+
+            /**
+             * A flag that indicates that a type's super types are generic or annotated.
+             */
+            private static final int COMPLEX_SUPER_TYPES = 1;
+
+            /**
+             * The file extension of a class file.
+             */
+            private static final String CLASS_FILE_EXTENSION = ".class";
+
+            /**
+             * The buffer that contains the index.
+             */
+            private final ByteBuffer buffer;
+
+            /**
+             * The number of indexed types.
+             */
+            private final int size;
+
+            /**
+             * Creates a new index.
+             *
+             * @param buffer The buffer that contains the index.
+             */
+            protected Index(ByteBuffer buffer) {
+                if (buffer.getInt(0) != MAGIC) {
+                    throw new IllegalArgumentException("Not a type index");
+                } else if (buffer.getInt(4) != VERSION) {
+                    throw new IllegalArgumentException("Unsupported type index version: " + buffer.getInt(4));
+                }
+                this.buffer = buffer;
+                size = buffer.getInt(8);
+            }
+
+            /**
+             * Maps an index file into memory.
+             *
+             * @param file The index file.
+             * @return An index that is backed by the supplied file.
+             * @throws IOException If the file cannot be read.
+             */
+            public static Index of(File file) throws IOException {
+                RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+                try {
+                    return new Index(randomAccessFile.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, randomAccessFile.length()));
+                } finally {
+                    randomAccessFile.close();
+                }
+            }
+
+            /**
+             * Creates an index from a byte array that contains an index.
+             *
+             * @param binaryRepresentation The binary representation of an index.
+             * @return An index that is backed by the supplied array.
+             */
+            public static Index of(byte[] binaryRepresentation) {
+                return new Index(ByteBuffer.wrap(binaryRepresentation).asReadOnlyBuffer());
+            }
+
+            /**
+             * Writes an index of all class files that are contained in a jar file or a folder.
+             *
+             * @param source The jar file or folder to index.
+             * @param target The file to write the index to.
+             * @throws IOException If an I/O error occurs.
+             */
+            public static void write(File source, File target) throws IOException {
+                OutputStream outputStream = new FileOutputStream(target);
+                try {
+                    outputStream.write(make(source));
+                } finally {
+                    outputStream.close();
+                }
+            }
+
+            /**
+             * Creates the binary representation of an index of all class files that are contained in a jar file or a folder.
+             *
+             * @param source The jar file or folder to index.
+             * @return The binary representation of the index.
+             * @throws IOException If an I/O error occurs.
+             */
+            public static byte[] make(File source) throws IOException {
+                List<byte[]> records = new ArrayList<byte[]>();
+                if (source.isDirectory()) {
+                    collect(source, records);
+                } else {
+                    JarFile jarFile = new JarFile(source);
+                    try {
+                        Enumeration<JarEntry> enumeration = jarFile.entries();
+                        while (enumeration.hasMoreElements()) {
+                            JarEntry jarEntry = enumeration.nextElement();
+                            if (!jarEntry.isDirectory() && jarEntry.getName().endsWith(CLASS_FILE_EXTENSION)) {
+                                InputStream inputStream = jarFile.getInputStream(jarEntry);
+                                try {
+                                    add(inputStream, records);
+                                } finally {
+                                    inputStream.close();
+                                }
+                            }
+                        }
+                    } finally {
+                        jarFile.close();
+                    }
+                }
+                return make(records);
+            }
+
+            /**
+             * Collects the records of all class files within a folder.
+             *
+             * @param folder  The folder to traverse.
+             * @param records The records that were collected so far.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void collect(File folder, List<byte[]> records) throws IOException {
+                File[] file = folder.listFiles();
+                if (file == null) {
+                    throw new IOException("Cannot list " + folder);
+                }
+                for (File aFile : file) {
+                    if (aFile.isDirectory()) {
+                        collect(aFile, records);
+                    } else if (aFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
+                        InputStream inputStream = new FileInputStream(aFile);
+                        try {
+                            add(inputStream, records);
+                        } finally {
+                            inputStream.close();
+                        }
+                    }
+                }
+            }
+
+            /**
+             * Adds the record of a class file to the supplied records.
+             *
+             * @param inputStream An input stream of the class file.
+             * @param records     The records that were collected so far.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static void add(InputStream inputStream, List<byte[]> records) throws IOException {
+                RecordExtractor recordExtractor = new RecordExtractor();
+                new ClassReader(inputStream).accept(recordExtractor, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+                records.add(recordExtractor.toRecord());
+            }
+
+            /**
+             * Creates the binary representation of an index from a list of type records.
+             *
+             * @param records The records to include.
+             * @return The binary representation of the index.
+             * @throws IOException If an I/O error occurs.
+             */
+            private static byte[] make(List<byte[]> records) throws IOException {
+                SortedMap<Long, byte[]> sorted = new TreeMap<Long, byte[]>();
+                long sequence = 0;
+                for (byte[] record : records) {
+                    sorted.put(((long) (readUtf(ByteBuffer.wrap(record), 0).hashCode()) << 32) | sequence++, record);
+                }
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+                dataOutputStream.writeInt(MAGIC);
+                dataOutputStream.writeInt(VERSION);
+                dataOutputStream.writeInt(sorted.size());
+                for (Long key : sorted.keySet()) {
+                    dataOutputStream.writeInt((int) (key >> 32));
+                }
+                int offset = HEADER_SIZE + 8 * sorted.size();
+                for (byte[] record : sorted.values()) {
+                    dataOutputStream.writeInt(offset);
+                    offset += record.length;
+                }
+                for (byte[] record : sorted.values()) {
+                    dataOutputStream.write(record);
+                }
+                dataOutputStream.close();
+                return outputStream.toByteArray();
+            }
+
+            /**
+             * Locates the record of a type.
+             *
+             * @param name The binary name of the type.
+             * @return The offset of the type's record or {@link Index#NOT_INDEXED} if the type is not indexed.
+             */
+            protected int locate(String name) {
+                String internalName = name.replace('.', '/');
+                int hashCode = internalName.hashCode(), low = 0, high = size - 1;
+                while (low <= high) {
+                    int middle = (low + high) >>> 1, value = buffer.getInt(HEADER_SIZE + 4 * middle);
+                    if (value < hashCode) {
+                        low = middle + 1;
+                    } else if (value > hashCode) {
+                        high = middle - 1;
+                    } else {
+                        while (middle > 0 && buffer.getInt(HEADER_SIZE + 4 * (middle - 1)) == hashCode) {
+                            middle--;
+                        }
+                        for (; middle < size && buffer.getInt(HEADER_SIZE + 4 * middle) == hashCode; middle++) {
+                            int offset = buffer.getInt(HEADER_SIZE + 4 * (size + middle));
+                            if (readUtf(buffer, offset).equals(internalName)) {
+                                return offset;
+                            }
+                        }
+                        return NOT_INDEXED;
+                    }
+                }
+                return NOT_INDEXED;
+            }
+
+            /**
+             * Returns the modifiers of an indexed type.
+             *
+             * @param offset The offset of the type's record.
+             * @return The type's modifiers.
+             */
+            protected int getModifiers(int offset) {
+                return buffer.getInt(offset + 2 + buffer.getChar(offset));
+            }
+
+            /**
+             * Returns the actual modifiers of an indexed type as found in the class file.
+             *
+             * @param offset The offset of the type's record.
+             * @return The type's actual modifiers.
+             */
+            protected int getActualModifiers(int offset) {
+                return buffer.getInt(offset + 6 + buffer.getChar(offset));
+            }
+
+            /**
+             * Determines if the super types of an indexed type are generic or annotated such that they cannot be represented by the index.
+             *
+             * @param offset The offset of the type's record.
+             * @return {@code true} if the type's super types are generic or annotated.
+             */
+            protected boolean hasComplexSuperTypes(int offset) {
+                return (buffer.get(offset + 10 + buffer.getChar(offset)) & COMPLEX_SUPER_TYPES) != 0;
+            }
+
+            /**
+             * Returns the binary name of an indexed type's super class.
+             *
+             * @param offset The offset of the type's record.
+             * @return The binary name of the type's super class or {@code null} if the type does not define a super class.
+             */
+            protected String getSuperClassName(int offset) {
+                String superClassName = readUtf(buffer, offset + 11 + buffer.getChar(offset));
+                return superClassName.length() == 0
+                        ? null
+                        : superClassName.replace('/', '.');
+            }
+
+            /**
+             * Returns the binary names of an indexed type's interfaces.
+             *
+             * @param offset The offset of the type's record.
+             * @return The binary names of the type's interfaces.
+             */
+            protected List<String> getInterfaceNames(int offset) {
+                offset += 11 + buffer.getChar(offset);
+                offset += 2 + buffer.getChar(offset);
+                int count = buffer.getChar(offset);
+                offset += 2;
+                List<String> interfaceNames = new ArrayList<String>(count);
+                for (int index = 0; index < count; index++) {
+                    String interfaceName = readUtf(buffer, offset);
+                    interfaceNames.add(interfaceName.replace('/', '.'));
+                    offset += 2 + buffer.getChar(offset);
+                }
+                return interfaceNames;
+            }
+
+            /**
+             * Reads a modified UTF-8 string that is prefixed by its length in bytes.
+             *
+             * @param buffer The buffer to read from.
+             * @param offset The offset of the string's length.
+             * @return The string that was read.
+             */
+            private static String readUtf(ByteBuffer buffer, int offset) {
+                int length = buffer.getChar(offset);
+                char[] character = new char[length];
+                int count = 0;
+                for (int index = offset + 2; index < offset + 2 + length; index++) {
+                    int value = buffer.get(index) & 0xFF;
+                    if (value < 0x80) {
+                        character[count++] = (char) value;
+                    } else if (value < 0xE0) {
+                        character[count++] = (char) (((value & 0x1F) << 6) | (buffer.get(++index) & 0x3F));
+                    } else {
+                        character[count++] = (char) (((value & 0x0F) << 12) | ((buffer.get(++index) & 0x3F) << 6) | (buffer.get(++index) & 0x3F));
+                    }
+                }
+                return new String(character, 0, count);
+            }
+
+            /**
+             * A class visitor that extracts the index record of a class file.
+             */
+            protected static class RecordExtractor extends ClassVisitor {
+
+                /**
+                 * A mask that cuts off pseudo flags beyond the second byte that are inserted by ASM.
+                 */
+                private static final int REAL_MODIFIER_MASK = 0xFFFF;
+
+                /**
+                 * The internal name of the type.
+                 */
+                private String internalName;
+
+                /**
+                 * The type's modifiers.
+                 */
+                private int modifiers;
+
+                /**
+                 * The type's actual modifiers.
+                 */
+                private int actualModifiers;
+
+                /**
+                 * {@code true} if the type's super types are generic or annotated.
+                 */
+                private boolean complexSuperTypes;
+
+                /**
+                 * The internal name of the super class or {@code null} if no super class is defined.
+                 */
+                private String superClassName;
+
+                /**
+                 * The internal names of the type's interfaces or {@code null} if no interfaces are defined.
+                 */
+                private String[] interfaceName;
+
+                /**
+                 * Creates a new record extractor.
+                 */
+                protected RecordExtractor() {
+                    super(Opcodes.ASM6);
+                }
+
+                @Override
+                @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The array is not to be modified by contract")
+                public void visit(int classFileVersion,
+                                  int modifiers,
+                                  String internalName,
+                                  String genericSignature,
+                                  String superClassName,
+                                  String[] interfaceName) {
+                    this.modifiers = modifiers & REAL_MODIFIER_MASK;
+                    actualModifiers = modifiers;
+                    this.internalName = internalName;
+                    complexSuperTypes = genericSignature != null;
+                    this.superClassName = superClassName;
+                    this.interfaceName = interfaceName;
+                }
+
+                @Override
+                public void visitInnerClass(String internalName, String outerName, String innerName, int modifiers) {
+                    if (internalName.equals(this.internalName)) {
+                        this.modifiers = modifiers & REAL_MODIFIER_MASK;
+                    }
+                }
+
+                @Override
+                public AnnotationVisitor visitTypeAnnotation(int rawTypeReference, TypePath typePath, String descriptor, boolean visible) {
+                    if (new TypeReference(rawTypeReference).getSort() == TypeReference.CLASS_EXTENDS) {
+                        complexSuperTypes = true;
+                    }
+                    return null;
+                }
+
+                /**
+                 * Creates the binary record of the visited type.
+                 *
+                 * @return The binary record of the visited type.
+                 * @throws IOException If an I/O error occurs.
+                 */
+                protected byte[] toRecord() throws IOException {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                    DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+                    dataOutputStream.writeUTF(internalName);
+                    dataOutputStream.writeInt(modifiers & ~(Opcodes.ACC_SUPER | Opcodes.ACC_DEPRECATED));
+                    dataOutputStream.writeInt(actualModifiers & ~Opcodes.ACC_SUPER);
+                    dataOutputStream.writeByte(complexSuperTypes ? COMPLEX_SUPER_TYPES : 0);
+                    dataOutputStream.writeUTF(superClassName == null ? "" : superClassName);
+                    dataOutputStream.writeShort(interfaceName == null ? 0 : interfaceName.length);
+                    if (interfaceName != null) {
+                        for (String anInterfaceName : interfaceName) {
+                            dataOutputStream.writeUTF(anInterfaceName);
+                        }
+                    }
+                    dataOutputStream.close();
+                    return outputStream.toByteArray();
+                }
+            }
+        }
+
+        /**
+         * A type description that reads its name, modifiers and super types from an index and that resolves any other property
+         * from a delegate type pool.
+         */
+        protected static class IndexedTypeDescription extends TypeDescription.AbstractBase.OfSimpleType.WithDelegation {
+
+            /**
+             * The type pool to use for resolving super types.
+             */
+            private final TypePool typePool;
+
+            /**
+             * The type pool to use for resolving properties that are not contained in the index.
+             */
+            private final TypePool delegate;
+
+            /**
+             * The index that contains this type.
+             */
+            private final Index index;
+
+            /**
+             * The offset of this type's record within the index.
+             */
+            private final int offset;
+
+            /**
+             * The binary name of this type.
+             */
+            private final String name;
+
+            /**
+             * Creates a new indexed type description.
+             *
+             * @param typePool The type pool to use for resolving super types.
+             * @param delegate The type pool to use for resolving properties that are not contained in the index.
+             * @param index    The index that contains this type.
+             * @param offset   The offset of this type's record within the index.
+             * @param name     The binary name of this type.
+             */
+            protected IndexedTypeDescription(TypePool typePool, TypePool delegate, Index index, int offset, String name) {
+                this.typePool = typePool;
+                this.delegate = delegate;
+                this.index = index;
+                this.offset = offset;
+                this.name = name;
+            }
+
+            @Override
+            protected TypeDescription delegate() {
+                return delegate.describe(name).resolve();
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public int getModifiers() {
+                return index.getModifiers(offset);
+            }
+
+            @Override
+            public int getActualModifiers(boolean superFlag) {
+                int actualModifiers = index.getActualModifiers(offset);
+                return superFlag ? (actualModifiers | Opcodes.ACC_SUPER) : actualModifiers;
+            }
+
+            @Override
+            public Generic getSuperClass() {
+                if (index.hasComplexSuperTypes(offset)) {
+                    return delegate().getSuperClass();
+                }
+                String superClassName = index.getSuperClassName(offset);
+                return superClassName == null || isInterface()
+                        ? Generic.UNDEFINED
+                        : new Generic.OfNonGenericType.ForErasure(typePool.describe(superClassName).resolve());
+            }
+
+            @Override
+            public TypeList.Generic getInterfaces() {
+                if (index.hasComplexSuperTypes(offset)) {
+                    return delegate().getInterfaces();
+                }
+                List<String> interfaceNames = index.getInterfaceNames(offset);
+                List<TypeDescription> interfaceTypes = new ArrayList<TypeDescription>(interfaceNames.size());
+                for (String interfaceName : interfaceNames) {
+                    interfaceTypes.add(typePool.describe(interfaceName).resolve());
+                }
+                return new TypeList.Generic.Explicit(interfaceTypes);
+            }
+        }
+    }
+
     /**
      * A type pool that attempts to load a class.
      */
@@ -7764,7 +8601,7 @@ public interface TypePool {
         @Override
         public Resolution doDescribe(String name) {
             try {
-                return new Resolution.Simple(new TypeDescription.ForLoadedType(Class.forName(name, false, classLoader)));
+                return new Resolution.Simple(TypeDescription.ForLoadedType.of(Class.forName(name, false, classLoader)));
             } catch (ClassNotFoundException ignored) {
                 return new Resolution.Illegal(name);
             }
@@ -7,16 +7,26 @@ import org.junit.Test;
 import java.lang.ref.Reference;
 import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
 
 public class TypeCacheTest {
@@ -134,6 +144,131 @@ public class TypeCacheTest {
         typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), new Object(), callable, new Object());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindOrInsertDeduplicating() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache.WithInFlightDeduplication<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        verify(callable).call();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, new Object()), is((Object) Void.class));
+        verifyNoMoreInteractions(callable);
+        assertThat(((TypeCache.WithInFlightDeduplication<Object>) typeCache).inFlight.isEmpty(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFindOrInsertDeduplicatingInline() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache.WithInFlightDeduplication.WithInlineExpunction<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenReturn((Class) Void.class);
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable, new Object()), is((Object) Void.class));
+        assertThat(typeCache.find(ClassLoader.getSystemClassLoader(), key), is((Object) Void.class));
+        assertThat(typeCache.insert(ClassLoader.getSystemClassLoader(), key, Object.class), is((Object) Void.class));
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+        verify(callable).call();
+        verifyNoMoreInteractions(callable);
+    }
+
+    @Test
+    public void testFindOrInsertDeduplicatingConcurrent() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache.WithInFlightDeduplication<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object(), otherKey = new Object();
+        final CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1);
+        final AtomicInteger creations = new AtomicInteger();
+        final Callable<Class<?>> callable = new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                creations.incrementAndGet();
+                started.countDown();
+                release.await();
+                return Void.class;
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Class<?>>> futures = new ArrayList<Future<Class<?>>>();
+            for (int index = 0; index < 4; index++) {
+                futures.add(executorService.submit(new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+                    }
+                }));
+            }
+            assertThat(started.await(1, TimeUnit.SECONDS), is(true));
+            assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), otherKey, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    return Object.class;
+                }
+            }), is((Object) Object.class));
+            release.countDown();
+            for (Future<Class<?>> future : futures) {
+                assertThat(future.get(1, TimeUnit.SECONDS), is((Object) Void.class));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(creations.get(), is(1));
+    }
+
+    @Test
+    public void testFindOrInsertDeduplicatingRecursive() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache.WithInFlightDeduplication<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object();
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+            @Override
+            public Class<?> call() throws Exception {
+                return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                    @Override
+                    public Class<?> call() throws Exception {
+                        return Void.class;
+                    }
+                });
+            }
+        }), is((Object) Void.class));
+        assertThat(((TypeCache.WithInFlightDeduplication<Object>) typeCache).awaiting.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testFindOrInsertDeduplicatingCircular() throws Exception {
+        final TypeCache<Object> typeCache = new TypeCache.WithInFlightDeduplication<Object>(TypeCache.Sort.WEAK);
+        final Object key = new Object(), otherKey = new Object();
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<Class<?>> future = executorService.submit(new DependentCreation(typeCache, barrier, key, otherKey, Void.class));
+            Future<Class<?>> otherFuture = executorService.submit(new DependentCreation(typeCache, barrier, otherKey, key, Object.class));
+            assertThat(future.get(1, TimeUnit.SECONDS), is((Object) typeCache.find(ClassLoader.getSystemClassLoader(), key)));
+            assertThat(otherFuture.get(1, TimeUnit.SECONDS), is((Object) typeCache.find(ClassLoader.getSystemClassLoader(), otherKey)));
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertThat(((TypeCache.WithInFlightDeduplication<Object>) typeCache).inFlight.isEmpty(), is(true));
+        assertThat(((TypeCache.WithInFlightDeduplication<Object>) typeCache).awaiting.isEmpty(), is(true));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCreationExceptionDeduplicating() throws Exception {
+        TypeCache<Object> typeCache = new TypeCache.WithInFlightDeduplication<Object>(TypeCache.Sort.WEAK);
+        Object key = new Object();
+        Callable<Class<?>> callable = mock(Callable.class);
+        when(callable.call()).thenThrow(RuntimeException.class).thenReturn((Class) Void.class);
+        try {
+            typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable);
+            fail();
+        } catch (IllegalArgumentException exception) {
+            assertThat(exception.getCause(), instanceOf(RuntimeException.class));
+        }
+        assertThat(typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, callable), is((Object) Void.class));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypeCache.Sort.class).apply();
@@ -161,4 +296,40 @@ public class TypeCacheTest {
         }).apply();
 
     }
+
+    private static class DependentCreation implements Callable<Class<?>> {
+
+        private final TypeCache<Object> typeCache;
+
+        private final CyclicBarrier barrier;
+
+        private final Object key, dependency;
+
+        private final Class<?> type;
+
+        private DependentCreation(TypeCache<Object> typeCache, CyclicBarrier barrier, Object key, Object dependency, Class<?> type) {
+            this.typeCache = typeCache;
+            this.barrier = barrier;
+            this.key = key;
+            this.dependency = dependency;
+            this.type = type;
+        }
+
+        @Override
+        public Class<?> call() throws Exception {
+            return typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), key, new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    barrier.await(1, TimeUnit.SECONDS);
+                    typeCache.findOrInsert(ClassLoader.getSystemClassLoader(), dependency, new Callable<Class<?>>() {
+                        @Override
+                        public Class<?> call() throws Exception {
+                            return String.class;
+                        }
+                    });
+                    return type;
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,108 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AgentBuilderClassFileCacheTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final byte[] QUX = new byte[]{1, 2, 3}, BAZ = new byte[]{4, 5, 6};
+
+    private File folder;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), is(true));
+        folder = new File(folder.getParentFile(), RandomString.make());
+        assertThat(folder.mkdir(), is(true));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        File[] file = folder.listFiles();
+        if (file != null) {
+            for (File aFile : file) {
+                assertThat(aFile.delete(), is(true));
+            }
+        }
+        assertThat(folder.delete(), is(true));
+    }
+
+    @Test
+    public void testNoOp() throws Exception {
+        assertThat(AgentBuilder.ClassFileCache.NoOp.INSTANCE.find(FOO, null, null, false, Collections.singletonList(0), QUX).isResolved(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnresolvedCannotResolve() throws Exception {
+        AgentBuilder.ClassFileCache.Resolution.Unresolved.INSTANCE.resolve();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testResolvedCannotRegister() throws Exception {
+        new AgentBuilder.ClassFileCache.Resolution.Resolved(QUX).register(BAZ);
+    }
+
+    @Test
+    public void testFolderTransformed() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = new AgentBuilder.ClassFileCache.ForFolder(folder, FOO);
+        AgentBuilder.ClassFileCache.Resolution resolution = classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX);
+        assertThat(resolution.isResolved(), is(false));
+        resolution.register(BAZ);
+        resolution = classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX);
+        assertThat(resolution.isResolved(), is(true));
+        assertThat(resolution.resolve(), is(BAZ));
+        assertThat(classFileCache.find(FOO, null, null, true, Collections.singletonList(0), QUX).isResolved(), is(false));
+        assertThat(new AgentBuilder.ClassFileCache.ForFolder(folder, BAR).find(FOO, null, null, false, Collections.singletonList(0), QUX).isResolved(), is(false));
+    }
+
+    @Test
+    public void testFolderDiscriminatesTransformations() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = new AgentBuilder.ClassFileCache.ForFolder(folder, FOO);
+        classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX).register(BAZ);
+        assertThat(classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX).isResolved(), is(true));
+        assertThat(classFileCache.find(FOO, null, null, false, Collections.singletonList(1), QUX).isResolved(), is(false));
+        assertThat(classFileCache.find(FOO, null, null, false, Arrays.asList(0, 1), QUX).isResolved(), is(false));
+    }
+
+    @Test
+    public void testFolderDiscriminatesClassLoader() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = new AgentBuilder.ClassFileCache.ForFolder(folder, FOO);
+        classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX).register(BAZ);
+        assertThat(classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX).isResolved(), is(true));
+        assertThat(classFileCache.find(FOO, getClass().getClassLoader(), null, false, Collections.singletonList(0), QUX).isResolved(), is(false));
+    }
+
+    @Test
+    public void testFolderNotWritable() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = new AgentBuilder.ClassFileCache.ForFolder(new File(folder, FOO), FOO);
+        classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX).register(BAZ);
+        assertThat(classFileCache.find(FOO, null, null, false, Collections.singletonList(0), QUX).isResolved(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFolderUnresolvedCannotResolve() throws Exception {
+        new AgentBuilder.ClassFileCache.ForFolder(folder, FOO).find(FOO, null, null, false, Collections.singletonList(0), QUX).resolve();
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.ClassFileCache.NoOp.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.ClassFileCache.Resolution.Unresolved.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.ClassFileCache.Resolution.Resolved.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.ClassFileCache.ForFolder.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.ClassFileCache.ForFolder.Resolution.class).apply();
+    }
+}
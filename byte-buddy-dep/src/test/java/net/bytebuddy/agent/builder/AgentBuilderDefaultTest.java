@@ -24,6 +24,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
 import org.junit.rules.TestRule;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
@@ -37,10 +38,18 @@ import java.lang.instrument.UnmodifiableClassException;
 import java.lang.reflect.Constructor;
 import java.security.ProtectionDomain;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static net.bytebuddy.matcher.ElementMatchers.none;
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.*;
 
@@ -283,6 +292,159 @@ public class AgentBuilderDefaultTest {
         verifyNoMoreInteractions(installationListener);
     }
 
+    @Test
+    public void testSuccessfulWithClassFileCacheRegistration() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = mock(AgentBuilder.ClassFileCache.class);
+        AgentBuilder.ClassFileCache.Resolution cacheResolution = mock(AgentBuilder.ClassFileCache.Resolution.class);
+        when(classFileCache.find(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, Collections.singletonList(0), QUX)).thenReturn(cacheResolution);
+        when(dynamicType.getBytes()).thenReturn(BAZ);
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(classFileCache)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(classFileCache).find(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, Collections.singletonList(0), QUX);
+        verifyNoMoreInteractions(classFileCache);
+        verify(cacheResolution).isResolved();
+        verify(cacheResolution).register(BAZ);
+        verifyNoMoreInteractions(cacheResolution);
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onTransformation(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, dynamicType);
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testSuccessfulWithClassFileCacheResolved() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = mock(AgentBuilder.ClassFileCache.class);
+        when(classFileCache.find(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, Collections.singletonList(0), QUX))
+                .thenReturn(new AgentBuilder.ClassFileCache.Resolution.Resolved(BAZ));
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(classFileCache)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(classFileCache).find(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, Collections.singletonList(0), QUX);
+        verifyNoMoreInteractions(classFileCache);
+        ArgumentCaptor<DynamicType> cached = ArgumentCaptor.forClass(DynamicType.class);
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onTransformation(eq(new TypeDescription.ForLoadedType(REDEFINED)), eq(REDEFINED.getClassLoader()), eq(JavaModule.ofType(REDEFINED)), eq(true), cached.capture());
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verifyNoMoreInteractions(listener);
+        assertThat(cached.getValue().getBytes(), is(BAZ));
+        assertThat(cached.getValue().getAuxiliaryTypes().isEmpty(), is(true));
+        assertThat(cached.getValue().hasAliveLoadedTypeInitializers(), is(false));
+        verify(typeMatcher).matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain());
+        verifyNoMoreInteractions(typeMatcher);
+        verifyZeroInteractions(transformer);
+        verifyZeroInteractions(initializationStrategy);
+    }
+
+    @Test
+    public void testClassFileCacheNotQueriedForIgnoredType() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = mock(AgentBuilder.ClassFileCache.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(classFileCache)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), nullValue(byte[].class));
+        verifyZeroInteractions(classFileCache);
+        verify(listener).onDiscovery(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onIgnored(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verify(listener).onComplete(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true);
+        verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testClassFileCacheNoRegistrationWithAuxiliaryTypes() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = mock(AgentBuilder.ClassFileCache.class);
+        AgentBuilder.ClassFileCache.Resolution cacheResolution = mock(AgentBuilder.ClassFileCache.Resolution.class);
+        when(classFileCache.find(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, Collections.singletonList(0), QUX)).thenReturn(cacheResolution);
+        when(dynamicType.getAuxiliaryTypes()).thenReturn(Collections.<TypeDescription, byte[]>singletonMap(mock(TypeDescription.class), QUX));
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(classFileCache)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(cacheResolution).isResolved();
+        verifyNoMoreInteractions(cacheResolution);
+    }
+
+    @Test
+    public void testClassFileCacheNoRegistrationWithAliveLoadedTypeInitializers() throws Exception {
+        AgentBuilder.ClassFileCache classFileCache = mock(AgentBuilder.ClassFileCache.class);
+        AgentBuilder.ClassFileCache.Resolution cacheResolution = mock(AgentBuilder.ClassFileCache.Resolution.class);
+        when(classFileCache.find(REDEFINED.getName(), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), true, Collections.singletonList(0), QUX)).thenReturn(cacheResolution);
+        when(dynamicType.hasAliveLoadedTypeInitializers()).thenReturn(true);
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
+                .thenReturn(true);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(classFileCache)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        verify(cacheResolution).isResolved();
+        verifyNoMoreInteractions(cacheResolution);
+    }
+
+    @Test
+    public void testNameFilterRejected() throws Exception {
+        AgentBuilder.NameFilter nameFilter = mock(AgentBuilder.NameFilter.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(nameFilter)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), REDEFINED, REDEFINED.getProtectionDomain(), QUX), nullValue(byte[].class));
+        verify(nameFilter).isCandidate(REDEFINED.getName(), REDEFINED.getClassLoader());
+        verifyNoMoreInteractions(nameFilter);
+        verifyZeroInteractions(listener);
+        verifyZeroInteractions(typeMatcher);
+        verifyZeroInteractions(transformer);
+        verify(poolStrategy, never()).typePool(any(ClassFileLocator.class), any(ClassLoader.class));
+    }
+
     @Test
     public void testSuccessfulWithExistingClassFallback() throws Exception {
         when(dynamicType.getBytes()).thenReturn(BAZ);
@@ -562,6 +724,268 @@ public class AgentBuilderDefaultTest {
         verifyNoMoreInteractions(installationListener);
     }
 
+    @Test
+    public void testSuccessfulWithRetransformationNameFilterRejected() throws Exception {
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        AgentBuilder.NameFilter nameFilter = mock(AgentBuilder.NameFilter.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(nameFilter)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation);
+        verifyZeroInteractions(listener);
+        verify(instrumentation).addTransformer(classFileTransformer, true);
+        verify(instrumentation).getAllLoadedClasses();
+        verify(instrumentation).isRetransformClassesSupported();
+        verifyNoMoreInteractions(instrumentation);
+        verify(nameFilter).isCandidate(REDEFINED.getName().replace('.', '/'), REDEFINED.getClassLoader());
+        verifyNoMoreInteractions(nameFilter);
+        verifyZeroInteractions(typeMatcher);
+        verify(poolStrategy, never()).typePool(any(ClassFileLocator.class), any(ClassLoader.class));
+        verify(installationListener).onBeforeInstall(instrumentation, classFileTransformer);
+        verify(installationListener).onInstall(instrumentation, classFileTransformer);
+        verifyNoMoreInteractions(installationListener);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAsynchronousInstallationRequiresExecutorService() throws Exception {
+        try {
+            new AgentBuilder.Default(byteBuddy)
+                    .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                    .installOn(instrumentation, null);
+        } finally {
+            verifyZeroInteractions(instrumentation);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSuccessfulWithAsynchronousRetransformationMatched() throws Exception {
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain())).thenReturn(true);
+        when(instrumentation.isModifiableClass(REDEFINED)).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        ExecutorService executorService = mock(ExecutorService.class);
+        when(executorService.submit(any(Runnable.class))).thenReturn((Future) mock(Future.class));
+        AgentBuilder.RedefinitionStrategy.Listener redefinitionListener = mock(AgentBuilder.RedefinitionStrategy.Listener.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .with(redefinitionListener)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation, executorService);
+        verify(instrumentation).addTransformer(classFileTransformer, true);
+        verify(instrumentation).isRetransformClassesSupported();
+        verifyNoMoreInteractions(instrumentation);
+        verify(installationListener).onBeforeInstall(instrumentation, classFileTransformer);
+        verify(installationListener).onInstall(instrumentation, classFileTransformer);
+        verifyNoMoreInteractions(installationListener);
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).submit(job.capture());
+        verifyNoMoreInteractions(executorService);
+        verifyZeroInteractions(redefinitionListener);
+        job.getValue().run();
+        verifyZeroInteractions(listener);
+        verify(instrumentation).getAllLoadedClasses();
+        verify(instrumentation).isModifiableClass(REDEFINED);
+        verify(instrumentation).retransformClasses(REDEFINED);
+        verify(instrumentation, times(2)).isRetransformClassesSupported();
+        verifyNoMoreInteractions(instrumentation);
+        verify(redefinitionListener).onBatch(0, Collections.<Class<?>>singletonList(REDEFINED), Collections.<Class<?>>singletonList(REDEFINED));
+        verify(redefinitionListener).onComplete(1, Collections.<Class<?>>singletonList(REDEFINED), Collections.<List<Class<?>>, Throwable>emptyMap());
+        verifyNoMoreInteractions(redefinitionListener);
+        verifyNoMoreInteractions(installationListener);
+    }
+
+    @Test
+    public void testAsynchronousRetransformationDoesNotHoldCircularityLock() throws Exception {
+        when(resolution.resolve()).thenReturn(new TypeDescription.ForLoadedType(REDEFINED));
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain())).thenReturn(true);
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), null, REDEFINED.getProtectionDomain())).thenReturn(true);
+        when(instrumentation.isModifiableClass(REDEFINED)).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        final CountDownLatch retransforming = new CountDownLatch(1), release = new CountDownLatch(1);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
+                retransforming.countDown();
+                assertThat(release.await(10, TimeUnit.SECONDS), is(true));
+                return null;
+            }
+        }).when(instrumentation).retransformClasses(REDEFINED);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                    .with(new AgentBuilder.CircularityLock.Global())
+                    .with(initializationStrategy)
+                    .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                    .with(poolStrategy)
+                    .with(typeStrategy)
+                    .with(listener)
+                    .disableNativeMethodPrefix()
+                    .ignore(none())
+                    .type(typeMatcher).transform(transformer)
+                    .installOn(instrumentation, executorService);
+            assertThat(retransforming.await(10, TimeUnit.SECONDS), is(true));
+            assertThat(transform(classFileTransformer, JavaModule.ofType(REDEFINED), REDEFINED.getClassLoader(), REDEFINED.getName(), null, REDEFINED.getProtectionDomain(), QUX), is(BAZ));
+        } finally {
+            release.countDown();
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS), is(true));
+        }
+        verify(instrumentation).retransformClasses(REDEFINED);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsynchronousRetransformationCanceled() throws Exception {
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain())).thenReturn(true);
+        when(instrumentation.isModifiableClass(REDEFINED)).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        when(instrumentation.removeTransformer(any(ClassFileTransformer.class))).thenReturn(true);
+        ExecutorService executorService = mock(ExecutorService.class);
+        Future<?> future = mock(Future.class);
+        when(executorService.submit(any(Runnable.class))).thenReturn((Future) future);
+        AgentBuilder.RedefinitionStrategy.Listener redefinitionListener = mock(AgentBuilder.RedefinitionStrategy.Listener.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .with(redefinitionListener)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation, executorService);
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).submit(job.capture());
+        assertThat(classFileTransformer.reset(instrumentation, AgentBuilder.RedefinitionStrategy.DISABLED), is(true));
+        verify(future).cancel(false);
+        verify(installationListener).onReset(instrumentation, classFileTransformer);
+        job.getValue().run();
+        verify(instrumentation, never()).retransformClasses(any(Class[].class));
+        verifyZeroInteractions(listener);
+        verify(redefinitionListener).onComplete(0, Collections.<Class<?>>emptyList(), Collections.<List<Class<?>>, Throwable>emptyMap());
+        verifyNoMoreInteractions(redefinitionListener);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsynchronousRetransformationCanceledWhileRunning() throws Exception {
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain())).thenReturn(true);
+        when(instrumentation.isModifiableClass(REDEFINED)).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        when(instrumentation.removeTransformer(any(ClassFileTransformer.class))).thenReturn(true);
+        final AtomicReference<ResettableClassFileTransformer> installed = new AtomicReference<ResettableClassFileTransformer>();
+        when(instrumentation.getAllLoadedClasses()).then(new Answer<Class<?>[]>() {
+            public Class<?>[] answer(InvocationOnMock invocation) {
+                installed.get().reset(instrumentation, AgentBuilder.RedefinitionStrategy.DISABLED);
+                return new Class<?>[]{REDEFINED};
+            }
+        });
+        ExecutorService executorService = mock(ExecutorService.class);
+        when(executorService.submit(any(Runnable.class))).thenReturn((Future) mock(Future.class));
+        AgentBuilder.RedefinitionStrategy.Listener redefinitionListener = mock(AgentBuilder.RedefinitionStrategy.Listener.class);
+        installed.set(new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .with(redefinitionListener)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation, executorService));
+        ArgumentCaptor<Runnable> job = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).submit(job.capture());
+        job.getValue().run();
+        verify(instrumentation, never()).retransformClasses(any(Class[].class));
+        verify(redefinitionListener).onComplete(0, Collections.<Class<?>>singletonList(REDEFINED), Collections.<List<Class<?>>, Throwable>emptyMap());
+        verifyNoMoreInteractions(redefinitionListener);
+        verify(installationListener, never()).onError(eq(instrumentation), any(ResettableClassFileTransformer.class), any(Throwable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testAsynchronousRetransformationRejected() throws Exception {
+        when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain())).thenReturn(true);
+        when(instrumentation.isModifiableClass(REDEFINED)).thenReturn(true);
+        when(instrumentation.isRetransformClassesSupported()).thenReturn(true);
+        ExecutorService executorService = mock(ExecutorService.class);
+        when(executorService.submit(any(Runnable.class))).thenThrow(new RejectedExecutionException());
+        AgentBuilder.RedefinitionStrategy.Listener redefinitionListener = mock(AgentBuilder.RedefinitionStrategy.Listener.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(initializationStrategy)
+                .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                .with(redefinitionListener)
+                .with(poolStrategy)
+                .with(typeStrategy)
+                .with(installationListener)
+                .with(listener)
+                .disableNativeMethodPrefix()
+                .ignore(none())
+                .type(typeMatcher).transform(transformer)
+                .installOn(instrumentation, executorService);
+        verify(instrumentation).addTransformer(classFileTransformer, true);
+        verify(instrumentation).retransformClasses(REDEFINED);
+        verify(installationListener).onInstall(instrumentation, classFileTransformer);
+        verify(installationListener, never()).onError(eq(instrumentation), any(ResettableClassFileTransformer.class), any(Throwable.class));
+        verify(redefinitionListener).onBatch(0, Collections.<Class<?>>singletonList(REDEFINED), Collections.<Class<?>>singletonList(REDEFINED));
+        verify(redefinitionListener).onComplete(1, Collections.<Class<?>>singletonList(REDEFINED), Collections.<List<Class<?>>, Throwable>emptyMap());
+        verifyNoMoreInteractions(redefinitionListener);
+    }
+
+    @Test
+    public void testAsynchronousRetransformationNotSupported() throws Exception {
+        when(installationListener.onError(eq(instrumentation), any(ResettableClassFileTransformer.class), any(Throwable.class))).then(new Answer<Throwable>() {
+            public Throwable answer(InvocationOnMock invocation) {
+                return (Throwable) invocation.getArguments()[2];
+            }
+        });
+        ExecutorService executorService = mock(ExecutorService.class);
+        try {
+            new AgentBuilder.Default(byteBuddy)
+                    .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+                    .with(installationListener)
+                    .disableNativeMethodPrefix()
+                    .installOn(instrumentation, executorService);
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        verifyZeroInteractions(executorService);
+        verify(installationListener, never()).onInstall(any(Instrumentation.class), any(ResettableClassFileTransformer.class));
+    }
+
+    @Test
+    public void testAsynchronousWithoutRedefinition() throws Exception {
+        ExecutorService executorService = mock(ExecutorService.class);
+        ResettableClassFileTransformer classFileTransformer = new AgentBuilder.Default(byteBuddy)
+                .with(installationListener)
+                .disableNativeMethodPrefix()
+                .installOn(instrumentation, executorService);
+        verify(instrumentation).addTransformer(classFileTransformer, false);
+        verifyNoMoreInteractions(instrumentation);
+        verifyZeroInteractions(executorService);
+        verify(installationListener).onInstall(instrumentation, classFileTransformer);
+    }
+
     @Test
     public void testSuccessfulWithRetransformationMatchedFallback() throws Exception {
         when(typeMatcher.matches(new TypeDescription.ForLoadedType(REDEFINED), REDEFINED.getClassLoader(), JavaModule.ofType(REDEFINED), REDEFINED, REDEFINED.getProtectionDomain()))
@@ -2006,6 +2430,8 @@ public class AgentBuilderDefaultTest {
                 mock(AgentBuilder.InstallationListener.class),
                 mock(AgentBuilder.RawMatcher.class),
                 mock(AgentBuilder.Default.Transformation.class),
+                AgentBuilder.ClassFileCache.NoOp.INSTANCE,
+                AgentBuilder.NameFilter.NoOp.INSTANCE,
                 new AgentBuilder.CircularityLock.Default())
                 .transform(mock(ClassLoader.class),
                         FOO,
@@ -2038,6 +2464,8 @@ public class AgentBuilderDefaultTest {
                 mock(AgentBuilder.InstallationListener.class),
                 mock(AgentBuilder.RawMatcher.class),
                 mock(AgentBuilder.Default.Transformation.class),
+                AgentBuilder.ClassFileCache.NoOp.INSTANCE,
+                AgentBuilder.NameFilter.NoOp.INSTANCE,
                 new AgentBuilder.Default.CircularityLock.Default());
         final ClassLoader classLoader = mock(ClassLoader.class);
         final ProtectionDomain protectionDomain = mock(ProtectionDomain.class);
@@ -2077,6 +2505,8 @@ public class AgentBuilderDefaultTest {
                 mock(AgentBuilder.InstallationListener.class),
                 mock(AgentBuilder.RawMatcher.class),
                 mock(AgentBuilder.Default.Transformation.class),
+                AgentBuilder.ClassFileCache.NoOp.INSTANCE,
+                AgentBuilder.NameFilter.NoOp.INSTANCE,
                 new AgentBuilder.CircularityLock.Default());
         final ClassLoader classLoader = mock(ClassLoader.class);
         final ProtectionDomain protectionDomain = mock(ProtectionDomain.class);
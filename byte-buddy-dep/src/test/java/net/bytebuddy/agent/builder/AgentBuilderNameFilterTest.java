@@ -0,0 +1,84 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class AgentBuilderNameFilterTest {
+
+    private static final String FOO = "foo/Bar", BAR = "bar/Foo", QUX = "foo/bar/Qux", BAZ = "foobar/Baz";
+
+    @Test
+    public void testNoOp() throws Exception {
+        assertThat(AgentBuilder.NameFilter.NoOp.INSTANCE.isCandidate(FOO, null), is(true));
+    }
+
+    @Test
+    public void testBootstrapClassLoader() throws Exception {
+        assertThat(AgentBuilder.NameFilter.ForBootstrapClassLoader.INSTANCE.isCandidate(FOO, null), is(false));
+        assertThat(AgentBuilder.NameFilter.ForBootstrapClassLoader.INSTANCE.isCandidate(FOO, getClass().getClassLoader()), is(true));
+    }
+
+    @Test
+    public void testIncluding() throws Exception {
+        AgentBuilder.NameFilter nameFilter = AgentBuilder.NameFilter.ForPrefixes.including("foo.", "foo.bar.Q", "qux.");
+        assertThat(nameFilter.isCandidate(FOO, null), is(true));
+        assertThat(nameFilter.isCandidate(QUX, null), is(true));
+        assertThat(nameFilter.isCandidate(BAR, null), is(false));
+        assertThat(nameFilter.isCandidate(BAZ, null), is(false));
+        assertThat(nameFilter.isCandidate("foo", null), is(false));
+    }
+
+    @Test
+    public void testExcluding() throws Exception {
+        AgentBuilder.NameFilter nameFilter = AgentBuilder.NameFilter.ForPrefixes.excluding("foo.bar.", "bar.");
+        assertThat(nameFilter.isCandidate(FOO, null), is(true));
+        assertThat(nameFilter.isCandidate(QUX, null), is(false));
+        assertThat(nameFilter.isCandidate(BAR, null), is(false));
+        assertThat(nameFilter.isCandidate(BAZ, null), is(true));
+    }
+
+    @Test
+    public void testEmptyPrefix() throws Exception {
+        assertThat(AgentBuilder.NameFilter.ForPrefixes.including("").isCandidate(FOO, null), is(true));
+        assertThat(AgentBuilder.NameFilter.ForPrefixes.excluding().isCandidate(FOO, null), is(true));
+    }
+
+    @Test
+    public void testCompound() throws Exception {
+        AgentBuilder.NameFilter first = mock(AgentBuilder.NameFilter.class), second = mock(AgentBuilder.NameFilter.class);
+        when(first.isCandidate(FOO, null)).thenReturn(false);
+        assertThat(new AgentBuilder.NameFilter.Compound(first, second).isCandidate(FOO, null), is(false));
+        verify(first).isCandidate(FOO, null);
+        verifyZeroInteractions(second);
+        when(first.isCandidate(BAR, null)).thenReturn(true);
+        when(second.isCandidate(BAR, null)).thenReturn(true);
+        assertThat(new AgentBuilder.NameFilter.Compound(first, second).isCandidate(BAR, null), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.NameFilter.NoOp.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.NameFilter.ForBootstrapClassLoader.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.NameFilter.Compound.class).create(new ObjectPropertyAssertion.Creator<List<?>>() {
+            @Override
+            public List<?> create() {
+                return Arrays.asList(mock(AgentBuilder.NameFilter.class));
+            }
+        }).apply();
+        assertThat(AgentBuilder.NameFilter.ForPrefixes.including(FOO).hashCode(), is(AgentBuilder.NameFilter.ForPrefixes.including(FOO).hashCode()));
+        assertThat(AgentBuilder.NameFilter.ForPrefixes.including(FOO), is(AgentBuilder.NameFilter.ForPrefixes.including(FOO)));
+        assertThat(AgentBuilder.NameFilter.ForPrefixes.including(FOO), not(AgentBuilder.NameFilter.ForPrefixes.including(BAR)));
+        assertThat(AgentBuilder.NameFilter.ForPrefixes.including(FOO), not(AgentBuilder.NameFilter.ForPrefixes.excluding(FOO)));
+    }
+}
@@ -0,0 +1,101 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class AgentBuilderPoolStrategyWithTypePoolCachePreloadingTest {
+
+    private static final String FOO = "foo";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ClassFileLocator classFileLocator;
+
+    @Mock
+    private AgentBuilder.LocationStrategy locationStrategy;
+
+    @Mock
+    private ClassLoader classLoader;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testPreloading() throws Exception {
+        ConcurrentMap<ClassLoader, TypePool.CacheProvider> cacheProviders = new ConcurrentHashMap<ClassLoader, TypePool.CacheProvider>();
+        AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading poolStrategy = new AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading(executorService, cacheProviders);
+        List<Future<Boolean>> futures = poolStrategy.preload(ClassFileLocator.ForClassLoader.of(getClass().getClassLoader()),
+                classLoader,
+                Collections.singletonList(Foo.class.getName()));
+        assertThat(futures.size(), is(1));
+        assertThat(futures.get(0).get(), is(true));
+        TypePool.Resolution resolution = cacheProviders.get(classLoader).find(Foo.class.getName());
+        assertThat(resolution, notNullValue(TypePool.Resolution.class));
+        assertThat(resolution.isResolved(), is(true));
+        assertThat(poolStrategy.typePool(classFileLocator, classLoader).describe(Foo.class.getName()).resolve().getName(), is(Foo.class.getName()));
+    }
+
+    @Test
+    public void testPreloadingUnresolved() throws Exception {
+        ConcurrentMap<ClassLoader, TypePool.CacheProvider> cacheProviders = new ConcurrentHashMap<ClassLoader, TypePool.CacheProvider>();
+        AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading poolStrategy = new AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading(executorService, cacheProviders);
+        when(classFileLocator.locate(FOO)).thenReturn(new ClassFileLocator.Resolution.Illegal(FOO));
+        List<Future<Boolean>> futures = poolStrategy.preload(classFileLocator, classLoader, Collections.singletonList(FOO));
+        assertThat(futures.size(), is(1));
+        assertThat(futures.get(0).get(), is(false));
+    }
+
+    @Test
+    public void testPreloadingFromLocationStrategy() throws Exception {
+        ConcurrentMap<ClassLoader, TypePool.CacheProvider> cacheProviders = new ConcurrentHashMap<ClassLoader, TypePool.CacheProvider>();
+        AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading poolStrategy = new AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading(executorService, cacheProviders);
+        when(locationStrategy.classFileLocator(classLoader, null)).thenReturn(ClassFileLocator.ForClassLoader.of(getClass().getClassLoader()));
+        List<Future<Boolean>> futures = poolStrategy.preload(locationStrategy, classLoader, null, Collections.singletonList(Foo.class.getName()));
+        assertThat(futures.get(0).get(), is(true));
+        assertThat(cacheProviders.get(classLoader).find(Foo.class.getName()).isResolved(), is(true));
+        assertThat(cacheProviders.get(getClass().getClassLoader()), nullValue(TypePool.CacheProvider.class));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.PoolStrategy.WithTypePoolCache.Preloading.Resolution.class).apply();
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+}
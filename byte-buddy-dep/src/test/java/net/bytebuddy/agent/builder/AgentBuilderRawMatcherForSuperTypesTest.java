@@ -0,0 +1,77 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.JavaModule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.security.ProtectionDomain;
+import java.util.HashMap;
+import java.util.Map;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class AgentBuilderRawMatcherForSuperTypesTest {
+
+    private static final String FOO = "foo.Foo", BAR = "foo.Bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ElementMatcher<TypeDescription> matcher;
+
+    @Mock
+    private JavaModule module;
+
+    @Mock
+    private ProtectionDomain protectionDomain;
+
+    @Test
+    public void testMatchIsCachedPerClassLoader() throws Exception {
+        Map<String, byte[]> extending = new HashMap<String, byte[]>(), nonExtending = new HashMap<String, byte[]>();
+        TypeDescription foo = new ByteBuddy().subclass(Object.class).name(FOO).make().getTypeDescription();
+        extending.put(FOO, new ByteBuddy().subclass(Object.class).name(FOO).make().getBytes());
+        extending.put(BAR, new ByteBuddy().subclass(foo).name(BAR).make().getBytes());
+        nonExtending.put(FOO, new ByteBuddy().subclass(Object.class).name(FOO).make().getBytes());
+        nonExtending.put(BAR, new ByteBuddy().subclass(Object.class).name(BAR).make().getBytes());
+        ClassLoader first = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, extending);
+        ClassLoader second = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, nonExtending);
+        AgentBuilder.RawMatcher rawMatcher = new AgentBuilder.RawMatcher.ForSuperTypes(named(FOO));
+        assertThat(rawMatcher.matches(TypeDescription.ForLoadedType.of(first.loadClass(BAR)), first, module, null, protectionDomain), is(true));
+        assertThat(rawMatcher.matches(TypeDescription.ForLoadedType.of(second.loadClass(BAR)), second, module, null, protectionDomain), is(false));
+        assertThat(rawMatcher.matches(TypeDescription.ForLoadedType.of(first.loadClass(BAR)), first, module, null, protectionDomain), is(true));
+    }
+
+    @Test
+    public void testSharedSuperTypeMatchedOnce() throws Exception {
+        AgentBuilder.RawMatcher rawMatcher = new AgentBuilder.RawMatcher.ForSuperTypes(matcher);
+        assertThat(rawMatcher.matches(TypeDescription.ForLoadedType.of(String.class), null, module, null, protectionDomain), is(false));
+        assertThat(rawMatcher.matches(TypeDescription.ForLoadedType.of(Integer.class), null, module, null, protectionDomain), is(false));
+        verify(matcher).matches(TypeDescription.ForLoadedType.of(String.class));
+        verify(matcher).matches(TypeDescription.ForLoadedType.of(Integer.class));
+        verify(matcher).matches(TypeDescription.ForLoadedType.of(Number.class));
+        verify(matcher).matches(TypeDescription.ForLoadedType.of(Comparable.class));
+        verify(matcher).matches(TypeDescription.OBJECT);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        AgentBuilder.RawMatcher rawMatcher = new AgentBuilder.RawMatcher.ForSuperTypes(matcher);
+        assertThat(rawMatcher.equals(rawMatcher), is(true));
+        assertThat(rawMatcher.equals(new AgentBuilder.RawMatcher.ForSuperTypes(matcher)), is(true));
+        assertThat(rawMatcher.equals(new AgentBuilder.RawMatcher.ForSuperTypes(mock(ElementMatcher.class))), is(false));
+        assertThat(rawMatcher.equals(null), is(false));
+        assertThat(rawMatcher.hashCode(), is(new AgentBuilder.RawMatcher.ForSuperTypes(matcher).hashCode()));
+    }
+}
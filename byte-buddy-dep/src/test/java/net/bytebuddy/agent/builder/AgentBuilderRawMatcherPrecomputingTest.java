@@ -0,0 +1,125 @@
+package net.bytebuddy.agent.builder;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.JavaModule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.security.ProtectionDomain;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class AgentBuilderRawMatcherPrecomputingTest {
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private AgentBuilder.RawMatcher matcher;
+
+    @Mock
+    private JavaModule module;
+
+    @Mock
+    private ProtectionDomain protectionDomain;
+
+    private ExecutorService executorService;
+
+    private TypePool typePool;
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newSingleThreadExecutor();
+        typePool = TypePool.Default.ofClassPath();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testPrecomputedDecisionIsAppliedOnce() throws Exception {
+        when(matcher.matches(TypeDescription.STRING, null, module, null, null)).thenReturn(true);
+        AgentBuilder.RawMatcher.Precomputing rawMatcher = new AgentBuilder.RawMatcher.Precomputing(matcher, executorService);
+        List<Future<Boolean>> futures = rawMatcher.precompute(typePool, null, module, Collections.singletonList(String.class.getName()));
+        assertThat(futures.size(), is(1));
+        assertThat(futures.get(0).get(), is(true));
+        assertThat(rawMatcher.matches(TypeDescription.STRING, null, module, null, protectionDomain), is(true));
+        assertThat(rawMatcher.matches(TypeDescription.STRING, null, module, null, protectionDomain), is(false));
+        verify(matcher).matches(TypeDescription.STRING, null, module, null, null);
+        verify(matcher).matches(TypeDescription.STRING, null, module, null, protectionDomain);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testPrecomputedDecisionIsShared() throws Exception {
+        AgentBuilder.RawMatcher.Precomputing rawMatcher = new AgentBuilder.RawMatcher.Precomputing(matcher, executorService);
+        Future<Boolean> future = rawMatcher.precompute(typePool, null, module, Collections.singletonList(String.class.getName())).get(0);
+        assertThat(rawMatcher.precompute(typePool, null, module, Collections.singletonList(String.class.getName())).get(0), is(future));
+        assertThat(future.get(), is(false));
+        verify(matcher).matches(TypeDescription.STRING, null, module, null, null);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testPrecomputedDecisionIsNotAppliedOnRetransformation() throws Exception {
+        when(matcher.matches(TypeDescription.STRING, null, module, null, null)).thenReturn(true);
+        AgentBuilder.RawMatcher.Precomputing rawMatcher = new AgentBuilder.RawMatcher.Precomputing(matcher, executorService);
+        assertThat(rawMatcher.precompute(typePool, null, module, Collections.singletonList(String.class.getName())).get(0).get(), is(true));
+        assertThat(rawMatcher.matches(TypeDescription.STRING, null, module, String.class, protectionDomain), is(false));
+        verify(matcher).matches(TypeDescription.STRING, null, module, null, null);
+        verify(matcher).matches(TypeDescription.STRING, null, module, String.class, protectionDomain);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testPendingDecisionIsComputedByTransformingThread() throws Exception {
+        when(matcher.matches(TypeDescription.STRING, null, module, null, protectionDomain)).thenReturn(true);
+        AgentBuilder.RawMatcher.Precomputing rawMatcher = new AgentBuilder.RawMatcher.Precomputing(matcher, mock(ExecutorService.class));
+        Future<Boolean> future = rawMatcher.precompute(typePool, null, module, Collections.singletonList(String.class.getName())).get(0);
+        assertThat(rawMatcher.matches(TypeDescription.STRING, null, module, null, protectionDomain), is(true));
+        assertThat(future.isCancelled(), is(true));
+        verify(matcher).matches(TypeDescription.STRING, null, module, null, protectionDomain);
+        verifyNoMoreInteractions(matcher);
+    }
+
+    @Test
+    public void testFailedDecisionIsComputedByTransformingThread() throws Exception {
+        when(matcher.matches(TypeDescription.STRING, null, module, null, null)).thenThrow(new RuntimeException());
+        when(matcher.matches(TypeDescription.STRING, null, module, null, protectionDomain)).thenReturn(true);
+        AgentBuilder.RawMatcher.Precomputing rawMatcher = new AgentBuilder.RawMatcher.Precomputing(matcher, executorService);
+        Future<Boolean> future = rawMatcher.precompute(typePool, null, module, Collections.singletonList(String.class.getName())).get(0);
+        while (!future.isDone()) {
+            Thread.sleep(10L);
+        }
+        assertThat(rawMatcher.matches(TypeDescription.STRING, null, module, null, protectionDomain), is(true));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        AgentBuilder.RawMatcher rawMatcher = new AgentBuilder.RawMatcher.Precomputing(matcher, executorService);
+        assertThat(rawMatcher.equals(rawMatcher), is(true));
+        assertThat(rawMatcher.equals(new AgentBuilder.RawMatcher.Precomputing(matcher, executorService)), is(true));
+        assertThat(rawMatcher.equals(new AgentBuilder.RawMatcher.Precomputing(mock(AgentBuilder.RawMatcher.class), executorService)), is(false));
+        assertThat(rawMatcher.equals(new AgentBuilder.RawMatcher.Precomputing(matcher, mock(ExecutorService.class))), is(false));
+        assertThat(rawMatcher.equals(null), is(false));
+        assertThat(rawMatcher.hashCode(), is(new AgentBuilder.RawMatcher.Precomputing(matcher, executorService).hashCode()));
+    }
+}
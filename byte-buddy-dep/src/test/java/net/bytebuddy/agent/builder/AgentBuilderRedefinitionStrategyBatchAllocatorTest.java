@@ -4,13 +4,21 @@ import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Test;
 
+import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class AgentBuilderRedefinitionStrategyBatchAllocatorTest {
 
@@ -333,6 +341,136 @@ public class AgentBuilderRedefinitionStrategyBatchAllocatorTest {
         AgentBuilder.RedefinitionStrategy.BatchAllocator.Partitioning.of(0);
     }
 
+    @Test
+    public void testAdaptiveGrowth() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive adaptive = AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1L,
+                TimeUnit.HOURS,
+                1,
+                1,
+                4,
+                AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.NoOp.INSTANCE);
+        List<Class<?>> types = Arrays.<Class<?>>asList(Object.class, String.class, Void.class, Integer.class, Long.class);
+        Iterator<? extends List<Class<?>>> iterator = adaptive.batch(types).iterator();
+        assertThat(iterator.hasNext(), is(true));
+        List<Class<?>> batch = iterator.next();
+        assertThat(batch, is(Collections.<Class<?>>singletonList(Object.class)));
+        adaptive.onBatch(0, batch, types);
+        assertThat(iterator.hasNext(), is(true));
+        batch = iterator.next();
+        assertThat(batch, is(Arrays.<Class<?>>asList(String.class, Void.class)));
+        adaptive.onBatch(1, batch, types);
+        assertThat(iterator.hasNext(), is(true));
+        batch = iterator.next();
+        assertThat(batch, is(Arrays.<Class<?>>asList(Integer.class, Long.class)));
+        assertThat(adaptive.getSize(), is(4));
+        adaptive.onBatch(2, batch, types);
+        assertThat(iterator.hasNext(), is(false));
+        adaptive.onComplete(3, types, Collections.<List<Class<?>>, Throwable>emptyMap());
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics statistics = adaptive.getStatistics();
+        assertThat(statistics.getBatches(), is(3));
+        assertThat(statistics.getTypes(), is(5L));
+        long total = 0L;
+        for (long bucket : statistics.getHistogram()) {
+            total += bucket;
+        }
+        assertThat(total, is(3L));
+    }
+
+    @Test
+    public void testAdaptiveShrinking() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter reporter = mock(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.class);
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive adaptive = AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1L,
+                TimeUnit.NANOSECONDS,
+                2,
+                1,
+                2,
+                reporter);
+        List<Class<?>> types = Arrays.<Class<?>>asList(Object.class, String.class, Void.class);
+        Iterator<? extends List<Class<?>>> iterator = adaptive.batch(types).iterator();
+        List<Class<?>> batch = iterator.next();
+        assertThat(batch, is(Arrays.<Class<?>>asList(Object.class, String.class)));
+        adaptive.onBatch(0, batch, types);
+        Thread.sleep(1L);
+        batch = iterator.next();
+        assertThat(batch, is(Collections.<Class<?>>singletonList(Void.class)));
+        assertThat(adaptive.getSize(), is(1));
+        verify(reporter).onBatch(eq(2), anyLong(), eq(1));
+        adaptive.onBatch(1, batch, types);
+        assertThat(adaptive.onError(1, batch, new Throwable(), types).iterator().hasNext(), is(false));
+        adaptive.onComplete(2, types, Collections.<List<Class<?>>, Throwable>emptyMap());
+        verify(reporter).onBatch(eq(1), anyLong(), eq(1));
+        verify(reporter).onComplete(adaptive.getStatistics());
+        verifyNoMoreInteractions(reporter);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testAdaptiveExhausted() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1L, TimeUnit.SECONDS).batch(Collections.<Class<?>>emptyList()).iterator().next();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalBudget() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(0L, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalMinimum() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1L,
+                TimeUnit.SECONDS,
+                1,
+                0,
+                1,
+                AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.NoOp.INSTANCE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalMaximum() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1L,
+                TimeUnit.SECONDS,
+                2,
+                2,
+                1,
+                AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.NoOp.INSTANCE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdaptiveIllegalInitial() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.of(1L,
+                TimeUnit.SECONDS,
+                3,
+                1,
+                2,
+                AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.NoOp.INSTANCE);
+    }
+
+    @Test
+    public void testAdaptiveStatistics() throws Exception {
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics statistics = new AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics()
+                .record(2, TimeUnit.MILLISECONDS.toNanos(5L))
+                .record(1, TimeUnit.MILLISECONDS.toNanos(15L))
+                .record(1, TimeUnit.HOURS.toNanos(1L));
+        assertThat(statistics.getBatches(), is(3));
+        assertThat(statistics.getTypes(), is(4L));
+        assertThat(statistics.getDuration(TimeUnit.MILLISECONDS), is(TimeUnit.HOURS.toMillis(1L) + 20L));
+        assertThat(statistics.getLongest(TimeUnit.HOURS), is(1L));
+        assertThat(statistics.getHistogram()[3], is(1L));
+        assertThat(statistics.getHistogram()[4], is(1L));
+        assertThat(statistics.getHistogram()[AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics.BUCKETS - 1], is(1L));
+        assertThat(new AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics().record(2, TimeUnit.MILLISECONDS.toNanos(5L)).getTypesPerSecond(), is(400d));
+        assertThat(new AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics().getTypesPerSecond(), is(0d));
+    }
+
+    @Test
+    public void testAdaptiveStreamWritingReporter() throws Exception {
+        PrintStream printStream = mock(PrintStream.class);
+        AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter reporter = new AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.StreamWriting(printStream);
+        reporter.onBatch(1, 2L, 3);
+        reporter.onComplete(new AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics());
+        verify(printStream).printf(any(String.class), eq(1), eq(0L), eq(3));
+        verify(printStream).printf(any(String.class), any(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Statistics.class));
+        verifyNoMoreInteractions(printStream);
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.BatchAllocator.ForTotal.class).apply();
@@ -340,5 +478,7 @@ public class AgentBuilderRedefinitionStrategyBatchAllocatorTest {
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.BatchAllocator.ForMatchedGrouping.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.BatchAllocator.Slicing.class).apply();
         ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.BatchAllocator.Slicing.Partitioning.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.NoOp.class).apply();
+        ObjectPropertyAssertion.of(AgentBuilder.RedefinitionStrategy.BatchAllocator.Adaptive.Reporter.StreamWriting.class).apply();
     }
 }
@@ -26,6 +26,7 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -1096,6 +1097,56 @@ public class AdviceTest {
         assertThat(type.getDeclaredField(EXIT).get(null), is((Object) 1));
     }
 
+    @Test
+    public void testOriginMethodCachedAdvice() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .redefine(Sample.class)
+                .visit(Advice.to(OriginMethodCachedAdvice.class).on(named(BAR)))
+                .make()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(BAR, String.class).invoke(type.getDeclaredConstructor().newInstance(), FOO), is((Object) FOO));
+        assertThat(type.getDeclaredField(ENTER).get(null), is((Object) 1));
+        assertThat(type.getDeclaredField(EXIT).get(null), is((Object) 1));
+        int cached = 0;
+        for (Field field : type.getDeclaredFields()) {
+            if (field.getType() == Method.class && Modifier.isStatic(field.getModifiers()) && field.isSynthetic()) {
+                cached++;
+            }
+        }
+        assertThat(cached, is(1));
+    }
+
+    @Test
+    public void testOriginConstructorCachedAdvice() throws Exception {
+        Class<?> type = new ByteBuddy()
+                .redefine(Sample.class)
+                .visit(Advice.to(OriginConstructorCachedAdvice.class).on(isConstructor()))
+                .make()
+                .load(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(FOO).invoke(type.getDeclaredConstructor().newInstance()), is((Object) FOO));
+        assertThat(type.getDeclaredField(ENTER).get(null), is((Object) 1));
+        assertThat(type.getDeclaredField(EXIT).get(null), is((Object) 1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testOriginMethodCachedDisabledContext() throws Exception {
+        new ByteBuddy()
+                .with(Implementation.Context.Disabled.Factory.INSTANCE)
+                .redefine(Sample.class)
+                .visit(Advice.to(OriginMethodCachedAdvice.class).on(named(BAR)))
+                .make();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testOriginMethodCachedNonAssignableAdvice() throws Exception {
+        new ByteBuddy()
+                .redefine(Sample.class)
+                .visit(Advice.to(OriginMethodCachedAdvice.class).on(isConstructor()))
+                .make();
+    }
+
     @Test(expected = IllegalStateException.class)
     public void testOriginMethodNonAssignableAdvice() throws Exception {
         new ByteBuddy()
@@ -2014,6 +2065,7 @@ public class AdviceTest {
         ObjectPropertyAssertion.of(Advice.OffsetMapping.ForField.Resolved.class).apply();
         ObjectPropertyAssertion.of(Advice.OffsetMapping.ForField.Factory.class).apply();
         ObjectPropertyAssertion.of(Advice.OffsetMapping.ForInstrumentedMethod.class).apply();
+        ObjectPropertyAssertion.of(Advice.OffsetMapping.ForInstrumentedMethod.Cached.class).apply();
         ObjectPropertyAssertion.of(Advice.OffsetMapping.ForInstrumentedType.class).apply();
         final Iterator<Boolean> returned = Arrays.<Boolean>asList(true, false).iterator();
         ObjectPropertyAssertion.of(Advice.OffsetMapping.ForReturnValue.class).refine(new ObjectPropertyAssertion.Refinement<Advice.Return>() {
@@ -3007,6 +3059,46 @@ public class AdviceTest {
         }
     }
 
+    @SuppressWarnings("unused")
+    public static class OriginMethodCachedAdvice {
+
+        @Advice.OnMethodEnter
+        private static void enter(@Advice.Origin(cache = true) Method origin) throws Exception {
+            if (!origin.equals(Sample.class.getDeclaredMethod(BAR, String.class))) {
+                throw new AssertionError();
+            }
+            Sample.enter++;
+        }
+
+        @Advice.OnMethodExit
+        private static void exit(@Advice.Origin(cache = true) Method origin) throws Exception {
+            if (!origin.equals(Sample.class.getDeclaredMethod(BAR, String.class))) {
+                throw new AssertionError();
+            }
+            Sample.exit++;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    public static class OriginConstructorCachedAdvice {
+
+        @Advice.OnMethodEnter
+        private static void enter(@Advice.Origin(cache = true) Constructor<?> origin) throws Exception {
+            if (!origin.equals(Sample.class.getDeclaredConstructor())) {
+                throw new AssertionError();
+            }
+            Sample.enter++;
+        }
+
+        @Advice.OnMethodExit
+        private static void exit(@Advice.Origin(cache = true) Constructor<?> origin) throws Exception {
+            if (!origin.equals(Sample.class.getDeclaredConstructor())) {
+                throw new AssertionError();
+            }
+            Sample.exit++;
+        }
+    }
+
     @SuppressWarnings("unused")
     public static class OriginConstructorAdvice {
 
@@ -0,0 +1,167 @@
+package net.bytebuddy.build;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.utility.RandomString;
+import net.bytebuddy.utility.StreamDrainer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+public class TransformationManifestTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private static final byte[] ORIGINAL = new byte[]{1, 2, 3}, TRANSFORMED = new byte[]{4, 5, 6}, CHANGED = new byte[]{7, 8, 9};
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType dynamicType;
+
+    private File folder, manifest;
+
+    private String base, sub, other;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), is(true));
+        folder = new File(folder.getParentFile(), RandomString.make());
+        assertThat(folder.mkdir(), is(true));
+        manifest = new File(folder, QUX);
+        base = Base.class.getName().replace('.', '/') + ".class";
+        sub = Sub.class.getName().replace('.', '/') + ".class";
+        other = Other.class.getName().replace('.', '/') + ".class";
+        write(base, ORIGINAL);
+        write(sub, ORIGINAL);
+        write(other, ORIGINAL);
+        when(dynamicType.getAllTypes()).thenReturn(Collections.<TypeDescription, byte[]>singletonMap(new TypeDescription.ForLoadedType(Sub.class), TRANSFORMED));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        delete(folder);
+    }
+
+    @Test
+    public void testNoOp() throws Exception {
+        List<String> files = Arrays.asList(base, sub, other);
+        assertThat(TransformationManifest.NoOp.INSTANCE.select(folder, files), is(files));
+    }
+
+    @Test
+    public void testUnchanged() throws Exception {
+        build(FOO);
+        assertThat(TransformationManifest.ForFile.read(manifest, FOO).select(folder, Arrays.asList(base, sub, other)), is(Collections.<String>emptyList()));
+    }
+
+    @Test
+    public void testChanged() throws Exception {
+        build(FOO);
+        write(other, CHANGED);
+        assertThat(TransformationManifest.ForFile.read(manifest, FOO).select(folder, Arrays.asList(base, sub, other)), is(Collections.singletonList(other)));
+        assertThat(read(sub), is(TRANSFORMED));
+    }
+
+    @Test
+    public void testAdded() throws Exception {
+        build(FOO);
+        assertThat(TransformationManifest.ForFile.read(manifest, FOO).select(folder, Arrays.asList(base, sub, other, FOO + ".class")), is(Collections.singletonList(FOO + ".class")));
+    }
+
+    @Test
+    public void testSuperTypeChanged() throws Exception {
+        build(FOO);
+        write(base, CHANGED);
+        assertThat(TransformationManifest.ForFile.read(manifest, FOO).select(folder, Arrays.asList(base, sub, other)), is(Arrays.asList(base, sub)));
+        assertThat(read(sub), is(ORIGINAL));
+    }
+
+    @Test
+    public void testConfigurationChanged() throws Exception {
+        build(FOO);
+        assertThat(TransformationManifest.ForFile.read(manifest, BAR).select(folder, Arrays.asList(base, sub, other)), is(Arrays.asList(base, sub, other)));
+    }
+
+    @Test
+    public void testNoManifest() throws Exception {
+        assertThat(TransformationManifest.ForFile.read(manifest, FOO).select(folder, Arrays.asList(base, sub, other)), is(Arrays.asList(base, sub, other)));
+    }
+
+    @Test
+    public void testConfiguration() throws Exception {
+        String configuration = TransformationManifest.ForFile.configuration(Collections.singletonList(FOO), Collections.singletonList(folder));
+        assertThat(TransformationManifest.ForFile.configuration(Collections.singletonList(FOO), Collections.singletonList(folder)), is(configuration));
+        assertThat(TransformationManifest.ForFile.configuration(Collections.singletonList(BAR), Collections.singletonList(folder)).equals(configuration), is(false));
+        write(other, new byte[]{1, 2, 3, 4});
+        assertThat(TransformationManifest.ForFile.configuration(Collections.singletonList(FOO), Collections.singletonList(folder)).equals(configuration), is(false));
+    }
+
+    private void build(String configuration) throws Exception {
+        TransformationManifest transformationManifest = TransformationManifest.ForFile.read(manifest, configuration);
+        List<String> files = transformationManifest.select(folder, Arrays.asList(base, sub, other));
+        assertThat(files, is(Arrays.asList(base, sub, other)));
+        transformationManifest.register(folder, base, new TypeDescription.ForLoadedType(Base.class), null);
+        transformationManifest.register(folder, sub, new TypeDescription.ForLoadedType(Sub.class), dynamicType);
+        write(sub, TRANSFORMED);
+        transformationManifest.register(folder, other, new TypeDescription.ForLoadedType(Other.class), null);
+        transformationManifest.write();
+    }
+
+    private void write(String file, byte[] binaryRepresentation) throws IOException {
+        File target = new File(folder, file);
+        assertThat(target.getParentFile().isDirectory() || target.getParentFile().mkdirs(), is(true));
+        OutputStream outputStream = new FileOutputStream(target);
+        try {
+            outputStream.write(binaryRepresentation);
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private byte[] read(String file) throws IOException {
+        InputStream inputStream = new FileInputStream(new File(folder, file));
+        try {
+            return StreamDrainer.DEFAULT.drain(inputStream);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] child = file.listFiles();
+        if (child != null) {
+            for (File aChild : child) {
+                delete(aChild);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    private static class Base {
+        /* empty */
+    }
+
+    private static class Sub extends Base {
+        /* empty */
+    }
+
+    private static class Other {
+        /* empty */
+    }
+}
@@ -5,13 +5,20 @@ import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.loading.PackageDefinitionStrategy;
 import net.bytebuddy.matcher.ElementMatchers;
 import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.JavaVersionRule;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTest {
@@ -139,6 +146,90 @@ public class TypeDescriptionForLoadedTypeTest extends AbstractTypeDescriptionTes
         new TypeDescription.ForLoadedType(classLoader.loadClass(Foo.class.getName()));
     }
 
+    @Test
+    public void testCanonicalBootstrapType() throws Exception {
+        assertThat(TypeDescription.ForLoadedType.of(Object.class), sameInstance(TypeDescription.ForLoadedType.of(Object.class)));
+        assertThat(TypeDescription.ForLoadedType.of(Object.class), is((TypeDescription) new TypeDescription.ForLoadedType(Object.class)));
+        assertThat(TypeDescription.ForLoadedType.of(int.class), sameInstance(TypeDescription.ForLoadedType.of(int.class)));
+    }
+
+    @Test
+    public void testCanonicalType() throws Exception {
+        TypeDescription typeDescription = TypeDescription.ForLoadedType.of(Foo.class);
+        assertThat(TypeDescription.ForLoadedType.of(Foo.class), sameInstance(typeDescription));
+        assertThat(typeDescription.represents(Foo.class), is(true));
+    }
+
+    @Test
+    public void testCanonicalTypeDoesNotRetainClassLoader() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassFileExtraction.of(Foo.class));
+        TypeDescription.ForLoadedType.of(classLoader.loadClass(Foo.class.getName()));
+        WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null;
+        for (int index = 0; index < 10 && reference.get() != null; index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(reference.get(), nullValue(ClassLoader.class));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testClassValueDispatcher() throws Exception {
+        TypeDescription.ForLoadedType.Dispatcher dispatcher = TypeDescription.ForLoadedType.Dispatcher.CreationAction.INSTANCE.run();
+        assertThat(dispatcher, instanceOf(TypeDescription.ForLoadedType.Dispatcher.ForClassValue.class));
+        TypeDescription typeDescription = dispatcher.describe(Foo.class);
+        assertThat(typeDescription.represents(Foo.class), is(true));
+        assertThat(dispatcher.describe(Foo.class), sameInstance(typeDescription));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testClassValueDispatcherReferencesSoftly() throws Exception {
+        TypeDescription.ForLoadedType.Dispatcher dispatcher = TypeDescription.ForLoadedType.Dispatcher.CreationAction.INSTANCE.run();
+        TypeDescription typeDescription = dispatcher.describe(Object.class);
+        Field field = TypeDescription.ForLoadedType.Dispatcher.ForClassValue.class.getDeclaredField("classValue");
+        field.setAccessible(true);
+        Object classValue = field.get(dispatcher);
+        Object reference = Class.forName("java.lang.ClassValue").getMethod("get", Class.class).invoke(classValue, Object.class);
+        assertThat(reference, instanceOf(SoftReference.class));
+        ((SoftReference<?>) reference).clear();
+        TypeDescription recreated = dispatcher.describe(Object.class);
+        assertThat(recreated, not(sameInstance(typeDescription)));
+        assertThat(recreated.represents(Object.class), is(true));
+        assertThat(dispatcher.describe(Object.class), sameInstance(recreated));
+    }
+
+    @Test
+    public void testLegacyVmDispatcher() throws Exception {
+        TypeDescription.ForLoadedType.Dispatcher dispatcher = new TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm();
+        TypeDescription typeDescription = dispatcher.describe(Foo.class);
+        assertThat(typeDescription.represents(Foo.class), is(true));
+        assertThat(dispatcher.describe(Foo.class), sameInstance(typeDescription));
+        assertThat(dispatcher.describe(Object.class), sameInstance(dispatcher.describe(Object.class)));
+    }
+
+    @Test
+    public void testLegacyVmDispatcherDoesNotRetainClassLoader() throws Exception {
+        TypeDescription.ForLoadedType.Dispatcher dispatcher = new TypeDescription.ForLoadedType.Dispatcher.ForLegacyVm();
+        ClassLoader classLoader = new ByteArrayClassLoader(ClassLoadingStrategy.BOOTSTRAP_LOADER, ClassFileExtraction.of(Foo.class));
+        dispatcher.describe(classLoader.loadClass(Foo.class.getName()));
+        WeakReference<ClassLoader> reference = new WeakReference<ClassLoader>(classLoader);
+        classLoader = null;
+        for (int index = 0; index < 10 && reference.get() != null; index++) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+        assertThat(reference.get(), nullValue(ClassLoader.class));
+    }
+
+    @Test
+    public void testMemberListsAreMemorized() throws Exception {
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(Foo.class);
+        assertThat(typeDescription.getDeclaredMethods(), sameInstance(typeDescription.getDeclaredMethods()));
+        assertThat(typeDescription.getDeclaredFields(), sameInstance(typeDescription.getDeclaredFields()));
+    }
+
     public static class Foo {
 
         public Bar bar() {
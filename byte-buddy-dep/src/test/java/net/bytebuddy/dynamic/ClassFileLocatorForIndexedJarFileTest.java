@@ -0,0 +1,179 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ClassFileVersion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassFileLocatorForIndexedJarFileTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    private static final int VALUE = 42;
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile(FOO, BAR);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertThat(file.delete(), is(true));
+    }
+
+    @Test
+    public void testSuccessfulLocationDeflated() throws Exception {
+        byte[] binaryRepresentation = new byte[1024];
+        for (int index = 0; index < binaryRepresentation.length; index++) {
+            binaryRepresentation[index] = (byte) (index % 7);
+        }
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            jarOutputStream.putNextEntry(new JarEntry(FOO + "/" + BAR + ".class"));
+            jarOutputStream.write(binaryRepresentation);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator classFileLocator = ClassFileLocator.ForIndexedJarFile.of(file);
+        try {
+            ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR);
+            assertThat(resolution.isResolved(), is(true));
+            assertThat(resolution.resolve(), is(binaryRepresentation));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testSuccessfulLocationStored() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            jarOutputStream.putNextEntry(stored(FOO + "/" + BAR + ".class", new byte[]{VALUE, VALUE * 2}));
+            jarOutputStream.write(new byte[]{VALUE, VALUE * 2});
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator classFileLocator = ClassFileLocator.ForIndexedJarFile.of(file);
+        try {
+            ClassFileLocator.Resolution resolution = classFileLocator.locate(FOO + "." + BAR);
+            assertThat(resolution.isResolved(), is(true));
+            assertThat(resolution.resolve(), is(new byte[]{VALUE, VALUE * 2}));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testNonSuccessfulLocation() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            jarOutputStream.putNextEntry(new JarEntry("noop.class"));
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        ClassFileLocator classFileLocator = ClassFileLocator.ForIndexedJarFile.of(file);
+        try {
+            assertThat(classFileLocator.locate(FOO + "." + BAR).isResolved(), is(false));
+        } finally {
+            classFileLocator.close();
+        }
+    }
+
+    @Test
+    public void testMultiRelease() throws Exception {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file), manifest);
+        try {
+            jarOutputStream.putNextEntry(new JarEntry(FOO + ".class"));
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("META-INF/versions/9/" + FOO + ".class"));
+            jarOutputStream.write(VALUE + 9);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("META-INF/versions/11/" + FOO + ".class"));
+            jarOutputStream.write(VALUE + 11);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("META-INF/versions/11/" + BAR + ".class"));
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V8).locate(FOO).resolve(), is(new byte[]{VALUE}));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V9).locate(FOO).resolve(), is(new byte[]{VALUE + 9}));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V10).locate(FOO).resolve(), is(new byte[]{VALUE + 9}));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V11).locate(FOO).resolve(), is(new byte[]{VALUE + 11}));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V10).locate(BAR).isResolved(), is(false));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V11).locate(BAR).isResolved(), is(true));
+    }
+
+    @Test
+    public void testVersionsIgnoredWithoutMultiRelease() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        try {
+            jarOutputStream.putNextEntry(new JarEntry(FOO + ".class"));
+            jarOutputStream.write(VALUE);
+            jarOutputStream.closeEntry();
+            jarOutputStream.putNextEntry(new JarEntry("META-INF/versions/9/" + FOO + ".class"));
+            jarOutputStream.write(VALUE + 9);
+            jarOutputStream.closeEntry();
+        } finally {
+            jarOutputStream.close();
+        }
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V9).locate(FOO).resolve(), is(new byte[]{VALUE}));
+    }
+
+    @Test(expected = IOException.class)
+    public void testNoJarFile() throws Exception {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            outputStream.write(new byte[64]);
+        } finally {
+            outputStream.close();
+        }
+        ClassFileLocator.ForIndexedJarFile.of(file);
+    }
+
+    @Test
+    public void testEquality() throws Exception {
+        JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(file));
+        jarOutputStream.close();
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V8),
+                is(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V8)));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V8).hashCode(),
+                is(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V8).hashCode()));
+        assertThat(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V8)
+                .equals(ClassFileLocator.ForIndexedJarFile.of(file, ClassFileVersion.JAVA_V9)), is(false));
+    }
+
+    private static ZipEntry stored(String name, byte[] binaryRepresentation) {
+        ZipEntry zipEntry = new JarEntry(name);
+        zipEntry.setMethod(ZipEntry.STORED);
+        zipEntry.setSize(binaryRepresentation.length);
+        CRC32 crc32 = new CRC32();
+        crc32.update(binaryRepresentation);
+        zipEntry.setCrc(crc32.getValue());
+        return zipEntry;
+    }
+}
@@ -0,0 +1,135 @@
+package net.bytebuddy.dynamic;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.pool.TypePool;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+public class DynamicTypeBatchTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private DynamicType.Builder<?> builder;
+
+    @Mock
+    private TypePool typePool;
+
+    @Mock
+    private ClassLoader classLoader;
+
+    @Mock
+    private ClassLoadingStrategy<ClassLoader> classLoadingStrategy;
+
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() throws Exception {
+        executorService = Executors.newFixedThreadPool(2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executorService.shutdown();
+    }
+
+    @Test
+    public void testSequential() throws Exception {
+        List<DynamicType.Unloaded<?>> unloaded = DynamicType.Batch.of(new ByteBuddy().subclass(Object.class).name(FOO + "." + BAR),
+                new ByteBuddy().subclass(Object.class).name(BAR + "." + FOO)).make();
+        assertThat(unloaded.size(), is(2));
+        assertThat(unloaded.get(0).getTypeDescription().getName(), is(FOO + "." + BAR));
+        assertThat(unloaded.get(1).getTypeDescription().getName(), is(BAR + "." + FOO));
+    }
+
+    @Test
+    public void testConcurrentLoadedInSingleClassLoader() throws Exception {
+        List<DynamicType.Builder<?>> builders = new ArrayList<DynamicType.Builder<?>>();
+        for (int index = 0; index < 10; index++) {
+            builders.add(new ByteBuddy().subclass(Object.class).name(FOO + "." + BAR + index));
+        }
+        List<DynamicType.Loaded<?>> loaded = new DynamicType.Batch(builders).load(executorService,
+                getClass().getClassLoader(),
+                ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.size(), is(10));
+        for (int index = 0; index < 10; index++) {
+            assertThat(loaded.get(index).getLoaded().getName(), is(FOO + "." + BAR + index));
+            assertThat(loaded.get(index).getLoaded().getClassLoader(), is(loaded.get(0).getLoaded().getClassLoader()));
+        }
+        assertThat(loaded.get(0).getLoaded().getClassLoader(), not(getClass().getClassLoader()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testClassLoadingStrategyAppliedOnce() throws Exception {
+        List<DynamicType.Unloaded<?>> unloaded = DynamicType.Batch.of(new ByteBuddy().subclass(Object.class).name(FOO + "." + BAR),
+                new ByteBuddy().subclass(Object.class).name(BAR + "." + FOO)).make(executorService);
+        Map<TypeDescription, Class<?>> types = new HashMap<TypeDescription, Class<?>>();
+        types.put(unloaded.get(0).getTypeDescription(), Foo.class);
+        types.put(unloaded.get(1).getTypeDescription(), Bar.class);
+        when(classLoadingStrategy.load(eq(classLoader), any(Map.class))).thenReturn(types);
+        List<DynamicType.Loaded<?>> loaded = DynamicType.Batch.load(unloaded, classLoader, classLoadingStrategy);
+        assertThat(loaded.get(0).getLoaded(), is((Object) Foo.class));
+        assertThat(loaded.get(1).getLoaded(), is((Object) Bar.class));
+        verify(classLoadingStrategy).load(eq(classLoader), any(Map.class));
+        verifyNoMoreInteractions(classLoadingStrategy);
+    }
+
+    @Test
+    public void testSharedTypePoolAndResolutionStrategy() throws Exception {
+        DynamicType.Unloaded<?> unloaded = mock(DynamicType.Unloaded.class);
+        doReturn(unloaded).when(builder).make(TypeResolutionStrategy.Disabled.INSTANCE, typePool);
+        assertThat(DynamicType.Batch.of(builder, builder).with(TypeResolutionStrategy.Disabled.INSTANCE).with(typePool).make(executorService),
+                is(Arrays.<DynamicType.Unloaded<?>>asList(unloaded, unloaded)));
+        verify(builder, times(2)).make(TypeResolutionStrategy.Disabled.INSTANCE, typePool);
+        verifyNoMoreInteractions(builder);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreationFailurePropagated() throws Exception {
+        when(builder.make(TypeResolutionStrategy.Disabled.INSTANCE, typePool)).thenThrow(new IllegalArgumentException());
+        new DynamicType.Batch(Collections.singletonList(builder), TypeResolutionStrategy.Disabled.INSTANCE, typePool).make(executorService);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPreloadedTypeMissing() throws Exception {
+        new DynamicType.Batch.Preloaded(Collections.<TypeDescription, Class<?>>emptyMap())
+                .load(classLoader, Collections.singletonMap(TypeDescription.OBJECT, new byte[0]));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(DynamicType.Batch.class).apply();
+        ObjectPropertyAssertion.of(DynamicType.Batch.Creation.class).apply();
+        ObjectPropertyAssertion.of(DynamicType.Batch.Preloaded.class).apply();
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static class Bar {
+        /* empty */
+    }
+}
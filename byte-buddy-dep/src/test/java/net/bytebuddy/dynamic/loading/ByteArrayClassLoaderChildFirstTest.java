@@ -59,7 +59,8 @@ public class ByteArrayClassLoaderChildFirstTest {
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
                 {ByteArrayClassLoader.PersistenceHandler.LATENT, false},
-                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true}
+                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true},
+                {ByteArrayClassLoader.PersistenceHandler.MAPPED, true}
         });
     }
 
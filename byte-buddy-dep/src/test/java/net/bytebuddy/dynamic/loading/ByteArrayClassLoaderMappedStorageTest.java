@@ -0,0 +1,161 @@
+package net.bytebuddy.dynamic.loading;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ByteArrayClassLoaderMappedStorageTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    private ConcurrentMap<String, byte[]> storage;
+
+    @Before
+    public void setUp() throws Exception {
+        storage = new ByteArrayClassLoader.PersistenceHandler.MappedStorage(4);
+    }
+
+    @Test
+    public void testPutAndGet() throws Exception {
+        assertThat(storage.put(FOO, new byte[]{1, 2, 3}), nullValue(byte[].class));
+        assertThat(storage.get(FOO), is(new byte[]{1, 2, 3}));
+        assertThat(storage.containsKey(FOO), is(true));
+        assertThat(storage.size(), is(1));
+        assertThat(storage.get(BAR), nullValue(byte[].class));
+        assertThat(storage.containsKey(BAR), is(false));
+    }
+
+    @Test
+    public void testPutOverridesPrevious() throws Exception {
+        storage.put(FOO, new byte[]{1, 2, 3});
+        assertThat(storage.put(FOO, new byte[]{4}), is(new byte[]{1, 2, 3}));
+        assertThat(storage.get(FOO), is(new byte[]{4}));
+        assertThat(storage.size(), is(1));
+    }
+
+    @Test
+    public void testChunkOverflow() throws Exception {
+        storage.put(FOO, new byte[]{1, 2, 3});
+        storage.put(BAR, new byte[]{4, 5});
+        storage.put(QUX, new byte[]{6, 7, 8, 9, 10, 11});
+        assertThat(storage.get(FOO), is(new byte[]{1, 2, 3}));
+        assertThat(storage.get(BAR), is(new byte[]{4, 5}));
+        assertThat(storage.get(QUX), is(new byte[]{6, 7, 8, 9, 10, 11}));
+    }
+
+    @Test
+    public void testEmptyValue() throws Exception {
+        storage.put(FOO, new byte[0]);
+        assertThat(storage.get(FOO), is(new byte[0]));
+    }
+
+    @Test
+    public void testPutIfAbsent() throws Exception {
+        assertThat(storage.putIfAbsent(FOO, new byte[]{1}), nullValue(byte[].class));
+        assertThat(storage.putIfAbsent(FOO, new byte[]{2}), is(new byte[]{1}));
+        assertThat(storage.get(FOO), is(new byte[]{1}));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        storage.put(FOO, new byte[]{1});
+        assertThat(storage.remove(FOO), is(new byte[]{1}));
+        assertThat(storage.remove(FOO), nullValue(byte[].class));
+        assertThat(storage.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testConditionalRemove() throws Exception {
+        storage.put(FOO, new byte[]{1});
+        assertThat(storage.remove(FOO, new byte[]{2}), is(false));
+        assertThat(storage.remove(FOO, new Object()), is(false));
+        assertThat(storage.remove(FOO, new byte[]{1}), is(true));
+        assertThat(storage.containsKey(FOO), is(false));
+    }
+
+    @Test
+    public void testReplace() throws Exception {
+        assertThat(storage.replace(FOO, new byte[]{1}), nullValue(byte[].class));
+        assertThat(storage.containsKey(FOO), is(false));
+        storage.put(FOO, new byte[]{1});
+        assertThat(storage.replace(FOO, new byte[]{2}), is(new byte[]{1}));
+        assertThat(storage.get(FOO), is(new byte[]{2}));
+    }
+
+    @Test
+    public void testConditionalReplace() throws Exception {
+        storage.put(FOO, new byte[]{1});
+        assertThat(storage.replace(FOO, new byte[]{2}, new byte[]{3}), is(false));
+        assertThat(storage.replace(FOO, new byte[]{1}, new byte[]{3}), is(true));
+        assertThat(storage.get(FOO), is(new byte[]{3}));
+        assertThat(storage.replace(BAR, new byte[]{1}, new byte[]{3}), is(false));
+    }
+
+    @Test
+    public void testEntrySet() throws Exception {
+        storage.put(FOO, new byte[]{1, 2});
+        Iterator<Map.Entry<String, byte[]>> iterator = storage.entrySet().iterator();
+        assertThat(iterator.hasNext(), is(true));
+        Map.Entry<String, byte[]> entry = iterator.next();
+        assertThat(entry.getKey(), is(FOO));
+        assertThat(entry.getValue(), is(new byte[]{1, 2}));
+        iterator.remove();
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(storage.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testKeySet() throws Exception {
+        storage.put(FOO, new byte[]{1, 2});
+        storage.put(BAR, new byte[]{3});
+        assertThat(storage.keySet().size(), is(2));
+        assertThat(storage.keySet().contains(FOO), is(true));
+        assertThat(storage.keySet().contains(BAR), is(true));
+        assertThat(storage.keySet().remove(FOO), is(true));
+        assertThat(storage.containsKey(FOO), is(false));
+        assertThat(storage.size(), is(1));
+    }
+
+    @Test
+    public void testContainsValue() throws Exception {
+        storage.put(FOO, new byte[]{1, 2});
+        assertThat(storage.containsValue(new byte[]{1, 2}), is(true));
+        assertThat(storage.containsValue(new byte[]{1, 3}), is(false));
+        assertThat(storage.containsValue(new byte[]{1}), is(false));
+        assertThat(storage.containsValue(new Object()), is(false));
+    }
+
+    @Test
+    public void testPutAll() throws Exception {
+        Map<String, byte[]> typeDefinitions = new HashMap<String, byte[]>();
+        typeDefinitions.put(FOO, new byte[]{1, 2, 3});
+        typeDefinitions.put(BAR, new byte[]{4, 5, 6, 7});
+        typeDefinitions.put(QUX, new byte[0]);
+        storage.putAll(typeDefinitions);
+        assertThat(storage.size(), is(3));
+        assertThat(storage.get(FOO), is(new byte[]{1, 2, 3}));
+        assertThat(storage.get(BAR), is(new byte[]{4, 5, 6, 7}));
+        assertThat(storage.get(QUX), is(new byte[0]));
+        storage.put(FOO, new byte[]{8});
+        assertThat(storage.get(FOO), is(new byte[]{8}));
+        assertThat(storage.get(BAR), is(new byte[]{4, 5, 6, 7}));
+    }
+
+    @Test
+    public void testPersistenceHandlerStorage() throws Exception {
+        ConcurrentMap<String, byte[]> storage = ByteArrayClassLoader.PersistenceHandler.MAPPED.storage(Collections.singletonMap(FOO, new byte[]{1, 2}));
+        assertThat(storage.get(FOO), is(new byte[]{1, 2}));
+        assertThat(ByteArrayClassLoader.PersistenceHandler.MAPPED.lookup(FOO, storage), is(new byte[]{1, 2}));
+        ByteArrayClassLoader.PersistenceHandler.MAPPED.release(FOO, storage);
+        assertThat(storage.containsKey(FOO), is(true));
+    }
+}
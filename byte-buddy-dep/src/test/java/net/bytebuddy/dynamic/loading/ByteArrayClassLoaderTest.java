@@ -68,7 +68,8 @@ public class ByteArrayClassLoaderTest {
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][]{
                 {ByteArrayClassLoader.PersistenceHandler.LATENT, false},
-                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true}
+                {ByteArrayClassLoader.PersistenceHandler.MANIFEST, true},
+                {ByteArrayClassLoader.PersistenceHandler.MAPPED, true}
         });
     }
 
@@ -11,17 +11,26 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.MethodRule;
+import org.mockito.ArgumentMatcher;
 
 import java.io.File;
 import java.security.AccessControlContext;
 import java.security.ProtectionDomain;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 public class ClassInjectorUsingInstrumentationTest {
 
@@ -68,6 +77,68 @@ public class ClassInjectorUsingInstrumentationTest {
         assertThat(types.get(dynamicType.getTypeDescription()).getClassLoader(), is(ClassLoader.getSystemClassLoader()));
     }
 
+    @Test
+    @AgentAttachmentRule.Enforce
+    public void testBatchingSystemInjection() throws Exception {
+        ClassInjector.UsingInstrumentation.Batching classInjector = ClassInjector.UsingInstrumentation.Batching.of(folder,
+                ClassInjector.UsingInstrumentation.Target.SYSTEM,
+                ByteBuddyAgent.install());
+        DynamicType pending = new ByteBuddy().subclass(Object.class).name(FOO + RandomString.make()).make();
+        DynamicType injected = new ByteBuddy().subclass(Object.class).name(BAR + RandomString.make()).make();
+        assertThat(classInjector.register(Collections.singletonMap(pending.getTypeDescription(), pending.getBytes())).getPendingCount(), is(1));
+        Map<TypeDescription, Class<?>> types = classInjector.inject(Collections.singletonMap(injected.getTypeDescription(), injected.getBytes()));
+        assertThat(types.size(), is(2));
+        assertThat(types.get(pending.getTypeDescription()).getClassLoader(), is(ClassLoader.getSystemClassLoader()));
+        assertThat(types.get(injected.getTypeDescription()).getClassLoader(), is(ClassLoader.getSystemClassLoader()));
+        assertThat(classInjector.getPendingCount(), is(0));
+        assertThat(folder.listFiles().length, is(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchingDelegation() throws Exception {
+        ClassInjector delegate = mock(ClassInjector.class);
+        TypeDescription first = mock(TypeDescription.class), second = mock(TypeDescription.class);
+        Map<TypeDescription, Class<?>> loaded = Collections.<TypeDescription, Class<?>>singletonMap(first, Object.class);
+        when(delegate.inject(any(Map.class))).thenReturn(loaded);
+        ClassInjector.UsingInstrumentation.Batching classInjector = new ClassInjector.UsingInstrumentation.Batching(delegate);
+        assertThat(classInjector.flush().size(), is(0));
+        verifyZeroInteractions(delegate);
+        classInjector.register(Collections.singletonMap(first, new byte[]{1}));
+        classInjector.register(Collections.singletonMap(second, new byte[]{2}));
+        assertThat(classInjector.getPendingCount(), is(2));
+        assertThat(classInjector.flush(), is(loaded));
+        final Map<TypeDescription, byte[]> expected = new LinkedHashMap<TypeDescription, byte[]>();
+        expected.put(first, new byte[]{1});
+        expected.put(second, new byte[]{2});
+        verify(delegate).inject(argThat(new ArgumentMatcher<Map<? extends TypeDescription, byte[]>>() {
+            @Override
+            public boolean matches(Map<? extends TypeDescription, byte[]> argument) {
+                return argument.keySet().equals(expected.keySet());
+            }
+        }));
+        assertThat(classInjector.getPendingCount(), is(0));
+        assertThat(classInjector.flush().size(), is(0));
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchingRetainsPendingOnFailure() throws Exception {
+        ClassInjector delegate = mock(ClassInjector.class);
+        TypeDescription first = mock(TypeDescription.class), second = mock(TypeDescription.class);
+        when(delegate.inject(any(Map.class))).thenThrow(new IllegalStateException());
+        ClassInjector.UsingInstrumentation.Batching classInjector = new ClassInjector.UsingInstrumentation.Batching(delegate);
+        classInjector.register(Collections.singletonMap(first, new byte[]{1}));
+        try {
+            classInjector.inject(Collections.singletonMap(second, new byte[]{2}));
+            fail();
+        } catch (IllegalStateException ignored) {
+            /* expected */
+        }
+        assertThat(classInjector.getPendingCount(), is(1));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(ClassInjector.UsingInstrumentation.class).create(new ObjectPropertyAssertion.Creator<AccessControlContext>() {
@@ -0,0 +1,146 @@
+package net.bytebuddy.dynamic.loading;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.ClassFileExtraction;
+import net.bytebuddy.test.utility.JavaVersionRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.MethodRule;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ClassLoadingStrategyShardedTest {
+
+    @Rule
+    public MethodRule javaVersionRule = new JavaVersionRule();
+
+    private ClassLoader classLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        classLoader = new URLClassLoader(new URL[0], ClassLoadingStrategy.BOOTSTRAP_LOADER);
+    }
+
+    @Test
+    public void testLoading() throws Exception {
+        TypeDescription typeDescription = new TypeDescription.ForLoadedType(Foo.class);
+        Map<TypeDescription, Class<?>> loaded = new ClassLoadingStrategy.Sharded(classLoader, 4)
+                .load(classLoader, Collections.singletonMap(typeDescription, ClassFileExtraction.extract(Foo.class)));
+        assertThat(loaded.size(), is(1));
+        Class<?> type = loaded.get(typeDescription);
+        assertThat(type.getName(), is(Foo.class.getName()));
+        assertThat(type.getClassLoader(), instanceOf(ClassLoadingStrategy.Sharded.Shard.class));
+        assertThat(type.getClassLoader().getParent(), is(classLoader));
+    }
+
+    @Test
+    public void testSamePackageIsColocated() throws Exception {
+        ClassLoadingStrategy<ClassLoader> classLoadingStrategy = new ClassLoadingStrategy.Sharded(classLoader, 4);
+        TypeDescription foo = new TypeDescription.ForLoadedType(Foo.class), bar = new TypeDescription.ForLoadedType(Bar.class);
+        Class<?> fooType = classLoadingStrategy.load(classLoader, Collections.singletonMap(foo, ClassFileExtraction.extract(Foo.class))).get(foo);
+        Class<?> barType = classLoadingStrategy.load(classLoader, Collections.singletonMap(bar, ClassFileExtraction.extract(Bar.class))).get(bar);
+        assertThat(barType.getClassLoader(), is(fooType.getClassLoader()));
+        assertThat(barType.getPackage(), is(fooType.getPackage()));
+    }
+
+    @Test
+    public void testShardLocation() throws Exception {
+        ClassLoadingStrategy.Sharded classLoadingStrategy = new ClassLoadingStrategy.Sharded(classLoader, 4);
+        assertThat(classLoadingStrategy.locate("foo.Bar"), is(classLoadingStrategy.locate("foo.Qux")));
+        assertThat(classLoadingStrategy.locate("Bar"), is(classLoadingStrategy.locate("Qux")));
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        assertThat(new ClassLoadingStrategy.Sharded(classLoader, 1).load(classLoader, Collections.<TypeDescription, byte[]>emptyMap()).size(), is(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalParent() throws Exception {
+        new ClassLoadingStrategy.Sharded(classLoader, 1).load(ClassLoader.getSystemClassLoader(),
+                Collections.singletonMap((TypeDescription) new TypeDescription.ForLoadedType(Foo.class), ClassFileExtraction.extract(Foo.class)));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExistingType() throws Exception {
+        new ClassLoadingStrategy.Sharded(ClassLoader.getSystemClassLoader(), 1).load(ClassLoader.getSystemClassLoader(),
+                Collections.singletonMap(TypeDescription.STRING, new byte[0]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultiplePackages() throws Exception {
+        Map<TypeDescription, byte[]> types = new LinkedHashMap<TypeDescription, byte[]>();
+        types.put(new TypeDescription.ForLoadedType(Foo.class), ClassFileExtraction.extract(Foo.class));
+        types.put(TypeDescription.STRING, new byte[0]);
+        new ClassLoadingStrategy.Sharded(classLoader, 4).load(classLoader, types);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalShardCount() throws Exception {
+        new ClassLoadingStrategy.Sharded(classLoader, 0);
+    }
+
+    @Test
+    public void testIdentity() throws Exception {
+        ClassLoadingStrategy.Sharded classLoadingStrategy = new ClassLoadingStrategy.Sharded(classLoader, 2);
+        assertThat(classLoadingStrategy.hashCode(), is(classLoadingStrategy.hashCode()));
+        assertThat(classLoadingStrategy, is(classLoadingStrategy));
+        assertThat(classLoadingStrategy, not(new ClassLoadingStrategy.Sharded(classLoader, 2)));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testShardIsParallelCapable() throws Exception {
+        ClassLoader shard = new ClassLoadingStrategy.Sharded(classLoader, 1).locate(Foo.class.getName());
+        Object lock = ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock(shard, Foo.class.getName());
+        assertThat(lock, not((Object) shard));
+        assertThat(ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock(shard, Bar.class.getName()), not(lock));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(7)
+    public void testByteArrayClassLoaderIsNotParallelCapable() throws Exception {
+        ClassLoader classLoader = new ByteArrayClassLoader(this.classLoader, Collections.<String, byte[]>emptyMap());
+        assertThat(ByteArrayClassLoader.SYNCHRONIZATION_STRATEGY.initialize().getClassLoadingLock(classLoader, Foo.class.getName()), is((Object) classLoader));
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testParallelCapabilityLegacyVm() throws Exception {
+        ClassLoadingStrategy.Sharded.Shard.ParallelCapability.ForLegacyVm.INSTANCE.resolve();
+    }
+
+    @Test
+    public void testParallelCapabilityJava7CapableVm() throws Exception {
+        Method method = ClassLoader.class.getDeclaredMethod("getSystemClassLoader");
+        assertThat(new ClassLoadingStrategy.Sharded.Shard.ParallelCapability.ForJava7CapableVm(method).resolve(), is(method));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(ClassLoadingStrategy.Sharded.Shard.ParallelCapability.CreationAction.class).apply();
+        ObjectPropertyAssertion.of(ClassLoadingStrategy.Sharded.Shard.ParallelCapability.ForLegacyVm.class).apply();
+        final Iterator<Method> iterator = Arrays.asList(Object.class.getDeclaredMethods()).iterator();
+        ObjectPropertyAssertion.of(ClassLoadingStrategy.Sharded.Shard.ParallelCapability.ForJava7CapableVm.class).create(new ObjectPropertyAssertion.Creator<Method>() {
+            @Override
+            public Method create() {
+                return iterator.next();
+            }
+        }).apply();
+    }
+
+    private static class Foo {
+        /* empty */
+    }
+
+    private static class Bar {
+        /* empty */
+    }
+}
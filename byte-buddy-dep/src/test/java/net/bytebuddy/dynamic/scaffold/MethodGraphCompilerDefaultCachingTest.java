@@ -0,0 +1,144 @@
+package net.bytebuddy.dynamic.scaffold;
+
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+
+import java.util.List;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MethodGraphCompilerDefaultCachingTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Test
+    public void testSuperTypeIsShared() throws Exception {
+        MethodGraph.Compiler.Default.Caching<?> compiler = (MethodGraph.Compiler.Default.Caching<?>) MethodGraph.Compiler.Default.Caching.forJavaHierarchy();
+        compiler.compile(TypeDescription.ForLoadedType.of(Foo.class));
+        int size = compiler.size();
+        assertThat(size > 0, is(true));
+        compiler.compile(TypeDescription.ForLoadedType.of(Bar.class));
+        assertThat(compiler.size(), is(size));
+    }
+
+    @Test
+    public void testEquivalentToDefault() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.Caching.forJavaHierarchy();
+        for (Class<?> type : new Class<?>[]{Foo.class, Bar.class, Foo.class}) {
+            MethodGraph.Linked cached = compiler.compile(TypeDescription.ForLoadedType.of(type));
+            MethodGraph.Linked uncached = MethodGraph.Compiler.Default.forJavaHierarchy().compile(TypeDescription.ForLoadedType.of(type));
+            assertThat((List<MethodDescription>) cached.listNodes().asMethodList(), is((List<MethodDescription>) uncached.listNodes().asMethodList()));
+            assertThat((List<MethodDescription>) cached.getSuperClassGraph().listNodes().asMethodList(), is((List<MethodDescription>) uncached.getSuperClassGraph().listNodes().asMethodList()));
+            assertThat((List<MethodDescription>) cached.getInterfaceGraph(TypeDescription.ForLoadedType.of(Qux.class)).listNodes().asMethodList(),
+                    is((List<MethodDescription>) uncached.getInterfaceGraph(TypeDescription.ForLoadedType.of(Qux.class)).listNodes().asMethodList()));
+        }
+    }
+
+    @Test
+    public void testViewPointPackageIsRespected() throws Exception {
+        MethodGraph.Compiler compiler = MethodGraph.Compiler.Default.Caching.forJavaHierarchy();
+        MethodDescription.SignatureToken token = TypeDescription.ForLoadedType.of(Base.class).getDeclaredMethods().filter(named(BAR)).getOnly().asSignatureToken();
+        assertThat(compiler.compile(TypeDescription.ForLoadedType.of(Foo.class)).locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+        TypeDescription otherPackage = InstrumentedType.Default.of(FOO + "." + BAR,
+                new TypeDescription.Generic.OfNonGenericType.ForLoadedType(Base.class),
+                Opcodes.ACC_PUBLIC);
+        assertThat(compiler.compile(otherPackage).locate(token).getSort(), is(MethodGraph.Node.Sort.UNRESOLVED));
+        assertThat(compiler.compile(TypeDescription.ForLoadedType.of(Bar.class)).locate(token).getSort(), is(MethodGraph.Node.Sort.RESOLVED));
+    }
+
+    @Test
+    public void testNonAssignableViewPointIsNotCached() throws Exception {
+        MethodGraph.Compiler.Default.Caching<?> compiler = (MethodGraph.Compiler.Default.Caching<?>) MethodGraph.Compiler.Default.Caching.forJVMHierarchy();
+        compiler.compile(TypeDescription.ForLoadedType.of(Foo.class), TypeDescription.OBJECT);
+        assertThat(compiler.size(), is(0));
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(MethodGraph.Compiler.Default.Caching.class).apply();
+        ObjectPropertyAssertion.of(MethodGraph.Compiler.Default.Caching.SnapshotKey.TypeNameRenderer.class).apply();
+    }
+
+    @Test
+    public void testSnapshotKeyIsNameBased() throws Exception {
+        MethodGraph.Compiler.Default.Caching.SnapshotKey key = new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(Base.class), FOO);
+        assertThat(key, is(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(Foo.class).getSuperClass(), FOO)));
+        assertThat(key.hashCode(), is(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(Foo.class).getSuperClass(), FOO).hashCode()));
+        assertThat(key, not(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(Base.class), BAR)));
+        assertThat(key, not(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(Foo.class), FOO)));
+    }
+
+    @Test
+    public void testSnapshotKeyRespectsGenericContext() throws Exception {
+        assertThat(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(StringSample.class).getSuperClass(), FOO),
+                is(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(OtherStringSample.class).getSuperClass(), FOO)));
+        assertThat(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(StringSample.class).getSuperClass(), FOO),
+                not(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(GenericBase.class), FOO)));
+        assertThat(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(VariableSample.class).getSuperClass(), FOO),
+                not(new MethodGraph.Compiler.Default.Caching.SnapshotKey(TypeDescription.ForLoadedType.of(OtherVariableSample.class).getSuperClass(), FOO)));
+    }
+
+    public interface Qux {
+
+        void qux();
+    }
+
+    public abstract static class Base implements Qux {
+
+        public void foo() {
+            /* empty */
+        }
+
+        void bar() {
+            /* empty */
+        }
+    }
+
+    public static class Foo extends Base {
+
+        public void qux() {
+            /* empty */
+        }
+    }
+
+    public static class Bar extends Base {
+
+        public void qux() {
+            /* empty */
+        }
+
+        @Override
+        public void foo() {
+            /* empty */
+        }
+    }
+
+    public static class GenericBase<T> {
+
+        public T foo() {
+            return null;
+        }
+    }
+
+    public static class StringSample extends GenericBase<String> {
+        /* empty */
+    }
+
+    public static class OtherStringSample extends GenericBase<String> {
+        /* empty */
+    }
+
+    public static class VariableSample<T> extends GenericBase<T> {
+        /* empty */
+    }
+
+    public static class OtherVariableSample<T extends Number> extends GenericBase<T> {
+        /* empty */
+    }
+}
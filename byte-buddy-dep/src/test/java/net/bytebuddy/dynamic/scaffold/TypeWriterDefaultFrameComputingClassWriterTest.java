@@ -14,6 +14,9 @@ import org.objectweb.asm.ClassReader;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TypeWriterDefaultFrameComputingClassWriterTest {
@@ -75,4 +78,44 @@ public class TypeWriterDefaultFrameComputingClassWriterTest {
         when(superClass.isAssignableFrom(rightType)).thenReturn(true);
         assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
     }
+
+    @Test
+    public void testCommonSuperClassIsMemorized() throws Exception {
+        when(leftType.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(QUX));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(QUX));
+        verify(typePool).describe(FOO.replace('/', '.'));
+        verify(typePool).describe(BAR.replace('/', '.'));
+        verify(leftType).isAssignableFrom(rightType);
+    }
+
+    @Test
+    public void testTypeIsResolvedOncePerWriter() throws Exception {
+        when(typePool.describe(BAZ.replace('/', '.'))).thenReturn(new TypePool.Resolution.Simple(superClass));
+        when(leftType.isAssignableFrom(rightType)).thenReturn(true);
+        when(leftType.isAssignableFrom(superClass)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(QUX));
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAZ), is(QUX));
+        verify(typePool, times(1)).describe(FOO.replace('/', '.'));
+        verify(typePool, times(1)).describe(BAR.replace('/', '.'));
+        verify(typePool, times(1)).describe(BAZ.replace('/', '.'));
+    }
+
+    @Test
+    public void testMemorizationIsScopedToWriter() throws Exception {
+        when(leftType.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(QUX));
+        assertThat(new TypeWriter.Default.FrameComputingClassWriter(mock(ClassReader.class), 0, typePool).getCommonSuperClass(FOO, BAR), is(QUX));
+        verify(typePool, times(2)).describe(FOO.replace('/', '.'));
+        verify(typePool, times(2)).describe(BAR.replace('/', '.'));
+    }
+
+    @Test
+    public void testSuperClassIterationDoesNotResolveInterfaces() throws Exception {
+        when(superClass.isAssignableFrom(rightType)).thenReturn(true);
+        assertThat(frameComputingClassWriter.getCommonSuperClass(FOO, BAR), is(FOOBAR));
+        verify(leftType, never()).getInterfaces();
+        verify(rightType, never()).getInterfaces();
+        verify(superClass, never()).getInterfaces();
+    }
 }
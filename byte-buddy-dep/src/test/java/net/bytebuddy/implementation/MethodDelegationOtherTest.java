@@ -2,19 +2,26 @@ package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.bind.MethodDelegationBinder;
 import net.bytebuddy.implementation.bind.annotation.TargetMethodAnnotationDrivenBinder;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Test;
 
+import java.io.Serializable;
+
 import static net.bytebuddy.matcher.ElementMatchers.any;
 import static net.bytebuddy.matcher.ElementMatchers.isToString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
 public class MethodDelegationOtherTest {
 
+    private static final String FOO = "foo", BAR = "bar";
+
     @Test(expected = IllegalStateException.class)
     public void testDelegationToInvisibleInstanceThrowsException() throws Exception {
         new ByteBuddy()
@@ -59,6 +66,45 @@ public class MethodDelegationOtherTest {
                 .make();
     }
 
+    @Test
+    public void testDelegationConsidersParameterTypesOfEachClassLoader() throws Exception {
+        Class<?> nonSerializable = new ByteBuddy()
+                .subclass(Object.class)
+                .name(FOO + "." + BAR)
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Class<?> serializable = new ByteBuddy()
+                .subclass(Object.class)
+                .name(FOO + "." + BAR)
+                .implement(Serializable.class)
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        Implementation implementation = MethodDelegation.to(Bar.class);
+        try {
+            new ByteBuddy()
+                    .subclass(Object.class)
+                    .defineMethod(FOO, String.class, Visibility.PUBLIC)
+                    .withParameters(nonSerializable)
+                    .intercept(implementation)
+                    .make();
+            fail();
+        } catch (IllegalArgumentException ignored) {
+            /* expected */
+        }
+        Class<?> type = new ByteBuddy()
+                .subclass(Object.class)
+                .defineMethod(FOO, String.class, Visibility.PUBLIC)
+                .withParameters(serializable)
+                .intercept(implementation)
+                .make()
+                .load(serializable.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+        assertThat(type.getDeclaredMethod(FOO, serializable).invoke(type.getDeclaredConstructor().newInstance(),
+                serializable.getDeclaredConstructor().newInstance()), is((Object) BAR));
+    }
+
     @Test
     public void testEmptyConfiguration() throws Exception {
         assertThat(MethodDelegation.withEmptyConfiguration()
@@ -80,4 +126,11 @@ public class MethodDelegationOtherTest {
     static class Foo {
         /* empty */
     }
+
+    public static class Bar {
+
+        public static String bar(Serializable value) {
+            return BAR;
+        }
+    }
 }
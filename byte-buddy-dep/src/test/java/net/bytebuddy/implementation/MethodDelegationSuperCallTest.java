@@ -1,6 +1,10 @@
 package net.bytebuddy.implementation;
 
 import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.modifier.Ownership;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
@@ -17,8 +21,10 @@ import java.lang.reflect.Method;
 import java.util.concurrent.Callable;
 
 import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class MethodDelegationSuperCallTest {
@@ -27,7 +33,7 @@ public class MethodDelegationSuperCallTest {
 
     private static final String CONFLICTING_INTERFACE = "net.bytebuddy.test.precompiled.SingleDefaultMethodConflictingInterface";
 
-    private static final String FOO = "foo", BAR = "bar";
+    private static final String FOO = "foo", BAR = "bar", BAZ = "baz";
 
     @Rule
     public MethodRule javaVersionRule = new JavaVersionRule();
@@ -129,6 +135,131 @@ public class MethodDelegationSuperCallTest {
                 .make();
     }
 
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testRunnableSuperCallInvokeDynamic() throws Exception {
+        DynamicType.Loaded<Foo> loaded = new ByteBuddy()
+                .subclass(Foo.class)
+                .method(isDeclaredBy(Foo.class))
+                .intercept(MethodDelegation.to(RunnableInvokeDynamicClass.class))
+                .make()
+                .load(Foo.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Foo instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.value, is(BAR));
+        instance.foo();
+        assertThat(instance.value, is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testCallableSuperCallInvokeDynamic() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy()
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(CallableInvokeDynamicClass.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(), is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testCallableSuperCallInvokeDynamicArguments() throws Exception {
+        DynamicType.Loaded<Baz> loaded = new ByteBuddy()
+                .subclass(Baz.class)
+                .method(isDeclaredBy(Baz.class))
+                .intercept(MethodDelegation.to(ArgumentsInvokeDynamicTarget.class))
+                .make()
+                .load(Baz.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        Baz instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.baz(FOO, 42L), is(FOO.length() + 42L));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testCallableSuperCallInvokeDynamicStaticRebase() throws Exception {
+        DynamicType.Unloaded<?> original = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Object.class)
+                .defineMethod(BAZ, long.class, Ownership.STATIC, Visibility.PUBLIC)
+                .withParameters(String.class, long.class)
+                .intercept(FixedValue.value(42L))
+                .make();
+        Class<?> type = original.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        DynamicType.Loaded<?> loaded = new ByteBuddy()
+                .rebase(type, ClassFileLocator.Simple.of(type.getName(), original.getBytes()))
+                .method(named(BAZ))
+                .intercept(MethodDelegation.to(ArgumentsInvokeDynamicTarget.class))
+                .make()
+                .load(type.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredMethod(BAZ, String.class, long.class).invoke(null, FOO, 0L), is((Object) 42L));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testRunnableSuperCallInvokeDynamicStaticRebase() throws Exception {
+        DynamicType.Unloaded<?> original = new ByteBuddy(ClassFileVersion.JAVA_V8)
+                .subclass(Object.class)
+                .defineMethod(FOO, void.class, Ownership.STATIC, Visibility.PUBLIC)
+                .intercept(StubMethod.INSTANCE)
+                .make();
+        Class<?> type = original.load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+        DynamicType.Loaded<?> loaded = new ByteBuddy()
+                .rebase(type, ClassFileLocator.Simple.of(type.getName(), original.getBytes()))
+                .method(named(FOO))
+                .intercept(MethodDelegation.to(RunnableInvokeDynamicClass.class))
+                .make()
+                .load(type.getClassLoader(), ClassLoadingStrategy.Default.CHILD_FIRST);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(0));
+        assertThat(loaded.getLoaded().getDeclaredMethod(FOO).invoke(null), nullValue(Object.class));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testVoidToCallableInvokeDynamicFallback() throws Exception {
+        DynamicType.Loaded<VoidTest> loaded = new ByteBuddy()
+                .subclass(VoidTest.class)
+                .method(isDeclaredBy(VoidTest.class))
+                .intercept(MethodDelegation.to(NonVoidInvokeDynamicTarget.class))
+                .make()
+                .load(VoidTest.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(1));
+        VoidTest instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        instance.foo();
+        instance.assertOnlyCall(FOO);
+    }
+
+    @Test
+    public void testLegacyClassFileInvokeDynamicFallback() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy(ClassFileVersion.JAVA_V6)
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(CallableInvokeDynamicClass.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(1));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(), is(FOO));
+    }
+
+    @Test
+    @JavaVersionRule.Enforce(8)
+    public void testSerializableProxyInvokeDynamicFallback() throws Exception {
+        DynamicType.Loaded<Bar> loaded = new ByteBuddy()
+                .subclass(Bar.class)
+                .method(isDeclaredBy(Bar.class))
+                .intercept(MethodDelegation.to(SerializationInvokeDynamicCheck.class))
+                .make()
+                .load(Bar.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER);
+        assertThat(loaded.getAuxiliaryTypes().size(), is(1));
+        Bar instance = loaded.getLoaded().getDeclaredConstructor().newInstance();
+        assertThat(instance.bar(), is(FOO));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testAbstractMethodNonBindable() throws Exception {
         new ByteBuddy()
@@ -179,6 +310,49 @@ public class MethodDelegationSuperCallTest {
         }
     }
 
+    public static class RunnableInvokeDynamicClass {
+
+        public static void foo(@SuperCall(invokeDynamic = true) Runnable runnable) {
+            runnable.run();
+        }
+    }
+
+    public static class CallableInvokeDynamicClass {
+
+        public static String bar(@SuperCall(invokeDynamic = true) Callable<String> callable) throws Exception {
+            return callable.call();
+        }
+    }
+
+    public static class Baz {
+
+        public long baz(String value, long number) {
+            return value.length() + number;
+        }
+    }
+
+    public static class ArgumentsInvokeDynamicTarget {
+
+        public static long baz(@SuperCall(invokeDynamic = true) Callable<Long> callable) throws Exception {
+            return callable.call();
+        }
+    }
+
+    public static class NonVoidInvokeDynamicTarget {
+
+        public static Object foo(@SuperCall(invokeDynamic = true) Callable<?> zuper) throws Exception {
+            return zuper.call();
+        }
+    }
+
+    public static class SerializationInvokeDynamicCheck {
+
+        public static String bar(@SuperCall(serializableProxy = true, invokeDynamic = true) Callable<String> callable) throws Exception {
+            assertThat(callable, instanceOf(Serializable.class));
+            return callable.call();
+        }
+    }
+
     public abstract static class Qux {
 
         public abstract String bar();
@@ -1,18 +1,25 @@
 package net.bytebuddy.implementation.bind;
 
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.ParameterList;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -31,7 +38,13 @@ public class MethodDelegationBinderProcessorTest {
     private MethodDelegationBinder.MethodBinding methodBinding;
 
     @Mock
-    private MethodDelegationBinder.Record record;
+    private MethodDelegationBinder.Record record, otherRecord;
+
+    @Mock
+    private MethodDelegationBinder.MethodBinding otherMethodBinding;
+
+    @Mock
+    private ParameterList<?> parameterList;
 
     @Mock
     private MethodDelegationBinder.TerminationHandler terminationHandler;
@@ -48,6 +61,80 @@ public class MethodDelegationBinderProcessorTest {
     @Mock
     private Assigner assigner;
 
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        when(source.getParameters()).thenReturn((ParameterList) parameterList);
+        when(parameterList.asTypeList()).thenReturn(new TypeList.Generic.Explicit(TypeDescription.Generic.OBJECT));
+        when(record.isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner)).thenReturn(true);
+        when(otherRecord.isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner)).thenReturn(false);
+    }
+
+    @Test
+    public void testBinding() throws Exception {
+        when(methodBinding.isValid()).thenReturn(true);
+        when(record.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner)).thenReturn(methodBinding);
+        when(bindingResolver.resolve(ambiguityResolver, source, Collections.singletonList(methodBinding))).thenReturn(methodBinding);
+        assertThat(new MethodDelegationBinder.Processor(Collections.singletonList(record), ambiguityResolver, bindingResolver)
+                .bind(implementationTarget, source, terminationHandler, methodInvoker, assigner), is(methodBinding));
+    }
+
+    @Test
+    public void testNonCandidateRecordIsPruned() throws Exception {
+        when(methodBinding.isValid()).thenReturn(true);
+        when(record.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner)).thenReturn(methodBinding);
+        when(bindingResolver.resolve(ambiguityResolver, source, Collections.singletonList(methodBinding))).thenReturn(methodBinding);
+        MethodDelegationBinder.Processor processor = new MethodDelegationBinder.Processor(Arrays.asList(record, otherRecord),
+                ambiguityResolver,
+                bindingResolver);
+        assertThat(processor.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner), is(methodBinding));
+        assertThat(processor.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner), is(methodBinding));
+        verify(otherRecord).isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner);
+        verifyNoMoreInteractions(otherRecord);
+        verify(record, times(2)).bind(implementationTarget, source, terminationHandler, methodInvoker, assigner);
+    }
+
+    @Test
+    public void testIndexIsShared() throws Exception {
+        when(methodBinding.isValid()).thenReturn(true);
+        when(record.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner)).thenReturn(methodBinding);
+        when(bindingResolver.resolve(ambiguityResolver, source, Collections.singletonList(methodBinding))).thenReturn(methodBinding);
+        MethodDelegationBinder.Processor.Index index = new MethodDelegationBinder.Processor.Index(Arrays.asList(record, otherRecord));
+        assertThat(new MethodDelegationBinder.Processor(index, ambiguityResolver, bindingResolver)
+                .bind(implementationTarget, source, terminationHandler, methodInvoker, assigner), is(methodBinding));
+        assertThat(new MethodDelegationBinder.Processor(index, ambiguityResolver, bindingResolver)
+                .bind(implementationTarget, source, terminationHandler, methodInvoker, assigner), is(methodBinding));
+        verify(record).isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner);
+        verify(otherRecord).isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner);
+        verifyNoMoreInteractions(otherRecord);
+    }
+
+    @Test
+    public void testRecordsAreConsideredInOrder() throws Exception {
+        when(otherRecord.isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner)).thenReturn(true);
+        when(methodBinding.isValid()).thenReturn(true);
+        when(otherMethodBinding.isValid()).thenReturn(true);
+        when(record.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner)).thenReturn(methodBinding);
+        when(otherRecord.bind(implementationTarget, source, terminationHandler, methodInvoker, assigner)).thenReturn(otherMethodBinding);
+        when(bindingResolver.resolve(ambiguityResolver, source, Arrays.asList(otherMethodBinding, methodBinding))).thenReturn(otherMethodBinding);
+        assertThat(new MethodDelegationBinder.Processor(Arrays.asList(otherRecord, record), ambiguityResolver, bindingResolver)
+                .bind(implementationTarget, source, terminationHandler, methodInvoker, assigner), is(otherMethodBinding));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoCandidate() throws Exception {
+        new MethodDelegationBinder.Processor(Collections.singletonList(otherRecord), ambiguityResolver, bindingResolver)
+                .bind(implementationTarget, source, terminationHandler, methodInvoker, assigner);
+    }
+
+    @Test
+    public void testCandidate() throws Exception {
+        assertThat(new MethodDelegationBinder.Processor(Arrays.asList(otherRecord, record), ambiguityResolver, bindingResolver)
+                .isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner), is(true));
+        assertThat(new MethodDelegationBinder.Processor(Collections.singletonList(otherRecord), ambiguityResolver, bindingResolver)
+                .isCandidate(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner), is(false));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testNoBindableTarget() throws Exception {
         when(methodBinding.isValid()).thenReturn(false);
@@ -59,5 +146,18 @@ public class MethodDelegationBinderProcessorTest {
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(MethodDelegationBinder.Processor.class).apply();
+        ObjectPropertyAssertion.of(MethodDelegationBinder.Processor.Index.class).apply();
+        MethodDelegationBinder.Processor.Index.Key key = new MethodDelegationBinder.Processor.Index.Key(Collections.singletonList(TypeDescription.Generic.OBJECT), assigner);
+        assertThat(key, is(new MethodDelegationBinder.Processor.Index.Key(new TypeList.Generic.Explicit(TypeDescription.Generic.OBJECT), assigner)));
+        assertThat(key.hashCode(), is(new MethodDelegationBinder.Processor.Index.Key(new TypeList.Generic.Explicit(TypeDescription.Generic.OBJECT), assigner).hashCode()));
+        assertThat(key, not(new MethodDelegationBinder.Processor.Index.Key(Collections.<TypeDescription.Generic>emptyList(), assigner)));
+        assertThat(key, not(new MethodDelegationBinder.Processor.Index.Key(Collections.singletonList(TypeDescription.Generic.OBJECT), mock(Assigner.class))));
+    }
+
+    @Test
+    public void testIndexKeyConsidersGenericType() throws Exception {
+        TypeDescription.Generic parameterizedType = TypeDescription.Generic.Builder.parameterizedType(List.class, String.class).build();
+        assertThat(new MethodDelegationBinder.Processor.Index.Key(Collections.singletonList(parameterizedType), assigner),
+                not(new MethodDelegationBinder.Processor.Index.Key(Collections.singletonList(parameterizedType.asRawType()), assigner)));
     }
 }
@@ -3,6 +3,7 @@ package net.bytebuddy.implementation.bind;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.method.ParameterDescription;
 import net.bytebuddy.description.method.ParameterList;
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
@@ -49,6 +50,11 @@ public class MethodDelegationBinderTest {
                 mock(Assigner.class)).isValid(), is(false));
     }
 
+    @Test
+    public void testIgnoredIsNeverCandidate() throws Exception {
+        assertThat(MethodDelegationBinder.Record.Illegal.INSTANCE.isCandidate(Collections.<TypeDescription.Generic>emptyList(), mock(Assigner.class)), is(false));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testObjectProperties() throws Exception {
@@ -58,6 +58,18 @@ public class SuperCallBinderTest extends AbstractAnnotationBinderTest<SuperCall>
         assertThat(parameterBinding.isValid(), is(true));
     }
 
+    @Test
+    public void testValidSuperMethodCallInvokeDynamic() throws Exception {
+        when(targetParameterType.represents(any(Class.class))).thenReturn(true);
+        when(specialMethodInvocation.isValid()).thenReturn(true);
+        when(annotation.invokeDynamic()).thenReturn(true);
+        MethodDelegationBinder.ParameterBinding<?> parameterBinding = SuperCall.Binder.INSTANCE
+                .bind(annotationDescription, source, target, implementationTarget, assigner, Assigner.Typing.STATIC);
+        verify(implementationTarget).invokeSuper(sourceToken);
+        verifyNoMoreInteractions(implementationTarget);
+        assertThat(parameterBinding.isValid(), is(true));
+    }
+
     @Test
     public void testInvalidSuperMethodCall() throws Exception {
         when(targetParameterType.represents(any(Class.class))).thenReturn(true);
@@ -110,5 +122,6 @@ public class SuperCallBinderTest extends AbstractAnnotationBinderTest<SuperCall>
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(SuperCall.Binder.class).apply();
+        ObjectPropertyAssertion.of(SuperCall.Binder.LambdaCall.class).apply();
     }
 }
@@ -34,7 +34,7 @@ import static org.mockito.Mockito.*;
 
 public class TargetMethodAnnotationDrivenBinderTest {
 
-    private static final String FOO = "foo", BAR = "bar", BAZ = "baz";
+    private static final String FOO = "foo", BAR = "bar", BAZ = "baz", QUX = "qux";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -351,6 +351,32 @@ public class TargetMethodAnnotationDrivenBinderTest {
         assertThat(argument, not(new Object()));
     }
 
+    @Test
+    public void testCandidate() throws Exception {
+        MethodDelegationBinder methodDelegationBinder = TargetMethodAnnotationDrivenBinder.of(TargetMethodAnnotationDrivenBinder.ParameterBinder.DEFAULTS);
+        List<TypeDescription.Generic> none = Collections.emptyList(),
+                object = Collections.singletonList(TypeDescription.Generic.OBJECT),
+                string = Collections.singletonList(TypeDescription.STRING.asGenericType()),
+                objects = Collections.nCopies(4, TypeDescription.Generic.OBJECT);
+        MethodDelegationBinder.Record record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(FOO)));
+        assertThat(record.isCandidate(none, Assigner.DEFAULT), is(true));
+        record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(FOO, Object.class, Object.class)));
+        assertThat(record.isCandidate(object, Assigner.DEFAULT), is(false));
+        assertThat(record.isCandidate(objects, Assigner.DEFAULT), is(true));
+        record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(FOO, Object.class)));
+        assertThat(record.isCandidate(object, Assigner.DEFAULT), is(false));
+        assertThat(record.isCandidate(objects, Assigner.DEFAULT), is(true));
+        record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(BAR, Object.class)));
+        assertThat(record.isCandidate(none, Assigner.DEFAULT), is(true));
+        record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(BAZ, Object.class)));
+        assertThat(record.isCandidate(objects, Assigner.DEFAULT), is(false));
+        record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(QUX, String.class)));
+        assertThat(record.isCandidate(object, Assigner.DEFAULT), is(false));
+        assertThat(record.isCandidate(string, Assigner.DEFAULT), is(true));
+        record = methodDelegationBinder.compile(new MethodDescription.ForLoadedMethod(CandidateSample.class.getDeclaredMethod(QUX, String.class, Void.class)));
+        assertThat(record.isCandidate(object, Assigner.DEFAULT), is(true));
+    }
+
     @Test
     public void testObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TargetMethodAnnotationDrivenBinder.class).refine(new ObjectPropertyAssertion.Refinement<TargetMethodAnnotationDrivenBinder.ParameterBinder>() {
@@ -383,6 +409,25 @@ public class TargetMethodAnnotationDrivenBinderTest {
         void foo(@Argument(0) Object foo);
     }
 
+    @SuppressWarnings("unused")
+    private interface CandidateSample {
+
+        void foo();
+
+        void foo(Object foo, Object bar);
+
+        void foo(@Argument(3) Object foo);
+
+        void bar(@This Object foo);
+
+        @IgnoreForBinding
+        void baz(Object foo);
+
+        void qux(String foo);
+
+        void qux(@RuntimeType String foo, @This Void bar);
+    }
+
     private @interface FirstPseudoAnnotation {
 
     }
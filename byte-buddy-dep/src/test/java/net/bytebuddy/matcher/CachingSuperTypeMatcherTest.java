@@ -0,0 +1,110 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.type.TypeDescription;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class CachingSuperTypeMatcherTest extends AbstractElementMatcherTest<CachingSuperTypeMatcher<?>> {
+
+    private static final List<Class<?>> TYPES = Arrays.<Class<?>>asList(Object.class,
+            String.class,
+            Integer.class,
+            int.class,
+            void.class,
+            Object[].class,
+            String[].class,
+            int[].class,
+            Serializable.class,
+            Comparable.class,
+            Collection.class,
+            List.class,
+            ArrayList.class,
+            LinkedList.class,
+            HashMap.class,
+            ConcurrentHashMap.class,
+            RandomAccess.class);
+
+    @Mock
+    private ElementMatcher<? super TypeDescription> matcher;
+
+    private ConcurrentMap<String, Boolean> cache;
+
+    @SuppressWarnings("unchecked")
+    public CachingSuperTypeMatcherTest() {
+        super((Class<CachingSuperTypeMatcher<?>>) (Object) CachingSuperTypeMatcher.class, "cachedHasSuperType");
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new ConcurrentHashMap<String, Boolean>();
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        ElementMatcher<TypeDescription> matcher = new CachingSuperTypeMatcher<TypeDescription>(named(Collection.class.getName()), cache);
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(ArrayList.class)), is(true));
+        assertThat(cache.get(AbstractList.class.getName()), is(true));
+        assertThat(cache.get(Collection.class.getName()), is(true));
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(LinkedList.class)), is(true));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        ElementMatcher<TypeDescription> matcher = new CachingSuperTypeMatcher<TypeDescription>(named(Collection.class.getName()), cache);
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(String.class)), is(false));
+        assertThat(cache.get(Object.class.getName()), is(false));
+        assertThat(cache.get(Serializable.class.getName()), is(false));
+    }
+
+    @Test
+    public void testSharedSuperTypeMatchedOnce() throws Exception {
+        ElementMatcher<TypeDescription> matcher = new CachingSuperTypeMatcher<TypeDescription>(this.matcher, cache);
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(ArrayList.class)), is(false));
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(LinkedList.class)), is(false));
+        assertThat(matcher.matches(TypeDescription.ForLoadedType.of(ArrayList.class)), is(false));
+        verify(this.matcher).matches(TypeDescription.ForLoadedType.of(ArrayList.class));
+        verify(this.matcher).matches(TypeDescription.ForLoadedType.of(LinkedList.class));
+        verify(this.matcher).matches(TypeDescription.ForLoadedType.of(AbstractList.class));
+        verify(this.matcher).matches(TypeDescription.ForLoadedType.of(List.class));
+        verify(this.matcher).matches(TypeDescription.ForLoadedType.of(Collection.class));
+        verify(this.matcher).matches(TypeDescription.OBJECT);
+    }
+
+    @Test
+    public void testEquivalentToHasSuperType() throws Exception {
+        for (Class<?> superType : TYPES) {
+            ElementMatcher<TypeDescription> matcher = new CachingSuperTypeMatcher<TypeDescription>(named(superType.getName()), new ConcurrentHashMap<String, Boolean>());
+            ElementMatcher<TypeDescription> reference = ElementMatchers.hasSuperType(named(superType.getName()));
+            for (Class<?> type : TYPES) {
+                assertThat(superType + " of " + type,
+                        matcher.matches(TypeDescription.ForLoadedType.of(type)),
+                        is(reference.matches(TypeDescription.ForLoadedType.of(type))));
+            }
+        }
+    }
+
+    @Override
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testObjectProperties() throws Exception {
+        CachingSuperTypeMatcher<?> cachingSuperTypeMatcher = new CachingSuperTypeMatcher<TypeDescription>(matcher, cache);
+        assertThat(cachingSuperTypeMatcher.equals(cachingSuperTypeMatcher), is(true));
+        assertThat(cachingSuperTypeMatcher.equals(new CachingSuperTypeMatcher<TypeDescription>(matcher, new ConcurrentHashMap<String, Boolean>())), is(true));
+        assertThat(cachingSuperTypeMatcher.equals(new CachingSuperTypeMatcher<TypeDescription>(mock(ElementMatcher.class), cache)), is(false));
+        assertThat(cachingSuperTypeMatcher.equals(null), is(false));
+        assertThat(cachingSuperTypeMatcher.equals(new Object()), is(false));
+        assertThat(cachingSuperTypeMatcher.hashCode(), is(new CachingSuperTypeMatcher<TypeDescription>(matcher, new ConcurrentHashMap<String, Boolean>()).hashCode()));
+        assertThat(cachingSuperTypeMatcher.toString().startsWith(startsWith), is(true));
+    }
+}
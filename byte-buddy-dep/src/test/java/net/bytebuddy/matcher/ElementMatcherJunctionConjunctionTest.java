@@ -1,8 +1,12 @@
 package net.bytebuddy.matcher;
 
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.*;
@@ -51,6 +55,39 @@ public class ElementMatcherJunctionConjunctionTest extends AbstractElementMatche
         verifyNoMoreInteractions(second);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testApplicationFlat() throws Exception {
+        Object target = new Object();
+        ElementMatcher<? super Object> third = mock(ElementMatcher.class);
+        when(first.matches(target)).thenReturn(true);
+        when(second.matches(target)).thenReturn(false);
+        assertThat(new ElementMatcher.Junction.Conjunction<Object>(Arrays.<ElementMatcher<? super Object>>asList(first, second, third)).matches(target), is(false));
+        verify(first).matches(target);
+        verifyNoMoreInteractions(first);
+        verify(second).matches(target);
+        verifyNoMoreInteractions(second);
+        verifyZeroInteractions(third);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testToStringFlat() throws Exception {
+        ElementMatcher<? super Object> third = mock(ElementMatcher.class);
+        assertThat(new ElementMatcher.Junction.Conjunction<Object>(Arrays.<ElementMatcher<? super Object>>asList(first, second, third)).toString(),
+                is("(" + first + " and " + second + " and " + third + ")"));
+    }
+
+    @Override
+    protected <S> ObjectPropertyAssertion<S> modify(ObjectPropertyAssertion<S> propertyAssertion) {
+        return propertyAssertion.create(new ObjectPropertyAssertion.Creator<List<?>>() {
+            @Override
+            public List<?> create() {
+                return Arrays.asList(mock(ElementMatcher.class), mock(ElementMatcher.class));
+            }
+        });
+    }
+
     @Override
     protected String makeRegex(String startsWith) {
         return "^(.* and .*)$";
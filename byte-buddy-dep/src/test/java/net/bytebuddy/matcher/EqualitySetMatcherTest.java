@@ -0,0 +1,47 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class EqualitySetMatcherTest extends AbstractElementMatcherTest<EqualitySetMatcher<?>> {
+
+    @SuppressWarnings("unchecked")
+    public EqualitySetMatcherTest() {
+        super((Class<EqualitySetMatcher<?>>) (Object) EqualitySetMatcher.class, "anyOf");
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        Object first = new Object(), second = new Object();
+        assertThat(new EqualitySetMatcher<Object>(new HashSet<Object>(Arrays.asList(first, second))).matches(first), is(true));
+        assertThat(new EqualitySetMatcher<Object>(new HashSet<Object>(Arrays.asList(first, second))).matches(second), is(true));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        assertThat(new EqualitySetMatcher<Object>(Collections.singleton(new Object())).matches(new Object()), is(false));
+    }
+
+    @Test
+    public void testNoMatchNull() throws Exception {
+        assertThat(new EqualitySetMatcher<Object>(Collections.singleton(new Object())).matches(null), is(false));
+    }
+
+    @Override
+    protected <S> ObjectPropertyAssertion<S> modify(ObjectPropertyAssertion<S> propertyAssertion) {
+        return propertyAssertion.create(new ObjectPropertyAssertion.Creator<Set<?>>() {
+            @Override
+            public Set<?> create() {
+                return Collections.singleton(new Object());
+            }
+        });
+    }
+}
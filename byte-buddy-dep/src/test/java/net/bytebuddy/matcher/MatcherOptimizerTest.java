@@ -0,0 +1,134 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.description.NamedElement;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.test.utility.MockitoRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static net.bytebuddy.matcher.ElementMatchers.*;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class MatcherOptimizerTest {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private ElementMatcher<? super TypeDescription> matcher;
+
+    @Test
+    public void testNonJunctionRetained() throws Exception {
+        ElementMatcher<TypeDescription> named = named(FOO);
+        assertThat(MatcherOptimizer.INSTANCE.optimize(named), sameInstance((Object) named));
+        assertThat(MatcherOptimizer.INSTANCE.optimize(matcher), sameInstance((Object) matcher));
+    }
+
+    @Test
+    public void testTrivialMatcherRemoved() throws Exception {
+        ElementMatcher<TypeDescription> named = named(FOO);
+        assertThat(MatcherOptimizer.INSTANCE.<TypeDescription>optimize(any().and(named)), sameInstance((Object) named));
+        assertThat(MatcherOptimizer.INSTANCE.<TypeDescription>optimize(none().or(named)), sameInstance((Object) named));
+    }
+
+    @Test
+    public void testConjunctionFlattened() throws Exception {
+        ElementMatcher<? super TypeDescription> optimized = MatcherOptimizer.INSTANCE.optimize(ElementMatchers.<TypeDescription>named(FOO)
+                .and(isPublic())
+                .and(isStatic().and(isFinal())));
+        assertThat(optimized, instanceOf(ElementMatcher.Junction.Conjunction.class));
+        assertThat((Object) ((ElementMatcher.Junction.Conjunction<?>) optimized).matchers, is((Object) Arrays.<ElementMatcher<?>>asList(named(FOO),
+                isPublic(),
+                isStatic(),
+                isFinal())));
+    }
+
+    @Test
+    public void testNameEqualityMerged() throws Exception {
+        assertThat(MatcherOptimizer.INSTANCE.optimize(ElementMatchers.<TypeDescription>named(FOO).or(named(BAR)).or(named(QUX))),
+                is((Object) new NameMatcher<NamedElement>(new StringSetMatcher(new HashSet<String>(Arrays.asList(FOO, BAR, QUX))))));
+    }
+
+    @Test
+    public void testNamePrefixMerged() throws Exception {
+        assertThat(MatcherOptimizer.INSTANCE.optimize(ElementMatchers.<TypeDescription>nameStartsWith(FOO).or(nameStartsWith(BAR))),
+                is((Object) new NameMatcher<NamedElement>(new StringPrefixMatcher(new HashSet<String>(Arrays.asList(FOO, BAR))))));
+    }
+
+    @Test
+    public void testEqualityMerged() throws Exception {
+        assertThat(MatcherOptimizer.INSTANCE.optimize(anyOf(FOO, BAR, QUX)),
+                is((Object) new EqualitySetMatcher<Object>(new HashSet<Object>(Arrays.asList(FOO, BAR, QUX)))));
+    }
+
+    @Test
+    public void testNegatedEqualityMerged() throws Exception {
+        assertThat(MatcherOptimizer.INSTANCE.optimize(noneOf(FOO, BAR, QUX)),
+                is((Object) new NegatingMatcher<Object>(new EqualitySetMatcher<Object>(new HashSet<Object>(Arrays.asList(FOO, BAR, QUX))))));
+    }
+
+    @Test
+    public void testCheapMatcherFirst() throws Exception {
+        ElementMatcher<? super TypeDescription> optimized = MatcherOptimizer.INSTANCE.optimize(ElementMatchers.<TypeDescription>isSubTypeOf(Serializable.class)
+                .and(isAnnotatedWith(Deprecated.class))
+                .and(named(FOO)));
+        assertThat((Object) ((ElementMatcher.Junction.Conjunction<?>) optimized).matchers, is((Object) Arrays.<ElementMatcher<?>>asList(named(FOO),
+                isSubTypeOf(Serializable.class),
+                isAnnotatedWith(Deprecated.class))));
+    }
+
+    @Test
+    public void testUnknownMatcherNotReordered() throws Exception {
+        ElementMatcher<? super TypeDescription> optimized = MatcherOptimizer.INSTANCE.optimize(ElementMatchers.<TypeDescription>isSubTypeOf(Serializable.class)
+                .and(matcher)
+                .and(named(FOO)));
+        assertThat((Object) ((ElementMatcher.Junction.Conjunction<?>) optimized).matchers, is((Object) Arrays.<ElementMatcher<?>>asList(isSubTypeOf(Serializable.class),
+                matcher,
+                named(FOO))));
+    }
+
+    @Test
+    public void testUnknownMatcherNotMerged() throws Exception {
+        ElementMatcher<? super TypeDescription> optimized = MatcherOptimizer.INSTANCE.optimize(ElementMatchers.<TypeDescription>named(FOO)
+                .or(matcher)
+                .or(named(BAR))
+                .or(named(QUX)));
+        assertThat((Object) ((ElementMatcher.Junction.Disjunction<?>) optimized).matchers, is((Object) Arrays.<ElementMatcher<?>>asList(named(FOO),
+                matcher,
+                new NameMatcher<NamedElement>(new StringSetMatcher(new HashSet<String>(Arrays.asList(BAR, QUX)))))));
+    }
+
+    @Test
+    public void testEquivalence() throws Exception {
+        ElementMatcher<TypeDescription> matcher = not(isInterface()).and(isSubTypeOf(Serializable.class)
+                .or(named(Object.class.getName()))
+                .or(nameStartsWith("java.util.concurrent."))
+                .or(nameStartsWith("java.lang.reflect."))
+                .or(named(Runnable.class.getName())))
+                .and(not(named(String.class.getName())).and(not(named(Integer.class.getName()))));
+        ElementMatcher<? super TypeDescription> optimized = MatcherOptimizer.INSTANCE.optimize(matcher);
+        for (Class<?> type : Arrays.<Class<?>>asList(Object.class,
+                String.class,
+                Integer.class,
+                Long.class,
+                Runnable.class,
+                Thread.class,
+                java.util.concurrent.ConcurrentHashMap.class,
+                java.util.concurrent.Callable.class,
+                java.lang.reflect.Method.class,
+                java.lang.reflect.Member.class,
+                MatcherOptimizerTest.class)) {
+            assertThat(optimized.matches(TypeDescription.ForLoadedType.of(type)), is(matcher.matches(TypeDescription.ForLoadedType.of(type))));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StringPrefixMatcherTest extends AbstractElementMatcherTest<StringPrefixMatcher> {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    public StringPrefixMatcherTest() {
+        super(StringPrefixMatcher.class, "startsWithAnyOf");
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        StringPrefixMatcher matcher = new StringPrefixMatcher(new HashSet<String>(Arrays.asList(FOO, FOO + BAR, BAR + "." + FOO)));
+        assertThat(matcher.matches(FOO), is(true));
+        assertThat(matcher.matches(FOO + "." + BAR), is(true));
+        assertThat(matcher.matches(BAR + "." + FOO + BAR), is(true));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        StringPrefixMatcher matcher = new StringPrefixMatcher(new HashSet<String>(Arrays.asList(FOO, FOO + BAR, BAR + "." + FOO)));
+        assertThat(matcher.matches("fo"), is(false));
+        assertThat(matcher.matches(BAR), is(false));
+        assertThat(matcher.matches(BAR + "." + BAR), is(false));
+        assertThat(matcher.matches(""), is(false));
+    }
+
+    @Test
+    public void testEmptyPrefix() throws Exception {
+        assertThat(new StringPrefixMatcher(Collections.singleton("")).matches(FOO), is(true));
+        assertThat(new StringPrefixMatcher(Collections.singleton("")).matches(""), is(true));
+    }
+
+    @Test
+    public void testNoPrefix() throws Exception {
+        assertThat(new StringPrefixMatcher(Collections.<String>emptySet()).matches(FOO), is(false));
+    }
+
+    @Test
+    public void testEquivalentToStartsWith() throws Exception {
+        Set<String> prefixes = new HashSet<String>(Arrays.asList("java.", "javax.", "sun.", "sun.reflect.", "com.sun.", "jdk.internal."));
+        StringPrefixMatcher matcher = new StringPrefixMatcher(prefixes);
+        for (String value : Arrays.asList("java.lang.Object", "javax", "javax.net.Socket", "sun", "sun.misc.Unsafe", "com.sun.Foo", "com.foo", "jdk.Foo", "jdk.internal.Foo")) {
+            boolean expected = false;
+            for (String prefix : prefixes) {
+                expected |= value.startsWith(prefix);
+            }
+            assertThat(matcher.matches(value), is(expected));
+        }
+    }
+
+    @Override
+    protected <S> ObjectPropertyAssertion<S> modify(ObjectPropertyAssertion<S> propertyAssertion) {
+        return propertyAssertion.create(new ObjectPropertyAssertion.Creator<Set<?>>() {
+            @Override
+            public Set<?> create() {
+                return Collections.singleton(RandomString.make());
+            }
+        });
+    }
+}
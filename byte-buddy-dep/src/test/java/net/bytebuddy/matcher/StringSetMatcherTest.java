@@ -0,0 +1,43 @@
+package net.bytebuddy.matcher;
+
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class StringSetMatcherTest extends AbstractElementMatcherTest<StringSetMatcher> {
+
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
+
+    public StringSetMatcherTest() {
+        super(StringSetMatcher.class, "in");
+    }
+
+    @Test
+    public void testMatch() throws Exception {
+        assertThat(new StringSetMatcher(new HashSet<String>(Arrays.asList(FOO, BAR))).matches(FOO), is(true));
+        assertThat(new StringSetMatcher(new HashSet<String>(Arrays.asList(FOO, BAR))).matches(BAR), is(true));
+    }
+
+    @Test
+    public void testNoMatch() throws Exception {
+        assertThat(new StringSetMatcher(new HashSet<String>(Arrays.asList(FOO, BAR))).matches(QUX), is(false));
+    }
+
+    @Override
+    protected <S> ObjectPropertyAssertion<S> modify(ObjectPropertyAssertion<S> propertyAssertion) {
+        return propertyAssertion.create(new ObjectPropertyAssertion.Creator<Set<?>>() {
+            @Override
+            public Set<?> create() {
+                return Collections.singleton(RandomString.make());
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package net.bytebuddy.pool;
 
+import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.test.utility.MockitoRule;
 import net.bytebuddy.test.utility.ObjectPropertyAssertion;
 import org.junit.Rule;
@@ -7,6 +8,7 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.mockito.Mock;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -14,7 +16,7 @@ import static org.mockito.Mockito.mock;
 
 public class TypePoolCacheProviderTest {
 
-    private static final String FOO = "foo";
+    private static final String FOO = "foo", BAR = "bar", QUX = "qux";
 
     @Rule
     public TestRule mockitoRule = new MockitoRule(this);
@@ -45,6 +47,65 @@ public class TypePoolCacheProviderTest {
         assertThat(simple.find(FOO), sameInstance(resolution));
     }
 
+    @Test
+    public void testBounded() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(1);
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.register(FOO, resolution), sameInstance(resolution));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        TypePool.Resolution resolution = mock(TypePool.Resolution.class);
+        assertThat(bounded.register(FOO, resolution), sameInstance(this.resolution));
+        assertThat(bounded.find(FOO), sameInstance(this.resolution));
+        assertThat(bounded.size(), is(1));
+        bounded.clear();
+        assertThat(bounded.size(), is(0));
+        assertThat(bounded.find(FOO), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.getHits(), is(2L));
+        assertThat(bounded.getMisses(), is(2L));
+        assertThat(bounded.getEvictions(), is(0L));
+    }
+
+    @Test
+    public void testBoundedEviction() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(2, 1);
+        TypePool.Resolution first = mock(TypePool.Resolution.class), second = mock(TypePool.Resolution.class);
+        assertThat(bounded.register(FOO, resolution), sameInstance(resolution));
+        assertThat(bounded.register(BAR, first), sameInstance(first));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        assertThat(bounded.register(QUX, second), sameInstance(second));
+        assertThat(bounded.size(), is(2));
+        assertThat(bounded.getEvictions(), is(1L));
+        assertThat(bounded.find(BAR), nullValue(TypePool.Resolution.class));
+        assertThat(bounded.find(FOO), sameInstance(resolution));
+        assertThat(bounded.find(QUX), sameInstance(second));
+    }
+
+    @Test
+    public void testBoundedStripes() throws Exception {
+        TypePool.CacheProvider.Bounded bounded = new TypePool.CacheProvider.Bounded(100, 7);
+        for (int index = 0; index < 1000; index++) {
+            bounded.register(FOO + index, resolution);
+        }
+        assertThat(bounded.size(), is(100));
+        assertThat(bounded.getEvictions(), is(900L));
+    }
+
+    @Test
+    public void testBoundedWithObjectType() throws Exception {
+        TypePool.Resolution resolution = TypePool.CacheProvider.Bounded.withObjectType(1).find(Object.class.getName());
+        assertThat(resolution.resolve(), is(TypeDescription.OBJECT));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedIllegalSize() throws Exception {
+        new TypePool.CacheProvider.Bounded(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedIllegalStripes() throws Exception {
+        new TypePool.CacheProvider.Bounded(1, 0);
+    }
+
     @Test
     public void testSimpleObjectProperties() throws Exception {
         ObjectPropertyAssertion.of(TypePool.CacheProvider.NoOp.class).apply();
@@ -0,0 +1,176 @@
+package net.bytebuddy.pool;
+
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.test.utility.MockitoRule;
+import net.bytebuddy.test.utility.ObjectPropertyAssertion;
+import net.bytebuddy.utility.RandomString;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.mockito.Mock;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class TypePoolForIndexTest {
+
+    private static final String FOO = "foo", BAR = "bar";
+
+    @Rule
+    public TestRule mockitoRule = new MockitoRule(this);
+
+    @Mock
+    private TypePool typePool;
+
+    @Mock
+    private TypePool.Resolution resolution;
+
+    private File folder;
+
+    private TypePool.ForIndex.Index index;
+
+    @Before
+    public void setUp() throws Exception {
+        folder = File.createTempFile(FOO, BAR);
+        assertThat(folder.delete(), is(true));
+        folder = new File(folder.getParentFile(), RandomString.make());
+        assertThat(folder.mkdir(), is(true));
+        for (Class<?> type : new Class<?>[]{Foo.class, Bar.class, Qux.class, Baz.class}) {
+            OutputStream outputStream = new FileOutputStream(new File(folder, type.getSimpleName() + ".class"));
+            try {
+                outputStream.write(ClassFileLocator.ForClassLoader.read(type).resolve());
+            } finally {
+                outputStream.close();
+            }
+        }
+        index = TypePool.ForIndex.Index.of(TypePool.ForIndex.Index.make(folder));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        File[] file = folder.listFiles();
+        if (file != null) {
+            for (File aFile : file) {
+                assertThat(aFile.delete(), is(true));
+            }
+        }
+        assertThat(folder.delete(), is(true));
+    }
+
+    @Test
+    public void testIndexedPropertiesDoNotQueryDelegate() throws Exception {
+        TypeDescription typeDescription = new TypePool.ForIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                TypePool.Empty.INSTANCE,
+                index,
+                typePool).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getName(), is(Foo.class.getName()));
+        assertThat(typeDescription.getModifiers(), is(Foo.class.getModifiers()));
+        assertThat(typeDescription.getSuperClass().asErasure().getName(), is(Bar.class.getName()));
+        assertThat(typeDescription.getInterfaces().size(), is(1));
+        assertThat(typeDescription.getInterfaces().getOnly().asErasure().getName(), is(Qux.class.getName()));
+        assertThat(typeDescription.getInterfaces().getOnly().asErasure().isInterface(), is(true));
+        verifyZeroInteractions(typePool);
+    }
+
+    @Test
+    public void testInterfaceHasNoSuperClass() throws Exception {
+        TypeDescription typeDescription = new TypePool.ForIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                TypePool.Empty.INSTANCE,
+                index,
+                typePool).describe(Qux.class.getName()).resolve();
+        assertThat(typeDescription.getSuperClass(), is((TypeDescription.Generic) null));
+        assertThat(typeDescription.getModifiers(), is(Qux.class.getModifiers()));
+        verifyZeroInteractions(typePool);
+    }
+
+    @Test
+    public void testNonIndexedTypeIsDelegated() throws Exception {
+        when(typePool.describe(FOO)).thenReturn(resolution);
+        assertThat(new TypePool.ForIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                TypePool.Empty.INSTANCE,
+                index,
+                typePool).describe(FOO), is(resolution));
+        verify(typePool).describe(FOO);
+        verifyNoMoreInteractions(typePool);
+    }
+
+    @Test
+    public void testGenericSuperClassIsDelegated() throws Exception {
+        TypeDescription typeDescription = new TypePool.ForIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                TypePool.Empty.INSTANCE,
+                index,
+                TypePool.Default.ofClassPath()).describe(Baz.class.getName()).resolve();
+        assertThat(typeDescription.getSuperClass().getSort(), is(TypeDescription.Generic.Sort.PARAMETERIZED));
+        assertThat(typeDescription.getSuperClass().asErasure().represents(ArrayList.class), is(true));
+        assertThat(typeDescription.getInterfaces().getOnly().getSort(), is(TypeDescription.Generic.Sort.PARAMETERIZED));
+        assertThat(typeDescription.getInterfaces().getOnly().asErasure().represents(Comparable.class), is(true));
+    }
+
+    @Test
+    public void testNonIndexedPropertyIsDelegated() throws Exception {
+        TypeDescription typeDescription = new TypePool.ForIndex(TypePool.CacheProvider.NoOp.INSTANCE,
+                TypePool.Empty.INSTANCE,
+                index,
+                TypePool.Default.ofClassPath()).describe(Foo.class.getName()).resolve();
+        assertThat(typeDescription.getDeclaredMethods().filter(named(FOO)).size(), is(1));
+        assertThat(typeDescription.getActualModifiers(false), is(TypePool.Default.ofClassPath().describe(Foo.class.getName()).resolve().getActualModifiers(false)));
+        assertThat(typeDescription.isMemberClass(), is(true));
+        assertThat(Modifier.isStatic(typeDescription.getModifiers()), is(true));
+    }
+
+    @Test
+    public void testIndexFile() throws Exception {
+        File file = File.createTempFile(FOO, BAR);
+        try {
+            TypePool.ForIndex.Index.write(folder, file);
+            TypePool typePool = TypePool.ForIndex.of(file, ClassFileLocator.ForClassLoader.ofClassPath());
+            assertThat(typePool.describe(Foo.class.getName()).resolve().getSuperClass().asErasure().getName(), is(Bar.class.getName()));
+            assertThat(typePool.describe(Object.class.getName()).resolve().represents(Object.class), is(true));
+        } finally {
+            assertThat(file.delete(), is(true));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalIndex() throws Exception {
+        TypePool.ForIndex.Index.of(new byte[12]);
+    }
+
+    @Test
+    public void testObjectProperties() throws Exception {
+        ObjectPropertyAssertion.of(TypePool.ForIndex.class).apply();
+    }
+
+    private static class Foo extends Bar implements Qux {
+
+        public void foo() {
+            /* empty */
+        }
+    }
+
+    private static class Bar {
+        /* empty */
+    }
+
+    private interface Qux {
+        /* empty */
+    }
+
+    private static class Baz extends ArrayList<String> implements Comparable<Baz> {
+
+        public int compareTo(Baz other) {
+            return 0;
+        }
+    }
+}
@@ -45,6 +45,11 @@ public class ByteBuddyExtension {
      */
     private boolean failFast;
 
+    /**
+     * {@code true} if only class files that changed since the last transformation should be transformed.
+     */
+    private boolean incremental;
+
     /**
      * A list of task names for which to apply a transformation or {@code null} if the task should apply to all tasks.
      */
@@ -115,6 +120,15 @@ public class ByteBuddyExtension {
                 : new MethodNameTransformer.Suffixing(suffix);
     }
 
+    /**
+     * Returns the suffix to apply upon rebased methods.
+     *
+     * @return The suffix to apply upon rebased methods or {@code null} if a random suffix should be used.
+     */
+    public String getSuffix() {
+        return suffix;
+    }
+
     /**
      * Sets the suffix to apply upon rebased methods.
      *
@@ -160,6 +174,26 @@ public class ByteBuddyExtension {
         this.failFast = failFast;
     }
 
+    /**
+     * Returns {@code true} if only class files that changed since the last transformation, or whose super types changed since
+     * the last transformation, should be transformed.
+     *
+     * @return {@code true} if only class files that changed since the last transformation should be transformed.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    /**
+     * Determines if only class files that changed since the last transformation, or whose super types changed since the last
+     * transformation, should be transformed.
+     *
+     * @param incremental {@code true} if only class files that changed since the last transformation should be transformed.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
     /**
      * Sets the initialization that should be used.
      *
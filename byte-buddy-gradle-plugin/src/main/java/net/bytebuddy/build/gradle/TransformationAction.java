@@ -4,6 +4,7 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.EntryPoint;
 import net.bytebuddy.build.Plugin;
+import net.bytebuddy.build.TransformationManifest;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
@@ -19,6 +20,8 @@ import org.gradle.api.tasks.compile.AbstractCompile;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +36,16 @@ public class TransformationAction implements Action<Task> {
      */
     private static final String CLASS_FILE_EXTENSION = ".class";
 
+    /**
+     * The folder within the build directory in which manifests of incremental transformations are stored.
+     */
+    private static final String MANIFEST_FOLDER = "byte-buddy";
+
+    /**
+     * The file extension of a manifest of an incremental transformation.
+     */
+    private static final String MANIFEST_EXTENSION = ".manifest";
+
     /**
      * The current project.
      */
@@ -144,53 +157,83 @@ public class TransformationAction implements Action<Task> {
             } catch (Throwable throwable) {
                 throw new GradleException("Cannot create Byte Buddy instance", throwable);
             }
-            processDirectory(root,
-                    root,
-                    byteBuddy,
-                    entryPoint,
-                    byteBuddyExtension.getMethodNameTransformer(),
-                    classFileLocator,
-                    typePool,
-                    plugins);
+            List<String> files = new ArrayList<String>();
+            processDirectory(root, root, files);
+            TransformationManifest transformationManifest;
+            if (byteBuddyExtension.isIncremental()) {
+                List<Object> configuration = new ArrayList<Object>();
+                List<File> classPathFiles = new ArrayList<File>();
+                for (File artifact : classPath) {
+                    if (!artifact.getAbsoluteFile().equals(root.getAbsoluteFile())) {
+                        classPathFiles.add(artifact);
+                    }
+                }
+                configuration.add(entryPoint.getClass().getName());
+                locate(entryPoint.getClass(), classPathFiles);
+                for (Plugin plugin : plugins) {
+                    configuration.add(plugin.getClass().getName());
+                    locate(plugin.getClass(), classPathFiles);
+                }
+                configuration.add(byteBuddyExtension.getSuffix());
+                configuration.add(byteBuddyExtension.isFailOnLiveInitializer());
+                transformationManifest = TransformationManifest.ForFile.read(new File(new File(project.getBuildDir(), MANIFEST_FOLDER), task.getName() + MANIFEST_EXTENSION),
+                        TransformationManifest.ForFile.configuration(configuration, classPathFiles));
+                int size = files.size();
+                files = transformationManifest.select(root, files);
+                project.getLogger().info("Incremental transformation of {} out of {} class files", files.size(), size);
+            } else {
+                transformationManifest = TransformationManifest.NoOp.INSTANCE;
+            }
+            MethodNameTransformer methodNameTransformer = byteBuddyExtension.getMethodNameTransformer();
+            for (String file : files) {
+                processClassFile(root,
+                        file,
+                        byteBuddy,
+                        entryPoint,
+                        methodNameTransformer,
+                        classFileLocator,
+                        typePool,
+                        plugins,
+                        transformationManifest);
+            }
+            transformationManifest.write();
         } finally {
             classFileLocator.close();
         }
     }
 
     /**
-     * Processes a directory.
+     * Adds the location of a type's class file to a list of class path elements if this location is a file.
      *
-     * @param root                  The root directory to process.
-     * @param folder                The currently processed folder.
-     * @param byteBuddy             The Byte Buddy instance to use.
-     * @param entryPoint            The transformation's entry point.
-     * @param methodNameTransformer The method name transformer to use.
-     * @param classFileLocator      The class file locator to use.
-     * @param typePool              The type pool to query for type descriptions.
-     * @param plugins               The plugins to apply.
+     * @param type      The type to locate.
+     * @param classPath The class path elements to add the location to.
      */
-    private void processDirectory(File root,
-                                  File folder,
-                                  ByteBuddy byteBuddy,
-                                  EntryPoint entryPoint,
-                                  MethodNameTransformer methodNameTransformer,
-                                  ClassFileLocator classFileLocator,
-                                  TypePool typePool,
-                                  List<Plugin> plugins) {
+    private static void locate(Class<?> type, List<File> classPath) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null && "file".equals(codeSource.getLocation().getProtocol())) {
+            try {
+                classPath.add(new File(codeSource.getLocation().toURI()));
+            } catch (URISyntaxException ignored) {
+                classPath.add(new File(codeSource.getLocation().getPath()));
+            }
+        }
+    }
+
+    /**
+     * Processes a directory by collecting all class files that it contains.
+     *
+     * @param root   The root directory to process.
+     * @param folder The currently processed folder.
+     * @param files  A list of all class files that were collected so far, relative to the root directory.
+     */
+    private void processDirectory(File root, File folder, List<String> files) {
         File[] file = folder.listFiles();
         if (file != null) {
             for (File aFile : file) {
                 if (aFile.isDirectory()) {
-                    processDirectory(root, aFile, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
+                    processDirectory(root, aFile, files);
                 } else if (aFile.isFile() && aFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
-                    processClassFile(root,
-                            root.toURI().relativize(aFile.toURI()).toString(),
-                            byteBuddy,
-                            entryPoint,
-                            methodNameTransformer,
-                            classFileLocator,
-                            typePool,
-                            plugins);
+                    files.add(root.toURI().relativize(aFile.toURI()).toString());
                 } else {
                     project.getLogger().debug("Skipping ignored file: {}", aFile);
                 }
@@ -201,14 +244,15 @@ public class TransformationAction implements Action<Task> {
     /**
      * Processes a class file.
      *
-     * @param root                  The root directory to process.
-     * @param file                  The class file to process.
-     * @param byteBuddy             The Byte Buddy instance to use.
-     * @param entryPoint            The transformation's entry point.
-     * @param methodNameTransformer The method name transformer to use.
-     * @param classFileLocator      The class file locator to use.
-     * @param typePool              The type pool to query for type descriptions.
-     * @param plugins               The plugins to apply.
+     * @param root                   The root directory to process.
+     * @param file                   The class file to process.
+     * @param byteBuddy              The Byte Buddy instance to use.
+     * @param entryPoint             The transformation's entry point.
+     * @param methodNameTransformer  The method name transformer to use.
+     * @param classFileLocator       The class file locator to use.
+     * @param typePool               The type pool to query for type descriptions.
+     * @param plugins                The plugins to apply.
+     * @param transformationManifest The manifest to register processed class files with.
      */
     private void processClassFile(File root,
                                   String file,
@@ -217,7 +261,8 @@ public class TransformationAction implements Action<Task> {
                                   MethodNameTransformer methodNameTransformer,
                                   ClassFileLocator classFileLocator,
                                   TypePool typePool,
-                                  List<Plugin> plugins) {
+                                  List<Plugin> plugins,
+                                  TransformationManifest transformationManifest) {
         String typeName = file.replace('/', '.').substring(0, file.length() - CLASS_FILE_EXTENSION.length());
         project.getLogger().debug("Processing class file: {}", typeName);
         TypeDescription typeDescription = typePool.describe(typeName).resolve();
@@ -258,12 +303,18 @@ public class TransformationAction implements Action<Task> {
                 }
             }
             try {
+                transformationManifest.register(root, file, typeDescription, dynamicType);
                 dynamicType.saveIn(root);
             } catch (IOException exception) {
                 throw new GradleException("Cannot save " + typeName + " in " + root, exception);
             }
         } else {
             project.getLogger().debug("Skipping non-transformed type: {}", typeName);
+            try {
+                transformationManifest.register(root, file, typeDescription, null);
+            } catch (IOException exception) {
+                throw new GradleException("Cannot register " + typeName + " in manifest", exception);
+            }
         }
     }
 }
@@ -25,6 +25,8 @@ import org.mockito.stubbing.Answer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.FileInputStream;
+import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -33,9 +35,12 @@ import java.util.*;
 import static junit.framework.TestCase.fail;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class TransformationActionTest {
@@ -280,12 +285,100 @@ public class TransformationActionTest {
         }
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIncrementalTransformation() throws Exception {
+        File buildDirectory = File.createTempFile(FOO, TEMP);
+        assertThat(buildDirectory.delete(), is(true));
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        try {
+            when(byteBuddyExtension.isIncremental()).thenReturn(true);
+            when(project.getBuildDir()).thenReturn(buildDirectory);
+            when(parent.getName()).thenReturn(FOO);
+            when(transformation.getPlugin()).thenReturn(SimplePlugin.class.getName());
+            when(initialization.getEntryPoint(any(ClassLoaderResolver.class), any(File.class), any(Iterable.class))).thenReturn(EntryPoint.Default.REBASE);
+            transformationAction.execute(task);
+            assertThat(new File(buildDirectory, "byte-buddy/" + FOO + ".manifest").isFile(), is(true));
+            long modified = new File(target, "foo/Bar.class").lastModified();
+            transformationAction.execute(task);
+            assertThat(new File(target, "foo/Bar.class").lastModified(), is(modified));
+            ClassLoader classLoader = new URLClassLoader(new URL[]{target.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(target, FOO).delete(), is(true));
+            delete(buildDirectory);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testIncrementalTransformationSuffixChange() throws Exception {
+        File buildDirectory = File.createTempFile(FOO, TEMP);
+        assertThat(buildDirectory.delete(), is(true));
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        try {
+            when(byteBuddyExtension.isIncremental()).thenReturn(true);
+            when(byteBuddyExtension.getSuffix()).thenReturn(FOO);
+            when(project.getBuildDir()).thenReturn(buildDirectory);
+            when(parent.getName()).thenReturn(FOO);
+            when(transformation.getPlugin()).thenReturn(SimplePlugin.class.getName());
+            when(initialization.getEntryPoint(any(ClassLoaderResolver.class), any(File.class), any(Iterable.class))).thenReturn(EntryPoint.Default.REBASE);
+            transformationAction.execute(task);
+            File manifest = new File(buildDirectory, "byte-buddy/" + FOO + ".manifest");
+            String configuration = configuration(manifest);
+            when(byteBuddyExtension.getSuffix()).thenReturn(BAR);
+            transformationAction.execute(task);
+            assertThat(configuration(manifest), not(configuration));
+            verify(logger, times(2)).info("Incremental transformation of {} out of {} class files", 2, 2);
+            ClassLoader classLoader = new URLClassLoader(new URL[]{target.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(target, FOO).delete(), is(true));
+            delete(buildDirectory);
+        }
+    }
+
     @Test(expected = GradleException.class)
     public void testNoDirectory() throws Exception {
         when(parent.getDestinationDir()).thenReturn(mock(File.class));
         transformationAction.execute(task);
     }
 
+    private static void delete(File file) {
+        File[] child = file.listFiles();
+        if (child != null) {
+            for (File aChild : child) {
+                delete(aChild);
+            }
+        }
+        assertThat(file.delete(), is(true));
+    }
+
+    private static String configuration(File manifest) throws IOException {
+        Properties properties = new Properties();
+        InputStream inputStream = new FileInputStream(manifest);
+        try {
+            properties.load(inputStream);
+        } finally {
+            inputStream.close();
+        }
+        return properties.getProperty("configuration");
+    }
+
     private void assertMethod(Class<?> type, String name, Object expected) throws Exception {
         assertThat(type.getDeclaredMethod(name).invoke(type.getDeclaredConstructor().newInstance()), is(expected));
     }
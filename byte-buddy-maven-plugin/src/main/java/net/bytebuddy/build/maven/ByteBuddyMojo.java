@@ -5,6 +5,7 @@ import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.build.EntryPoint;
 import net.bytebuddy.build.Plugin;
+import net.bytebuddy.build.TransformationManifest;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
@@ -23,8 +24,13 @@ import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.repository.RemoteRepository;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.security.CodeSource;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A Maven plugin for applying Byte Buddy transformations during a build.
@@ -36,6 +42,11 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
      */
     private static final String CLASS_FILE_EXTENSION = ".class";
 
+    /**
+     * The file extension of a temporary file that is written before replacing a class file.
+     */
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
     /**
      * The built project's group id.
      */
@@ -147,6 +158,21 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
     @Parameter(defaultValue = "true", required = true)
     protected boolean failFast;
 
+    /**
+     * The number of threads to use for transforming class files. If this property is set to a value greater than {@code 1},
+     * class files are transformed concurrently and all plugins and the configured entry point must be thread-safe.
+     */
+    @Parameter(defaultValue = "1", required = true)
+    protected int threads;
+
+    /**
+     * When set to {@code true}, this mojo records a manifest of all processed class files and only transforms class files that
+     * changed since its last execution or whose super types changed since its last execution. Class files of a previous execution
+     * are transformed again if the plugin configuration, any plugin's code or the class path changes.
+     */
+    @Parameter(defaultValue = "false", required = true)
+    protected boolean incremental;
+
     /**
      * The currently used repository system.
      */
@@ -195,6 +221,13 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
      */
     protected abstract List<String> getClassPathElements();
 
+    /**
+     * Returns the file in which the manifest of an incremental transformation is stored.
+     *
+     * @return The file in which the manifest of an incremental transformation is stored.
+     */
+    protected abstract String getManifestFile();
+
     /**
      * Processes all class files within the given directory.
      *
@@ -289,80 +322,142 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
             } catch (Throwable throwable) {
                 throw new MojoExecutionException("Cannot create Byte Buddy instance", throwable);
             }
-            return processDirectory(root,
-                    root,
-                    byteBuddy,
-                    entryPoint,
-                    suffix == null || suffix.isEmpty()
-                            ? MethodNameTransformer.Suffixing.withRandomSuffix()
-                            : new MethodNameTransformer.Suffixing(suffix),
-                    classFileLocator,
-                    typePool,
-                    plugins);
+            List<String> files = new ArrayList<String>();
+            processDirectory(root, root, files);
+            TransformationManifest transformationManifest;
+            if (incremental) {
+                List<Object> configuration = new ArrayList<Object>();
+                List<File> classPathFiles = new ArrayList<File>();
+                for (String target : classPath) {
+                    File artifact = new File(target);
+                    if (!artifact.getAbsoluteFile().equals(root.getAbsoluteFile())) {
+                        classPathFiles.add(artifact);
+                    }
+                }
+                configuration.add(entryPoint.getClass().getName());
+                locate(entryPoint.getClass(), classPathFiles);
+                for (Plugin plugin : plugins) {
+                    configuration.add(plugin.getClass().getName());
+                    locate(plugin.getClass(), classPathFiles);
+                }
+                configuration.add(suffix);
+                configuration.add(failOnLiveInitializer);
+                transformationManifest = TransformationManifest.ForFile.read(new File(getManifestFile()),
+                        TransformationManifest.ForFile.configuration(configuration, classPathFiles));
+                int size = files.size();
+                files = transformationManifest.select(root, files);
+                getLog().info("Incremental transformation of " + files.size() + " out of " + size + " class files");
+            } else {
+                transformationManifest = TransformationManifest.NoOp.INSTANCE;
+            }
+            MethodNameTransformer methodNameTransformer = suffix == null || suffix.isEmpty()
+                    ? MethodNameTransformer.Suffixing.withRandomSuffix()
+                    : new MethodNameTransformer.Suffixing(suffix);
+            Set<ExecutionStatus> overallStatus = new HashSet<ExecutionStatus>();
+            if (threads > 1 && files.size() > 1) {
+                getLog().debug("Processing " + files.size() + " class files using " + threads + " threads");
+                ConcurrentMap<String, byte[]> classFiles = new ConcurrentHashMap<String, byte[]>();
+                ExecutorService executorService = Executors.newFixedThreadPool(threads);
+                try {
+                    List<Future<ExecutionStatus>> futures = new ArrayList<Future<ExecutionStatus>>(files.size());
+                    for (String file : files) {
+                        futures.add(executorService.submit(new ClassFileProcessor(root,
+                                file,
+                                byteBuddy,
+                                entryPoint,
+                                methodNameTransformer,
+                                classFileLocator,
+                                typePool,
+                                plugins,
+                                transformationManifest,
+                                classFiles)));
+                    }
+                    for (Future<ExecutionStatus> future : futures) {
+                        try {
+                            overallStatus.add(future.get());
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                            throw new MojoExecutionException("Interrupted during transformation", exception);
+                        } catch (ExecutionException exception) {
+                            Throwable cause = exception.getCause();
+                            if (cause instanceof MojoExecutionException) {
+                                throw (MojoExecutionException) cause;
+                            } else if (cause instanceof MojoFailureException) {
+                                throw (MojoFailureException) cause;
+                            } else if (cause instanceof RuntimeException) {
+                                throw (RuntimeException) cause;
+                            } else if (cause instanceof Error) {
+                                throw (Error) cause;
+                            } else {
+                                throw new MojoExecutionException("Cannot transform class files", cause);
+                            }
+                        }
+                    }
+                } finally {
+                    executorService.shutdownNow();
+                }
+                save(root, classFiles);
+            } else {
+                for (String file : files) {
+                    Map<String, byte[]> classFiles = new HashMap<String, byte[]>();
+                    overallStatus.add(processClassFile(root,
+                            file,
+                            byteBuddy,
+                            entryPoint,
+                            methodNameTransformer,
+                            classFileLocator,
+                            typePool,
+                            plugins,
+                            transformationManifest,
+                            classFiles));
+                    save(root, classFiles);
+                }
+            }
+            transformationManifest.write();
+            return new ExecutionStatus.Combined(overallStatus);
         } finally {
             classFileLocator.close();
         }
     }
 
     /**
-     * Processes a directory.
+     * Processes a directory by collecting all class files that it contains.
      *
-     * @param root                  The root directory to process.
-     * @param folder                The currently processed folder.
-     * @param byteBuddy             The Byte Buddy instance to use.
-     * @param entryPoint            The transformation's entry point.
-     * @param methodNameTransformer The method name transformer to use.
-     * @param classFileLocator      The class file locator to use.
-     * @param typePool              The type pool to query for type descriptions.
-     * @param plugins               The plugins to apply.
-     * @return execution status of directory processing
-     * @throws MojoExecutionException If the user configuration results in an error.
-     * @throws MojoFailureException   If the plugin application raises an error.
+     * @param root   The root directory to process.
+     * @param folder The currently processed folder.
+     * @param files  A list of all class files that were collected so far, relative to the root directory.
      */
-    private ExecutionStatus processDirectory(File root,
-                                             File folder,
-                                             ByteBuddy byteBuddy,
-                                             EntryPoint entryPoint,
-                                             MethodNameTransformer methodNameTransformer,
-                                             ClassFileLocator classFileLocator,
-                                             TypePool typePool,
-                                             List<Plugin> plugins) throws MojoExecutionException, MojoFailureException {
+    private void processDirectory(File root, File folder, List<String> files) {
         File[] file = folder.listFiles();
-        Set<ExecutionStatus> overallStatus = new HashSet<ExecutionStatus>();
         if (file != null) {
             for (File aFile : file) {
                 if (aFile.isDirectory()) {
-                    ExecutionStatus dirProcessStatus = processDirectory(root, aFile, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins);
-                    overallStatus.add(dirProcessStatus);
+                    processDirectory(root, aFile, files);
                 } else if (aFile.isFile() && aFile.getName().endsWith(CLASS_FILE_EXTENSION)) {
-                    ExecutionStatus fileProcessStatus = processClassFile(root,
-                            root.toURI().relativize(aFile.toURI()).toString(),
-                            byteBuddy,
-                            entryPoint,
-                            methodNameTransformer,
-                            classFileLocator,
-                            typePool,
-                            plugins);
-                    overallStatus.add(fileProcessStatus);
+                    files.add(root.toURI().relativize(aFile.toURI()).toString());
                 } else {
                     getLog().debug("Skipping ignored file: " + aFile);
                 }
             }
         }
-        return new ExecutionStatus.Combined(overallStatus);
     }
 
     /**
-     * Processes a class file.
+     * Processes a class file. A transformed class file is not written to the root directory but its class files are registered by their
+     * type names such that the caller decides when to write them. When processing class files concurrently, all class files are only
+     * written once all class files are processed such that they are transformed based on their original version, independently of
+     * the order of their processing.
      *
-     * @param root                  The root directory to process.
-     * @param file                  The class file to process.
-     * @param byteBuddy             The Byte Buddy instance to use.
-     * @param entryPoint            The transformation's entry point.
-     * @param methodNameTransformer The method name transformer to use.
-     * @param classFileLocator      The class file locator to use.
-     * @param typePool              The type pool to query for type descriptions.
-     * @param plugins               The plugins to apply.
+     * @param root                   The root directory to process.
+     * @param file                   The class file to process.
+     * @param byteBuddy              The Byte Buddy instance to use.
+     * @param entryPoint             The transformation's entry point.
+     * @param methodNameTransformer  The method name transformer to use.
+     * @param classFileLocator       The class file locator to use.
+     * @param typePool               The type pool to query for type descriptions.
+     * @param plugins                The plugins to apply.
+     * @param transformationManifest The manifest to register processed class files with.
+     * @param classFiles             A map of type names to class files in which the class files of a transformed type are registered.
      * @return execution status of class processing
      * @throws MojoExecutionException If the user configuration results in an error.
      * @throws MojoFailureException   If the plugin application raises an error.
@@ -374,7 +469,9 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                                              MethodNameTransformer methodNameTransformer,
                                              ClassFileLocator classFileLocator,
                                              TypePool typePool,
-                                             List<Plugin> plugins) throws MojoExecutionException, MojoFailureException {
+                                             List<Plugin> plugins,
+                                             TransformationManifest transformationManifest,
+                                             Map<String, byte[]> classFiles) throws MojoExecutionException, MojoFailureException {
         String typeName = file.replace('/', '.').substring(0, file.length() - CLASS_FILE_EXTENSION.length());
         getLog().debug("Processing class file: " + typeName);
         TypeDescription typeDescription = typePool.describe(typeName).resolve();
@@ -415,16 +512,90 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
                 }
             }
             try {
-                dynamicType.saveIn(root);
+                transformationManifest.register(root, file, typeDescription, dynamicType);
             } catch (IOException exception) {
-                throw new MojoFailureException("Cannot save " + typeName + " in " + root, exception);
+                throw new MojoFailureException("Cannot register " + typeName + " in manifest", exception);
+            }
+            for (Map.Entry<TypeDescription, byte[]> entry : dynamicType.getAllTypes().entrySet()) {
+                classFiles.put(entry.getKey().getName(), entry.getValue());
             }
         } else {
             getLog().debug("Skipping non-transformed type: " + typeName);
+            try {
+                transformationManifest.register(root, file, typeDescription, null);
+            } catch (IOException exception) {
+                throw new MojoFailureException("Cannot register " + typeName + " in manifest", exception);
+            }
         }
         return new ExecutionStatus.Successful();
     }
 
+    /**
+     * Adds the location of a type's class file to a list of class path elements if this location is a file.
+     *
+     * @param type      The type to locate.
+     * @param classPath The class path elements to add the location to.
+     */
+    private static void locate(Class<?> type, List<File> classPath) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null && "file".equals(codeSource.getLocation().getProtocol())) {
+            try {
+                classPath.add(new File(codeSource.getLocation().toURI()));
+            } catch (URISyntaxException ignored) {
+                classPath.add(new File(codeSource.getLocation().getPath()));
+            }
+        }
+    }
+
+    /**
+     * Saves class files in the root directory.
+     *
+     * @param root       The root directory to save the class files in.
+     * @param classFiles A map of type names to the class files to save.
+     * @throws MojoFailureException If a class file cannot be saved.
+     */
+    private static void save(File root, Map<String, byte[]> classFiles) throws MojoFailureException {
+        for (Map.Entry<String, byte[]> entry : classFiles.entrySet()) {
+            try {
+                save(root, entry.getKey(), entry.getValue());
+            } catch (IOException exception) {
+                throw new MojoFailureException("Cannot save " + entry.getKey() + " in " + root, exception);
+            }
+        }
+    }
+
+    /**
+     * Saves a class file in the root directory. The class file is first written to a temporary file that is then renamed such
+     * that a failed write never leaves a partially written class file.
+     *
+     * @param root                 The root directory to save the class file in.
+     * @param typeName             The name of the type that is represented by the class file.
+     * @param binaryRepresentation The class file to save.
+     * @throws IOException If an I/O exception occurs.
+     */
+    private static void save(File root, String typeName, byte[] binaryRepresentation) throws IOException {
+        File target = new File(root, typeName.replace('.', File.separatorChar) + CLASS_FILE_EXTENSION);
+        if (target.getParentFile() != null && !target.getParentFile().isDirectory() && !target.getParentFile().mkdirs()) {
+            throw new IOException("Could not create directory: " + target.getParentFile());
+        }
+        File temporary = File.createTempFile(target.getName(), TEMPORARY_FILE_EXTENSION, target.getParentFile());
+        try {
+            OutputStream outputStream = new FileOutputStream(temporary);
+            try {
+                outputStream.write(binaryRepresentation);
+            } finally {
+                outputStream.close();
+            }
+            if (!temporary.renameTo(target) && !(target.delete() && temporary.renameTo(target))) {
+                throw new IOException("Could not replace " + target);
+            }
+        } finally {
+            if (temporary.exists() && !temporary.delete()) {
+                temporary.deleteOnExit();
+            }
+        }
+    }
+
     /**
      * Makes a best effort of locating the configured Java target version.
      *
@@ -452,6 +623,103 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         return null;
     }
 
+    /**
+     * A processor for a single class file that is executed by a worker thread.
+     */
+    protected class ClassFileProcessor implements Callable<ExecutionStatus> {
+
+        /**
+         * The root directory to process.
+         */
+        private final File root;
+
+        /**
+         * The class file to process.
+         */
+        private final String file;
+
+        /**
+         * The Byte Buddy instance to use.
+         */
+        private final ByteBuddy byteBuddy;
+
+        /**
+         * The transformation's entry point.
+         */
+        private final EntryPoint entryPoint;
+
+        /**
+         * The method name transformer to use.
+         */
+        private final MethodNameTransformer methodNameTransformer;
+
+        /**
+         * The class file locator to use.
+         */
+        private final ClassFileLocator classFileLocator;
+
+        /**
+         * The type pool to query for type descriptions.
+         */
+        private final TypePool typePool;
+
+        /**
+         * The plugins to apply.
+         */
+        private final List<Plugin> plugins;
+
+        /**
+         * The manifest to register processed class files with.
+         */
+        private final TransformationManifest transformationManifest;
+
+        /**
+         * A map of type names to class files in which the class files of a transformed type are registered.
+         */
+        private final Map<String, byte[]> classFiles;
+
+        /**
+         * Creates a new class file processor.
+         *
+         * @param root                   The root directory to process.
+         * @param file                   The class file to process.
+         * @param byteBuddy              The Byte Buddy instance to use.
+         * @param entryPoint             The transformation's entry point.
+         * @param methodNameTransformer  The method name transformer to use.
+         * @param classFileLocator       The class file locator to use.
+         * @param typePool               The type pool to query for type descriptions.
+         * @param plugins                The plugins to apply.
+         * @param transformationManifest The manifest to register processed class files with.
+         * @param classFiles             A map of type names to class files in which the class files of a transformed type are registered.
+         */
+        protected ClassFileProcessor(File root,
+                                     String file,
+                                     ByteBuddy byteBuddy,
+                                     EntryPoint entryPoint,
+                                     MethodNameTransformer methodNameTransformer,
+                                     ClassFileLocator classFileLocator,
+                                     TypePool typePool,
+                                     List<Plugin> plugins,
+                                     TransformationManifest transformationManifest,
+                                     Map<String, byte[]> classFiles) {
+            this.root = root;
+            this.file = file;
+            this.byteBuddy = byteBuddy;
+            this.entryPoint = entryPoint;
+            this.methodNameTransformer = methodNameTransformer;
+            this.classFileLocator = classFileLocator;
+            this.typePool = typePool;
+            this.plugins = plugins;
+            this.transformationManifest = transformationManifest;
+            this.classFiles = classFiles;
+        }
+
+        @Override
+        public ExecutionStatus call() throws MojoExecutionException, MojoFailureException {
+            return processClassFile(root, file, byteBuddy, entryPoint, methodNameTransformer, classFileLocator, typePool, plugins, transformationManifest, classFiles);
+        }
+    }
+
     /**
      * A Byte Buddy plugin that transforms a project's production class files.
      */
@@ -473,6 +741,12 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         @Parameter(defaultValue = "${project.compileClasspathElements}", required = true, readonly = true)
         protected List<String> compileClasspathElements;
 
+        /**
+         * The file in which the manifest of an incremental transformation of production class files is stored.
+         */
+        @Parameter(defaultValue = "${project.build.directory}/byte-buddy/transform.manifest", required = true, readonly = true)
+        protected String manifestFile;
+
         @Override
         protected String getOutputDirectory() {
             return outputDirectory;
@@ -482,6 +756,11 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         protected List<String> getClassPathElements() {
             return compileClasspathElements;
         }
+
+        @Override
+        protected String getManifestFile() {
+            return manifestFile;
+        }
     }
 
     /**
@@ -505,6 +784,12 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         @Parameter(defaultValue = "${project.testClasspathElements}", required = true, readonly = true)
         protected List<String> testClasspathElements;
 
+        /**
+         * The file in which the manifest of an incremental transformation of test class files is stored.
+         */
+        @Parameter(defaultValue = "${project.build.directory}/byte-buddy/transform-test.manifest", required = true, readonly = true)
+        protected String manifestFile;
+
         @Override
         protected String getOutputDirectory() {
             return testOutputDirectory;
@@ -514,5 +799,10 @@ public abstract class ByteBuddyMojo extends AbstractMojo {
         protected List<String> getClassPathElements() {
             return testClasspathElements;
         }
+
+        @Override
+        protected String getManifestFile() {
+            return manifestFile;
+        }
     }
 }
@@ -2,6 +2,7 @@ package net.bytebuddy.build.maven;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.FixedValue;
 import net.bytebuddy.test.utility.MockitoRule;
 import org.apache.maven.plugin.Mojo;
@@ -22,13 +23,18 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 
 import java.io.*;
+import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static junit.framework.TestCase.fail;
@@ -52,7 +58,7 @@ public class ByteBuddyMojoTest {
     @Mock
     private DependencyNode root;
 
-    private File project;
+    private File project, manifest;
 
     @Before
     public void setUp() throws Exception {
@@ -60,11 +66,15 @@ public class ByteBuddyMojoTest {
         project = File.createTempFile(FOO, TEMP);
         assertThat(project.delete(), is(true));
         assertThat(project.mkdir(), is(true));
+        manifest = File.createTempFile(FOO, TEMP);
+        assertThat(manifest.delete(), is(true));
     }
 
     @After
     public void tearDown() throws Exception {
         assertThat(project.delete(), is(true));
+        delete(manifest);
+        delete(new File(manifest.getPath() + ".originals"));
     }
 
     @Test
@@ -92,6 +102,81 @@ public class ByteBuddyMojoTest {
         }
     }
 
+    @Test
+    public void testParallelTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        files.addAll(addClass("foo.Baz"));
+        try {
+            execute("transform", "parallel");
+            ClassLoader classLoader = new URLClassLoader(new URL[]{project.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Baz"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Baz"), BAR, BAR);
+            assertThat(new File(project, FOO).list().length, is(3));
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO).delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testParallelTransformationOfHierarchy() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addHierarchy());
+        try {
+            execute("transform", "hierarchy");
+            Map<File, byte[]> sequential = new HashMap<File, byte[]>();
+            for (File file : files) {
+                sequential.put(file, read(file));
+            }
+            files.addAll(addHierarchy());
+            execute("transform", "hierarchy.parallel");
+            for (File file : files) {
+                assertThat(read(file), is(sequential.get(file)));
+            }
+            ClassLoader classLoader = new URLClassLoader(new URL[]{project.toURI().toURL()});
+            assertThat(classLoader.loadClass("foo.Bar").getDeclaredField("field0"), notNullValue(Field.class));
+            assertThat(classLoader.loadClass("foo.Qux").getDeclaredField("field0"), notNullValue(Field.class));
+            assertThat(classLoader.loadClass("foo.Baz").getDeclaredField("field0"), notNullValue(Field.class));
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO).delete(), is(true));
+        }
+    }
+
+    @Test
+    public void testIncrementalTransformation() throws Exception {
+        Set<File> files = new HashSet<File>();
+        files.addAll(addClass("foo.Bar"));
+        files.addAll(addClass("foo.Qux"));
+        try {
+            execute("transform", "incremental");
+            assertThat(manifest.isFile(), is(true));
+            long modified = new File(project, "foo/Bar.class").lastModified();
+            execute("transform", "incremental");
+            assertThat(new File(project, "foo/Bar.class").lastModified(), is(modified));
+            ClassLoader classLoader = new URLClassLoader(new URL[]{project.toURI().toURL()});
+            assertMethod(classLoader.loadClass("foo.Bar"), FOO, QUX);
+            assertMethod(classLoader.loadClass("foo.Bar"), BAR, BAR);
+            assertMethod(classLoader.loadClass("foo.Qux"), FOO, FOO);
+            assertMethod(classLoader.loadClass("foo.Qux"), BAR, BAR);
+        } finally {
+            for (File file : files) {
+                assertThat(file.delete(), is(true));
+            }
+            assertThat(new File(project, FOO).delete(), is(true));
+        }
+    }
+
     @Test
     public void testSimpleTransformationWithSuffix() throws Exception {
         Set<File> files = new HashSet<File>();
@@ -275,9 +360,11 @@ public class ByteBuddyMojoTest {
             if (goal.equals("transform")) {
                 mojoRule.setVariableValueToObject(mojo, "outputDirectory", project.getAbsolutePath());
                 mojoRule.setVariableValueToObject(mojo, "compileClasspathElements", Collections.emptyList());
+                mojoRule.setVariableValueToObject(mojo, "manifestFile", manifest.getAbsolutePath());
             } else if (goal.equals("transform-test")) {
                 mojoRule.setVariableValueToObject(mojo, "testOutputDirectory", project.getAbsolutePath());
                 mojoRule.setVariableValueToObject(mojo, "testClasspathElements", Collections.emptyList());
+                mojoRule.setVariableValueToObject(mojo, "manifestFile", manifest.getAbsolutePath());
             } else {
                 throw new AssertionError("Unknown goal: " + goal);
             }
@@ -304,6 +391,42 @@ public class ByteBuddyMojoTest {
                 .values();
     }
 
+    private Collection<File> addHierarchy() throws IOException {
+        DynamicType.Unloaded<?> bar = new ByteBuddy().subclass(Object.class).name("foo.Bar").make();
+        DynamicType.Unloaded<?> qux = new ByteBuddy().subclass(bar.getTypeDescription()).name("foo.Qux").make();
+        DynamicType.Unloaded<?> baz = new ByteBuddy().subclass(qux.getTypeDescription()).name("foo.Baz").make();
+        List<File> files = new ArrayList<File>();
+        files.addAll(bar.saveIn(project).values());
+        files.addAll(qux.saveIn(project).values());
+        files.addAll(baz.saveIn(project).values());
+        return files;
+    }
+
+    private static byte[] read(File file) throws IOException {
+        InputStream in = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int length;
+            while ((length = in.read(buffer)) != -1) {
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] child = file.listFiles();
+        if (child != null) {
+            for (File aChild : child) {
+                delete(aChild);
+            }
+        }
+        assertThat(!file.exists() || file.delete(), is(true));
+    }
+
     private static void assertMethod(Class<?> type, String name, Object expected) throws Exception {
         assertThat(type.getDeclaredMethod(name).invoke(type.getDeclaredConstructor().newInstance()), is(expected));
     }
@@ -0,0 +1,24 @@
+package net.bytebuddy.test;
+
+import net.bytebuddy.build.Plugin;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+
+public class HierarchyPlugin implements Plugin {
+
+    @Override
+    public boolean matches(TypeDescription target) {
+        return target.getName().startsWith("foo.");
+    }
+
+    @Override
+    public DynamicType.Builder<?> apply(DynamicType.Builder<?> builder, TypeDescription typeDescription) {
+        int fields = 0;
+        for (TypeDefinition typeDefinition : typeDescription.getSuperClass()) {
+            fields += typeDefinition.getDeclaredFields().size();
+        }
+        return builder.defineField("field" + fields, Object.class, Visibility.PUBLIC);
+    }
+}